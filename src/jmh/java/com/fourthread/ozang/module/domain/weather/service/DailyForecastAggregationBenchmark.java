@@ -0,0 +1,180 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.WeatherApiResponse;
+import com.fourthread.ozang.module.domain.weather.dto.type.PrecipitationType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.DoubleSummaryStatistics;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 5일 예보 일별 집계 비교 - 카테고리별 스트림 집계(변경 이전) vs DailyForecastAccumulator
+ * - 입력: 기상청 getVilageFcst 1000행 응답 (src/test/resources/weather/vilage-fcst-1000.json)
+ * - 할당량은 gc 프로파일러(gc.alloc.rate.norm)로 확인: ./gradlew jmh (build.gradle 의 jmh.profilers)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DailyForecastAggregationBenchmark {
+
+    private List<WeatherApiResponse.Item> items;
+    private KmaForecast forecast;
+
+    @Setup
+    public void loadFixture() throws IOException {
+        try (InputStream inputStream = DailyForecastAggregationBenchmark.class
+            .getResourceAsStream("/weather/vilage-fcst-1000.json")) {
+            if (inputStream == null) {
+                throw new IllegalStateException("예보 응답 fixture 가 없습니다: /weather/vilage-fcst-1000.json");
+            }
+            WeatherApiResponse response = new ObjectMapper().readValue(inputStream, WeatherApiResponse.class);
+            items = response.response().body().items().item();
+            forecast = KmaForecast.from(response);
+        }
+    }
+
+    @Benchmark
+    public void legacyStreamAggregation(Blackhole blackhole) {
+        Map<LocalDate, List<WeatherApiResponse.Item>> byDate = items.stream()
+            .collect(Collectors.groupingBy(
+                it -> LocalDate.parse(it.fcstDate(), DateTimeFormatter.BASIC_ISO_DATE),
+                LinkedHashMap::new,
+                Collectors.toList()
+            ));
+        for (List<WeatherApiResponse.Item> dayItems : byDate.values()) {
+            legacyAggregate(dayItems, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void accumulator(Blackhole blackhole) {
+        // filterFiveDay 와 같은 방식 - 예보 시각 행을 한 번만 순회하며 날짜별로 바로 집계
+        Map<LocalDate, DailyForecastAccumulator> byDate = new LinkedHashMap<>();
+        int lastFcstDate = -1;
+        LocalDate date = null;
+        for (int slot = 0; slot < forecast.size(); slot++) {
+            int fcstDate = forecast.fcstDate(slot);
+            if (fcstDate != lastFcstDate) {
+                lastFcstDate = fcstDate;
+                date = KmaForecast.toLocalDate(fcstDate);
+            }
+            DailyForecastAccumulator accumulator = byDate.get(date);
+            if (accumulator == null) {
+                accumulator = new DailyForecastAccumulator(date, forecast.getBaseDate(), forecast.getBaseTime());
+                byDate.put(date, accumulator);
+            }
+            accumulator.accept(forecast, slot);
+        }
+        for (DailyForecastAccumulator accumulator : byDate.values()) {
+            blackhole.consume(accumulator.currentTemperature());
+            blackhole.consume(accumulator.minTemperature());
+            blackhole.consume(accumulator.maxTemperature());
+            blackhole.consume(accumulator.humidity());
+            blackhole.consume(accumulator.windSpeed());
+            blackhole.consume(accumulator.precipitationProbability());
+            blackhole.consume(accumulator.skyStatus());
+            blackhole.consume(accumulator.precipitationType());
+            blackhole.consume(accumulator.precipitation());
+        }
+    }
+
+    /**
+     * 변경 이전의 카테고리별 스트림 집계 (DailyForecastAccumulatorTest 의 동등성 기준과 같은 코드)
+     */
+    private static void legacyAggregate(List<WeatherApiResponse.Item> dayItems, Blackhole blackhole) {
+        DoubleSummaryStatistics tStat = dayItems.stream()
+            .filter(i -> "TMP".equals(i.category()))
+            .mapToDouble(i -> legacyParseDouble(i.fcstValue()))
+            .summaryStatistics();
+
+        double avgHum = dayItems.stream()
+            .filter(i -> "REH".equals(i.category()))
+            .mapToDouble(i -> legacyParseDouble(i.fcstValue()))
+            .average().orElse(50.0);
+
+        double avgWsd = dayItems.stream()
+            .filter(i -> "WSD".equals(i.category()))
+            .mapToDouble(i -> legacyParseDouble(i.fcstValue()))
+            .average().orElse(1.0);
+
+        double avgPop = dayItems.stream()
+            .filter(i -> "POP".equals(i.category()))
+            .mapToDouble(i -> legacyParseDouble(i.fcstValue()) / 100.0)
+            .average().orElse(0.0);
+
+        String skyCode = dayItems.stream()
+            .filter(i -> "SKY".equals(i.category()))
+            .collect(
+                Collectors.groupingBy(WeatherApiResponse.Item::fcstValue, Collectors.counting()))
+            .entrySet().stream()
+            .max(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey).orElse("1");
+
+        PrecipitationType precipitationType = dayItems.stream()
+            .filter(i -> "PTY".equals(i.category()))
+            .map(i -> switch (i.fcstValue()) {
+                case "1" -> PrecipitationType.RAIN;
+                case "2" -> PrecipitationType.RAIN_SNOW;
+                case "3" -> PrecipitationType.SNOW;
+                case "4" -> PrecipitationType.SHOWER;
+                default -> PrecipitationType.NONE;
+            })
+            .findFirst()
+            .orElse(PrecipitationType.NONE);
+
+        double precipitation = dayItems.stream()
+            .filter(i -> "PCP".equals(i.category()))
+            .mapToDouble(i -> {
+                String value = i.fcstValue();
+                if ("강수없음".equals(value) || value.isEmpty()) {
+                    return 0.0;
+                }
+                try {
+                    return Double.parseDouble(value.replaceAll("[^0-9.]", ""));
+                } catch (NumberFormatException e) {
+                    return 0.0;
+                }
+            })
+            .sum();
+
+        blackhole.consume(tStat.getCount() > 0 ? tStat.getAverage() : 22.0);
+        blackhole.consume(tStat.getCount() > 0 ? tStat.getMin() : 20.0);
+        blackhole.consume(tStat.getCount() > 0 ? tStat.getMax() : 25.0);
+        blackhole.consume(avgHum);
+        blackhole.consume(avgWsd);
+        blackhole.consume(avgPop);
+        blackhole.consume(skyCode);
+        blackhole.consume(precipitationType);
+        blackhole.consume(precipitation);
+    }
+
+    private static double legacyParseDouble(String v) {
+        try {
+            return Double.parseDouble(v);
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+}
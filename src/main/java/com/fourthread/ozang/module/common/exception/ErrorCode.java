@@ -18,7 +18,6 @@ public enum ErrorCode {
   
   // 피드 관련
   FEED_NOT_FOUND("Feed Not Found", "존재하지 않는 피드입니다", HttpStatus.NOT_FOUND),
-  FEED_LIKE_NOT_FOUND("Feed Like Not Found", "피드를 좋아요 하지 않았습니다", HttpStatus.NOT_FOUND),
 
   // 의상 관련
   CLOTHES_NOT_FOUND("CLOTHES_NOT_FOUND", "의상 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
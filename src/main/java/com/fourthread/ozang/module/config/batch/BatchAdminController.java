@@ -41,6 +41,8 @@ public class BatchAdminController {
 
     private final Job weatherDataCleanupJob;
     private final Job expiredTokenCleanupJob;
+    private final Job weatherForecastPrewarmJob;
+    private final Job weatherDailyRollupBackfillJob;
 
     private final JobExplorer jobExplorer;
 
@@ -81,6 +83,41 @@ public class BatchAdminController {
         );
     }
 
+    /**
+     * 예보 사전 적재 배치 수동 실행
+     */
+    @PostMapping("/weather-prewarm")
+    public ResponseEntity<Map<String, Object>> runWeatherPrewarm(
+        @Parameter(description = "비동기 실행 여부", example = "true")
+        @RequestParam(defaultValue = "true") boolean async
+    ) {
+        log.info("[Admin] 예보 사전 적재 배치 수동 실행 요청 - async: {}", async);
+
+        return executeJob(
+            async ? asyncJobLauncher : jobLauncher,
+            weatherForecastPrewarmJob,
+            "manual_weather_prewarm",
+            "예보 사전 적재 배치"
+        );
+    }
+
+    /**
+     * 일 집계 백필 배치 수동 실행 (보관 기간 이력을 daily_weather_rollups 에 반영)
+     */
+    @PostMapping("/weather-rollup-backfill")
+    public ResponseEntity<Map<String, Object>> runWeatherRollupBackfill(
+        @Parameter(description = "비동기 실행 여부", example = "true")
+        @RequestParam(defaultValue = "true") boolean async
+    ) {
+        log.info("[Admin] 일 집계 백필 배치 수동 실행 요청 - async: {}", async);
+
+        return executeJob(
+            async ? asyncJobLauncher : jobLauncher,
+            weatherDailyRollupBackfillJob,
+            "manual_weather_rollup_backfill",
+            "일 집계 백필 배치"
+        );
+    }
 
     /**
      * 배치 작업 실행 이력 조회 (도메인별)
@@ -89,7 +126,7 @@ public class BatchAdminController {
     public ResponseEntity<Map<String, Object>> getBatchHistory(
         @Parameter(description = "조회할 개수", example = "10")
         @RequestParam(defaultValue = "10") int limit,
-        @Parameter(description = "조회할 작업 유형 (WEATHER, TOKEN, ALL)", example = "ALL")
+        @Parameter(description = "조회할 작업 유형 (WEATHER, PREWARM, ROLLUP, TOKEN, ALL)", example = "ALL")
         @RequestParam(defaultValue = "ALL") String jobType
     ) {
         log.info("[Admin] 배치 작업 이력 조회 요청 - limit: {}, jobType: {}", limit, jobType);
@@ -102,6 +139,14 @@ public class BatchAdminController {
                 response.put("weatherCleanupHistory", getJobHistory("weatherDataCleanupJob", limit));
             }
 
+            if ("ALL".equals(jobType) || "PREWARM".equals(jobType)) {
+                response.put("weatherPrewarmHistory", getJobHistory("weatherForecastPrewarmJob", limit));
+            }
+
+            if ("ALL".equals(jobType) || "ROLLUP".equals(jobType)) {
+                response.put("weatherRollupBackfillHistory", getJobHistory("weatherDailyRollupBackfillJob", limit));
+            }
+
             if ("ALL".equals(jobType) || "TOKEN".equals(jobType)) {
                 response.put("tokenCleanupHistory", getJobHistory("expiredTokenCleanupJob", limit));
             }
@@ -187,8 +232,10 @@ public class BatchAdminController {
             // 최근 실행 상태
             Map<String, Object> weatherStatus = getLatestJobStatus("weatherDataCleanupJob");
             Map<String, Object> tokenStatus = getLatestJobStatus("expiredTokenCleanupJob");
+            Map<String, Object> prewarmStatus = getLatestJobStatus("weatherForecastPrewarmJob");
 
             response.put("weatherCleanup", weatherStatus);
+            response.put("weatherPrewarm", prewarmStatus);
             response.put("tokenCleanup", tokenStatus);
             response.put("success", true);
 
@@ -301,6 +348,21 @@ public class BatchAdminController {
         if (executionContext.containsKey("deletedWeatherCount")) {
             results.put("deletedWeatherCount", executionContext.getInt("deletedWeatherCount"));
         }
+        if (executionContext.containsKey("deletedReverseGeocodeCount")) {
+            results.put("deletedReverseGeocodeCount",
+                executionContext.getInt("deletedReverseGeocodeCount"));
+        }
+        if (executionContext.containsKey("prewarmCellCount")) {
+            results.put("prewarmCellCount", executionContext.getInt("prewarmCellCount"));
+            results.put("prewarmFetchedCount", executionContext.getInt("prewarmFetchedCount"));
+            results.put("prewarmSkippedCount", executionContext.getInt("prewarmSkippedCount"));
+            results.put("prewarmFailedCount", executionContext.getInt("prewarmFailedCount"));
+            results.put("prewarmDurationMs", executionContext.getLong("prewarmDurationMs"));
+        }
+        if (executionContext.containsKey("rollupBackfillDayCount")) {
+            results.put("rollupBackfillDayCount", executionContext.getInt("rollupBackfillDayCount"));
+            results.put("rollupBackfillSourceCount", executionContext.getLong("rollupBackfillSourceCount"));
+        }
         if (executionContext.containsKey("deletedTokenCount")) {
             results.put("deletedTokenCount", executionContext.getInt("deletedTokenCount"));
         }
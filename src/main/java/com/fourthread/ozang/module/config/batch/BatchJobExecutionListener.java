@@ -82,6 +82,22 @@ public class BatchJobExecutionListener implements JobExecutionListener {
                 log.info("삭제된 날씨 데이터: {}건", deletedWeatherCount);
             }
 
+            // 삭제된 역지오코딩 캐시 개수
+            if (executionContext.containsKey("deletedReverseGeocodeCount")) {
+                int deletedReverseGeocodeCount = executionContext.getInt("deletedReverseGeocodeCount");
+                log.info("삭제된 만료 지역명 캐시: {}건", deletedReverseGeocodeCount);
+            }
+
+            // 예보 사전 적재 결과
+            if (executionContext.containsKey("prewarmCellCount")) {
+                log.info("예보 사전 적재 - 격자: {}개, 조회: {}건, 생략: {}건, 실패: {}건, 소요: {}ms",
+                    executionContext.getInt("prewarmCellCount"),
+                    executionContext.getInt("prewarmFetchedCount"),
+                    executionContext.getInt("prewarmSkippedCount"),
+                    executionContext.getInt("prewarmFailedCount"),
+                    executionContext.getLong("prewarmDurationMs"));
+            }
+
             // 삭제된 토큰 개수
             if (executionContext.containsKey("deletedTokenCount")) {
                 int deletedTokenCount = executionContext.getInt("deletedTokenCount");
@@ -31,6 +31,7 @@ public class BatchScheduler {
 
     private final Job weatherDataCleanupJob;
     private final Job expiredTokenCleanupJob;
+    private final Job weatherForecastPrewarmJob;
 
     @Value("${batch.scheduler.weather-cleanup.enabled:true}")
     private boolean weatherCleanupEnabled;
@@ -38,6 +39,9 @@ public class BatchScheduler {
     @Value("${batch.scheduler.token-cleanup.enabled:true}")
     private boolean tokenCleanupEnabled;
 
+    @Value("${batch.scheduler.weather-prewarm.enabled:true}")
+    private boolean weatherPrewarmEnabled;
+
     /**
      * 날씨 데이터 정리 작업
      */
@@ -100,4 +104,35 @@ public class BatchScheduler {
         }
     }
 
+    /**
+     * 예보 사전 적재 작업
+     * 기상청 단기예보 발표시각(02, 05, ..., 23시) + API 제공 시각(10분) 이후 실행
+     */
+    @Scheduled(cron = "0 10 2,5,8,11,14,17,20,23 * * ?", zone = "#{@timezoneId}")
+    public void runWeatherForecastPrewarm() {
+        if (!weatherPrewarmEnabled) {
+            log.debug("예보 사전 적재 작업이 비활성화되어 있습니다");
+            return;
+        }
+
+        log.info("[Scheduled] 예보 사전 적재 작업 시작");
+
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("timestamp", System.currentTimeMillis())
+                .addString("jobType", "scheduled_weather_prewarm")
+                .addString("triggeredBy", "scheduler")
+                .addString("timezone", zoneId.getId())
+                .toJobParameters();
+
+            JobExecution jobExecution = asyncJobLauncher.run(weatherForecastPrewarmJob, jobParameters);
+
+            log.info("[Scheduled] 예보 사전 적재 작업 시작됨 - Job ID: {}, Status: {}",
+                jobExecution.getId(), jobExecution.getStatus());
+
+        } catch (Exception e) {
+            log.error("[Scheduled] 예보 사전 적재 작업 실행 실패", e);
+        }
+    }
+
 }
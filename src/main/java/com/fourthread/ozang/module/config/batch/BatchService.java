@@ -5,6 +5,7 @@ import com.fourthread.ozang.module.domain.weather.service.WeatherService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -22,8 +23,10 @@ public class BatchService {
 
     /**
      * 날씨 데이터 정리 (기본 보관 기간 사용)
+     * 청크/파티션 단위로 각각 커밋하도록 트랜잭션 없이 위임
      * @return 삭제된 데이터 개수
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int cleanupOldWeatherData() {
         log.info("날씨 데이터 정리 작업 위임");
         return weatherService.cleanupOldWeatherData();
@@ -34,6 +37,7 @@ public class BatchService {
      * @param retentionDays 보관 기간 (일)
      * @return 삭제된 데이터 개수
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int cleanupOldWeatherData(int retentionDays) {
         log.info("날씨 데이터 정리 작업 위임 - 보관 기간: {}일", retentionDays);
         return weatherService.cleanupOldWeatherData(retentionDays);
@@ -12,9 +12,11 @@ import com.fourthread.ozang.module.domain.feed.dto.request.FeedCreateRequest;
 import com.fourthread.ozang.module.domain.feed.dto.request.FeedPaginationRequest;
 import com.fourthread.ozang.module.domain.feed.dto.request.FeedUpdateRequest;
 import com.fourthread.ozang.module.domain.feed.service.FeedService;
+import com.fourthread.ozang.module.domain.security.userdetails.UserDetailsImpl;
 import jakarta.validation.constraints.NotNull;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -53,8 +55,9 @@ public class FeedController {
   * @Description: 피드 조회
   **/
   @GetMapping
-  public FeedData findAllFeed(@Validated @ModelAttribute FeedPaginationRequest request) {
-    return feedService.retrieveFeed(request);
+  public FeedData findAllFeed(@AuthenticationPrincipal UserDetailsImpl userDetails,
+      @Validated @ModelAttribute FeedPaginationRequest request) {
+    return feedService.retrieveFeed(request, userDetails.getPayloadDto().userId());
   }
 
   /**
@@ -88,8 +91,9 @@ public class FeedController {
    * @Description: 피드 좋아요
    **/
   @PostMapping("/{feedId}/like")
-  public FeedDto like(@PathVariable @NotNull UUID feedId) {
-    return feedService.like(feedId);
+  public FeedDto like(@AuthenticationPrincipal UserDetailsImpl userDetails,
+      @PathVariable @NotNull UUID feedId) {
+    return feedService.like(feedId, userDetails.getPayloadDto().userId());
   }
 
   /**
@@ -99,8 +103,9 @@ public class FeedController {
   * @Description: 피드 좋아요 취소
   **/
   @DeleteMapping("/{feedId}/like")
-  public FeedDto undoLike(@PathVariable UUID feedId) {
-    return feedService.unLike(feedId);
+  public FeedDto undoLike(@AuthenticationPrincipal UserDetailsImpl userDetails,
+      @PathVariable UUID feedId) {
+    return feedService.unLike(feedId, userDetails.getPayloadDto().userId());
   }
 
   /**
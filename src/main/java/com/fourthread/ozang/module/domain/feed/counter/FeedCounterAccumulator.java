@@ -0,0 +1,239 @@
+package com.fourthread.ozang.module.domain.feed.counter;
+
+import com.fourthread.ozang.module.domain.feed.dto.FeedDto;
+import com.fourthread.ozang.module.domain.feed.repository.FeedRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 피드 좋아요/댓글 수 증분 누적기
+ * - 좋아요/댓글 변경은 피드별 LongAdder(스트라이프)에 증분으로만 더하고, 주기적으로
+ *   UPDATE feeds SET like_count = like_count + ? 로 한 번에 반영 (엔티티 변경 감지로 덮어쓰지 않음)
+ * - 조회 시 DB 값에 아직 반영 전인 증분(반영 중인 값 포함)을 더해 응답
+ * - 호출 트랜잭션이 롤백되면 더한 증분을 되돌린다
+ * - 반영 중인 값은 반영 트랜잭션 커밋 직후 정리하고, 실패 시 증분을 다시 누적해 다음 주기에 반영
+ * - 노드마다 따로 누적하며, 다른 노드의 증분은 반영 주기 이후 DB 값으로 보인다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedCounterAccumulator {
+
+  private final FeedRepository feedRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  private final Map<UUID, Counter> counters = new ConcurrentHashMap<>();
+
+  public void recordLike(UUID feedId, int delta) {
+    record(feedId, delta, 0);
+  }
+
+  public void recordComment(UUID feedId, int delta) {
+    record(feedId, 0, delta);
+  }
+
+  /**
+   * 아직 DB 에 반영되지 않은 좋아요 증분
+   */
+  public long pendingLikes(UUID feedId) {
+    Counter counter = counters.get(feedId);
+    return counter != null ? counter.likes.sum() + counter.flushingLikes.get() : 0;
+  }
+
+  /**
+   * 아직 DB 에 반영되지 않은 댓글 증분
+   */
+  public long pendingComments(UUID feedId) {
+    Counter counter = counters.get(feedId);
+    return counter != null ? counter.comments.sum() + counter.flushingComments.get() : 0;
+  }
+
+  /**
+   * DB 에서 읽은 피드 응답에 반영 전 증분을 더한다
+   */
+  public FeedDto merge(FeedDto feed) {
+    if (feed == null || feed.id() == null || !counters.containsKey(feed.id())) {
+      return feed;
+    }
+    long likes = pendingLikes(feed.id());
+    long comments = pendingComments(feed.id());
+    if (likes == 0 && comments == 0) {
+      return feed;
+    }
+    return feed.toBuilder()
+      .likeCount((feed.likeCount() != null ? feed.likeCount() : 0L) + likes)
+      .commentCount((int) ((feed.commentCount() != null ? feed.commentCount() : 0) + comments))
+      .build();
+  }
+
+  public List<FeedDto> merge(List<FeedDto> feeds) {
+    if (counters.isEmpty()) {
+      return feeds;
+    }
+    return feeds.stream()
+      .map(this::merge)
+      .toList();
+  }
+
+  /**
+   * 누적된 증분을 한 트랜잭션으로 반영
+   * - 한 주기 동안 증분이 없던 피드는 누적기에서 정리
+   * - 종료 시에도 남은 증분을 반영
+   */
+  @Scheduled(fixedDelayString = "${feed.counter.flush-interval-ms:1000}")
+  @PreDestroy
+  public synchronized void flush() {
+    if (counters.isEmpty()) {
+      return;
+    }
+
+    List<Drained> drained = new ArrayList<>();
+    for (Map.Entry<UUID, Counter> entry : counters.entrySet()) {
+      UUID feedId = entry.getKey();
+      Counter counter = entry.getValue();
+      // 반영 중인 값으로 먼저 옮긴 뒤 비워서 조회 값이 줄어들지 않도록 한다
+      long likes = counter.likes.sum();
+      long comments = counter.comments.sum();
+      counter.flushingLikes.addAndGet(likes);
+      counter.flushingComments.addAndGet(comments);
+      counter.likes.add(-likes);
+      counter.comments.add(-comments);
+
+      if (likes == 0 && comments == 0) {
+        if (counters.remove(feedId, counter)) {
+          moveLeftover(feedId, counter);
+        }
+        continue;
+      }
+      drained.add(new Drained(feedId, counter, likes, comments));
+    }
+    if (drained.isEmpty()) {
+      return;
+    }
+
+    Settlement settlement = new Settlement(drained);
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        TransactionSynchronizationManager.registerSynchronization(settlement);
+        for (Drained delta : drained) {
+          feedRepository.addCounts(delta.feedId(), delta.likes(), delta.comments());
+        }
+      });
+      log.debug("피드 좋아요/댓글 수 반영 - 피드: {}개", drained.size());
+    } catch (RuntimeException e) {
+      log.warn("피드 좋아요/댓글 수 반영 실패 - 다음 주기에 다시 반영: {}", e.getMessage());
+      // 트랜잭션 시작 전에 실패해 동기화가 등록되지 않은 경우
+      settlement.afterCompletion(TransactionSynchronization.STATUS_UNKNOWN);
+    }
+  }
+
+  /**
+   * 누적 중인 피드 수
+   */
+  public int size() {
+    return counters.size();
+  }
+
+  private void record(UUID feedId, long likes, long comments) {
+    add(feedId, likes, comments);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status != STATUS_COMMITTED) {
+            add(feedId, -likes, -comments);
+          }
+        }
+      });
+    }
+  }
+
+  private void add(UUID feedId, long likes, long comments) {
+    Counter counter = counters.computeIfAbsent(feedId, id -> new Counter());
+    counter.add(likes, comments);
+    // 더하는 사이 정리된 항목이면 새 항목으로 옮긴다
+    while (counters.get(feedId) != counter) {
+      long movedLikes = counter.likes.sumThenReset();
+      long movedComments = counter.comments.sumThenReset();
+      if (movedLikes == 0 && movedComments == 0) {
+        return;
+      }
+      counter = counters.computeIfAbsent(feedId, id -> new Counter());
+      counter.add(movedLikes, movedComments);
+    }
+  }
+
+  /**
+   * 정리 직전에 더해진 증분을 새 항목으로 옮긴다
+   */
+  private void moveLeftover(UUID feedId, Counter retired) {
+    long likes = retired.likes.sumThenReset();
+    long comments = retired.comments.sumThenReset();
+    if (likes != 0 || comments != 0) {
+      add(feedId, likes, comments);
+    }
+  }
+
+  private static final class Counter {
+
+    private final LongAdder likes = new LongAdder();
+    private final LongAdder comments = new LongAdder();
+    private final AtomicLong flushingLikes = new AtomicLong();
+    private final AtomicLong flushingComments = new AtomicLong();
+
+    private void add(long likeDelta, long commentDelta) {
+      if (likeDelta != 0) {
+        likes.add(likeDelta);
+      }
+      if (commentDelta != 0) {
+        comments.add(commentDelta);
+      }
+    }
+  }
+
+  /**
+   * 반영 트랜잭션 완료 시 반영 중인 값 정리
+   * - 커밋 직후 바로 빼서 DB 값과 반영 중인 값이 함께 더해지는 구간을 없앤다
+   * - 커밋되지 않았으면 증분을 다시 누적한 뒤 빼서 조회 값이 줄어들지 않도록 한다
+   */
+  private final class Settlement implements TransactionSynchronization {
+
+    private final List<Drained> drained;
+    private boolean settled;
+
+    private Settlement(List<Drained> drained) {
+      this.drained = drained;
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      if (settled) {
+        return;
+      }
+      settled = true;
+      for (Drained delta : drained) {
+        if (status != STATUS_COMMITTED) {
+          add(delta.feedId(), delta.likes(), delta.comments());
+        }
+        delta.counter().flushingLikes.addAndGet(-delta.likes());
+        delta.counter().flushingComments.addAndGet(-delta.comments());
+      }
+    }
+  }
+
+  private record Drained(UUID feedId, Counter counter, long likes, long comments) {
+  }
+}
@@ -8,7 +8,7 @@ import java.util.List;
 import java.util.UUID;
 import lombok.Builder;
 
-@Builder
+@Builder(toBuilder = true)
 public record FeedDto (
     UUID id,
     LocalDateTime createdAt,
@@ -68,8 +68,8 @@ public class FeedDocument {
         .authorId(feed.getAuthor().getId().toString())
         .weatherId(feed.getWeather().getId().toString())
         .content(feed.getContent())
-        .likeCount(feed.getLikeCount().longValue())
-        .commentCount(feed.getCommentCount().intValue())
+        .likeCount((long) feed.getLikeCount())
+        .commentCount(feed.getCommentCount())
         .createdAt(feed.getCreatedAt())
         .clothesIds(clothesIds)
         .skyStatus(feed.getWeather().getSkyStatus().name())
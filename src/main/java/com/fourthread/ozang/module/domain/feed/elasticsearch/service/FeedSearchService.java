@@ -35,6 +35,7 @@ import com.fourthread.ozang.module.domain.clothes.dto.response.ClothesAttributeW
 import com.fourthread.ozang.module.domain.clothes.dto.response.OotdDto;
 import com.fourthread.ozang.module.domain.clothes.entity.Clothes;
 import com.fourthread.ozang.module.domain.clothes.repository.ClothesRepository;
+import com.fourthread.ozang.module.domain.feed.counter.FeedCounterAccumulator;
 import com.fourthread.ozang.module.domain.feed.dto.FeedData;
 import com.fourthread.ozang.module.domain.feed.dto.FeedDto;
 import com.fourthread.ozang.module.domain.feed.dto.request.FeedPaginationRequest;
@@ -45,7 +46,10 @@ import com.fourthread.ozang.module.domain.feed.entity.Feed;
 import com.fourthread.ozang.module.domain.feed.entity.FeedClothes;
 import com.fourthread.ozang.module.domain.feed.entity.SortBy;
 import com.fourthread.ozang.module.domain.feed.entity.SortDirection;
+import com.fourthread.ozang.module.domain.feed.like.FeedLikeIndex;
 import com.fourthread.ozang.module.domain.feed.repository.FeedClothesRepository;
+import com.fourthread.ozang.module.domain.feed.repository.FeedRepository;
+import com.fourthread.ozang.module.domain.feed.repository.FeedRepository.FeedCounts;
 import com.fourthread.ozang.module.domain.user.dto.data.UserSummary;
 import com.fourthread.ozang.module.domain.user.entity.User;
 import com.fourthread.ozang.module.domain.user.repository.UserRepository;
@@ -58,6 +62,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -88,6 +93,9 @@ public class FeedSearchService {
   private final WeatherRepository weatherRepository;
   private final ClothesRepository clothesRepository;
   private final FeedClothesRepository feedClothesRepository;
+  private final FeedLikeIndex feedLikeIndex;
+  private final FeedRepository feedRepository;
+  private final FeedCounterAccumulator feedCounterAccumulator;
 
   /**
    * @methodName : create
@@ -111,13 +119,14 @@ public class FeedSearchService {
    * @author : wongil
    * @Description: 피드 검색
    **/
-  public FeedData elasticSearch(FeedPaginationRequest request) {
+  public FeedData elasticSearch(FeedPaginationRequest request, UUID viewerId) {
     SearchHits<FeedDocument> searchHits = searchFeedDocument(request);
 
-    return toFeedData(searchHits, request);
+    return toFeedData(searchHits, request, viewerId);
   }
 
-  private FeedData toFeedData(SearchHits<FeedDocument> searchHits, FeedPaginationRequest request) {
+  private FeedData toFeedData(SearchHits<FeedDocument> searchHits, FeedPaginationRequest request,
+      UUID viewerId) {
     List<FeedDocument> documents = searchHits.getSearchHits().stream()
         .map(SearchHit::getContent)
         .toList();
@@ -127,8 +136,10 @@ public class FeedSearchService {
 
     Map<UUID, User> users = findAllUsers(pagedDocuments);
     Map<UUID, Weather> weathers = findAllWeathers(pagedDocuments);
+    Set<UUID> likedFeedIds = findLikedFeedIds(pagedDocuments, viewerId);
+    Map<UUID, FeedCounts> counts = findAllCounts(pagedDocuments);
 
-    List<FeedDto> data = createFeedDtoList(pagedDocuments, users, weathers);
+    List<FeedDto> data = createFeedDtoList(pagedDocuments, users, weathers, likedFeedIds, counts);
 
     String nextCursor = null;
     UUID nextIdAfter = null;
@@ -165,30 +176,57 @@ public class FeedSearchService {
     return searchFeedDocument(noneLimitRequest).getTotalHits();
   }
 
+  private Set<UUID> findLikedFeedIds(List<FeedDocument> pagedDocuments, UUID viewerId) {
+    List<UUID> feedIds = pagedDocuments.stream()
+        .map(document -> UUID.fromString(document.getId()))
+        .toList();
+    return feedLikeIndex.likedAmong(viewerId, feedIds);
+  }
+
+  /**
+   * 좋아요/댓글 수 - 문서의 값은 색인 시점 값이므로 DB 값에 아직 반영 전인 증분을 더해 응답
+   */
+  private Map<UUID, FeedCounts> findAllCounts(List<FeedDocument> pagedDocuments) {
+    List<UUID> feedIds = pagedDocuments.stream()
+        .map(document -> UUID.fromString(document.getId()))
+        .toList();
+
+    return feedRepository.findCountsByIdIn(feedIds).stream()
+        .collect(Collectors.toMap(FeedCounts::getId, Function.identity()));
+  }
+
   private List<FeedDto> createFeedDtoList(List<FeedDocument> pagedDocuments, Map<UUID, User> users,
-      Map<UUID, Weather> weathers) {
+      Map<UUID, Weather> weathers, Set<UUID> likedFeedIds, Map<UUID, FeedCounts> counts) {
     return pagedDocuments.stream()
         .map(document -> {
+          UUID feedId = UUID.fromString(document.getId());
           User user = users.get(UUID.fromString(document.getAuthorId()));
           Weather weather = weathers.get(UUID.fromString(document.getWeatherId()));
           List<OotdDto> ootds = getOotds(document);
+          FeedCounts count = counts.get(feedId);
+          long likeCount = count != null ? count.getLikeCount() : nullToZero(document.getLikeCount());
+          long commentCount = count != null ? count.getCommentCount() : nullToZero(document.getCommentCount());
 
           return new FeedDto(
-              UUID.fromString(document.getId()),
+              feedId,
               document.getCreatedAt(),
               null,
               getUserSummary(user),
               getWeatherSummaryDto(weather),
               ootds,
               document.getContent(),
-              document.getLikeCount(),
-              document.getCommentCount(),
-              null
+              likeCount + feedCounterAccumulator.pendingLikes(feedId),
+              (int) (commentCount + feedCounterAccumulator.pendingComments(feedId)),
+              likedFeedIds.contains(feedId)
           );
         })
         .toList();
   }
 
+  private long nullToZero(Number value) {
+    return value != null ? value.longValue() : 0;
+  }
+
   private List<OotdDto> getOotds(FeedDocument document) {
     List<Clothes> clothes = findAllClothes(document);
     return clothes.stream()
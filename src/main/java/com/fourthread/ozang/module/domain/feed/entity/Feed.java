@@ -3,11 +3,14 @@ package com.fourthread.ozang.module.domain.feed.entity;
 import com.fourthread.ozang.module.domain.BaseUpdatableEntity;
 import com.fourthread.ozang.module.domain.weather.entity.Weather;
 import com.fourthread.ozang.module.domain.user.entity.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
-import java.util.concurrent.atomic.AtomicInteger;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,28 +27,24 @@ public class Feed extends BaseUpdatableEntity {
   @ManyToOne(fetch = FetchType.LAZY)
   private User author;
 
+  // weathers 는 파티션 테이블이라 id 단독 FK 를 둘 수 없음 - 참조 중인 날씨는 정리 배치에서 보관
   @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
   private Weather weather;
 
   private String content;
-  private AtomicInteger likeCount;
-  private AtomicInteger commentCount;
+
+  // 좋아요/댓글 수는 FeedCounterAccumulator 가 증분(like_count = like_count + ?)으로만 반영
+  // 엔티티 변경 감지로 덮어쓰지 않도록 updatable = false
+  @Column(nullable = false, updatable = false)
+  private int likeCount;
+
+  @Column(nullable = false, updatable = false)
+  private int commentCount;
 
   public Feed updateFeed(String content) {
     this.content = content;
 
     return this;
   }
-
-  public int increaseLike() {
-    return likeCount.incrementAndGet();
-  }
-
-  public int decreaseLike() {
-    return likeCount.decrementAndGet();
-  }
-
-  public int increaseComment() {
-    return commentCount.incrementAndGet();
-  }
 }
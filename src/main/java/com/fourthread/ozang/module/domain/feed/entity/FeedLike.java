@@ -6,13 +6,16 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "feed_likes")
+// 같은 사용자의 중복 좋아요 방지 (user_id 선행 - 사용자별 좋아요 목록/페이지 단위 조회에도 사용)
+@Table(name = "feed_likes", uniqueConstraints = @UniqueConstraint(
+    name = "uk_feed_likes_user_id_feed_id", columnNames = {"user_id", "feed_id"}))
 public class FeedLike extends BaseEntity {
 
   @ManyToOne(fetch = FetchType.LAZY)
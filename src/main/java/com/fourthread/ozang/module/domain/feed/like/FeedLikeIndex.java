@@ -0,0 +1,224 @@
+package com.fourthread.ozang.module.domain.feed.like;
+
+import com.fourthread.ozang.module.domain.feed.dto.FeedDto;
+import com.fourthread.ozang.module.domain.feed.repository.FeedLikeRepository;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 좋아요한 피드 색인 (likedByMe 판정용)
+ * - 처음 조회할 때 사용자의 좋아요 피드 id 를 한 번에 적재하고, 이후 페이지는 DB 조회 없이 판정
+ * - 좋아요가 너무 많은 사용자 / 적재 중인 사용자는 페이지 단위 일괄 조회(feed_id IN ...) 한 번으로 판정
+ * - 좋아요/취소는 커밋 후 색인에 반영, 다른 노드의 변경은 ttl 이후 다시 적재하며 반영
+ * - 최대 사용자 수를 넘으면 가장 오래 사용되지 않은 사용자부터 제거 (LRU)
+ */
+@Slf4j
+@Component
+public class FeedLikeIndex {
+
+  private final FeedLikeRepository feedLikeRepository;
+  private final int maxUsers;
+  private final int maxLikesPerUser;
+  private final long ttlNanos;
+
+  // 모든 접근은 synchronized
+  private final Map<UUID, Slot> slots;
+
+  public FeedLikeIndex(FeedLikeRepository feedLikeRepository,
+      @Value("${feed.like-index.max-users:10000}") int maxUsers,
+      @Value("${feed.like-index.max-likes-per-user:5000}") int maxLikesPerUser,
+      @Value("${feed.like-index.ttl:5m}") Duration ttl) {
+    this.feedLikeRepository = feedLikeRepository;
+    this.maxUsers = maxUsers;
+    this.maxLikesPerUser = maxLikesPerUser;
+    this.ttlNanos = ttl.toNanos();
+    this.slots = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<UUID, Slot> eldest) {
+        return size() > FeedLikeIndex.this.maxUsers;
+      }
+    };
+  }
+
+  /**
+   * 피드 목록 응답의 likedByMe 를 조회 사용자 기준으로 채운다 - 비로그인(null)이면 모두 false
+   */
+  public List<FeedDto> applyLikedByMe(UUID userId, List<FeedDto> feeds) {
+    if (feeds.isEmpty()) {
+      return feeds;
+    }
+    List<UUID> feedIds = feeds.stream()
+        .map(FeedDto::id)
+        .filter(Objects::nonNull)
+        .toList();
+    Set<UUID> liked = likedAmong(userId, feedIds);
+    return feeds.stream()
+        .map(feed -> feed.toBuilder()
+            .likedByMe(liked.contains(feed.id()))
+            .build())
+        .toList();
+  }
+
+  public boolean isLiked(UUID userId, UUID feedId) {
+    return likedAmong(userId, List.of(feedId)).contains(feedId);
+  }
+
+  /**
+   * feedIds 중 사용자가 좋아요한 피드 id
+   */
+  public Set<UUID> likedAmong(UUID userId, Collection<UUID> feedIds) {
+    if (userId == null || feedIds.isEmpty()) {
+      return Set.of();
+    }
+    LikedFeedSet liked = likedSet(userId);
+    if (liked == null) {
+      return Set.copyOf(feedLikeRepository.findLikedFeedIds(userId, feedIds));
+    }
+    Set<UUID> result = new HashSet<>();
+    for (UUID feedId : feedIds) {
+      if (liked.contains(feedId)) {
+        result.add(feedId);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 좋아요 등록 - 호출 트랜잭션 커밋 후 반영
+   */
+  public void recordLike(UUID userId, UUID feedId) {
+    afterCommit(() -> update(userId, liked -> liked.with(feedId)));
+  }
+
+  /**
+   * 좋아요 취소 - 호출 트랜잭션 커밋 후 반영
+   */
+  public void recordUnlike(UUID userId, UUID feedId) {
+    afterCommit(() -> update(userId, liked -> liked.without(feedId)));
+  }
+
+  /**
+   * 색인된 사용자 수
+   */
+  public synchronized int size() {
+    return slots.size();
+  }
+
+  /**
+   * 사용자의 좋아요 집합 - 색인하지 않는 사용자(좋아요가 많음 / 적재 중)면 null
+   */
+  private LikedFeedSet likedSet(UUID userId) {
+    Slot loading;
+    synchronized (this) {
+      Slot slot = slots.get(userId);
+      if (slot != null && (slot.loading || System.nanoTime() - slot.loadedAt < ttlNanos)) {
+        return slot.liked;
+      }
+      loading = Slot.loading();
+      slots.put(userId, loading);
+    }
+
+    List<UUID> feedIds;
+    try {
+      feedIds = feedLikeRepository.findFeedIdsByUserId(userId, PageRequest.of(0, maxLikesPerUser + 1));
+    } catch (RuntimeException e) {
+      synchronized (this) {
+        slots.remove(userId, loading);
+      }
+      throw e;
+    }
+    Slot loaded = feedIds.size() > maxLikesPerUser
+        ? Slot.overflow(System.nanoTime())
+        : Slot.loaded(LikedFeedSet.of(feedIds), System.nanoTime());
+
+    synchronized (this) {
+      if (slots.get(userId) != loading) {
+        // 적재 중 제거됨 - 이번 결과만 사용
+        return loaded.liked;
+      }
+      if (loading.changed) {
+        // 적재 중 좋아요/취소가 커밋되어 적재 결과를 믿을 수 없음 - 다음 조회 때 다시 적재
+        slots.remove(userId);
+        return null;
+      }
+      slots.put(userId, loaded);
+    }
+    if (loaded.liked == null) {
+      log.debug("좋아요 피드가 많아 색인하지 않음 - user id={}, 기준: {}개", userId, maxLikesPerUser);
+    }
+    return loaded.liked;
+  }
+
+  private synchronized void update(UUID userId, UnaryOperator<LikedFeedSet> change) {
+    Slot slot = slots.get(userId);
+    if (slot == null) {
+      return;
+    }
+    if (slot.loading) {
+      slot.changed = true;
+      return;
+    }
+    if (slot.liked == null) {
+      return;
+    }
+    LikedFeedSet changed = change.apply(slot.liked);
+    slots.put(userId, changed.size() > maxLikesPerUser
+        ? Slot.overflow(slot.loadedAt)
+        : Slot.loaded(changed, slot.loadedAt));
+  }
+
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  private static final class Slot {
+
+    // null 이면 색인하지 않는 사용자 (좋아요가 많음 / 적재 중)
+    private final LikedFeedSet liked;
+    private final long loadedAt;
+    private final boolean loading;
+    // 적재 중 좋아요/취소가 커밋됨
+    private boolean changed;
+
+    private Slot(LikedFeedSet liked, long loadedAt, boolean loading) {
+      this.liked = liked;
+      this.loadedAt = loadedAt;
+      this.loading = loading;
+    }
+
+    private static Slot loading() {
+      return new Slot(null, 0, true);
+    }
+
+    private static Slot loaded(LikedFeedSet liked, long loadedAt) {
+      return new Slot(liked, loadedAt, false);
+    }
+
+    private static Slot overflow(long loadedAt) {
+      return new Slot(null, loadedAt, false);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.fourthread.ozang.module.domain.feed.like;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 사용자가 좋아요한 피드 id 집합 (불변)
+ * - UUID 를 (상위, 하위) long 쌍으로 정렬해 배열 하나에 담는다 (피드당 16바이트)
+ * - 조회는 이진 탐색, 변경은 복사본을 만든다 (좋아요/취소는 조회보다 훨씬 드묾)
+ */
+final class LikedFeedSet {
+
+  // [msb0, lsb0, msb1, lsb1, ...] - UUID.compareTo 순서로 정렬
+  private final long[] ids;
+
+  private LikedFeedSet(long[] ids) {
+    this.ids = ids;
+  }
+
+  static LikedFeedSet of(Collection<UUID> feedIds) {
+    UUID[] sorted = feedIds.stream()
+        .distinct()
+        .sorted()
+        .toArray(UUID[]::new);
+    long[] ids = new long[sorted.length * 2];
+    for (int i = 0; i < sorted.length; i++) {
+      ids[i * 2] = sorted[i].getMostSignificantBits();
+      ids[i * 2 + 1] = sorted[i].getLeastSignificantBits();
+    }
+    return new LikedFeedSet(ids);
+  }
+
+  boolean contains(UUID feedId) {
+    return indexOf(feedId) >= 0;
+  }
+
+  LikedFeedSet with(UUID feedId) {
+    int index = indexOf(feedId);
+    if (index >= 0) {
+      return this;
+    }
+    int insertAt = -(index + 1);
+    long[] added = new long[ids.length + 2];
+    System.arraycopy(ids, 0, added, 0, insertAt * 2);
+    added[insertAt * 2] = feedId.getMostSignificantBits();
+    added[insertAt * 2 + 1] = feedId.getLeastSignificantBits();
+    System.arraycopy(ids, insertAt * 2, added, insertAt * 2 + 2, ids.length - insertAt * 2);
+    return new LikedFeedSet(added);
+  }
+
+  LikedFeedSet without(UUID feedId) {
+    int index = indexOf(feedId);
+    if (index < 0) {
+      return this;
+    }
+    long[] removed = new long[ids.length - 2];
+    System.arraycopy(ids, 0, removed, 0, index * 2);
+    System.arraycopy(ids, index * 2 + 2, removed, index * 2, ids.length - index * 2 - 2);
+    return new LikedFeedSet(removed);
+  }
+
+  int size() {
+    return ids.length / 2;
+  }
+
+  /**
+   * 찾으면 위치, 없으면 -(삽입 위치 + 1) - Arrays.binarySearch 와 같은 규약
+   */
+  private int indexOf(UUID feedId) {
+    long msb = feedId.getMostSignificantBits();
+    long lsb = feedId.getLeastSignificantBits();
+    int low = 0;
+    int high = size() - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      // UUID.compareTo 와 같이 부호 있는 비교
+      int cmp = Long.compare(ids[mid * 2], msb);
+      if (cmp == 0) {
+        cmp = Long.compare(ids[mid * 2 + 1], lsb);
+      }
+      if (cmp < 0) {
+        low = mid + 1;
+      } else if (cmp > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+}
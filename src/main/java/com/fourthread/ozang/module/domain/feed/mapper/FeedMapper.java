@@ -1,10 +1,11 @@
 package com.fourthread.ozang.module.domain.feed.mapper;
 
 import com.fourthread.ozang.module.domain.clothes.dto.response.OotdDto;
+import com.fourthread.ozang.module.domain.feed.counter.FeedCounterAccumulator;
 import com.fourthread.ozang.module.domain.feed.dto.FeedDto;
 import com.fourthread.ozang.module.domain.feed.entity.Feed;
 import com.fourthread.ozang.module.domain.feed.entity.FeedComment;
-import com.fourthread.ozang.module.domain.feed.repository.FeedLikeRepository;
+import com.fourthread.ozang.module.domain.feed.like.FeedLikeIndex;
 import com.fourthread.ozang.module.domain.user.dto.data.UserSummary;
 import com.fourthread.ozang.module.domain.user.entity.User;
 import com.fourthread.ozang.module.domain.weather.dto.WeatherSummaryDto;
@@ -17,9 +18,14 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class FeedMapper {
 
-  private final FeedLikeRepository feedLikeRepository;
+  private final FeedLikeIndex feedLikeIndex;
+  private final FeedCounterAccumulator feedCounterAccumulator;
 
   public FeedDto toDto(Feed feed, User user, Weather weather, List<OotdDto> ootds) {
+    return toDto(feed, user, weather, ootds, feedLikeIndex.isLiked(user.getId(), feed.getId()));
+  }
+
+  public FeedDto toDto(Feed feed, User user, Weather weather, List<OotdDto> ootds, boolean likedByMe) {
     return FeedDto.builder()
         .id(feed.getId())
         .createdAt(feed.getCreatedAt())
@@ -28,9 +34,9 @@ public class FeedMapper {
         .weather(new WeatherSummaryDto(weather.getId(), weather.getSkyStatus(), weather.getPrecipitation(), weather.getTemperature()))
         .ootds(ootds)
         .content(feed.getContent())
-        .likeCount(feed.getLikeCount().longValue())
-        .commentCount(feed.getCommentCount().intValue())
-        .likedByMe(feedLikeRepository.existsByFeed_IdAndUser_Id(feed.getId(), user.getId()))
+        .likeCount(feed.getLikeCount() + feedCounterAccumulator.pendingLikes(feed.getId()))
+        .commentCount((int) (feed.getCommentCount() + feedCounterAccumulator.pendingComments(feed.getId())))
+        .likedByMe(likedByMe)
         .build();
   }
 
@@ -43,9 +49,9 @@ public class FeedMapper {
         .weather(new WeatherSummaryDto(weather.getId(), weather.getSkyStatus(), weather.getPrecipitation(), weather.getTemperature()))
         .ootds(ootds)
         .content(feedComment.getContent())
-        .likeCount(feed.getLikeCount().longValue())
-        .commentCount(feed.getCommentCount().intValue())
-        .likedByMe(feedLikeRepository.existsByFeed_IdAndUser_Id(feed.getId(), user.getId()))
+        .likeCount(feed.getLikeCount() + feedCounterAccumulator.pendingLikes(feed.getId()))
+        .commentCount((int) (feed.getCommentCount() + feedCounterAccumulator.pendingComments(feed.getId())))
+        .likedByMe(feedLikeIndex.isLiked(user.getId(), feed.getId()))
         .build();
   }
 
@@ -2,9 +2,16 @@ package com.fourthread.ozang.module.domain.feed.repository;
 
 import com.fourthread.ozang.module.domain.feed.entity.Feed;
 import com.fourthread.ozang.module.domain.feed.entity.FeedLike;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FeedLikeRepository extends JpaRepository<FeedLike, UUID> {
 
@@ -15,4 +22,34 @@ public interface FeedLikeRepository extends JpaRepository<FeedLike, UUID> {
   void deleteAllByFeed_Id(UUID feedId);
 
   Object findByFeed(Feed feed);
+
+  /**
+   * 좋아요 등록 - 이미 좋아요한 피드면 무시 (uk_feed_likes_user_id_feed_id)
+   * @return 새로 등록되면 1, 이미 있으면 0
+   */
+  @Modifying
+  @Query(value = "INSERT INTO feed_likes (id, created_at, feed_id, user_id) "
+      + "VALUES (:id, :createdAt, :feedId, :userId) ON CONFLICT DO NOTHING", nativeQuery = true)
+  int insertIfAbsent(@Param("id") UUID id, @Param("createdAt") LocalDateTime createdAt,
+      @Param("feedId") UUID feedId, @Param("userId") UUID userId);
+
+  /**
+   * 좋아요 취소
+   * @return 삭제되면 1, 좋아요하지 않았으면 0
+   */
+  @Modifying
+  @Query("delete from FeedLike fl where fl.feed.id = :feedId and fl.user.id = :userId")
+  int deleteByFeedIdAndUserId(@Param("feedId") UUID feedId, @Param("userId") UUID userId);
+
+  /**
+   * 사용자가 좋아요한 피드 id (FeedLikeIndex 적재용)
+   */
+  @Query("select fl.feed.id from FeedLike fl where fl.user.id = :userId")
+  List<UUID> findFeedIdsByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+  /**
+   * 한 페이지 피드 중 사용자가 좋아요한 피드 id
+   */
+  @Query("select fl.feed.id from FeedLike fl where fl.user.id = :userId and fl.feed.id in :feedIds")
+  List<UUID> findLikedFeedIds(@Param("userId") UUID userId, @Param("feedIds") Collection<UUID> feedIds);
 }
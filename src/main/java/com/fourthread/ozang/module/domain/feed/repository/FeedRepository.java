@@ -1,11 +1,40 @@
 package com.fourthread.ozang.module.domain.feed.repository;
 
 import com.fourthread.ozang.module.domain.feed.entity.Feed;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FeedRepository extends JpaRepository<Feed, UUID>, FeedRepositoryCustom {
 
   Optional<Feed> findByAuthor_Id(UUID authorId);
+
+  /**
+   * 좋아요/댓글 수 증분 반영 (FeedCounterAccumulator)
+   */
+  @Modifying
+  @Query(value = "UPDATE feeds SET like_count = like_count + :likes, comment_count = comment_count + :comments "
+      + "WHERE id = :feedId", nativeQuery = true)
+  int addCounts(@Param("feedId") UUID feedId, @Param("likes") long likes, @Param("comments") long comments);
+
+  /**
+   * 피드 목록의 현재 좋아요/댓글 수 (검색 색인 문서의 값은 색인 시점 값이라 DB 에서 다시 읽는다)
+   */
+  @Query("select f.id as id, f.likeCount as likeCount, f.commentCount as commentCount "
+      + "from Feed f where f.id in :feedIds")
+  List<FeedCounts> findCountsByIdIn(@Param("feedIds") Collection<UUID> feedIds);
+
+  interface FeedCounts {
+
+    UUID getId();
+
+    int getLikeCount();
+
+    int getCommentCount();
+  }
 }
@@ -167,7 +167,8 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
             feed.content,
             numberTemplate(Long.class, "{0}", feed.likeCount),
             numberTemplate(Integer.class, "{0}", feed.commentCount),
-            Expressions.constant(true)
+            // 조회 사용자 기준 likedByMe 는 FeedService 에서 페이지 단위로 채운다 (FeedLikeIndex)
+            Expressions.constant(false)
         ))
         .from(feed)
         .leftJoin(feed.author, user)
@@ -267,7 +268,7 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
         feed.content,
         numberTemplate(Long.class, "{0}", feed.likeCount),
         numberTemplate(Integer.class, "{0}", feed.commentCount),
-        Expressions.constant(true)
+        Expressions.constant(false)
     );
   }
 
@@ -1,6 +1,5 @@
 package com.fourthread.ozang.module.domain.feed.service;
 
-import static com.fourthread.ozang.module.common.exception.ErrorCode.FEED_LIKE_NOT_FOUND;
 import static com.fourthread.ozang.module.common.exception.ErrorCode.FEED_NOT_FOUND;
 
 import com.fourthread.ozang.module.common.exception.ErrorCode;
@@ -9,6 +8,7 @@ import com.fourthread.ozang.module.domain.clothes.dto.response.ClothesAttributeW
 import com.fourthread.ozang.module.domain.clothes.dto.response.OotdDto;
 import com.fourthread.ozang.module.domain.clothes.entity.Clothes;
 import com.fourthread.ozang.module.domain.clothes.repository.ClothesRepository;
+import com.fourthread.ozang.module.domain.feed.counter.FeedCounterAccumulator;
 import com.fourthread.ozang.module.domain.feed.dto.FeedCommentData;
 import com.fourthread.ozang.module.domain.feed.dto.FeedCommentDto;
 import com.fourthread.ozang.module.domain.feed.dto.FeedData;
@@ -22,9 +22,8 @@ import com.fourthread.ozang.module.domain.feed.elasticsearch.service.FeedSearchS
 import com.fourthread.ozang.module.domain.feed.entity.Feed;
 import com.fourthread.ozang.module.domain.feed.entity.FeedClothes;
 import com.fourthread.ozang.module.domain.feed.entity.FeedComment;
-import com.fourthread.ozang.module.domain.feed.entity.FeedLike;
-import com.fourthread.ozang.module.domain.feed.exception.FeedLikeNotFoundException;
 import com.fourthread.ozang.module.domain.feed.exception.FeedNotFoundException;
+import com.fourthread.ozang.module.domain.feed.like.FeedLikeIndex;
 import com.fourthread.ozang.module.domain.feed.mapper.FeedMapper;
 import com.fourthread.ozang.module.domain.feed.repository.FeedClothesRepository;
 import com.fourthread.ozang.module.domain.feed.repository.FeedCommentRepository;
@@ -36,10 +35,10 @@ import com.fourthread.ozang.module.domain.user.repository.UserRepository;
 import com.fourthread.ozang.module.domain.weather.entity.Weather;
 import com.fourthread.ozang.module.domain.weather.exception.WeatherNotFoundException;
 import com.fourthread.ozang.module.domain.weather.repository.WeatherRepository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -63,6 +62,8 @@ public class FeedService {
   private final WeatherRepository weatherRepository;
   private final ClothesRepository clothesRepository;
   private final FeedMapper feedMapper;
+  private final FeedCounterAccumulator feedCounterAccumulator;
+  private final FeedLikeIndex feedLikeIndex;
 
   /**
    * @methodName : register
@@ -84,8 +85,8 @@ public class FeedService {
         .author(user)
         .weather(weather)
         .content(request.content())
-        .likeCount(new AtomicInteger(0))
-        .commentCount(new AtomicInteger(0))
+        .likeCount(0)
+        .commentCount(0)
         .build();
 
     Feed savedFeed = feedRepository.save(feed);
@@ -110,18 +111,18 @@ public class FeedService {
   * @author : wongil
   * @Description: 피드 목록 조회
   **/
-  public FeedData retrieveFeed(FeedPaginationRequest request) {
+  public FeedData retrieveFeed(FeedPaginationRequest request, UUID viewerId) {
     if (request == null) {
       throw new IllegalArgumentException();
     }
 
     /// Elasticsearch 사용 가능하고 키워드 검색인 경우에만 Elasticsearch 사용
     return (StringUtils.hasText(request.keywordLike()) && feedSearchService.isPresent())
-        ? feedSearchService.get().elasticSearch(request)
-        : defaultPaging(request);
+        ? feedSearchService.get().elasticSearch(request, viewerId)
+        : defaultPaging(request, viewerId);
   }
 
-  private FeedData defaultPaging(FeedPaginationRequest request) {
+  private FeedData defaultPaging(FeedPaginationRequest request, UUID viewerId) {
     if (request == null) {
       throw new IllegalArgumentException();
     }
@@ -130,7 +131,9 @@ public class FeedService {
     List<FeedDto> data = feedRepository.search(request);
     boolean hasNext = data.size() > pageSize;
 
-    List<FeedDto> pagedFeeds = hasNext ? data.subList(0, pageSize) : data;
+    // 아직 DB 에 반영되지 않은 좋아요/댓글 증분 반영, likedByMe 는 조회 사용자 기준으로 한 번에 판정
+    List<FeedDto> pagedFeeds = feedLikeIndex.applyLikedByMe(viewerId,
+        feedCounterAccumulator.merge(hasNext ? data.subList(0, pageSize) : data));
 
     String nextCursor = null;
     UUID nextIdAfter = null;
@@ -190,14 +193,18 @@ public class FeedService {
   * @author : wongil
   * @Description: 피드 좋아요
   **/
-  public FeedDto like(UUID feedId) {
+  public FeedDto like(UUID feedId, UUID userId) {
 
     Feed feed = getFeed(feedId);
-    feed.increaseLike();
-    FeedLike feedLike = new FeedLike(feed, feed.getAuthor());
-    feedLikeRepository.save(feedLike);
+    User user = getUser(userId);
 
-    return feedMapper.toDto(feed, feed.getAuthor(), feed.getWeather(), getOotdsByFeed(feed));
+    // 이미 좋아요한 피드면 아무것도 바꾸지 않는다
+    if (feedLikeRepository.insertIfAbsent(UUID.randomUUID(), LocalDateTime.now(), feedId, user.getId()) > 0) {
+      feedCounterAccumulator.recordLike(feedId, 1);
+      feedLikeIndex.recordLike(user.getId(), feedId);
+    }
+
+    return feedMapper.toDto(feed, feed.getAuthor(), feed.getWeather(), getOotdsByFeed(feed), true);
   }
 
   /**
@@ -206,14 +213,17 @@ public class FeedService {
   * @author : wongil
   * @Description: 피드 좋아요 취소
   **/
-  public FeedDto unLike(UUID feedId) {
+  public FeedDto unLike(UUID feedId, UUID userId) {
 
     Feed feed = getFeed(feedId);
-    feed.decreaseLike();
-    FeedLike feedLike = getFeedLike(feed);
-    feedLikeRepository.delete(feedLike);
 
-    return feedMapper.toDto(feed, feed.getAuthor(), feed.getWeather(), getOotdsByFeed(feed));
+    // 좋아요하지 않은 피드면 아무것도 바꾸지 않는다
+    if (feedLikeRepository.deleteByFeedIdAndUserId(feedId, userId) > 0) {
+      feedCounterAccumulator.recordLike(feedId, -1);
+      feedLikeIndex.recordUnlike(userId, feedId);
+    }
+
+    return feedMapper.toDto(feed, feed.getAuthor(), feed.getWeather(), getOotdsByFeed(feed), false);
   }
 
   /**
@@ -237,6 +247,7 @@ public class FeedService {
         .build();
 
     feedCommentRepository.save(comment);
+    feedCounterAccumulator.recordComment(feed.getId(), 1);
 
     return feedMapper.toDto(feed, user, feed.getWeather(), getOotdsByFeed(feed), comment);
   }
@@ -276,14 +287,6 @@ public class FeedService {
     );
   }
 
-  private FeedLike getFeedLike(Feed feed) {
-    return feedLikeRepository.findByFeed_IdAndUser_Id(feed.getId(),
-            feed.getAuthor().getId())
-        .orElseThrow(() -> new FeedLikeNotFoundException(FEED_LIKE_NOT_FOUND.getCode(),
-            FEED_LIKE_NOT_FOUND.getMessage(),
-            new ErrorDetails(this.getClass().getSimpleName(), FEED_LIKE_NOT_FOUND.getMessage())));
-  }
-
   private Feed getFeed(UUID feedId) {
 
     return feedRepository.findById(feedId)
@@ -0,0 +1,16 @@
+package com.fourthread.ozang.module.domain.notification.event;
+
+import com.fourthread.ozang.module.domain.weather.dto.WeatherChange;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 격자의 새 발표분이 직전 발표분과 달라진 경우 (격자 사용자에게 알림)
+ */
+public record WeatherChangedEvent(
+    Integer x,
+    Integer y,
+    LocalDateTime forecastedAt,
+    List<WeatherChange> changes
+) {
+}
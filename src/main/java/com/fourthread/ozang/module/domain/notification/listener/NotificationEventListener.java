@@ -5,6 +5,8 @@ import com.fourthread.ozang.module.domain.notification.entity.NotificationLevel;
 import com.fourthread.ozang.module.domain.notification.event.*;
 import com.fourthread.ozang.module.domain.notification.service.NotificationService;
 import com.fourthread.ozang.module.domain.user.repository.UserRepository;
+import com.fourthread.ozang.module.domain.weather.cache.GridSubscriberIndex;
+import com.fourthread.ozang.module.domain.weather.dto.WeatherChange;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -12,7 +14,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -22,8 +27,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NotificationEventListener {
 
+    // 날씨 변화 알림 한 번에 저장할 수신자 수 (batch insert/SSE 발행 단위)
+    private static final int WEATHER_ALERT_BATCH_SIZE = 500;
+
     private final NotificationService notificationService;
     private final UserRepository userRepository;
+    private final GridSubscriberIndex gridSubscriberIndex;
 
     // 권한 변경 이벤트
     @Async("eventTaskExecutor")
@@ -104,4 +113,50 @@ public class NotificationEventListener {
     public void handle(DmReceivedEvent event) {
 
     }
+
+    // 격자 예보 변화 (강수 시작, 기온 급변) - 해당 격자에 프로필 위치가 있는 사용자에게만
+    @Async("eventTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(WeatherChangedEvent event) {
+        Set<UUID> receiverIds = gridSubscriberIndex.find(event.x(), event.y());
+        if (receiverIds.isEmpty()) {
+            return;
+        }
+
+        for (WeatherChange change : event.changes()) {
+            String title = switch (change.type()) {
+                case PRECIPITATION_START -> "비 소식이 있어요.";
+                case TEMPERATURE_RISE -> "기온이 크게 오를 예정이에요.";
+                case TEMPERATURE_DROP -> "기온이 크게 내려갈 예정이에요.";
+            };
+            String content = switch (change.type()) {
+                case PRECIPITATION_START -> String.format("%d시부터 %s 예보가 있어요. 우산을 챙기세요.",
+                        change.forecastAt().getHour(), change.precipitationType().getDescription());
+                case TEMPERATURE_RISE, TEMPERATURE_DROP -> String.format(
+                        "%d시 기온이 이전 예보보다 %.1f℃ %s %.1f℃예요.",
+                        change.forecastAt().getHour(), Math.abs(change.temperatureDelta()),
+                        change.temperatureDelta() > 0 ? "높은" : "낮은", change.currentTemperature());
+            };
+
+            for (Set<UUID> batch : partition(receiverIds, WEATHER_ALERT_BATCH_SIZE)) {
+                notificationService.createAll(batch, title, content, NotificationLevel.INFO);
+            }
+        }
+    }
+
+    private List<Set<UUID>> partition(Set<UUID> ids, int size) {
+        List<Set<UUID>> batches = new ArrayList<>((ids.size() + size - 1) / size);
+        Set<UUID> batch = new LinkedHashSet<>();
+        for (UUID id : ids) {
+            batch.add(id);
+            if (batch.size() == size) {
+                batches.add(batch);
+                batch = new LinkedHashSet<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
 }
@@ -14,6 +14,7 @@ import com.fourthread.ozang.module.domain.security.handler.JwtLoginSuccessHandle
 import com.fourthread.ozang.module.domain.security.handler.JwtLogoutHandler;
 import com.fourthread.ozang.module.domain.security.jwt.JwtService;
 import com.fourthread.ozang.module.domain.user.dto.type.Role;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -58,6 +59,8 @@ public class SecurityConfig {
       ) throws Exception {
     http
         .authorizeHttpRequests(authorize -> authorize
+            // 비동기 응답(CompletableFuture) 재디스패치는 최초 요청에서 이미 인가됨
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             .requestMatchers(request -> !request.getRequestURI().startsWith("/api/")).permitAll()
             .requestMatchers(HttpMethod.POST, SecurityMatchers.SIGN_UP).permitAll()
             .requestMatchers(HttpMethod.POST, SecurityMatchers.LOGIN).permitAll()
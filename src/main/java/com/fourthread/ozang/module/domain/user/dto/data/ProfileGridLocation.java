@@ -0,0 +1,13 @@
+package com.fourthread.ozang.module.domain.user.dto.data;
+
+/**
+ * 활성 사용자 프로필 위치의 격자 단위 집계 (격자별 대표 위경도)
+ */
+public record ProfileGridLocation(
+    Integer x,
+    Integer y,
+    Double latitude,
+    Double longitude
+) {
+
+}
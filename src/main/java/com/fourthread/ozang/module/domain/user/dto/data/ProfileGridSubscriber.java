@@ -0,0 +1,14 @@
+package com.fourthread.ozang.module.domain.user.dto.data;
+
+import java.util.UUID;
+
+/**
+ * 활성 사용자와 프로필 위치 격자 (격자별 날씨 알림 대상 색인용)
+ */
+public record ProfileGridSubscriber(
+    UUID userId,
+    Integer x,
+    Integer y
+) {
+
+}
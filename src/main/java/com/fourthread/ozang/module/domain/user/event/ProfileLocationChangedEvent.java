@@ -0,0 +1,16 @@
+package com.fourthread.ozang.module.domain.user.event;
+
+import java.util.UUID;
+
+/**
+ * 날씨 알림 대상 격자가 바뀐 사용자
+ * - 프로필 위치 변경, 계정 잠금/해제 시 발행
+ * - x, y 가 null 이면 알림 대상에서 제외 (위치 없음 또는 잠금)
+ */
+public record ProfileLocationChangedEvent(
+    UUID userId,
+    Integer x,
+    Integer y
+) {
+
+}
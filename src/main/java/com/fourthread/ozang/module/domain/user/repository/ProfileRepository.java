@@ -1,12 +1,38 @@
 package com.fourthread.ozang.module.domain.user.repository;
 
+import com.fourthread.ozang.module.domain.user.dto.data.ProfileGridLocation;
+import com.fourthread.ozang.module.domain.user.dto.data.ProfileGridSubscriber;
 import com.fourthread.ozang.module.domain.user.entity.Profile;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ProfileRepository extends JpaRepository<Profile, UUID> {
 
   Optional<Profile> findByUserId(UUID userId);
 
+  /**
+   * 잠기지 않은 사용자의 프로필 위치를 격자 단위로 중복 제거 (예보 사전 적재용)
+   */
+  @Query("SELECT new com.fourthread.ozang.module.domain.user.dto.data.ProfileGridLocation("
+      + "p.location.x, p.location.y, AVG(p.location.latitude), AVG(p.location.longitude)) "
+      + "FROM Profile p JOIN p.user u "
+      + "WHERE u.locked = false "
+      + "AND p.location.x IS NOT NULL AND p.location.y IS NOT NULL "
+      + "AND p.location.latitude IS NOT NULL AND p.location.longitude IS NOT NULL "
+      + "GROUP BY p.location.x, p.location.y")
+  List<ProfileGridLocation> findActiveGridLocations();
+
+  /**
+   * 잠기지 않은 사용자와 프로필 위치 격자 (격자별 날씨 알림 대상 색인용)
+   */
+  @Query("SELECT new com.fourthread.ozang.module.domain.user.dto.data.ProfileGridSubscriber("
+      + "u.id, p.location.x, p.location.y) "
+      + "FROM Profile p JOIN p.user u "
+      + "WHERE u.locked = false "
+      + "AND p.location.x IS NOT NULL AND p.location.y IS NOT NULL")
+  List<ProfileGridSubscriber> findActiveGridSubscribers();
+
 }
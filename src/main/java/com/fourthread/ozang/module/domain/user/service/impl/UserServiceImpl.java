@@ -12,10 +12,12 @@ import com.fourthread.ozang.module.domain.user.dto.request.UserCreateRequest;
 import com.fourthread.ozang.module.domain.user.dto.request.UserLockUpdateRequest;
 import com.fourthread.ozang.module.domain.user.dto.request.UserRoleUpdateRequest;
 import com.fourthread.ozang.module.domain.user.dto.response.UserCursorPageResponse;
+import com.fourthread.ozang.module.domain.user.dto.type.Location;
 import com.fourthread.ozang.module.domain.user.dto.type.Role;
 import com.fourthread.ozang.module.domain.user.dto.type.SortBy;
 import com.fourthread.ozang.module.domain.user.entity.Profile;
 import com.fourthread.ozang.module.domain.user.entity.User;
+import com.fourthread.ozang.module.domain.user.event.ProfileLocationChangedEvent;
 import com.fourthread.ozang.module.domain.user.exception.UserException;
 import com.fourthread.ozang.module.domain.user.mapper.ProfileMapper;
 import com.fourthread.ozang.module.domain.user.mapper.UserMapper;
@@ -28,6 +30,7 @@ import java.util.Optional;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -46,6 +49,7 @@ public class UserServiceImpl implements UserService {
   private final MailService mailService;
   private final JwtService jwtService;
   private final ImageService imageService;
+  private final ApplicationEventPublisher eventPublisher;
 
   public UserServiceImpl(UserRepository userRepository,
       ProfileRepository profileRepository,
@@ -54,7 +58,8 @@ public class UserServiceImpl implements UserService {
       PasswordEncoder passwordEncoder,
       JwtService jwtService,
       MailService mailService,
-      @Qualifier("profileImageService") ImageService imageService) {
+      @Qualifier("profileImageService") ImageService imageService,
+      ApplicationEventPublisher eventPublisher) {
     this.userRepository = userRepository;
     this.profileRepository = profileRepository;
     this.userMapper = userMapper;
@@ -63,6 +68,7 @@ public class UserServiceImpl implements UserService {
     this.mailService = mailService;
     this.jwtService = jwtService;
     this.imageService = imageService;
+    this.eventPublisher = eventPublisher;
   }
 
   @Transactional
@@ -178,6 +184,12 @@ public class UserServiceImpl implements UserService {
         profileImageUrl
     );
 
+    // 날씨 알림 대상 격자 갱신
+    if (request.location() != null) {
+      eventPublisher.publishEvent(new ProfileLocationChangedEvent(userId,
+          request.location().getX(), request.location().getY()));
+    }
+
     log.info("[UserService] 사용자 프로필 업데이트를 완료했습니다");
 
     return profileMapper.toDto(findProfile);
@@ -203,6 +215,15 @@ public class UserServiceImpl implements UserService {
       jwtService.invalidateJwtTokenByEmail(findUser.getEmail());
     }
 
+    // 잠금 상태가 바뀌면 날씨 알림 대상 갱신 (잠긴 사용자는 제외, 해제 시 프로필 위치로 복구)
+    if (wasUnlocked == locked) {
+      Location location = locked ? null : profileRepository.findByUserId(userId)
+          .map(Profile::getLocation)
+          .orElse(null);
+      eventPublisher.publishEvent(new ProfileLocationChangedEvent(userId,
+          location != null ? location.getX() : null, location != null ? location.getY() : null));
+    }
+
     return findUser.getId();
   }
 
@@ -1,8 +1,6 @@
 package com.fourthread.ozang.module.domain.weather.batch;
 
 import com.fourthread.ozang.module.config.batch.BatchJobExecutionListener;
-import com.fourthread.ozang.module.config.batch.BatchService;
-import com.fourthread.ozang.module.domain.weather.service.WeatherService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -10,24 +8,17 @@ import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.core.step.tasklet.Tasklet;
-import org.springframework.batch.repeat.RepeatStatus;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
 @RequiredArgsConstructor
 @Slf4j
 public class WeatherBatchConfig {
 
-    private final WeatherService weatherService;
     private final BatchJobExecutionListener batchJobExecutionListener;
 
-    @Value("${batch.weather.retention-days:30}")
-    private int weatherRetentionDays;
-
     @Bean
     public Job weatherDataCleanupJob(
         JobRepository jobRepository,
@@ -39,44 +30,84 @@ public class WeatherBatchConfig {
             .build();
     }
 
+    /**
+     * 날씨 데이터 정리 Step
+     * 파티션 삭제/청크 삭제가 각각 짧은 트랜잭션으로 커밋되도록 Step 트랜잭션은 사용하지 않는다
+     */
     @Bean
     public Step weatherDataCleanupStep(
         JobRepository jobRepository,
-        PlatformTransactionManager transactionManager,
-        Tasklet weatherDataCleanupTasklet
+        WeatherDataCleanupTasklet weatherDataCleanupTasklet
     ) {
         return new StepBuilder("weatherDataCleanupStep", jobRepository)
-            .tasklet(weatherDataCleanupTasklet, transactionManager)
+            .tasklet(weatherDataCleanupTasklet, new ResourcelessTransactionManager())
+            .build();
+    }
+
+    @Bean
+    public Job weatherForecastPrewarmJob(
+        JobRepository jobRepository,
+        Step weatherForecastPrewarmStep,
+        Step weatherForecastSnapshotStep
+    ) {
+        return new JobBuilder("weatherForecastPrewarmJob", jobRepository)
+            .listener(batchJobExecutionListener)
+            .start(weatherForecastPrewarmStep)
+            .next(weatherForecastSnapshotStep)
             .build();
     }
 
     /**
-     * 날씨 데이터 정리 Tasklet
-     * 설정된 보관 기간보다 오래된 날씨 데이터 삭제
+     * 예보 사전 적재 Step
+     * 외부 API 대기 동안 DB 커넥션을 점유하지 않도록 Step 트랜잭션은 사용하지 않는다
+     * (저장은 격자별로 짧은 트랜잭션에서 처리)
      */
     @Bean
-    public Tasklet weatherDataCleanupTasklet() {
-        return (contribution, chunkContext) -> {
-            log.info("날씨 데이터 정리 배치 작업 시작");
-
-            try {
-                int deletedCount = weatherService.cleanupOldWeatherData();
-
-                log.info("날씨 데이터 정리 완료 - 삭제된 데이터: {}건", deletedCount);
+    public Step weatherForecastPrewarmStep(
+        JobRepository jobRepository,
+        WeatherForecastPrewarmTasklet weatherForecastPrewarmTasklet
+    ) {
+        return new StepBuilder("weatherForecastPrewarmStep", jobRepository)
+            .tasklet(weatherForecastPrewarmTasklet, new ResourcelessTransactionManager())
+            .build();
+    }
 
-                // ExecutionContext에 결과 저장 (모니터링용)
-                chunkContext.getStepContext()
-                    .getStepExecution()
-                    .getJobExecution()
-                    .getExecutionContext()
-                    .putInt("deletedWeatherCount", deletedCount);
+    /**
+     * 격자 예보 스냅샷 재생성 Step
+     * 읽기는 격자별 짧은 조회이고 파일 기록은 트랜잭션 대상이 아니므로 Step 트랜잭션은 사용하지 않는다
+     */
+    @Bean
+    public Step weatherForecastSnapshotStep(
+        JobRepository jobRepository,
+        WeatherForecastSnapshotTasklet weatherForecastSnapshotTasklet
+    ) {
+        return new StepBuilder("weatherForecastSnapshotStep", jobRepository)
+            .tasklet(weatherForecastSnapshotTasklet, new ResourcelessTransactionManager())
+            .build();
+    }
 
-                return RepeatStatus.FINISHED;
+    @Bean
+    public Job weatherDailyRollupBackfillJob(
+        JobRepository jobRepository,
+        Step weatherDailyRollupBackfillStep
+    ) {
+        return new JobBuilder("weatherDailyRollupBackfillJob", jobRepository)
+            .listener(batchJobExecutionListener)
+            .start(weatherDailyRollupBackfillStep)
+            .build();
+    }
 
-            } catch (Exception e) {
-                log.error("날씨 데이터 정리 배치 작업 실패, e");
-                throw e;
-            }
-        };
+    /**
+     * 일 집계 백필 Step
+     * 날짜마다 짧은 트랜잭션으로 커밋되도록 Step 트랜잭션은 사용하지 않는다
+     */
+    @Bean
+    public Step weatherDailyRollupBackfillStep(
+        JobRepository jobRepository,
+        WeatherDailyRollupBackfillTasklet weatherDailyRollupBackfillTasklet
+    ) {
+        return new StepBuilder("weatherDailyRollupBackfillStep", jobRepository)
+            .tasklet(weatherDailyRollupBackfillTasklet, new ResourcelessTransactionManager())
+            .build();
     }
-}
\ No newline at end of file
+}
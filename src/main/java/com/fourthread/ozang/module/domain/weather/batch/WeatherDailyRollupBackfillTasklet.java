@@ -0,0 +1,79 @@
+package com.fourthread.ozang.module.domain.weather.batch;
+
+import com.fourthread.ozang.module.domain.weather.service.DailyWeatherRollupService;
+import java.time.LocalDate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일 집계 백필 Tasklet
+ * - 보관 기간 첫날부터 내일까지 weathers 이력을 하루씩 daily_weather_rollups 에 반영
+ * - 하루마다 CONTINUABLE 로 반환해 다음 날짜를 Step ExecutionContext 에 저장하므로
+ *   실패 후 재시작하면 처리하지 않은 날짜부터 이어서 반영 (같은 날짜를 다시 반영해도 결과는 같다)
+ */
+@Slf4j
+@Component
+public class WeatherDailyRollupBackfillTasklet implements Tasklet {
+
+    static final String NEXT_DATE_KEY = "rollupBackfillNextDate";
+    static final String END_DATE_KEY = "rollupBackfillEndDate";
+    static final String SOURCE_KEY = "rollupBackfillSourceCount";
+    static final String DAY_KEY = "rollupBackfillDayCount";
+
+    private final DailyWeatherRollupService dailyWeatherRollupService;
+    private final int retentionDays;
+
+    public WeatherDailyRollupBackfillTasklet(
+        DailyWeatherRollupService dailyWeatherRollupService,
+        @Value("${batch.weather.retention-days:30}") int retentionDays) {
+        this.dailyWeatherRollupService = dailyWeatherRollupService;
+        this.retentionDays = retentionDays;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext stepContext = chunkContext.getStepContext()
+            .getStepExecution()
+            .getExecutionContext();
+
+        if (!stepContext.containsKey(NEXT_DATE_KEY)) {
+            LocalDate today = LocalDate.now();
+            LocalDate start = today.minusDays(retentionDays);
+            LocalDate end = today.plusDays(1);
+            log.info("일 집계 백필 배치 작업 시작 - 기간: {} ~ {}", start, end);
+            stepContext.putString(NEXT_DATE_KEY, start.toString());
+            stepContext.putString(END_DATE_KEY, end.toString());
+        }
+
+        LocalDate date = LocalDate.parse(stepContext.getString(NEXT_DATE_KEY));
+        LocalDate end = LocalDate.parse(stepContext.getString(END_DATE_KEY));
+
+        int applied = dailyWeatherRollupService.backfill(date);
+        long total = stepContext.getLong(SOURCE_KEY, 0L) + applied;
+        int days = stepContext.getInt(DAY_KEY, 0) + 1;
+        stepContext.putLong(SOURCE_KEY, total);
+        stepContext.putInt(DAY_KEY, days);
+        stepContext.putString(NEXT_DATE_KEY, date.plusDays(1).toString());
+        contribution.incrementWriteCount(applied);
+        log.debug("일 집계 백필 진행 - 날짜: {}, 저장 날씨: {}건", date, applied);
+
+        if (date.isBefore(end)) {
+            return RepeatStatus.CONTINUABLE;
+        }
+
+        log.info("일 집계 백필 완료 - 날짜: {}일, 반영한 저장 날씨: {}건", days, total);
+        ExecutionContext jobContext = chunkContext.getStepContext()
+            .getStepExecution()
+            .getJobExecution()
+            .getExecutionContext();
+        jobContext.putInt("rollupBackfillDayCount", days);
+        jobContext.putLong("rollupBackfillSourceCount", total);
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,111 @@
+package com.fourthread.ozang.module.domain.weather.batch;
+
+import com.fourthread.ozang.module.domain.weather.service.LocationNameService;
+import com.fourthread.ozang.module.domain.weather.service.WeatherRetentionService;
+import com.fourthread.ozang.module.domain.weather.service.WeatherRetentionService.PartitionRotation;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 날씨 데이터 정리 Tasklet
+ * - 파티션 테이블이면 먼저 미래 파티션 생성 + 보관 기간이 지난 파티션 삭제를 한 번에 처리
+ * - 이어서 청크 단위 삭제 (파티션 테이블이면 default 파티션에 남은 지난 날씨) - 청크마다 CONTINUABLE 로
+ *   반환해 진행 상황(누적 삭제 건수)을 Step ExecutionContext 에 저장하므로 실패 후 재시작해도 같은 기준 시각으로 이어서 삭제
+ * - 마지막에 시간별 예보/일 집계/만료된 역지오코딩 캐시 삭제 후 결과를 Job ExecutionContext 에 저장 (모니터링용)
+ */
+@Slf4j
+@Component
+public class WeatherDataCleanupTasklet implements Tasklet {
+
+    static final String CUTOFF_KEY = "weatherCleanupCutoff";
+    static final String DELETED_KEY = "weatherCleanupDeletedCount";
+    static final String CHUNK_KEY = "weatherCleanupChunkCount";
+
+    private final WeatherRetentionService weatherRetentionService;
+    private final LocationNameService locationNameService;
+    private final int retentionDays;
+
+    public WeatherDataCleanupTasklet(
+        WeatherRetentionService weatherRetentionService,
+        LocationNameService locationNameService,
+        @Value("${batch.weather.retention-days:30}") int retentionDays) {
+        this.weatherRetentionService = weatherRetentionService;
+        this.locationNameService = locationNameService;
+        this.retentionDays = retentionDays;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext stepContext = chunkContext.getStepContext()
+            .getStepExecution()
+            .getExecutionContext();
+
+        if (!stepContext.containsKey(CUTOFF_KEY)) {
+            LocalDateTime cutoff = weatherRetentionService.cutoff(retentionDays);
+            log.info("날씨 데이터 정리 배치 작업 시작 - 보관 기간: {}일, 기준 시각: {}", retentionDays, cutoff);
+
+            if (weatherRetentionService.isPartitioned()) {
+                PartitionRotation rotation = weatherRetentionService.rotatePartitions(cutoff);
+                log.info("날씨 파티션 교체 완료 - 생성: {}개, 삭제: {}개 (약 {}건), 피드 참조 보관: {}건",
+                    rotation.createdCount(), rotation.droppedCount(), rotation.deletedCount(),
+                    rotation.retainedCount());
+
+                ExecutionContext jobContext = jobContext(chunkContext);
+                jobContext.putInt("createdWeatherPartitionCount", rotation.createdCount());
+                jobContext.putInt("droppedWeatherPartitionCount", rotation.droppedCount());
+                jobContext.putLong("retainedWeatherCount", rotation.retainedCount());
+                stepContext.putLong(DELETED_KEY, rotation.deletedCount());
+                log.info("default 파티션의 지난 날씨 청크 단위 삭제 (청크 크기: {}건)", weatherRetentionService.getChunkSize());
+            } else {
+                log.info("weathers 파티션 미적용 - 청크 단위 삭제 (청크 크기: {}건)", weatherRetentionService.getChunkSize());
+            }
+            stepContext.putString(CUTOFF_KEY, cutoff.toString());
+        }
+
+        LocalDateTime cutoff = LocalDateTime.parse(stepContext.getString(CUTOFF_KEY));
+        int deleted = weatherRetentionService.deleteExpiredChunk(cutoff);
+        long total = stepContext.getLong(DELETED_KEY, 0L) + deleted;
+        int chunks = stepContext.getInt(CHUNK_KEY, 0) + 1;
+        stepContext.putLong(DELETED_KEY, total);
+        stepContext.putInt(CHUNK_KEY, chunks);
+        contribution.incrementWriteCount(deleted);
+
+        if (deleted >= weatherRetentionService.getChunkSize()) {
+            log.debug("날씨 데이터 청크 삭제 진행 - {}번째 청크, 누적 {}건", chunks, total);
+            return RepeatStatus.CONTINUABLE;
+        }
+
+        log.info("날씨 데이터 청크 삭제 완료 - 청크: {}개, 삭제: {}건", chunks, total);
+        return finish(chunkContext, cutoff, total);
+    }
+
+    private RepeatStatus finish(ChunkContext chunkContext, LocalDateTime cutoff, long deletedCount) {
+        int deletedHourlyCount = weatherRetentionService.deleteExpiredHourly(cutoff);
+        int deletedRollupCount = weatherRetentionService.deleteExpiredRollups(cutoff);
+        int deletedGeocodeCount = locationNameService.cleanupExpired();
+
+        log.info("날씨 데이터 정리 완료 - 삭제된 데이터: {}건, 시간별 예보: {}건, 일 집계: {}건, 만료된 지역명 캐시: {}건",
+            deletedCount, deletedHourlyCount, deletedRollupCount, deletedGeocodeCount);
+
+        ExecutionContext jobContext = jobContext(chunkContext);
+        jobContext.putInt("deletedWeatherCount", (int) Math.min(deletedCount, Integer.MAX_VALUE));
+        jobContext.putInt("deletedHourlyForecastCount", deletedHourlyCount);
+        jobContext.putInt("deletedDailyRollupCount", deletedRollupCount);
+        jobContext.putInt("deletedReverseGeocodeCount", deletedGeocodeCount);
+        return RepeatStatus.FINISHED;
+    }
+
+    private static ExecutionContext jobContext(ChunkContext chunkContext) {
+        return chunkContext.getStepContext()
+            .getStepExecution()
+            .getJobExecution()
+            .getExecutionContext();
+    }
+}
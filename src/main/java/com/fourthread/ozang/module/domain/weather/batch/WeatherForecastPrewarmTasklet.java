@@ -0,0 +1,104 @@
+package com.fourthread.ozang.module.domain.weather.batch;
+
+import com.fourthread.ozang.module.domain.user.dto.data.ProfileGridLocation;
+import com.fourthread.ozang.module.domain.user.repository.ProfileRepository;
+import com.fourthread.ozang.module.domain.weather.service.WeatherService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예보 사전 적재 Tasklet
+ * - 잠기지 않은 사용자 프로필 위치를 격자 단위로 중복 제거
+ * - 격자별로 현재 발표시각 예보가 없으면 기상청 API 조회 후 저장 (apiCallExecutor, 동시 실행 수 제한)
+ * - 한 격자의 실패가 전체 작업을 중단시키지 않도록 격자별로 실패를 집계
+ */
+@Slf4j
+@Component
+public class WeatherForecastPrewarmTasklet implements Tasklet {
+
+    private final ProfileRepository profileRepository;
+    private final WeatherService weatherService;
+    private final Executor apiCallExecutor;
+    private final int concurrency;
+
+    public WeatherForecastPrewarmTasklet(
+        ProfileRepository profileRepository,
+        WeatherService weatherService,
+        @Qualifier("apiCallExecutor") Executor apiCallExecutor,
+        @Value("${batch.weather.prewarm.concurrency:4}") int concurrency) {
+        this.profileRepository = profileRepository;
+        this.weatherService = weatherService;
+        this.apiCallExecutor = apiCallExecutor;
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext)
+        throws InterruptedException {
+        log.info("예보 사전 적재 배치 작업 시작");
+        long startedAt = System.nanoTime();
+
+        List<ProfileGridLocation> locations = profileRepository.findActiveGridLocations();
+        log.info("사전 적재 대상 격자 수: {}개 (동시 실행: {})", locations.size(), concurrency);
+
+        AtomicInteger fetchedCount = new AtomicInteger();
+        AtomicInteger skippedCount = new AtomicInteger();
+        AtomicInteger failedCount = new AtomicInteger();
+
+        Semaphore permits = new Semaphore(concurrency);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(locations.size());
+        for (ProfileGridLocation location : locations) {
+            permits.acquire();
+            futures.add(CompletableFuture
+                .runAsync(() -> prewarm(location, fetchedCount, skippedCount, failedCount),
+                    apiCallExecutor)
+                .whenComplete((result, throwable) -> permits.release()));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        long durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("예보 사전 적재 완료 - 격자: {}개, 조회: {}건, 생략: {}건, 실패: {}건, 소요: {}ms",
+            locations.size(), fetchedCount.get(), skippedCount.get(), failedCount.get(), durationMs);
+
+        // ExecutionContext에 결과 저장 (모니터링용)
+        ExecutionContext executionContext = chunkContext.getStepContext()
+            .getStepExecution()
+            .getJobExecution()
+            .getExecutionContext();
+        executionContext.putInt("prewarmCellCount", locations.size());
+        executionContext.putInt("prewarmFetchedCount", fetchedCount.get());
+        executionContext.putInt("prewarmSkippedCount", skippedCount.get());
+        executionContext.putInt("prewarmFailedCount", failedCount.get());
+        executionContext.putLong("prewarmDurationMs", durationMs);
+
+        return RepeatStatus.FINISHED;
+    }
+
+    private void prewarm(ProfileGridLocation location, AtomicInteger fetchedCount,
+        AtomicInteger skippedCount, AtomicInteger failedCount) {
+        try {
+            if (weatherService.prewarmWeatherForecast(location.longitude(), location.latitude())) {
+                fetchedCount.incrementAndGet();
+            } else {
+                skippedCount.incrementAndGet();
+            }
+        } catch (Exception e) {
+            failedCount.incrementAndGet();
+            log.warn("예보 사전 적재 실패 - X: {}, Y: {}, 원인: {}",
+                location.x(), location.y(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.fourthread.ozang.module.domain.weather.batch;
+
+import com.fourthread.ozang.module.domain.weather.service.ForecastGridSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 격자 예보 스냅샷 재생성 Tasklet
+ * - 예보 사전 적재 Step 이후 실행되어 이번 발표분으로 스냅샷 파일을 다시 만들고 교체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeatherForecastSnapshotTasklet implements Tasklet {
+
+    private final ForecastGridSnapshotService forecastGridSnapshotService;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        long startedAt = System.nanoTime();
+        int cellCount = forecastGridSnapshotService.rebuild();
+        long durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("격자 예보 스냅샷 재생성 완료 - 격자: {}개, 소요: {}ms", cellCount, durationMs);
+
+        ExecutionContext executionContext = chunkContext.getStepContext()
+            .getStepExecution()
+            .getJobExecution()
+            .getExecutionContext();
+        executionContext.putInt("snapshotCellCount", cellCount);
+        executionContext.putLong("snapshotDurationMs", durationMs);
+
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,79 @@
+package com.fourthread.ozang.module.domain.weather.cache;
+
+import com.fourthread.ozang.module.domain.weather.dto.WeatherDto;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 5일 예보 캐시
+ * - 계산된 5일 예보: 격자 + 발표시각 단위, 다음 발표시각까지 유효
+ * - 단기예보 응답: 격자 + 응답의 발표시각 단위, 발표 후 내용이 바뀌지 않으므로 5일째 보완 조회에 하루 동안 재사용
+ */
+public class FiveDayForecastCache {
+
+    /**
+     * 5일째 보완 조회 대상은 현재 발표시각 기준 하루 이내의 발표분
+     */
+    private static final int RESPONSE_RETENTION_DAYS = 1;
+
+    private final PublishCycleCache<List<WeatherDto>> forecasts;
+    private final PublishCycleCache<KmaForecast> responses;
+
+    public FiveDayForecastCache(int forecastMaxSize, int responseMaxSize, MeterRegistry meterRegistry) {
+        this.forecasts = new PublishCycleCache<>("five-day", forecastMaxSize, meterRegistry);
+        this.responses = new PublishCycleCache<>("vilage-response", responseMaxSize, meterRegistry);
+    }
+
+    public Optional<List<WeatherDto>> get(ForecastCacheKey key) {
+        return forecasts.get(key);
+    }
+
+    public void put(ForecastCacheKey key, List<WeatherDto> forecast) {
+        if (forecast == null || forecast.isEmpty()) {
+            return;
+        }
+        forecasts.put(key, List.copyOf(forecast));
+    }
+
+    public Optional<KmaForecast> getResponse(ForecastCacheKey key) {
+        return responses.get(key);
+    }
+
+    /**
+     * 정상 응답(resultCode 00, 예보 있음)만 저장
+     */
+    public void putResponse(ForecastCacheKey key, KmaForecast response) {
+        if (response == null || response.isEmpty() || !"00".equals(response.getResultCode())) {
+            return;
+        }
+        responses.put(key, response);
+    }
+
+    /**
+     * 지난 발표시각의 5일 예보와 보완 조회 범위를 벗어난 응답 제거
+     * @return 제거된 항목 수
+     */
+    public int evictExpired(LocalDateTime currentBaseDateTime) {
+        return forecasts.evictBefore(currentBaseDateTime)
+            + responses.evictBefore(currentBaseDateTime.minusDays(RESPONSE_RETENTION_DAYS));
+    }
+
+    public int evictGrid(int x, int y) {
+        return forecasts.evictGrid(x, y) + responses.evictGrid(x, y);
+    }
+
+    public int clear() {
+        return forecasts.clear() + responses.clear();
+    }
+
+    public PublishCycleCache<List<WeatherDto>> getForecasts() {
+        return forecasts;
+    }
+
+    public PublishCycleCache<KmaForecast> getResponses() {
+        return responses;
+    }
+}
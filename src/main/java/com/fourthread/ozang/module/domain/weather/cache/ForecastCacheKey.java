@@ -0,0 +1,22 @@
+package com.fourthread.ozang.module.domain.weather.cache;
+
+import com.fourthread.ozang.module.domain.weather.entity.GridCoordinate;
+import java.time.LocalDateTime;
+
+/**
+ * 예보 캐시 키 - 격자 좌표(x, y) + 발표시각(base_date/base_time)
+ */
+public record ForecastCacheKey(
+    int x,
+    int y,
+    LocalDateTime baseDateTime
+) {
+
+    public static ForecastCacheKey of(GridCoordinate grid, LocalDateTime baseDateTime) {
+        return new ForecastCacheKey(grid.getX(), grid.getY(), baseDateTime);
+    }
+
+    public boolean isGrid(int x, int y) {
+        return this.x == x && this.y == y;
+    }
+}
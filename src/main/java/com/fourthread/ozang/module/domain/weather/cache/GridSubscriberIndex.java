@@ -0,0 +1,101 @@
+package com.fourthread.ozang.module.domain.weather.cache;
+
+import com.fourthread.ozang.module.domain.user.dto.data.ProfileGridSubscriber;
+import com.fourthread.ozang.module.domain.user.event.ProfileLocationChangedEvent;
+import com.fourthread.ozang.module.domain.user.repository.ProfileRepository;
+import com.fourthread.ozang.module.domain.weather.util.GridLookupTable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 격자 → 사용자 색인 (날씨 변화 알림 대상 조회용)
+ * - 기동 시 활성 사용자 프로필 위치로 생성, 프로필 위치 변경/잠금 이벤트로 증분 갱신
+ * - 이벤트 누락 보정을 위해 매일 한 번 전체 재생성
+ * - 알림 대상 조회 시 users 테이블을 훑지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GridSubscriberIndex {
+
+    private final ProfileRepository profileRepository;
+
+    // 갱신은 모두 synchronized, 조회는 복사본을 반환
+    private final Map<Integer, Set<UUID>> usersByGrid = new HashMap<>();
+    private final Map<UUID, Integer> gridByUser = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 4 * * ?", zone = "#{@timezoneId}")
+    public void rebuild() {
+        List<ProfileGridSubscriber> subscribers = profileRepository.findActiveGridSubscribers();
+        synchronized (this) {
+            usersByGrid.clear();
+            gridByUser.clear();
+            for (ProfileGridSubscriber subscriber : subscribers) {
+                put(subscriber.userId(), subscriber.x(), subscriber.y());
+            }
+        }
+        log.info("격자별 날씨 알림 대상 색인 생성 - 사용자: {}명, 격자: {}개", subscribers.size(), gridCount());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(ProfileLocationChangedEvent event) {
+        update(event.userId(), event.x(), event.y());
+    }
+
+    /**
+     * 사용자 격자 변경 - x, y 가 null 이면 제외
+     */
+    public synchronized void update(UUID userId, Integer x, Integer y) {
+        remove(userId);
+        put(userId, x, y);
+    }
+
+    /**
+     * 격자의 알림 대상 사용자
+     */
+    public synchronized Set<UUID> find(int x, int y) {
+        Set<UUID> users = usersByGrid.get(GridLookupTable.pack(x, y));
+        return users != null ? Set.copyOf(users) : Set.of();
+    }
+
+    public synchronized int gridCount() {
+        return usersByGrid.size();
+    }
+
+    public synchronized int size() {
+        return gridByUser.size();
+    }
+
+    private void put(UUID userId, Integer x, Integer y) {
+        if (userId == null || x == null || y == null) {
+            return;
+        }
+        int grid = GridLookupTable.pack(x, y);
+        usersByGrid.computeIfAbsent(grid, key -> new HashSet<>()).add(userId);
+        gridByUser.put(userId, grid);
+    }
+
+    private void remove(UUID userId) {
+        Integer previous = gridByUser.remove(userId);
+        if (previous == null) {
+            return;
+        }
+        Set<UUID> users = usersByGrid.get(previous);
+        if (users != null && users.remove(userId) && users.isEmpty()) {
+            usersByGrid.remove(previous);
+        }
+    }
+}
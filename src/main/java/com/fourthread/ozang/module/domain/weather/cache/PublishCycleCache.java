@@ -0,0 +1,135 @@
+package com.fourthread.ozang.module.domain.weather.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 발표시각 단위로 유효한 인메모리(L1) 예보 캐시
+ * - 키에 발표시각이 포함되므로 새 발표시각이 되면 자연스럽게 미스 처리
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ * - 지난 발표시각 항목은 발표 스케줄에 맞춰 evictBefore 로 일괄 제거
+ */
+public class PublishCycleCache<V> {
+
+    private static final String METRIC_PREFIX = "weather.cache";
+
+    private final String name;
+    private final int maxSize;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+    private final Map<ForecastCacheKey, V> entries;
+
+    public PublishCycleCache(String name, int maxSize, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.hitCounter = Counter.builder(METRIC_PREFIX + ".gets")
+            .tag("cache", name)
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_PREFIX + ".gets")
+            .tag("cache", name)
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.evictionCounter = Counter.builder(METRIC_PREFIX + ".evictions")
+            .tag("cache", name)
+            .register(meterRegistry);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ForecastCacheKey, V> eldest) {
+                boolean evict = size() > PublishCycleCache.this.maxSize;
+                if (evict) {
+                    evictionCounter.increment();
+                }
+                return evict;
+            }
+        };
+        Gauge.builder(METRIC_PREFIX + ".size", this, PublishCycleCache::size)
+            .tag("cache", name)
+            .register(meterRegistry);
+    }
+
+    public synchronized Optional<V> get(ForecastCacheKey key) {
+        V value = entries.get(key);
+        if (value == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(value);
+    }
+
+    /**
+     * 통계에 반영하지 않는 조회 (single-flight 리더의 재확인용)
+     */
+    public synchronized Optional<V> peek(ForecastCacheKey key) {
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    public synchronized void put(ForecastCacheKey key, V value) {
+        if (value == null) {
+            return;
+        }
+        entries.put(key, value);
+    }
+
+    /**
+     * 현재 발표시각 이전의 항목 제거
+     * @return 제거된 항목 수
+     */
+    public synchronized int evictBefore(LocalDateTime currentBaseDateTime) {
+        int before = entries.size();
+        entries.keySet().removeIf(key -> key.baseDateTime().isBefore(currentBaseDateTime));
+        int evicted = before - entries.size();
+        evictionCounter.increment(evicted);
+        return evicted;
+    }
+
+    /**
+     * 특정 격자의 모든 발표시각 항목 제거
+     * @return 제거된 항목 수
+     */
+    public synchronized int evictGrid(int x, int y) {
+        int before = entries.size();
+        entries.keySet().removeIf(key -> key.isGrid(x, y));
+        int evicted = before - entries.size();
+        evictionCounter.increment(evicted);
+        return evicted;
+    }
+
+    /**
+     * 전체 항목 제거
+     * @return 제거된 항목 수
+     */
+    public synchronized int clear() {
+        int evicted = entries.size();
+        entries.clear();
+        evictionCounter.increment(evicted);
+        return evicted;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return (long) hitCounter.count();
+    }
+
+    public long getMissCount() {
+        return (long) missCounter.count();
+    }
+}
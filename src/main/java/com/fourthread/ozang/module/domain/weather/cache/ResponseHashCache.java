@@ -0,0 +1,63 @@
+package com.fourthread.ozang.module.domain.weather.cache;
+
+import com.fourthread.ozang.module.domain.weather.entity.Weather;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 응답 해시 인덱스 - 격자 + 응답의 발표시각 단위로 마지막에 저장한 날씨와 그 응답 해시를 보관
+ * - 같은 발표분을 다시 받아 해시가 같으면 매핑/저장 없이 저장된 날씨를 그대로 사용
+ * - 재시작 후 비어 있는 동안의 중복은 저장 시 해시 유니크 제약으로 처리 (WeatherPersistenceService)
+ */
+public class ResponseHashCache {
+
+    /**
+     * 발표분 재조회는 현재 발표시각 기준 하루 이내에서만 의미가 있다
+     */
+    private static final int RETENTION_DAYS = 1;
+
+    private final PublishCycleCache<Weather> entries;
+
+    public ResponseHashCache(int maxSize, MeterRegistry meterRegistry) {
+        this.entries = new PublishCycleCache<>("response-hash", maxSize, meterRegistry);
+    }
+
+    /**
+     * 같은 격자/발표시각으로 저장된 날씨 중 응답 해시가 일치하는 것만 반환
+     */
+    public Optional<Weather> find(ForecastCacheKey key, String responseHash) {
+        if (responseHash == null) {
+            return Optional.empty();
+        }
+        return entries.get(key)
+            .filter(weather -> responseHash.equals(weather.getApiResponseHash()));
+    }
+
+    public void put(ForecastCacheKey key, Weather weather) {
+        if (weather == null || weather.getApiResponseHash() == null) {
+            return;
+        }
+        entries.put(key, weather);
+    }
+
+    /**
+     * 재조회 범위를 벗어난 발표분 제거
+     * @return 제거된 항목 수
+     */
+    public int evictExpired(LocalDateTime currentBaseDateTime) {
+        return entries.evictBefore(currentBaseDateTime.minusDays(RETENTION_DAYS));
+    }
+
+    public int evictGrid(int x, int y) {
+        return entries.evictGrid(x, y);
+    }
+
+    public int clear() {
+        return entries.clear();
+    }
+
+    public PublishCycleCache<Weather> getEntries() {
+        return entries;
+    }
+}
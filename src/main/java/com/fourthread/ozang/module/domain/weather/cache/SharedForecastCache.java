@@ -0,0 +1,221 @@
+package com.fourthread.ozang.module.domain.weather.cache;
+
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.util.HourlySeriesCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 노드 간 공유(L2) 단기예보 응답 캐시 (Redis)
+ * - 키: 격자 + 요청 발표일자/시각, 값: 단기예보 응답 바이너리 직렬화 (HourlySeriesCodec.encodeResponse)
+ * - 미스 시 격자 + 발표시각 단위 분산 락(SET NX PX)을 잡은 노드만 기상청 API 를 호출하고,
+ *   나머지 노드는 캐시에 값이 들어올 때까지 기다렸다가 사용 (대기 시간을 넘기면 직접 호출)
+ * - Redis 오류 시 잠시 L2 를 건너뛰고 바로 호출 (캐시 장애가 날씨 조회 장애가 되지 않도록)
+ * - 정상(resultCode 00) 응답만 저장
+ */
+@Slf4j
+public class SharedForecastCache {
+
+    private static final String METRIC_PREFIX = "weather.cache.shared";
+    private static final String KEY_PREFIX = "weather:forecast:";
+    private static final String LOCK_PREFIX = "weather:forecast:lock:";
+    private static final String SUCCESS_CODE = "00";
+    private static final Duration SUSPEND_ON_ERROR = Duration.ofSeconds(30);
+
+    // 자신이 잡은 락만 해제 (값 비교 후 삭제)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class);
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final Duration ttl;
+    private final Duration lockTtl;
+    private final Duration lockWait;
+    private final Duration pollInterval;
+    private final Clock clock;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter waitedCounter;
+    private final Counter waitTimeoutCounter;
+    private final Counter errorCounter;
+
+    // Redis 오류 후 이 시각(epoch ms)까지 L2 사용 안 함
+    private volatile long suspendedUntil;
+
+    public SharedForecastCache(RedisTemplate<String, byte[]> redisTemplate, Duration ttl, Duration lockTtl,
+        Duration lockWait, Duration pollInterval, Clock clock, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.lockTtl = lockTtl;
+        this.lockWait = lockWait;
+        this.pollInterval = pollInterval;
+        this.clock = clock;
+        this.hitCounter = counter(meterRegistry, "hit");
+        this.missCounter = counter(meterRegistry, "miss");
+        this.waitedCounter = counter(meterRegistry, "waited");
+        this.waitTimeoutCounter = counter(meterRegistry, "wait_timeout");
+        this.errorCounter = counter(meterRegistry, "error");
+    }
+
+    /**
+     * L2 를 쓰지 않는 캐시 (설정으로 끈 경우 / 테스트)
+     */
+    public static SharedForecastCache disabled() {
+        return new SharedForecastCache(null, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO,
+            Clock.systemUTC(), new SimpleMeterRegistry());
+    }
+
+    public boolean isEnabled() {
+        return redisTemplate != null;
+    }
+
+    /**
+     * 공유 캐시 조회 후 없으면 분산 락을 잡은 노드만 fetch 호출
+     */
+    public Mono<KmaForecast> getOrFetch(int nx, int ny, String baseDate, String baseTime,
+        Supplier<Mono<KmaForecast>> fetch) {
+        if (!available()) {
+            return Mono.defer(fetch);
+        }
+        String key = KEY_PREFIX + nx + ':' + ny + ':' + baseDate + baseTime;
+        String lockKey = LOCK_PREFIX + nx + ':' + ny + ':' + baseDate + baseTime;
+
+        return Mono.fromCallable(() -> read(key))
+            .subscribeOn(Schedulers.boundedElastic())
+            .doOnNext(cached -> hitCounter.increment())
+            .switchIfEmpty(Mono.defer(() -> {
+                if (!available()) {
+                    return Mono.defer(fetch);
+                }
+                missCounter.increment();
+                String token = UUID.randomUUID().toString();
+                return Mono.fromCallable(() -> tryLock(lockKey, token))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(locked -> locked
+                        ? fetchAndStore(key, lockKey, token, fetch)
+                        : awaitOther(key).switchIfEmpty(Mono.defer(fetch)));
+            }));
+    }
+
+    private Mono<KmaForecast> fetchAndStore(String key, String lockKey, String token,
+        Supplier<Mono<KmaForecast>> fetch) {
+        AtomicBoolean released = new AtomicBoolean();
+        // 저장 후 락 해제 (해제 후 저장 전에 들어온 노드가 다시 호출하지 않도록)
+        return Mono.defer(fetch)
+            .doOnNext(forecast -> {
+                if (released.compareAndSet(false, true)) {
+                    Schedulers.boundedElastic().schedule(() -> {
+                        write(key, forecast);
+                        unlock(lockKey, token);
+                    });
+                }
+            })
+            .doFinally(signal -> {
+                if (released.compareAndSet(false, true)) {
+                    Schedulers.boundedElastic().schedule(() -> unlock(lockKey, token));
+                }
+            });
+    }
+
+    /**
+     * 락을 잡은 다른 노드의 저장을 대기 - 대기 시간 안에 없으면 빈 Mono
+     */
+    private Mono<KmaForecast> awaitOther(String key) {
+        waitedCounter.increment();
+        long maxPolls = Math.max(1, lockWait.toMillis() / Math.max(1, pollInterval.toMillis()));
+        return Mono.fromCallable(() -> read(key))
+            .subscribeOn(Schedulers.boundedElastic())
+            .repeatWhenEmpty((int) maxPolls, attempts -> attempts.delayElements(pollInterval))
+            .onErrorResume(IllegalStateException.class, e -> {
+                waitTimeoutCounter.increment();
+                log.debug("공유 예보 캐시 대기 시간 초과 - key={}, 직접 호출", key);
+                return Mono.empty();
+            });
+    }
+
+    /**
+     * 캐시 조회 - 없거나 오류면 null (fromCallable 에서 빈 Mono)
+     */
+    private KmaForecast read(String key) {
+        if (!available()) {
+            return null;
+        }
+        try {
+            byte[] bytes = redisTemplate.opsForValue().get(key);
+            return bytes != null ? HourlySeriesCodec.decodeResponse(bytes) : null;
+        } catch (IllegalArgumentException e) {
+            log.warn("공유 예보 캐시 값 형식 오류 - key={}: {}", key, e.getMessage());
+            return null;
+        } catch (RuntimeException e) {
+            suspend(e);
+            return null;
+        }
+    }
+
+    private void write(String key, KmaForecast forecast) {
+        if (!available() || !SUCCESS_CODE.equals(forecast.getResultCode()) || forecast.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(key, HourlySeriesCodec.encodeResponse(forecast), ttl);
+        } catch (RuntimeException e) {
+            suspend(e);
+        }
+    }
+
+    /**
+     * 락 획득 - Redis 오류면 직접 호출하도록 true
+     */
+    private boolean tryLock(String lockKey, String token) {
+        try {
+            Boolean locked = redisTemplate.opsForValue()
+                .setIfAbsent(lockKey, token.getBytes(StandardCharsets.UTF_8), lockTtl);
+            return Boolean.TRUE.equals(locked);
+        } catch (RuntimeException e) {
+            suspend(e);
+            return true;
+        }
+    }
+
+    private void unlock(String lockKey, String token) {
+        if (!available()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), (Object) token.getBytes(StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            suspend(e);
+        }
+    }
+
+    private boolean available() {
+        return redisTemplate != null && clock.millis() >= suspendedUntil;
+    }
+
+    private void suspend(RuntimeException e) {
+        errorCounter.increment();
+        suspendedUntil = clock.millis() + SUSPEND_ON_ERROR.toMillis();
+        log.warn("공유 예보 캐시(Redis) 오류 - {}초간 사용 안 함: {}", SUSPEND_ON_ERROR.toSeconds(), e.getMessage());
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".gets")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
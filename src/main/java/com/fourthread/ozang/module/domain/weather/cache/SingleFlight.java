@@ -0,0 +1,128 @@
+package com.fourthread.ozang.module.domain.weather.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동일 키에 대한 동시 조회 병합 (single-flight)
+ * - 키별로 최초 요청(리더)만 loader 를 실행
+ * - 진행 중인 조회가 있으면 나머지 요청은 리더의 CompletableFuture 결과를 공유
+ * - 조회가 끝나면 키를 해제하므로 다음 조회는 새로 실행
+ */
+@Slf4j
+public class SingleFlight<K, V> {
+
+    private static final String METRIC_PREFIX = "weather.singleflight";
+
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final Timer flightTimer;
+    private final DistributionSummary waiterSummary;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.flightTimer = Timer.builder(METRIC_PREFIX + ".duration")
+            .tag("flight", name)
+            .register(meterRegistry);
+        this.waiterSummary = DistributionSummary.builder(METRIC_PREFIX + ".waiters")
+            .tag("flight", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 키에 대한 조회 실행 (진행 중인 조회가 있으면 그 결과를 대기)
+     * loader 에서 발생한 RuntimeException 은 리더와 대기 요청 모두에 그대로 전달
+     */
+    public V execute(K key, Supplier<V> loader) {
+        Flight<V> flight = new Flight<>();
+        Flight<V> inFlight = flights.putIfAbsent(key, flight);
+
+        if (inFlight != null) {
+            inFlight.waiters.increment();
+            log.debug("진행 중인 조회 대기 - key={}", key);
+            return await(inFlight.future);
+        }
+
+        long start = System.nanoTime();
+        try {
+            V value = loader.get();
+            flight.future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+            flightTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            waiterSummary.record(flight.waiters.sum());
+        }
+    }
+
+    /**
+     * 키에 대한 비동기 조회 실행 - 호출 스레드는 대기하지 않는다
+     * 진행 중인 조회(동기/비동기 모두)가 있으면 그 CompletableFuture 를 공유
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> loader) {
+        Flight<V> flight = new Flight<>();
+        Flight<V> inFlight = flights.putIfAbsent(key, flight);
+
+        if (inFlight != null) {
+            inFlight.waiters.increment();
+            log.debug("진행 중인 조회 공유 - key={}", key);
+            return inFlight.future;
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<V> loading;
+        try {
+            loading = loader.get();
+        } catch (RuntimeException | Error e) {
+            loading = CompletableFuture.failedFuture(e);
+        }
+
+        loading.whenComplete((value, throwable) -> {
+            if (throwable != null) {
+                flight.future.completeExceptionally(unwrap(throwable));
+            } else {
+                flight.future.complete(value);
+            }
+            flights.remove(key, flight);
+            flightTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            waiterSummary.record(flight.waiters.sum());
+        });
+        return flight.future;
+    }
+
+    public int inFlightCount() {
+        return flights.size();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+            ? throwable.getCause()
+            : throwable;
+    }
+
+    private static final class Flight<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private final LongAdder waiters = new LongAdder();
+    }
+}
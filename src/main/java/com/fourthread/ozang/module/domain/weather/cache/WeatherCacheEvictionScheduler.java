@@ -0,0 +1,34 @@
+package com.fourthread.ozang.module.domain.weather.cache;
+
+import com.fourthread.ozang.module.domain.weather.dto.WeatherDto;
+import com.fourthread.ozang.module.domain.weather.util.KmaPublishSchedule;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기상청 발표시각(발표 10분 후)에 맞춰 지난 발표분 캐시 항목을 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeatherCacheEvictionScheduler {
+
+    private final PublishCycleCache<WeatherDto> weatherForecastCache;
+    private final FiveDayForecastCache fiveDayForecastCache;
+    private final ResponseHashCache responseHashCache;
+    private final ZoneId zoneId;
+
+    @Scheduled(cron = "0 10 2,5,8,11,14,17,20,23 * * ?", zone = "#{@timezoneId}")
+    public void evictExpiredForecasts() {
+        LocalDateTime currentBase = KmaPublishSchedule.baseDateTime(LocalDateTime.now(zoneId));
+        int evicted = weatherForecastCache.evictBefore(currentBase);
+        int fiveDayEvicted = fiveDayForecastCache.evictExpired(currentBase);
+        int hashEvicted = responseHashCache.evictExpired(currentBase);
+        log.info("[Scheduled] 지난 발표시각 예보 캐시 정리 - base={}, 제거={}건, 잔여={}건, 5일 예보 제거={}건, 응답 해시 제거={}건",
+            currentBase, evicted, weatherForecastCache.size(), fiveDayEvicted, hashEvicted);
+    }
+}
@@ -1,15 +1,15 @@
 package com.fourthread.ozang.module.domain.weather.client;
 
+import com.fourthread.ozang.module.domain.weather.client.guard.UpstreamGuard;
 import com.fourthread.ozang.module.domain.weather.dto.external.KakaoLocalResponse;
 import com.fourthread.ozang.module.domain.weather.exception.WeatherApiException;
 import java.time.Duration;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.util.retry.Retry;
+import reactor.core.publisher.Mono;
 
 
 @Component
@@ -18,11 +18,19 @@ import reactor.util.retry.Retry;
 public class KakaoApiClient {
 
     private final WebClient kakaoWebClient;
+    private final UpstreamGuard kakaoUpstreamGuard;
 
     public List<String> getLocationNames(double latitude, double longitude) {
+        return getLocationNamesMono(latitude, longitude).block();
+    }
+
+    /**
+     * 좌표 → 행정구역명 조회 (논블로킹)
+     */
+    public Mono<List<String>> getLocationNamesMono(double latitude, double longitude) {
         log.info("카카오 로컬 API 호출 - lat={}, lon={}", latitude, longitude);
 
-        KakaoLocalResponse response = kakaoWebClient.get()
+        return kakaoUpstreamGuard.execute(() -> kakaoWebClient.get()
             .uri(uriBuilder -> uriBuilder
                 .path("/v2/local/geo/coord2regioncode.json")
                 .queryParam("x", longitude)
@@ -30,23 +38,19 @@ public class KakaoApiClient {
                 .build())
             .retrieve()
             .bodyToMono(KakaoLocalResponse.class)
-            .timeout(Duration.ofSeconds(3))
-            .retryWhen(Retry.fixedDelay(1, Duration.ofMillis(300)))
-            .block();
-
-        if (response == null || response.documents().isEmpty()) {
-            throw new WeatherApiException("카카오 API 지역코드 응답 없음", "KAKAO_NO_CONTENT");
-        }
-
-        return response.documents().stream()
-            .map(d -> List.of(
-                d.region1DepthName(),         // 시·도
-                d.region2DepthName(),         // 구
-                d.region3DepthName()))        // 동
-            .flatMap(List::stream)
-            .filter(n -> n != null && !n.isBlank())
-            .distinct()
-            .toList();
+            .timeout(Duration.ofSeconds(3)))
+            .filter(response -> response.documents() != null && !response.documents().isEmpty())
+            .switchIfEmpty(Mono.error(
+                () -> new WeatherApiException("카카오 API 지역코드 응답 없음", "KAKAO_NO_CONTENT")))
+            .map(response -> response.documents().stream()
+                .map(d -> List.of(
+                    d.region1DepthName(),         // 시·도
+                    d.region2DepthName(),         // 구
+                    d.region3DepthName()))        // 동
+                .flatMap(List::stream)
+                .filter(n -> n != null && !n.isBlank())
+                .distinct()
+                .toList());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,327 @@
+package com.fourthread.ozang.module.domain.weather.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast.Category;
+import com.fourthread.ozang.module.domain.weather.util.XxHash64;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 기상청 단기예보 JSON 스트리밍 파서
+ * - Jackson 토큰 스트림을 그대로 읽어 항목마다 레코드/문자열을 만들지 않고 열 단위 배열(KmaForecast)에 바로 기록
+ * - 카테고리/예보 일시/수치 값은 토큰 문자 버퍼에서 직접 해석하고, 문자열은 발표시각 등 응답당 몇 개만 생성
+ * - 응답 해시는 읽는 동안 원문 바이트로 계산 (xxHash64, 별도 직렬화/버퍼 복사 없음)
+ */
+public final class KmaForecastParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final double[] POW10 = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private KmaForecastParser() {
+    }
+
+    public static KmaForecast parse(InputStream inputStream) throws IOException {
+        HashingInputStream source = new HashingInputStream(inputStream);
+
+        KmaForecast.Builder builder = KmaForecast.builder();
+        try (JsonParser parser = JSON_FACTORY.createParser(source)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("기상청 응답이 JSON 객체가 아닙니다");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("response".equals(field)) {
+                    readResponse(parser, builder);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            // 루트 객체 뒤 남은 바이트(공백 등)까지 해시에 포함해 원문 전체 기준 값을 만든다
+            source.drain();
+        }
+
+        return builder.responseHash(source.getHash()).build();
+    }
+
+    private static void readResponse(JsonParser parser, KmaForecast.Builder builder) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "header" -> readHeader(parser, builder);
+                case "body" -> readBody(parser, builder);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readHeader(JsonParser parser, KmaForecast.Builder builder) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        String resultCode = null;
+        String resultMsg = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "resultCode" -> resultCode = parser.getValueAsString();
+                case "resultMsg" -> resultMsg = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        builder.header(resultCode, resultMsg);
+    }
+
+    private static void readBody(JsonParser parser, KmaForecast.Builder builder) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "items" -> readItems(parser, builder);
+                case "totalCount" -> builder.totalCount(parser.getValueAsInt());
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * "items": {"item": [...]} - 데이터가 없으면 "items": "" 로 오는 경우가 있어 객체가 아니면 건너뜀
+     */
+    private static void readItems(JsonParser parser, KmaForecast.Builder builder) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("item".equals(field) && token == JsonToken.START_ARRAY) {
+                ItemReader reader = new ItemReader();
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    reader.read(parser, builder);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * 항목 한 개 해석 - 필드 순서에 의존하지 않도록 fcstValue 는 재사용 버퍼에 복사해 두고 객체 끝에서 기록
+     */
+    private static final class ItemReader {
+
+        private char[] value = new char[16];
+
+        void read(JsonParser parser, KmaForecast.Builder builder) throws IOException {
+            Category category = null;
+            int fcstDate = -1;
+            int fcstTime = -1;
+            int valueLength = -1;
+            int nx = -1;
+            int ny = -1;
+            String baseDate = null;
+            String baseTime = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.VALUE_NULL || token.isStructStart()) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                switch (field) {
+                    case "category" -> category = Category.of(
+                        parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                    case "fcstDate" -> fcstDate = parseInt(
+                        parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                    case "fcstTime" -> fcstTime = parseInt(
+                        parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                    case "fcstValue" -> valueLength = copyValue(parser);
+                    // 발표 일자/시각은 모든 항목이 같으므로 첫 항목에서만 문자열 생성
+                    case "baseDate" -> baseDate = builder.hasBase() ? null : parser.getText();
+                    case "baseTime" -> baseTime = builder.hasBase() ? null : parser.getText();
+                    case "nx" -> nx = parser.getValueAsInt(-1);
+                    case "ny" -> ny = parser.getValueAsInt(-1);
+                    default -> {
+                    }
+                }
+            }
+
+            if (baseDate != null) {
+                builder.base(baseDate, baseTime);
+            }
+            if (nx >= 0 && ny >= 0 && builder.getItemCount() == 0) {
+                builder.grid(nx, ny);
+            }
+            if (fcstDate < 0 || fcstTime < 0) {
+                return;
+            }
+
+            int slot = builder.slot(fcstDate, fcstTime);
+            if (category == null || valueLength <= 0) {
+                return;
+            }
+
+            switch (category.kind()) {
+                case NUMERIC -> builder.value(category, slot, parseDouble(value, 0, valueLength));
+                case CODE -> {
+                    int code = parseInt(value, 0, valueLength);
+                    if (code >= 0 && code <= Byte.MAX_VALUE) {
+                        builder.code(category, slot, code);
+                    }
+                }
+                case TEXT -> builder.text(category, slot, value, 0, valueLength);
+            }
+        }
+
+        private int copyValue(JsonParser parser) throws IOException {
+            int length = parser.getTextLength();
+            if (value.length < length) {
+                value = new char[Math.max(length, value.length * 2)];
+            }
+            System.arraycopy(parser.getTextCharacters(), parser.getTextOffset(), value, 0, length);
+            return length;
+        }
+    }
+
+    /**
+     * 부호 없는 정수 해석 (숫자 외 문자가 있으면 -1)
+     */
+    static int parseInt(char[] chars, int offset, int length) {
+        if (length <= 0 || length > 9) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    /**
+     * 실수 해석 - 유효숫자 15자리 이하의 일반 소수("13", "-2.5", "0.7")는 문자열 생성 없이 계산
+     * (정확히 표현되는 정수 / 10^n 이므로 Double.parseDouble 과 같은 값)
+     * 그 밖의 형식은 Double.parseDouble 로 처리하고 파싱할 수 없는 값은 0
+     */
+    static double parseDouble(char[] chars, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < end && chars[i] == '-') {
+            negative = true;
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; i < end; i++) {
+            char c = chars[i];
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                if (++digits > 15) {
+                    return parseDoubleSlow(chars, offset, length);
+                }
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return parseDoubleSlow(chars, offset, length);
+            }
+        }
+
+        if (digits == 0) {
+            return parseDoubleSlow(chars, offset, length);
+        }
+        double result = scale > 0 ? mantissa / POW10[scale] : mantissa;
+        return negative ? -result : result;
+    }
+
+    private static double parseDoubleSlow(char[] chars, int offset, int length) {
+        try {
+            return Double.parseDouble(new String(chars, offset, length));
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+
+    /**
+     * 파서가 읽어 가는 바이트를 그대로 xxHash64 에 누적
+     */
+    private static final class HashingInputStream extends FilterInputStream {
+
+        private final XxHash64 hash = new XxHash64();
+
+        HashingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                hash.update(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                hash.update(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // 건너뛴 바이트도 해시에 포함되도록 읽어서 버린다
+            byte[] skipped = new byte[(int) Math.min(n, 8192)];
+            int read = read(skipped, 0, skipped.length);
+            return Math.max(read, 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        void drain() throws IOException {
+            byte[] rest = new byte[512];
+            while (read(rest, 0, rest.length) >= 0) {
+                // 남은 바이트는 해시만 누적
+            }
+        }
+
+        long getHash() {
+            return hash.getValue();
+        }
+    }
+}
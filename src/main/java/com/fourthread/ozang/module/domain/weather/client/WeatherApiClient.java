@@ -1,17 +1,26 @@
 package com.fourthread.ozang.module.domain.weather.client;
 
+import com.fourthread.ozang.module.domain.weather.cache.SharedForecastCache;
+import com.fourthread.ozang.module.domain.weather.client.guard.UpstreamGuard;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
 import com.fourthread.ozang.module.domain.weather.dto.external.WeatherApiResponse;
 import com.fourthread.ozang.module.domain.weather.entity.GridCoordinate;
 import com.fourthread.ozang.module.domain.weather.exception.WeatherApiException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.util.retry.Retry;
+import reactor.core.publisher.Mono;
 
 
 @Component
@@ -20,49 +29,61 @@ import reactor.util.retry.Retry;
 public class WeatherApiClient {
 
     private final WebClient weatherWebClient;
+    private final UpstreamGuard kmaUpstreamGuard;
+    private final SharedForecastCache sharedForecastCache;
+    private final ZoneId zoneId;
 
     @Value("${weather.api.key}")
     private String serviceKey;
 
     private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
     private static final DateTimeFormatter TIME_FMT = DateTimeFormatter.ofPattern("HHmm");
+    private static final String QUOTA_EXCEEDED_CODE = "22";
 
-    public WeatherApiResponse getWeatherForecast(GridCoordinate coord) {
+    public KmaForecast getWeatherForecast(GridCoordinate coord) {
+        return getWeatherForecastMono(coord).block();
+    }
+
+    /**
+     * 단기예보 조회 (논블로킹) - 요청 스레드를 점유하지 않고 응답을 Mono 로 반환
+     */
+    public Mono<KmaForecast> getWeatherForecastMono(GridCoordinate coord) {
         LocalDateTime baseDateTime = calculateBaseDateTime();
         String date = baseDateTime.format(DATE_FMT);
         String time = baseDateTime.format(TIME_FMT);
 
-        log.info("단기예보 호출 - date={}, time={}, x={}, y={}", date, time, coord.getX(), coord.getY());
-
-        return weatherWebClient.get()
-            .uri(uriBuilder -> uriBuilder
-                .path("/getVilageFcst")
-                .queryParam("serviceKey", serviceKey)
-                .queryParam("pageNo", 1)
-                .queryParam("numOfRows", 1000)
-                .queryParam("dataType", "JSON")
-                .queryParam("base_date", date)
-                .queryParam("base_time", time)
-                .queryParam("nx", coord.getX())
-                .queryParam("ny", coord.getY())
-                .build())
-            .retrieve()
-            .bodyToMono(WeatherApiResponse.class)
-            .timeout(Duration.ofSeconds(5))
-            .retryWhen(Retry.backoff(2, Duration.ofMillis(500)))
-            .blockOptional()
-            .orElseThrow(() -> new WeatherApiException("기상청 API 응답이 없습니다", "NO_CONTENT"));
+        return callVilageFcstMono(coord, date, time)
+            .switchIfEmpty(Mono.error(() -> new WeatherApiException("기상청 API 응답이 없습니다", "NO_CONTENT")));
     }
 
     /**
      * 단기예보 조회(getVilageFcst)
      */
-    public WeatherApiResponse callVilageFcst(
+    public KmaForecast callVilageFcst(
+        GridCoordinate coord,
+        String baseDate,
+        String baseTime
+    ) {
+        return callVilageFcstMono(coord, baseDate, baseTime).block();
+    }
+
+    /**
+     * 단기예보 조회(getVilageFcst, 논블로킹)
+     * - 공유(L2) 캐시를 먼저 보고, 없으면 격자 + 발표시각 단위로 한 노드만 호출
+     */
+    public Mono<KmaForecast> callVilageFcstMono(
         GridCoordinate coord,
         String baseDate,
         String baseTime
     ) {
-        return weatherWebClient.get()
+        return sharedForecastCache.getOrFetch(coord.getX(), coord.getY(), baseDate, baseTime,
+            () -> fetchVilageFcst(coord, baseDate, baseTime));
+    }
+
+    private Mono<KmaForecast> fetchVilageFcst(GridCoordinate coord, String baseDate, String baseTime) {
+        log.info("단기예보 호출 - date={}, time={}, x={}, y={}", baseDate, baseTime, coord.getX(), coord.getY());
+
+        return kmaUpstreamGuard.execute(() -> weatherWebClient.get()
             .uri(b -> b.path("/getVilageFcst")
                 .queryParam("serviceKey", serviceKey)
                 .queryParam("pageNo", 1)
@@ -74,21 +95,44 @@ public class WeatherApiClient {
                 .queryParam("ny", coord.getY())
                 .build())
             .retrieve()
-            .bodyToMono(WeatherApiResponse.class)
-            .timeout(Duration.ofSeconds(5))
-            .retryWhen(Retry.backoff(2, Duration.ofMillis(500)))
-            .block();
+            .bodyToFlux(DataBuffer.class)
+            .as(DataBufferUtils::join)
+            .map(this::parseForecast)
+            .timeout(Duration.ofSeconds(5)))
+            .doOnNext(forecast -> checkQuota(forecast.getResultCode()));
+    }
+
+    /**
+     * 수신한 DataBuffer 를 그대로 스트리밍 파싱 (항목 레코드를 만들지 않음)
+     */
+    private KmaForecast parseForecast(DataBuffer dataBuffer) {
+        try (InputStream inputStream = dataBuffer.asInputStream()) {
+            return KmaForecastParser.parse(inputStream);
+        } catch (IOException e) {
+            throw new DecodingException("기상청 단기예보 응답 파싱 실패: " + e.getMessage(), e);
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
+    }
+
+    /**
+     * 기상청 resultCode 22(서비스 요청 제한 횟수 초과) 응답이면 오늘 남은 호출 차단
+     */
+    private void checkQuota(String resultCode) {
+        if (QUOTA_EXCEEDED_CODE.equals(resultCode)) {
+            kmaUpstreamGuard.markQuotaExhausted();
+        }
     }
 
     // 초단기실황 조회 (필요시 사용)
     public WeatherApiResponse getWeatherNowcast(GridCoordinate coord) {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now(zoneId);
         String date = now.format(DATE_FMT);
         String time = now.withMinute(0).withSecond(0).format(TIME_FMT);
 
         log.info("실황정보 호출 - date={}, time={}, x={}, y={}", date, time, coord.getX(), coord.getY());
 
-        return weatherWebClient.get()
+        return kmaUpstreamGuard.execute(() -> weatherWebClient.get()
             .uri(uriBuilder -> uriBuilder
                 .path("/getUltraSrtNcst")
                 .queryParam("serviceKey", serviceKey)
@@ -102,8 +146,10 @@ public class WeatherApiClient {
                 .build())
             .retrieve()
             .bodyToMono(WeatherApiResponse.class)
-            .timeout(Duration.ofSeconds(5))
-            .retryWhen(Retry.fixedDelay(2, Duration.ofMillis(500)))
+            .timeout(Duration.ofSeconds(5)))
+            .doOnNext(response -> checkQuota(response.response() != null && response.response().header() != null
+                ? response.response().header().resultCode()
+                : null))
             .blockOptional()
             .orElseThrow(() -> new WeatherApiException("기상청 실황 API 응답이 없습니다", "NO_CONTENT"));
     }
@@ -113,7 +159,7 @@ public class WeatherApiClient {
      * 제공 시각: [0200,0500,0800,1100,1400,1700,2000,2300] 이후 10분
      */
     private LocalDateTime calculateBaseDateTime() {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now(zoneId);
         int[] baseHours = {23, 20, 17, 14, 11, 8, 5, 2};
         for (int base : baseHours) {
             if (now.getHour() > base || (now.getHour()==base && now.getMinute()>=10)) {
@@ -0,0 +1,77 @@
+package com.fourthread.ozang.module.domain.weather.client.archive;
+
+import com.fourthread.ozang.module.domain.weather.client.archive.UpstreamArchive.Frame;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 보관소 응답 재생 (실제 외부 API 대신 사용)
+ * - 요청 키가 같은 기록 응답을 차례로 돌려준다
+ * - 응답마다 지연(latency + 0~jitter 임의값)을 넣어 실제 호출 시간을 흉내 낸다
+ * - 기록이 없으면 404 (기상청 필터에서 WeatherApiException 으로 변환)
+ */
+public class ReplayExchangeFunction implements ExchangeFunction {
+
+    private final String upstream;
+    private final UpstreamArchive archive;
+    private final Duration latency;
+    private final Duration jitter;
+    private final AtomicLong cursor = new AtomicLong();
+
+    public ReplayExchangeFunction(String upstream, UpstreamArchive archive, Duration latency, Duration jitter) {
+        this.upstream = upstream;
+        this.archive = archive;
+        this.latency = latency;
+        this.jitter = jitter;
+    }
+
+    @Override
+    public Mono<ClientResponse> exchange(ClientRequest request) {
+        // 첫 조회 시 파일을 읽으므로 boundedElastic 에서 수행
+        return Mono.fromCallable(() -> archive.frames(upstream, request.url()))
+            .subscribeOn(Schedulers.boundedElastic())
+            .delayElement(delay())
+            .map(frames -> frames.isEmpty() ? miss(request) : toResponse(next(frames)));
+    }
+
+    private Frame next(List<Frame> frames) {
+        return frames.get((int) Math.floorMod(cursor.getAndIncrement(), (long) frames.size()));
+    }
+
+    private ClientResponse toResponse(Frame frame) {
+        Flux<DataBuffer> body = Flux.defer(() ->
+            Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(frame.body())));
+        ClientResponse.Builder builder = ClientResponse.create(HttpStatusCode.valueOf(frame.status()));
+        if (frame.contentType() != null) {
+            builder.header(HttpHeaders.CONTENT_TYPE, frame.contentType());
+        }
+        return builder.body(body).build();
+    }
+
+    private ClientResponse miss(ClientRequest request) {
+        return ClientResponse.create(HttpStatus.NOT_FOUND)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN_VALUE)
+            .body("No recorded response: " + archive.key(upstream, request.url()))
+            .build();
+    }
+
+    private Duration delay() {
+        long jitterMillis = jitter.toMillis();
+        long extra = jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0;
+        return latency.plusMillis(extra);
+    }
+}
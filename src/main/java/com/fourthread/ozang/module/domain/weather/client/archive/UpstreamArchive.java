@@ -0,0 +1,215 @@
+package com.fourthread.ozang.module.domain.weather.client.archive;
+
+import com.fourthread.ozang.module.domain.weather.util.XxHash64;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * 외부 API(기상청 / 카카오) 원본 응답 보관소 (용량 테스트용 기록/재생)
+ * - 파일: {root}/{upstream}/{yyyy-MM-dd}/{요청 키 해시}.gz
+ * - 요청 키: 경로 + 정렬한 쿼리 파라미터 (인증키, 발표일자/시각 등 무시할 파라미터 제외)
+ * - 응답 한 건마다 gzip 멤버 하나를 이어 붙인다 (gzip 스트림을 이어 붙여도 하나로 읽힘)
+ * - 재생 시 모든 날짜 디렉토리에서 같은 키의 응답을 모아 차례로 돌려준다
+ */
+@Slf4j
+public class UpstreamArchive {
+
+    public enum Mode { DISABLED, RECORD, REPLAY }
+
+    private static final int MAGIC = 0x55415243; // "UARC"
+
+    private final Mode mode;
+    private final Path root;
+    private final Set<String> ignoredParams;
+    private final Duration latency;
+    private final Duration jitter;
+    private final Clock clock;
+
+    // 재생용 - 요청 키별 응답 (처음 조회할 때 읽는다)
+    private final Map<String, List<Frame>> replayFrames = new ConcurrentHashMap<>();
+
+    public UpstreamArchive(Mode mode, Path root, Set<String> ignoredParams, Duration latency, Duration jitter,
+        Clock clock) {
+        this.mode = mode;
+        this.root = root;
+        this.ignoredParams = ignoredParams;
+        this.latency = latency;
+        this.jitter = jitter;
+        this.clock = clock;
+    }
+
+    /**
+     * 모드에 따라 WebClient 에 기록 필터 또는 재생 ExchangeFunction 적용
+     * - 기록 필터는 마지막에 추가해 실제 응답 바로 바깥에서 동작하도록 한다
+     */
+    public WebClient.Builder apply(WebClient.Builder builder, String upstream) {
+        switch (mode) {
+            case RECORD -> {
+                log.info("외부 API 응답 기록 - {}: {}", upstream, root.toAbsolutePath());
+                return builder.filter(new UpstreamRecordingFilter(upstream, this));
+            }
+            case REPLAY -> {
+                log.warn("외부 API 응답 재생 - {}: {} (실제 API 를 호출하지 않음, 지연 {} ± {})",
+                    upstream, root.toAbsolutePath(), latency, jitter);
+                return builder.exchangeFunction(new ReplayExchangeFunction(upstream, this, latency, jitter));
+            }
+            default -> {
+                return builder;
+            }
+        }
+    }
+
+    /**
+     * 요청 키 - 경로 + 정렬한 쿼리 파라미터 (무시할 파라미터 제외)
+     */
+    public String key(String upstream, URI uri) {
+        MultiValueMap<String, String> params = UriComponentsBuilder.fromUri(uri).build().getQueryParams();
+        StringBuilder key = new StringBuilder(upstream).append(' ').append(uri.getRawPath());
+        char separator = '?';
+        for (Map.Entry<String, List<String>> entry : new TreeMap<>(params).entrySet()) {
+            if (ignoredParams.contains(entry.getKey())) {
+                continue;
+            }
+            for (String value : entry.getValue()) {
+                key.append(separator).append(entry.getKey()).append('=').append(value);
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 응답 한 건 기록 - 오늘 날짜 디렉토리의 키 파일 끝에 gzip 멤버로 추가
+     */
+    public synchronized void record(String upstream, URI uri, int status, String contentType, byte[] body)
+        throws IOException {
+        String key = key(upstream, uri);
+        Path file = root.resolve(upstream)
+            .resolve(LocalDate.now(clock).toString())
+            .resolve(fileName(key));
+        Files.createDirectories(file.getParent());
+
+        try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+             GZIPOutputStream gzip = new GZIPOutputStream(new BufferedOutputStream(out));
+             DataOutputStream data = new DataOutputStream(gzip)) {
+            data.writeInt(MAGIC);
+            data.writeUTF(key);
+            data.writeShort(status);
+            data.writeUTF(contentType != null ? contentType : "");
+            data.writeLong(clock.millis());
+            data.writeInt(body.length);
+            data.write(body);
+        }
+    }
+
+    /**
+     * 요청 키의 기록된 응답 (날짜순) - 없으면 빈 목록
+     */
+    public List<Frame> frames(String upstream, URI uri) {
+        String key = key(upstream, uri);
+        return replayFrames.computeIfAbsent(key, k -> load(upstream, k));
+    }
+
+    private List<Frame> load(String upstream, String key) {
+        Path dir = root.resolve(upstream);
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        String fileName = fileName(key);
+        List<Path> dates = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, Files::isDirectory)) {
+            stream.forEach(dates::add);
+        } catch (IOException e) {
+            log.warn("외부 API 응답 보관소 조회 실패 - {}: {}", dir, e.getMessage());
+            return List.of();
+        }
+        dates.sort(null);
+
+        List<Frame> frames = new ArrayList<>();
+        for (Path date : dates) {
+            Path file = date.resolve(fileName);
+            if (!Files.exists(file)) {
+                continue;
+            }
+            try {
+                for (Frame frame : read(file)) {
+                    // 해시 충돌 방지 - 키가 같은 응답만 사용
+                    if (frame.key().equals(key)) {
+                        frames.add(frame);
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("외부 API 응답 보관 파일 읽기 실패 - {}: {}", file, e.getMessage());
+            }
+        }
+        return List.copyOf(frames);
+    }
+
+    /**
+     * 보관 파일 읽기 - 기록 중 중단돼 잘린 마지막 응답은 버린다
+     */
+    static List<Frame> read(Path file) throws IOException {
+        List<Frame> frames = new ArrayList<>();
+        try (InputStream in = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file)));
+             DataInputStream data = new DataInputStream(in)) {
+            while (true) {
+                int magic;
+                try {
+                    magic = data.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (magic != MAGIC) {
+                    throw new IOException("Invalid archive frame: " + file);
+                }
+                String key = data.readUTF();
+                int status = data.readUnsignedShort();
+                String contentType = data.readUTF();
+                long recordedAt = data.readLong();
+                byte[] body = new byte[data.readInt()];
+                data.readFully(body);
+                frames.add(new Frame(key, status, contentType.isEmpty() ? null : contentType, recordedAt, body));
+            }
+        } catch (EOFException e) {
+            log.warn("외부 API 응답 보관 파일 끝이 잘림 - {} ({}건까지 사용)", file, frames.size());
+        }
+        return frames;
+    }
+
+    private static String fileName(String key) {
+        return String.format("%016x.gz", XxHash64.hash(key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 기록된 응답 한 건
+     */
+    public record Frame(String key, int status, String contentType, long recordedAt, byte[] body) {
+    }
+}
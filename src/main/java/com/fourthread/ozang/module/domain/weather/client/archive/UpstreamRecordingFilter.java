@@ -0,0 +1,68 @@
+package com.fourthread.ozang.module.domain.weather.client.archive;
+
+import java.io.IOException;
+import java.net.URI;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 외부 API 응답 기록 필터
+ * - 2xx 응답 본문을 그대로 보관소에 기록하고, 같은 본문으로 응답을 다시 만들어 넘긴다
+ * - 파일 쓰기는 boundedElastic 에서 수행하고 실패해도 호출 결과에는 영향 없음
+ */
+@Slf4j
+public class UpstreamRecordingFilter implements ExchangeFilterFunction {
+
+    private final String upstream;
+    private final UpstreamArchive archive;
+
+    public UpstreamRecordingFilter(String upstream, UpstreamArchive archive) {
+        this.upstream = upstream;
+        this.archive = archive;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return next.exchange(request).flatMap(response -> {
+            if (!response.statusCode().is2xxSuccessful()) {
+                return Mono.just(response);
+            }
+            return DataBufferUtils.join(response.body(BodyExtractors.toDataBuffers()))
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return bytes;
+                })
+                .defaultIfEmpty(new byte[0])
+                .map(bytes -> {
+                    record(request.url(), response.statusCode().value(),
+                        response.headers().asHttpHeaders().getFirst(HttpHeaders.CONTENT_TYPE), bytes);
+                    Flux<DataBuffer> body = Flux.defer(() ->
+                        Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes)));
+                    return response.mutate().body(body).build();
+                });
+        });
+    }
+
+    private void record(URI uri, int status, String contentType, byte[] body) {
+        Schedulers.boundedElastic().schedule(() -> {
+            try {
+                archive.record(upstream, uri, status, contentType, body);
+            } catch (IOException e) {
+                log.warn("외부 API 응답 기록 실패 - {}: {}", upstream, e.getMessage());
+            }
+        });
+    }
+}
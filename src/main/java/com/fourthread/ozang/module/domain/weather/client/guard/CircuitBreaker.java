@@ -0,0 +1,125 @@
+package com.fourthread.ozang.module.domain.weather.client.guard;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 외부 API 서킷 브레이커 (최근 windowSize 회 호출 기준)
+ * - CLOSED: 최근 호출 실패율이 failureRate 이상이면(최소 minimumCalls 회) OPEN
+ * - OPEN: openDuration 동안 호출 없이 거절, 이후 HALF_OPEN
+ * - HALF_OPEN: 시험 호출 1건만 허용 - 성공하면 CLOSED, 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final double failureRate;
+    private final int minimumCalls;
+    private final long openDurationMillis;
+    private final Clock clock;
+    private final boolean[] outcomes;
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int next;
+    private int failures;
+    private long openedAt;
+    private boolean probing;
+
+    public CircuitBreaker(double failureRate, int minimumCalls, int windowSize, Duration openDuration,
+        Clock clock) {
+        this.failureRate = failureRate;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.openDurationMillis = openDuration.toMillis();
+        this.clock = clock;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 허용 여부 - HALF_OPEN 에서 허용되면 시험 호출 권한을 가진 상태
+     * (결과는 onSuccess / onFailure / onIgnored 중 하나로 반드시 알려야 한다)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.millis() - openedAt < openDurationMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probing) {
+                return false;
+            }
+            probing = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            reset();
+            state = State.CLOSED;
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recorded >= minimumCalls
+            && (double) failures / recorded >= failureRate) {
+            open();
+        }
+    }
+
+    /**
+     * 결과를 판단할 수 없는 종료 (취소, 다른 제한으로 거절) - 시험 호출 권한만 반납
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            probing = false;
+        }
+    }
+
+    public synchronized State state() {
+        if (state == State.OPEN && clock.millis() - openedAt >= openDurationMillis) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.millis();
+        probing = false;
+        reset();
+    }
+
+    private void reset() {
+        recorded = 0;
+        next = 0;
+        failures = 0;
+        probing = false;
+    }
+}
@@ -0,0 +1,106 @@
+package com.fourthread.ozang.module.domain.weather.client.guard;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * 일일 호출 한도 (날짜가 바뀌면 초기화)
+ * - used: 오늘 사용량 (저장된 사용량 + 이 인스턴스에서 아직 저장하지 않은 사용량)
+ * - pending: 아직 저장하지 않은 사용량 - UpstreamQuotaStore 가 주기적으로 가져가 누적 저장
+ */
+public class DailyQuota {
+
+    private final long limit;
+    private final Clock clock;
+    private LocalDate date;
+    private long used;
+    private long pending;
+
+    public DailyQuota(long limit, Clock clock) {
+        this.limit = limit;
+        this.clock = clock;
+        this.date = LocalDate.now(clock);
+    }
+
+    public synchronized boolean tryConsume() {
+        rollover();
+        if (used >= limit) {
+            return false;
+        }
+        used++;
+        pending++;
+        return true;
+    }
+
+    /**
+     * 외부 API 가 한도 초과를 응답한 경우 - 오늘 남은 한도를 모두 사용한 것으로 처리
+     */
+    public synchronized void exhaust() {
+        rollover();
+        if (used < limit) {
+            pending += limit - used;
+            used = limit;
+        }
+    }
+
+    public synchronized long remaining() {
+        rollover();
+        return Math.max(0, limit - used);
+    }
+
+    public synchronized long used() {
+        rollover();
+        return used;
+    }
+
+    public long limit() {
+        return limit;
+    }
+
+    public synchronized LocalDate date() {
+        rollover();
+        return date;
+    }
+
+    /**
+     * 저장할 사용량을 가져가고 0 으로 초기화
+     */
+    public synchronized Usage drainPending() {
+        rollover();
+        Usage usage = new Usage(date, pending);
+        pending = 0;
+        return usage;
+    }
+
+    /**
+     * 저장에 실패한 사용량을 다시 미저장 사용량으로 되돌림 (날짜가 바뀌었으면 버림)
+     */
+    public synchronized void restorePending(Usage usage) {
+        rollover();
+        if (date.equals(usage.date())) {
+            pending += usage.count();
+        }
+    }
+
+    /**
+     * 저장소의 누적 사용량(다른 인스턴스 사용량 포함)으로 동기화
+     */
+    public synchronized void restore(LocalDate usageDate, long persistedUsed) {
+        rollover();
+        if (date.equals(usageDate)) {
+            used = Math.max(used, persistedUsed + pending);
+        }
+    }
+
+    private void rollover() {
+        LocalDate today = LocalDate.now(clock);
+        if (!today.equals(date)) {
+            date = today;
+            used = 0;
+            pending = 0;
+        }
+    }
+
+    public record Usage(LocalDate date, long count) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.fourthread.ozang.module.domain.weather.client.guard;
+
+/**
+ * 재시도 예산
+ * - 호출마다 ratio 만큼 적립하고 재시도 1회에 1 을 사용 (재시도는 전체 호출의 ratio 비율 이내)
+ * - 최대 maxBalance 까지 적립하므로 평소에는 간헐적 실패를 바로 재시도할 수 있고,
+ *   장애로 실패가 몰리면 예산이 바닥나 재시도가 호출량을 몇 배로 부풀리지 않는다
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final double maxBalance;
+    private double balance;
+
+    public RetryBudget(double ratio, int maxBalance) {
+        this.ratio = ratio;
+        this.maxBalance = maxBalance;
+        this.balance = maxBalance;
+    }
+
+    public synchronized void deposit() {
+        balance = Math.min(maxBalance, balance + ratio);
+    }
+
+    public synchronized boolean tryWithdraw() {
+        if (balance < 1) {
+            return false;
+        }
+        balance -= 1;
+        return true;
+    }
+
+    public synchronized double balance() {
+        return balance;
+    }
+}
@@ -0,0 +1,49 @@
+package com.fourthread.ozang.module.domain.weather.client.guard;
+
+/**
+ * 초당 호출 수 제한 (토큰 버킷)
+ * - 초당 ratePerSecond 개씩 토큰을 채우고 최대 burst 개까지 모아 둘 수 있다
+ * - 토큰이 없으면 대기하지 않고 바로 거절
+ */
+public class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double ratePerSecond;
+    private final double capacity;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double ratePerSecond, int burst) {
+        if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("ratePerSecond, burst 는 0보다 커야 합니다");
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.capacity = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public synchronized boolean tryAcquire() {
+        refill(System.nanoTime());
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    public synchronized double availableTokens() {
+        refill(System.nanoTime());
+        return tokens;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefillNanos;
+        if (elapsed <= 0) {
+            return;
+        }
+        tokens = Math.min(capacity, tokens + elapsed * ratePerSecond / NANOS_PER_SECOND);
+        lastRefillNanos = now;
+    }
+}
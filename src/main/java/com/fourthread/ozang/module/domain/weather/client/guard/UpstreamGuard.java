@@ -0,0 +1,228 @@
+package com.fourthread.ozang.module.domain.weather.client.guard;
+
+import com.fourthread.ozang.module.domain.weather.client.guard.UpstreamRejectedException.Reason;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * 외부 API 호출 보호 (기상청 / 카카오 각각 하나씩)
+ * - 서킷 브레이커 → 일일 한도 → 초당 호출 수(토큰 버킷) → 동시 호출 수(bulkhead) 순으로 확인하고 넘으면 호출 없이 바로 거절
+ * - 타임아웃/네트워크/5xx 오류는 서킷 브레이커 실패로 집계 (4xx 는 외부 장애가 아니므로 성공으로 집계)
+ * - 재시도도 한 번의 호출로 보고 같은 제한을 다시 거친다
+ * - 재시도는 고정 횟수 대신 재시도 예산 안에서만 수행
+ */
+@Slf4j
+public class UpstreamGuard {
+
+    private static final String METRIC_PREFIX = "weather.upstream";
+
+    private final String name;
+    private final UpstreamLimits limits;
+    private final TokenBucket rateLimiter;
+    private final Semaphore bulkhead;
+    private final DailyQuota quota;
+    private final RetryBudget retryBudget;
+    private final CircuitBreaker circuitBreaker;
+    private final Map<Reason, Counter> rejectedCounters = new EnumMap<>(Reason.class);
+    private final Counter retryCounter;
+    private final Counter retryDeniedCounter;
+
+    public UpstreamGuard(String name, UpstreamLimits limits, Clock clock, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.limits = limits;
+        this.rateLimiter = new TokenBucket(limits.ratePerSecond(), limits.burst());
+        this.bulkhead = new Semaphore(limits.maxConcurrent());
+        this.quota = new DailyQuota(limits.dailyQuota(), clock);
+        this.retryBudget = new RetryBudget(limits.retryBudgetRatio(), limits.retryBudgetMax());
+        this.circuitBreaker = new CircuitBreaker(limits.circuitFailureRate(), limits.circuitMinimumCalls(),
+            limits.circuitWindowSize(), limits.circuitOpenDuration(), clock);
+
+        for (Reason reason : Reason.values()) {
+            rejectedCounters.put(reason, Counter.builder(METRIC_PREFIX + ".rejected")
+                .tag("upstream", name)
+                .tag("reason", reason.name().toLowerCase())
+                .register(meterRegistry));
+        }
+        this.retryCounter = Counter.builder(METRIC_PREFIX + ".retries")
+            .tag("upstream", name)
+            .tag("result", "attempted")
+            .register(meterRegistry);
+        this.retryDeniedCounter = Counter.builder(METRIC_PREFIX + ".retries")
+            .tag("upstream", name)
+            .tag("result", "budget_exhausted")
+            .register(meterRegistry);
+
+        Gauge.builder(METRIC_PREFIX + ".quota.remaining", quota, DailyQuota::remaining)
+            .tag("upstream", name)
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".bulkhead.available", bulkhead, Semaphore::availablePermits)
+            .tag("upstream", name)
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".retry.budget", retryBudget, RetryBudget::balance)
+            .tag("upstream", name)
+            .register(meterRegistry);
+        // 0: CLOSED, 1: OPEN, 2: HALF_OPEN
+        Gauge.builder(METRIC_PREFIX + ".circuit.state", circuitBreaker, cb -> cb.state().ordinal())
+            .tag("upstream", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 제한을 적용해 호출 - 구독할 때마다(재시도 포함) 제한을 확인하고 허용된 경우에만 call 실행
+     */
+    public <T> Mono<T> execute(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> attempt(call)).retryWhen(retrySpec());
+    }
+
+    /**
+     * 외부 API 가 한도 초과를 응답한 경우 호출 (기상청 resultCode 22 등)
+     */
+    public void markQuotaExhausted() {
+        log.warn("{} 일일 호출 한도 초과 응답 - 오늘 남은 호출 차단", name);
+        quota.exhaust();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public UpstreamLimits getLimits() {
+        return limits;
+    }
+
+    public DailyQuota getQuota() {
+        return quota;
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    public int availableConcurrency() {
+        return bulkhead.availablePermits();
+    }
+
+    public double availableTokens() {
+        return rateLimiter.availableTokens();
+    }
+
+    public double retryBudgetBalance() {
+        return retryBudget.balance();
+    }
+
+    public double rejectedCount(Reason reason) {
+        return rejectedCounters.get(reason).count();
+    }
+
+    private <T> Mono<T> attempt(Supplier<Mono<T>> call) {
+        Reason rejected = tryAcquire();
+        if (rejected != null) {
+            rejectedCounters.get(rejected).increment();
+            log.warn("{} 호출 거절 - {}", name, rejected.getDescription());
+            return Mono.error(new UpstreamRejectedException(name, rejected));
+        }
+
+        retryBudget.deposit();
+        try {
+            return call.get()
+                .doOnSuccess(value -> circuitBreaker.onSuccess())
+                .doOnError(this::recordFailure)
+                .doOnCancel(circuitBreaker::onIgnored)
+                .doFinally(signal -> bulkhead.release());
+        } catch (RuntimeException e) {
+            recordFailure(e);
+            bulkhead.release();
+            return Mono.error(e);
+        }
+    }
+
+    private void recordFailure(Throwable failure) {
+        if (isUpstreamFailure(failure)) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    /**
+     * 한도 확인 - 허용되면 bulkhead 퍼밋을 잡고 일일 한도를 1 차감한 뒤 null 반환
+     */
+    private Reason tryAcquire() {
+        if (!circuitBreaker.tryAcquire()) {
+            return Reason.CIRCUIT_OPEN;
+        }
+        Reason rejected = tryAcquireLimits();
+        if (rejected != null) {
+            circuitBreaker.onIgnored();
+        }
+        return rejected;
+    }
+
+    private Reason tryAcquireLimits() {
+        if (quota.remaining() <= 0) {
+            return Reason.QUOTA_EXHAUSTED;
+        }
+        if (!rateLimiter.tryAcquire()) {
+            return Reason.RATE_LIMITED;
+        }
+        if (!bulkhead.tryAcquire()) {
+            return Reason.BULKHEAD_FULL;
+        }
+        if (!quota.tryConsume()) {
+            bulkhead.release();
+            return Reason.QUOTA_EXHAUSTED;
+        }
+        return null;
+    }
+
+    private Retry retrySpec() {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            if (signal.totalRetriesInARow() >= limits.maxRetries() || !isUpstreamFailure(failure)) {
+                return Mono.error(failure);
+            }
+            if (!retryBudget.tryWithdraw()) {
+                retryDeniedCounter.increment();
+                log.warn("{} 재시도 예산 소진 - 재시도 없이 실패 처리: {}", name, failure.getMessage());
+                return Mono.error(failure);
+            }
+            retryCounter.increment();
+            return Mono.delay(backoff(signal.totalRetriesInARow()));
+        }));
+    }
+
+    /**
+     * 지수 백오프 + 최대 50% 지터
+     */
+    private Duration backoff(long retry) {
+        long base = limits.retryBackoff().toMillis() << Math.min(retry, 10);
+        return Duration.ofMillis(base + ThreadLocalRandom.current().nextLong(base / 2 + 1));
+    }
+
+    /**
+     * 외부 API 장애로 볼 수 있는 오류 (재시도 / 서킷 실패 집계 대상)
+     * 거절된 호출과 4xx(429 제외)는 재시도해도 결과가 같으므로 제외
+     */
+    private static boolean isUpstreamFailure(Throwable failure) {
+        if (failure instanceof UpstreamRejectedException) {
+            return false;
+        }
+        if (failure instanceof WebClientResponseException responseException) {
+            return !responseException.getStatusCode().is4xxClientError()
+                || responseException.getStatusCode().value() == 429;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,35 @@
+package com.fourthread.ozang.module.domain.weather.client.guard;
+
+import java.time.Duration;
+
+/**
+ * 외부 API 별 호출 제한 설정
+ *
+ * @param ratePerSecond     초당 호출 수 (토큰 충전 속도)
+ * @param burst             순간 최대 호출 수 (토큰 버킷 크기)
+ * @param maxConcurrent     동시 호출 수 (bulkhead)
+ * @param dailyQuota        일일 호출 한도 (재시도 포함)
+ * @param maxRetries        호출당 최대 재시도 횟수
+ * @param retryBackoff      첫 재시도 대기 시간 (이후 2배씩 증가)
+ * @param retryBudgetRatio  호출 대비 재시도 허용 비율
+ * @param retryBudgetMax    재시도 예산 최대 적립량
+ * @param circuitFailureRate  서킷 OPEN 실패율 (최근 circuitWindowSize 회 기준)
+ * @param circuitMinimumCalls 실패율 판단 최소 호출 수
+ * @param circuitWindowSize   실패율 집계 호출 수
+ * @param circuitOpenDuration OPEN 유지 시간 (이후 시험 호출 1건 허용)
+ */
+public record UpstreamLimits(
+    double ratePerSecond,
+    int burst,
+    int maxConcurrent,
+    long dailyQuota,
+    int maxRetries,
+    Duration retryBackoff,
+    double retryBudgetRatio,
+    int retryBudgetMax,
+    double circuitFailureRate,
+    int circuitMinimumCalls,
+    int circuitWindowSize,
+    Duration circuitOpenDuration
+) {
+}
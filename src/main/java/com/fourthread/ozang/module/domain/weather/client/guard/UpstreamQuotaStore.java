@@ -0,0 +1,98 @@
+package com.fourthread.ozang.module.domain.weather.client.guard;
+
+import com.fourthread.ozang.module.domain.weather.client.guard.DailyQuota.Usage;
+import com.fourthread.ozang.module.domain.weather.entity.ApiQuotaUsage;
+import com.fourthread.ozang.module.domain.weather.repository.ApiQuotaUsageRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 API 일일 사용량 저장
+ * - 기동 시 오늘 사용량을 불러와 재시작 후에도 한도를 이어서 계산
+ * - 주기적으로 이 인스턴스의 미저장 사용량을 누적(+delta) 저장하고, 다른 인스턴스 사용량이 합산된 값으로 동기화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UpstreamQuotaStore {
+
+    private static final int RETENTION_DAYS = 7;
+
+    private final List<UpstreamGuard> upstreamGuards;
+    private final ApiQuotaUsageRepository apiQuotaUsageRepository;
+    // 일일 한도(DailyQuota)와 같은 서비스 시간대 기준으로 날짜 계산
+    private final ZoneId zoneId;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (UpstreamGuard guard : upstreamGuards) {
+            try {
+                LocalDate today = guard.getQuota().date();
+                long used = apiQuotaUsageRepository.findByUpstreamAndUsageDate(guard.getName(), today)
+                    .map(ApiQuotaUsage::getUsedCount)
+                    .orElse(0L);
+                guard.getQuota().restore(today, used);
+                log.info("{} 일일 사용량 복원 - date={}, used={}, remaining={}",
+                    guard.getName(), today, used, guard.getQuota().remaining());
+            } catch (Exception e) {
+                log.warn("{} 일일 사용량 복원 실패 - 0 부터 계산: {}", guard.getName(), e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${weather.api.quota.flush-interval-ms:30000}")
+    public void flush() {
+        for (UpstreamGuard guard : upstreamGuards) {
+            flush(guard);
+        }
+    }
+
+    @Scheduled(cron = "0 30 0 * * ?", zone = "#{@timezoneId}")
+    public void deleteExpired() {
+        int deleted = apiQuotaUsageRepository.deleteBefore(LocalDate.now(zoneId).minusDays(RETENTION_DAYS));
+        log.debug("[Scheduled] 지난 외부 API 사용량 삭제 - {}건", deleted);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flush(UpstreamGuard guard) {
+        Usage usage = guard.getQuota().drainPending();
+        try {
+            if (usage.count() > 0) {
+                save(guard.getName(), usage);
+            }
+            apiQuotaUsageRepository.findByUpstreamAndUsageDate(guard.getName(), usage.date())
+                .ifPresent(saved -> guard.getQuota().restore(saved.getUsageDate(), saved.getUsedCount()));
+        } catch (Exception e) {
+            // 저장 실패 시 한도가 과소 계산되지 않도록 다음 주기에 다시 저장
+            guard.getQuota().restorePending(usage);
+            log.warn("{} 일일 사용량 저장 실패: {}", guard.getName(), e.getMessage());
+        }
+    }
+
+    private void save(String upstream, Usage usage) {
+        LocalDateTime now = LocalDateTime.now(zoneId);
+        if (apiQuotaUsageRepository.increment(upstream, usage.date(), usage.count(), now) > 0) {
+            return;
+        }
+        try {
+            apiQuotaUsageRepository.save(new ApiQuotaUsage(upstream, usage.date(), usage.count(), now));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 행을 만든 경우
+            apiQuotaUsageRepository.increment(upstream, usage.date(), usage.count(), now);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.fourthread.ozang.module.domain.weather.client.guard;
+
+import com.fourthread.ozang.module.domain.weather.exception.WeatherApiException;
+
+/**
+ * 클라이언트 측 제한(서킷 브레이커/호출률/동시 호출/일일 한도)으로 외부 API 를 호출하지 않고 거절
+ */
+public class UpstreamRejectedException extends WeatherApiException {
+
+    private final String upstream;
+    private final Reason reason;
+
+    public UpstreamRejectedException(String upstream, Reason reason) {
+        super(upstream + " 호출 거절 - " + reason.getDescription(), reason.getResultCode());
+        this.upstream = upstream;
+        this.reason = reason;
+    }
+
+    public String getUpstream() {
+        return upstream;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public enum Reason {
+        CIRCUIT_OPEN("CIRCUIT_OPEN", "서킷 브레이커 OPEN (외부 API 장애)"),
+        RATE_LIMITED("RATE_LIMITED", "초당 호출 수 초과"),
+        BULKHEAD_FULL("BULKHEAD_FULL", "동시 호출 수 초과"),
+        QUOTA_EXHAUSTED("QUOTA_EXHAUSTED", "일일 호출 한도 소진");
+
+        private final String resultCode;
+        private final String description;
+
+        Reason(String resultCode, String description) {
+            this.resultCode = resultCode;
+            this.description = description;
+        }
+
+        public String getResultCode() {
+            return resultCode;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.fourthread.ozang.module.domain.weather.config;
+
+import com.fourthread.ozang.module.domain.weather.client.archive.UpstreamArchive;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 API 응답 기록/재생 설정 (용량 테스트용, 기본 사용 안 함)
+ * - record: 실제 응답을 보관소에 기록
+ * - replay: 실제 API 대신 보관소 응답을 지연을 넣어 재생
+ * - 날짜 디렉토리는 서비스 시간대 기준
+ */
+@Configuration
+public class UpstreamArchiveConfig {
+
+    @Bean
+    public UpstreamArchive upstreamArchive(
+        ZoneId zoneId,
+        @Value("${weather.archive.mode:disabled}") String mode,
+        @Value("${weather.archive.path:data/upstream-archive}") String path,
+        @Value("${weather.archive.ignored-params:serviceKey,base_date,base_time}") Set<String> ignoredParams,
+        @Value("${weather.archive.replay.latency:80ms}") Duration latency,
+        @Value("${weather.archive.replay.jitter:40ms}") Duration jitter) {
+        return new UpstreamArchive(UpstreamArchive.Mode.valueOf(mode.toUpperCase()), Path.of(path),
+            ignoredParams, latency, jitter, Clock.system(zoneId));
+    }
+}
@@ -0,0 +1,65 @@
+package com.fourthread.ozang.module.domain.weather.config;
+
+import com.fourthread.ozang.module.domain.weather.client.guard.UpstreamGuard;
+import com.fourthread.ozang.module.domain.weather.client.guard.UpstreamLimits;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 API(기상청 / 카카오) 호출 제한 및 서킷 브레이커 설정
+ * - 일일 한도는 서비스 시간대 자정 기준으로 초기화
+ */
+@Configuration
+public class UpstreamGuardConfig {
+
+    @Bean
+    public UpstreamGuard kmaUpstreamGuard(
+        MeterRegistry meterRegistry,
+        ZoneId zoneId,
+        @Value("${weather.api.limit.rate-per-second:20}") double ratePerSecond,
+        @Value("${weather.api.limit.burst:40}") int burst,
+        @Value("${weather.api.limit.max-concurrent:16}") int maxConcurrent,
+        @Value("${weather.api.limit.daily-quota:10000}") long dailyQuota,
+        @Value("${weather.api.limit.retry.max-retries:2}") int maxRetries,
+        @Value("${weather.api.limit.retry.backoff:500ms}") Duration retryBackoff,
+        @Value("${weather.api.limit.retry.budget-ratio:0.1}") double retryBudgetRatio,
+        @Value("${weather.api.limit.retry.budget-max:10}") int retryBudgetMax,
+        @Value("${weather.api.limit.circuit.failure-rate:0.5}") double circuitFailureRate,
+        @Value("${weather.api.limit.circuit.minimum-calls:10}") int circuitMinimumCalls,
+        @Value("${weather.api.limit.circuit.window-size:20}") int circuitWindowSize,
+        @Value("${weather.api.limit.circuit.open-duration:30s}") Duration circuitOpenDuration) {
+        return new UpstreamGuard("kma",
+            new UpstreamLimits(ratePerSecond, burst, maxConcurrent, dailyQuota,
+                maxRetries, retryBackoff, retryBudgetRatio, retryBudgetMax,
+                circuitFailureRate, circuitMinimumCalls, circuitWindowSize, circuitOpenDuration),
+            Clock.system(zoneId), meterRegistry);
+    }
+
+    @Bean
+    public UpstreamGuard kakaoUpstreamGuard(
+        MeterRegistry meterRegistry,
+        ZoneId zoneId,
+        @Value("${kakao.api.limit.rate-per-second:20}") double ratePerSecond,
+        @Value("${kakao.api.limit.burst:40}") int burst,
+        @Value("${kakao.api.limit.max-concurrent:16}") int maxConcurrent,
+        @Value("${kakao.api.limit.daily-quota:100000}") long dailyQuota,
+        @Value("${kakao.api.limit.retry.max-retries:1}") int maxRetries,
+        @Value("${kakao.api.limit.retry.backoff:300ms}") Duration retryBackoff,
+        @Value("${kakao.api.limit.retry.budget-ratio:0.1}") double retryBudgetRatio,
+        @Value("${kakao.api.limit.retry.budget-max:10}") int retryBudgetMax,
+        @Value("${kakao.api.limit.circuit.failure-rate:0.5}") double circuitFailureRate,
+        @Value("${kakao.api.limit.circuit.minimum-calls:10}") int circuitMinimumCalls,
+        @Value("${kakao.api.limit.circuit.window-size:20}") int circuitWindowSize,
+        @Value("${kakao.api.limit.circuit.open-duration:30s}") Duration circuitOpenDuration) {
+        return new UpstreamGuard("kakao",
+            new UpstreamLimits(ratePerSecond, burst, maxConcurrent, dailyQuota,
+                maxRetries, retryBackoff, retryBudgetRatio, retryBudgetMax,
+                circuitFailureRate, circuitMinimumCalls, circuitWindowSize, circuitOpenDuration),
+            Clock.system(zoneId), meterRegistry);
+    }
+}
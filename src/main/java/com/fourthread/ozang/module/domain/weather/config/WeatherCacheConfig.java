@@ -0,0 +1,92 @@
+package com.fourthread.ozang.module.domain.weather.config;
+
+import com.fourthread.ozang.module.domain.weather.cache.FiveDayForecastCache;
+import com.fourthread.ozang.module.domain.weather.cache.ForecastCacheKey;
+import com.fourthread.ozang.module.domain.weather.cache.PublishCycleCache;
+import com.fourthread.ozang.module.domain.weather.cache.ResponseHashCache;
+import com.fourthread.ozang.module.domain.weather.cache.SharedForecastCache;
+import com.fourthread.ozang.module.domain.weather.cache.SingleFlight;
+import com.fourthread.ozang.module.domain.weather.dto.WeatherDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * 날씨 예보 캐시 설정 (노드별 인메모리 L1 + Redis 공유 L2)
+ */
+@Configuration
+public class WeatherCacheConfig {
+
+    /**
+     * 격자 + 발표시각 단위 오늘 날씨 캐시 (getWeatherForecast)
+     */
+    @Bean
+    public PublishCycleCache<WeatherDto> weatherForecastCache(
+        MeterRegistry meterRegistry,
+        @Value("${weather.cache.forecast.max-size:10000}") int maxSize) {
+        return new PublishCycleCache<>("forecast", maxSize, meterRegistry);
+    }
+
+    /**
+     * 격자 + 발표시각 단위 5일 예보 캐시 및 5일째 보완 조회용 단기예보 응답 캐시 (getFiveDayForecast)
+     */
+    @Bean
+    public FiveDayForecastCache fiveDayForecastCache(
+        MeterRegistry meterRegistry,
+        @Value("${weather.cache.five-day.max-size:10000}") int maxSize,
+        @Value("${weather.cache.vilage-response.max-size:1000}") int responseMaxSize) {
+        return new FiveDayForecastCache(maxSize, responseMaxSize, meterRegistry);
+    }
+
+    /**
+     * 격자 + 응답 발표시각 단위 응답 해시 인덱스 (같은 발표분 재조회 시 매핑/저장 생략)
+     */
+    @Bean
+    public ResponseHashCache responseHashCache(
+        MeterRegistry meterRegistry,
+        @Value("${weather.cache.response-hash.max-size:10000}") int maxSize) {
+        return new ResponseHashCache(maxSize, meterRegistry);
+    }
+
+    /**
+     * 격자 + 발표시각 단위 외부 API 조회 병합 (캐시 미스 동시 요청 시 1회만 조회)
+     */
+    @Bean
+    public SingleFlight<ForecastCacheKey, WeatherDto> weatherForecastFlight(
+        MeterRegistry meterRegistry) {
+        return new SingleFlight<>("forecast", meterRegistry);
+    }
+
+    /**
+     * 격자 + 발표시각 단위 노드 간 공유(L2) 단기예보 응답 캐시
+     * - 보안 설정의 Redis(Lettuce) 연결을 함께 사용하고 값은 바이너리(byte[])로 저장
+     */
+    @Bean
+    public SharedForecastCache sharedForecastCache(
+        RedisConnectionFactory redisConnectionFactory,
+        MeterRegistry meterRegistry,
+        @Value("${weather.cache.shared.enabled:true}") boolean enabled,
+        @Value("${weather.cache.shared.ttl:4h}") Duration ttl,
+        @Value("${weather.cache.shared.lock-ttl:10s}") Duration lockTtl,
+        @Value("${weather.cache.shared.lock-wait:3s}") Duration lockWait,
+        @Value("${weather.cache.shared.poll-interval:100ms}") Duration pollInterval) {
+        if (!enabled) {
+            return SharedForecastCache.disabled();
+        }
+        RedisTemplate<String, byte[]> forecastRedisTemplate = new RedisTemplate<>();
+        forecastRedisTemplate.setConnectionFactory(redisConnectionFactory);
+        forecastRedisTemplate.setKeySerializer(new StringRedisSerializer());
+        forecastRedisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        forecastRedisTemplate.afterPropertiesSet();
+
+        return new SharedForecastCache(forecastRedisTemplate, ttl, lockTtl, lockWait, pollInterval,
+            Clock.systemUTC(), meterRegistry);
+    }
+}
@@ -0,0 +1,51 @@
+package com.fourthread.ozang.module.domain.weather.config;
+
+import com.fourthread.ozang.module.domain.weather.util.GridLookupTable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 위경도 → 격자 변환 조회 테이블 설정
+ * - weather.grid.lookup-table.enabled=true 일 때만 등록 (미등록 시 CoordinateConverter 는 공식으로만 계산)
+ * - 파일이 있으면 메모리 매핑으로 로딩, 없거나 손상된 경우 생성 후 저장
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "weather.grid.lookup-table.enabled", havingValue = "true")
+public class WeatherGridConfig {
+
+    @Bean
+    public GridLookupTable gridLookupTable(
+        @Value("${weather.grid.lookup-table.path:data/weather-grid.lut}") String path,
+        @Value("${weather.grid.lookup-table.step:0.01}") double step) {
+
+        Path file = Path.of(path);
+        if (Files.exists(file)) {
+            try {
+                GridLookupTable table = GridLookupTable.map(file);
+                if (table.getStep() == step) {
+                    log.info("격자 조회 테이블 로딩 완료 - path: {}, 셀: {}", file, table.getCellCount());
+                    return table;
+                }
+                log.info("격자 조회 테이블 간격 변경으로 재생성 - 기존: {}, 설정: {}", table.getStep(), step);
+            } catch (IOException | IllegalArgumentException e) {
+                log.warn("격자 조회 테이블 로딩 실패, 재생성합니다 - path: {}, 원인: {}", file, e.getMessage());
+            }
+        }
+
+        GridLookupTable table = GridLookupTable.build(step);
+        try {
+            table.writeTo(file);
+            return GridLookupTable.map(file);
+        } catch (IOException e) {
+            log.warn("격자 조회 테이블 저장 실패, 힙 테이블 사용 - path: {}, 원인: {}", file, e.getMessage());
+            return table;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.fourthread.ozang.module.domain.weather.config;
+
+import com.fourthread.ozang.module.domain.weather.util.GridRegionTable;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+/**
+ * 오프라인 지역명 조회 설정
+ * - weather.location.provider 가 offline / hybrid 일 때만 격자 지역명 리소스 로딩
+ * - 리소스는 빌드 시 data/kma-grid-regions.csv 로 생성 (processResources → generateGridRegions)
+ */
+@Slf4j
+@Configuration
+public class WeatherLocationConfig {
+
+    @Bean
+    @ConditionalOnExpression("!'${weather.location.provider:kakao}'.equalsIgnoreCase('kakao')")
+    public GridRegionTable gridRegionTable(
+        @Value("${weather.location.offline.resource:classpath:weather/grid-regions.bin}") Resource resource)
+        throws IOException {
+
+        if (!resource.exists()) {
+            throw new IllegalStateException(
+                "격자 지역명 리소스가 없습니다: " + resource + " (data/kma-grid-regions.csv 확인 후 다시 빌드)");
+        }
+
+        try (InputStream inputStream = resource.getInputStream()) {
+            GridRegionTable table = GridRegionTable.read(inputStream);
+            log.info("격자 지역명 리소스 로딩 완료 - 격자: {}개, 지역명: {}개",
+                table.getCellCount(), table.getStringCount());
+            return table;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.fourthread.ozang.module.domain.weather.config;
 
+import com.fourthread.ozang.module.domain.weather.client.archive.UpstreamArchive;
 import com.fourthread.ozang.module.domain.weather.exception.WeatherApiException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -16,6 +17,7 @@ public class WebClientConfig {
 
     @Bean
     public WebClient weatherWebClient(WebClient.Builder builder,
+        UpstreamArchive upstreamArchive,
         @Value("${weather.api.base-url}") String baseUrl,
         @Value("${weather.api.key}") String apiKey) {
         // DefaultUriBuilderFactory로 변수만 인코딩 (VALUES_ONLY)
@@ -39,17 +41,21 @@ public class WebClientConfig {
             .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
             .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
             .filter(errorFilter)
+            // 응답 기록/재생 (weather.archive.mode) - 기록 필터는 에러 필터 안쪽
+            .apply(b -> upstreamArchive.apply(b, "kma"))
             .build();
     }
 
     @Bean
     public WebClient kakaoWebClient(WebClient.Builder builder,
+        UpstreamArchive upstreamArchive,
         @Value("${kakao.api.base-url:https://dapi.kakao.com}") String baseUrl,
         @Value("${kakao.api.key}") String kakaoApiKey) {
         return builder
             .baseUrl(baseUrl)
             .defaultHeader(HttpHeaders.AUTHORIZATION, "KakaoAK " + kakaoApiKey)
             .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+            .apply(b -> upstreamArchive.apply(b, "kakao"))
             .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.fourthread.ozang.module.domain.weather.controller;
+
+import com.fourthread.ozang.module.domain.weather.cache.FiveDayForecastCache;
+import com.fourthread.ozang.module.domain.weather.cache.PublishCycleCache;
+import com.fourthread.ozang.module.domain.weather.cache.ResponseHashCache;
+import com.fourthread.ozang.module.domain.weather.dto.WeatherDto;
+import com.fourthread.ozang.module.domain.weather.service.LocationNameService;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 날씨 캐시 관리용 Admin API
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/weather/cache")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "날씨 캐시 관리", description = "날씨 캐시 관리 Admin API")
+public class WeatherCacheAdminController {
+
+    private final PublishCycleCache<WeatherDto> weatherForecastCache;
+    private final FiveDayForecastCache fiveDayForecastCache;
+    private final ResponseHashCache responseHashCache;
+    private final LocationNameService locationNameService;
+
+    /**
+     * 캐시 상태 조회
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getCacheStatus() {
+        Map<String, Object> response = new HashMap<>();
+        response.put(weatherForecastCache.getName(), cacheToMap(weatherForecastCache));
+        response.put(fiveDayForecastCache.getForecasts().getName(),
+            cacheToMap(fiveDayForecastCache.getForecasts()));
+        response.put(fiveDayForecastCache.getResponses().getName(),
+            cacheToMap(fiveDayForecastCache.getResponses()));
+        response.put(responseHashCache.getEntries().getName(),
+            cacheToMap(responseHashCache.getEntries()));
+
+        Map<String, Object> locationInfo = new HashMap<>();
+        locationInfo.put("provider", locationNameService.getProvider());
+        locationInfo.put("size", locationNameService.size());
+        locationInfo.put("hitRatio", locationNameService.getHitRatio());
+        locationInfo.put("remoteCallCount", locationNameService.getRemoteCallCount());
+        response.put("location", locationInfo);
+        response.put("success", true);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 캐시 제거 (격자 좌표 지정 시 해당 격자만 제거)
+     */
+    @DeleteMapping
+    public ResponseEntity<Map<String, Object>> evictCache(
+        @Parameter(description = "격자 X 좌표", example = "60")
+        @RequestParam(required = false) Integer x,
+        @Parameter(description = "격자 Y 좌표", example = "127")
+        @RequestParam(required = false) Integer y
+    ) {
+        log.info("[Admin] 날씨 캐시 제거 요청 - x: {}, y: {}", x, y);
+
+        if ((x == null) != (y == null)) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "격자 좌표 x, y는 함께 지정해야 합니다.");
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+
+        int evicted = x == null
+            ? weatherForecastCache.clear() + fiveDayForecastCache.clear() + responseHashCache.clear()
+            : weatherForecastCache.evictGrid(x, y) + fiveDayForecastCache.evictGrid(x, y)
+                + responseHashCache.evictGrid(x, y);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("evictedCount", evicted);
+
+        log.info("[Admin] 날씨 캐시 제거 완료 - 제거된 항목: {}건", evicted);
+        return ResponseEntity.ok(response);
+    }
+
+    private Map<String, Object> cacheToMap(PublishCycleCache<?> cache) {
+        Map<String, Object> cacheInfo = new HashMap<>();
+        cacheInfo.put("size", cache.size());
+        cacheInfo.put("maxSize", cache.getMaxSize());
+        cacheInfo.put("hitCount", cache.getHitCount());
+        cacheInfo.put("missCount", cache.getMissCount());
+        return cacheInfo;
+    }
+}
@@ -1,19 +1,26 @@
 package com.fourthread.ozang.module.domain.weather.controller;
 
+import com.fourthread.ozang.module.domain.weather.dto.HourlyForecastResponse;
 import com.fourthread.ozang.module.domain.weather.dto.WeatherAPILocation;
 import com.fourthread.ozang.module.domain.weather.dto.WeatherDto;
+import com.fourthread.ozang.module.domain.weather.dto.request.WeatherBatchRequest;
+import com.fourthread.ozang.module.domain.weather.service.HourlyForecastService;
 import com.fourthread.ozang.module.domain.weather.service.WeatherService;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -27,12 +34,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class WeatherController {
 
     private final WeatherService weatherService;
+    private final HourlyForecastService hourlyForecastService;
 
     /**
      * 날씨 정보 조회 API
+     * 외부 API 응답 대기 중에는 요청 스레드를 반환 (비동기 MVC)
      */
     @GetMapping("/today")
-    public ResponseEntity<WeatherDto> getWeather(
+    public CompletableFuture<ResponseEntity<WeatherDto>> getWeather(
         @RequestParam
         @NotNull(message = "경도는 필수입니다")
         @Min(value = 124, message = "경도는 124 이상이어야 합니다")
@@ -47,26 +56,64 @@ public class WeatherController {
     ) {
         log.info("날씨 정보 요청 - 위도: {}, 경도: {}", latitude, longitude);
 
-        WeatherDto weatherData = weatherService.getWeatherForecast(longitude, latitude);
+        return weatherService.getWeatherForecastAsync(longitude, latitude)
+            .thenApply(ResponseEntity::ok);
+    }
 
-        return ResponseEntity.ok(weatherData);
+    /**
+     * 여러 위치 날씨 일괄 조회 API
+     * 같은 격자의 위치는 한 번만 조회하고 결과는 요청 순서대로 반환
+     */
+    @PostMapping("/batch")
+    public CompletableFuture<ResponseEntity<List<WeatherDto>>> getWeatherBatch(
+        @RequestBody @Valid WeatherBatchRequest request
+    ) {
+        log.info("날씨 정보 일괄 요청 - 위치: {}개", request.locations().size());
+
+        return weatherService.getWeatherForecastBatchAsync(request.locations())
+            .thenApply(ResponseEntity::ok);
     }
 
     @GetMapping
-    public ResponseEntity<List<WeatherDto>> getFiveDayForecast(
+    public CompletableFuture<ResponseEntity<List<WeatherDto>>> getFiveDayForecast(
         @RequestParam @NotNull @Min(124) @Max(132) Double longitude,
         @RequestParam @NotNull @Min(33)  @Max(43)  Double latitude
     ) {
         log.info("5일치 날씨 예보 요청 - 위도: {}, 경도: {}", latitude, longitude);
-        List<WeatherDto> list = weatherService.getFiveDayForecast(longitude, latitude);
-        return ResponseEntity.ok(list);
+        return weatherService.getFiveDayForecastAsync(longitude, latitude)
+            .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * 시간별 예보 조회 API
+     * 저장된 최근 발표분에서만 조회 (외부 API 호출 없음)
+     */
+    @GetMapping("/hourly")
+    public ResponseEntity<HourlyForecastResponse> getHourlyForecast(
+        @Parameter(description = "경도", required = true, example = "126.9780")
+        @RequestParam
+        @NotNull(message = "경도는 필수입니다")
+        @Min(value = 124, message = "경도는 124 이상이어야 합니다")
+        @Max(value = 132, message = "경도는 132 이하여야 합니다")
+        Double longitude,
+
+        @Parameter(description = "위도", required = true, example = "37.5665")
+        @RequestParam
+        @NotNull(message = "위도는 필수입니다")
+        @Min(value = 33, message = "위도는 33 이상이어야 합니다")
+        @Max(value = 43, message = "위도는 43 이하여야 합니다")
+        Double latitude
+    ) {
+        log.info("시간별 예보 요청 - 위도: {}, 경도: {}", latitude, longitude);
+
+        return ResponseEntity.ok(hourlyForecastService.getHourlyForecast(longitude, latitude));
     }
 
     /**
      * 날씨 위치 정보 조회 API
      */
     @GetMapping("/location")
-    public ResponseEntity<WeatherAPILocation> getWeatherLocation(
+    public CompletableFuture<ResponseEntity<WeatherAPILocation>> getWeatherLocation(
         @Parameter(description = "경도", required = true, example = "126.9780")
         @RequestParam
         @NotNull(message = "경도는 필수입니다")
@@ -83,8 +130,7 @@ public class WeatherController {
     ) {
         log.info("위치 정보 요청 - 위도: {}, 경도: {}", latitude, longitude);
 
-        WeatherAPILocation location = weatherService.getWeatherLocation(longitude, latitude);
-
-        return ResponseEntity.ok(location);
+        return weatherService.getWeatherLocationAsync(longitude, latitude)
+            .thenApply(ResponseEntity::ok);
     }
 }
\ No newline at end of file
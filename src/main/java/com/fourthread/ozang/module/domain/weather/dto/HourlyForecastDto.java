@@ -0,0 +1,16 @@
+package com.fourthread.ozang.module.domain.weather.dto;
+
+import com.fourthread.ozang.module.domain.weather.dto.type.SkyStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 시간별 예보 한 시각
+ */
+public record HourlyForecastDto(
+    LocalDateTime forecastAt, //예보 대상 시간
+    SkyStatus skyStatus,
+    PrecipitationDto precipitation,
+    Double temperature,
+    Double humidity,
+    WindSpeedDto windSpeed
+) {}
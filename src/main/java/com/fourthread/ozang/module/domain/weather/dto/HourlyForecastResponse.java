@@ -0,0 +1,14 @@
+package com.fourthread.ozang.module.domain.weather.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 격자의 최근 발표분 시간별 예보 (저장된 발표분이 없으면 forecastedAt null, hours 빈 목록)
+ */
+public record HourlyForecastResponse(
+    Integer x,
+    Integer y,
+    LocalDateTime forecastedAt, //예보 발표 시간
+    List<HourlyForecastDto> hours
+) {}
@@ -0,0 +1,38 @@
+package com.fourthread.ozang.module.domain.weather.dto;
+
+import com.fourthread.ozang.module.domain.weather.dto.type.PrecipitationType;
+import com.fourthread.ozang.module.domain.weather.dto.type.WeatherChangeType;
+import java.time.LocalDateTime;
+
+/**
+ * 직전 발표분 대비 예보 변화 한 건
+ */
+public record WeatherChange(
+    WeatherChangeType type,
+    LocalDateTime forecastAt, //변화가 나타난 예보 시각
+    PrecipitationType precipitationType, //강수 시작일 때 강수형태
+    Double previousTemperature,
+    Double currentTemperature
+) {
+
+    public static WeatherChange precipitationStart(LocalDateTime forecastAt, PrecipitationType type) {
+        return new WeatherChange(WeatherChangeType.PRECIPITATION_START, forecastAt, type, null, null);
+    }
+
+    public static WeatherChange temperatureSwing(LocalDateTime forecastAt, double previous, double current) {
+        WeatherChangeType type = current > previous
+            ? WeatherChangeType.TEMPERATURE_RISE
+            : WeatherChangeType.TEMPERATURE_DROP;
+        return new WeatherChange(type, forecastAt, null, previous, current);
+    }
+
+    /**
+     * 기온 변화량 - 기온 변화가 아니면 null
+     */
+    public Double temperatureDelta() {
+        if (previousTemperature == null || currentTemperature == null) {
+            return null;
+        }
+        return currentTemperature - previousTemperature;
+    }
+}
@@ -13,5 +13,19 @@ public record WeatherDto(
     PrecipitationDto precipitation,
     HumidityDto humidity,
     TemperatureDto temperature,
-    WindSpeedDto windSpeed
-) {}
\ No newline at end of file
+    WindSpeedDto windSpeed,
+    boolean stale //외부 API 장애/지연으로 최근 저장 데이터를 대신 응답한 경우 true
+) {
+
+    public WeatherDto(UUID id, LocalDateTime forecastedAt, LocalDateTime forecastAt,
+        WeatherAPILocation location, SkyStatus skyStatus, PrecipitationDto precipitation,
+        HumidityDto humidity, TemperatureDto temperature, WindSpeedDto windSpeed) {
+        this(id, forecastedAt, forecastAt, location, skyStatus, precipitation, humidity, temperature,
+            windSpeed, false);
+    }
+
+    public WeatherDto asStale() {
+        return new WeatherDto(id, forecastedAt, forecastAt, location, skyStatus, precipitation, humidity,
+            temperature, windSpeed, true);
+    }
+}
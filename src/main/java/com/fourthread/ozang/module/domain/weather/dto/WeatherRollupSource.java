@@ -0,0 +1,16 @@
+package com.fourthread.ozang.module.domain.weather.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일 집계 백필용 저장 날씨 한 시각 (weathers 이력 조회 결과)
+ */
+public record WeatherRollupSource(
+    Integer x,
+    Integer y,
+    LocalDateTime forecastedAt,
+    LocalDateTime forecastAt,
+    Double temperature,
+    Double humidity,
+    Double precipitation
+) {}
@@ -0,0 +1,548 @@
+package com.fourthread.ozang.module.domain.weather.dto.external;
+
+import com.fourthread.ozang.module.domain.weather.util.XxHash64;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 기상청 단기예보 응답 (열 단위 저장)
+ * - 예보 시각(fcstDate, fcstTime)마다 한 행, 카테고리마다 기본형 배열 한 열
+ * - 수치 카테고리는 double(값 없음 NaN), SKY/PTY 코드는 byte(값 없음 -1)
+ * - PCP/SNO 는 표기 형식("1mm 미만", "30.0~50.0mm")을 소비하는 쪽마다 다르게 해석하므로 원문 문자열로 보관 (중복 제거)
+ */
+public final class KmaForecast {
+
+    /**
+     * 단기예보 카테고리와 저장 열
+     * - wireId: 저장/캐시 형식(HourlySeriesCodec)에 기록하는 고정 번호 - 선언 순서와 무관하며 한 번 정하면 바꾸지 않는다
+     */
+    public enum Category {
+        TMP(Kind.NUMERIC, 0, 0), TMN(Kind.NUMERIC, 1, 1), TMX(Kind.NUMERIC, 2, 2),
+        UUU(Kind.NUMERIC, 3, 3), VVV(Kind.NUMERIC, 4, 4), VEC(Kind.NUMERIC, 5, 5), WSD(Kind.NUMERIC, 6, 6),
+        WAV(Kind.NUMERIC, 7, 7), POP(Kind.NUMERIC, 8, 8), REH(Kind.NUMERIC, 9, 9),
+        SKY(Kind.CODE, 0, 10), PTY(Kind.CODE, 1, 11),
+        PCP(Kind.TEXT, 0, 12), SNO(Kind.TEXT, 1, 13);
+
+        private static final Category[] VALUES = values();
+
+        private final Kind kind;
+        private final int column;
+        private final int wireId;
+
+        Category(Kind kind, int column, int wireId) {
+            this.kind = kind;
+            this.column = column;
+            this.wireId = wireId;
+        }
+
+        public Kind kind() {
+            return kind;
+        }
+
+        public int wireId() {
+            return wireId;
+        }
+
+        /**
+         * 저장 형식의 고정 번호로 조회 - 모르는 번호는 null
+         */
+        public static Category ofWireId(int wireId) {
+            for (Category category : VALUES) {
+                if (category.wireId == wireId) {
+                    return category;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 카테고리 이름 조회 (문자열 생성 없이 토큰 버퍼에서 바로 비교) - 모르는 카테고리는 null
+         */
+        public static Category of(char[] chars, int offset, int length) {
+            for (Category category : VALUES) {
+                if (matches(category.name(), chars, offset, length)) {
+                    return category;
+                }
+            }
+            return null;
+        }
+
+        public static Category of(String name) {
+            return name == null ? null : of(name.toCharArray(), 0, name.length());
+        }
+    }
+
+    /**
+     * 저장 열 종류 - NUMERIC: double, CODE: byte, TEXT: 원문 문자열
+     */
+    public enum Kind {
+        NUMERIC, CODE, TEXT
+    }
+
+    private static final int NUMERIC_COLUMNS = 10;
+    private static final int CODE_COLUMNS = 2;
+    private static final int TEXT_COLUMNS = 2;
+
+    private final String resultCode;
+    private final String resultMsg;
+    private final String baseDate;
+    private final String baseTime;
+    private final int nx;
+    private final int ny;
+    private final int itemCount;
+    private final int totalCount;
+
+    private final int size;
+    private final int[] fcstDates;
+    private final int[] fcstTimes;
+    private final double[][] numeric;
+    private final byte[][] codes;
+    private final String[][] texts;
+
+    private final String responseHash;
+
+    private KmaForecast(Builder builder) {
+        this.resultCode = builder.resultCode;
+        this.resultMsg = builder.resultMsg;
+        this.baseDate = builder.baseDate;
+        this.baseTime = builder.baseTime;
+        this.nx = builder.nx;
+        this.ny = builder.ny;
+        this.itemCount = builder.itemCount;
+        this.totalCount = builder.totalCount;
+        this.size = builder.size;
+        this.fcstDates = builder.fcstDates;
+        this.fcstTimes = builder.fcstTimes;
+        this.numeric = builder.numeric;
+        this.codes = builder.codes;
+        this.texts = builder.texts;
+        this.responseHash = builder.responseHash;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 이미 역직렬화된 응답 변환 (테스트/초단기 API 등 레코드 응답 호환용)
+     * - 응답 해시는 레코드 문자열의 xxHash64 (weathers.response_hash 에 저장되는 16자리 hex, 파서와 같은 해시 함수)
+     */
+    public static KmaForecast from(WeatherApiResponse response) {
+        if (response == null) {
+            return null;
+        }
+
+        Builder builder = builder();
+        if (response.response() != null) {
+            WeatherApiResponse.Header header = response.response().header();
+            if (header != null) {
+                builder.header(header.resultCode(), header.resultMsg());
+            }
+            WeatherApiResponse.Body body = response.response().body();
+            if (body != null) {
+                if (body.totalCount() != null) {
+                    builder.totalCount(body.totalCount());
+                }
+                List<WeatherApiResponse.Item> items =
+                    body.items() != null ? body.items().item() : null;
+                if (items != null) {
+                    for (WeatherApiResponse.Item item : items) {
+                        if (item != null) {
+                            builder.item(item);
+                        }
+                    }
+                }
+            }
+        }
+
+        return builder
+            .responseHash(XxHash64.hash(response.toString().getBytes(StandardCharsets.UTF_8)))
+            .build();
+    }
+
+    public String getResultCode() {
+        return resultCode;
+    }
+
+    public String getResultMsg() {
+        return resultMsg;
+    }
+
+    public String getBaseDate() {
+        return baseDate;
+    }
+
+    public String getBaseTime() {
+        return baseTime;
+    }
+
+    public int getNx() {
+        return nx;
+    }
+
+    public int getNy() {
+        return ny;
+    }
+
+    /**
+     * 응답에 포함된 예보 항목 수 (행이 아닌 원래 item 개수)
+     */
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * 응답 원문 xxHash64 (16자리 hex, 없으면 null)
+     */
+    public String getResponseHash() {
+        return responseHash;
+    }
+
+    /**
+     * 예보 시각 행 수
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 예보 일자 (yyyyMMdd 정수)
+     */
+    public int fcstDate(int slot) {
+        return fcstDates[slot];
+    }
+
+    /**
+     * 예보 시각 (HHmm 정수)
+     */
+    public int fcstTime(int slot) {
+        return fcstTimes[slot];
+    }
+
+    public LocalDate fcstLocalDate(int slot) {
+        return toLocalDate(fcstDates[slot]);
+    }
+
+    public LocalDateTime fcstDateTime(int slot) {
+        return toLocalDate(fcstDates[slot]).atTime(fcstTimes[slot] / 100, 0);
+    }
+
+    public boolean has(Category category, int slot) {
+        return switch (category.kind) {
+            case NUMERIC -> !Double.isNaN(numeric[category.column][slot]);
+            case CODE -> codes[category.column][slot] >= 0;
+            case TEXT -> texts[category.column][slot] != null;
+        };
+    }
+
+    /**
+     * 수치 카테고리 값 (없으면 NaN)
+     */
+    public double value(Category category, int slot) {
+        requireKind(category, Kind.NUMERIC);
+        return numeric[category.column][slot];
+    }
+
+    /**
+     * SKY/PTY 코드 (없으면 -1)
+     */
+    public int code(Category category, int slot) {
+        requireKind(category, Kind.CODE);
+        return codes[category.column][slot];
+    }
+
+    /**
+     * PCP/SNO 원문 (없으면 null)
+     */
+    public String text(Category category, int slot) {
+        requireKind(category, Kind.TEXT);
+        return texts[category.column][slot];
+    }
+
+    /**
+     * 값이 있는 마지막 행 (없으면 -1)
+     */
+    public int lastSlot(Category category) {
+        for (int slot = size - 1; slot >= 0; slot--) {
+            if (has(category, slot)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    public static LocalDate toLocalDate(int yyyyMMdd) {
+        return LocalDate.of(yyyyMMdd / 10000, yyyyMMdd / 100 % 100, yyyyMMdd % 100);
+    }
+
+    private static void requireKind(Category category, Kind kind) {
+        if (category.kind != kind) {
+            throw new IllegalArgumentException(category + " 는 " + kind + " 카테고리가 아닙니다");
+        }
+    }
+
+    /**
+     * 열 단위 응답 생성기
+     * - 같은 예보 시각의 항목은 연속해서 오므로 직전 행만 비교하고, 순서가 섞인 경우에만 역순 탐색
+     * - 같은 행/카테고리 값이 중복되면 마지막 값 사용
+     */
+    public static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private String resultCode;
+        private String resultMsg;
+        private String baseDate;
+        private String baseTime;
+        private int nx;
+        private int ny;
+        private int itemCount;
+        private int totalCount;
+        private String responseHash;
+
+        private int size;
+        private int capacity = INITIAL_CAPACITY;
+        private int[] fcstDates = new int[INITIAL_CAPACITY];
+        private int[] fcstTimes = new int[INITIAL_CAPACITY];
+        private double[][] numeric = new double[NUMERIC_COLUMNS][];
+        private byte[][] codes = new byte[CODE_COLUMNS][];
+        private String[][] texts = new String[TEXT_COLUMNS][];
+
+        private final String[] textPool = new String[32];
+        private int textPoolSize;
+
+        private Builder() {
+            for (int i = 0; i < NUMERIC_COLUMNS; i++) {
+                numeric[i] = new double[INITIAL_CAPACITY];
+                Arrays.fill(numeric[i], Double.NaN);
+            }
+            for (int i = 0; i < CODE_COLUMNS; i++) {
+                codes[i] = new byte[INITIAL_CAPACITY];
+                Arrays.fill(codes[i], (byte) -1);
+            }
+            for (int i = 0; i < TEXT_COLUMNS; i++) {
+                texts[i] = new String[INITIAL_CAPACITY];
+            }
+        }
+
+        public Builder header(String resultCode, String resultMsg) {
+            this.resultCode = resultCode;
+            this.resultMsg = resultMsg;
+            return this;
+        }
+
+        /**
+         * 발표 일자/시각 (첫 항목 기준)
+         */
+        public Builder base(String baseDate, String baseTime) {
+            if (this.baseDate == null) {
+                this.baseDate = baseDate;
+                this.baseTime = baseTime;
+            }
+            return this;
+        }
+
+        public boolean hasBase() {
+            return baseDate != null;
+        }
+
+        public int getItemCount() {
+            return itemCount;
+        }
+
+        public Builder grid(int nx, int ny) {
+            this.nx = nx;
+            this.ny = ny;
+            return this;
+        }
+
+        public Builder totalCount(int totalCount) {
+            this.totalCount = totalCount;
+            return this;
+        }
+
+        public Builder responseHash(long responseHash) {
+            this.responseHash = HexFormat.of().toHexDigits(responseHash);
+            return this;
+        }
+
+        /**
+         * 직렬화된 응답 복원용 - 응답 해시 hex 그대로
+         */
+        public Builder responseHash(String responseHash) {
+            this.responseHash = responseHash;
+            return this;
+        }
+
+        /**
+         * 직렬화된 응답 복원용 - 원래 item 개수 (slot 호출 횟수 대신)
+         */
+        public Builder itemCount(int itemCount) {
+            this.itemCount = itemCount;
+            return this;
+        }
+
+        /**
+         * 예보 시각 행 조회/추가
+         */
+        public int slot(int fcstDate, int fcstTime) {
+            itemCount++;
+            if (size > 0 && fcstDates[size - 1] == fcstDate && fcstTimes[size - 1] == fcstTime) {
+                return size - 1;
+            }
+            for (int slot = size - 2; slot >= 0; slot--) {
+                if (fcstDates[slot] == fcstDate && fcstTimes[slot] == fcstTime) {
+                    return slot;
+                }
+            }
+
+            if (size == capacity) {
+                grow();
+            }
+            fcstDates[size] = fcstDate;
+            fcstTimes[size] = fcstTime;
+            return size++;
+        }
+
+        public Builder value(Category category, int slot, double value) {
+            requireKind(category, Kind.NUMERIC);
+            numeric[category.column][slot] = value;
+            return this;
+        }
+
+        public Builder code(Category category, int slot, int code) {
+            requireKind(category, Kind.CODE);
+            codes[category.column][slot] = (byte) code;
+            return this;
+        }
+
+        public Builder text(Category category, int slot, String text) {
+            requireKind(category, Kind.TEXT);
+            texts[category.column][slot] = text;
+            return this;
+        }
+
+        /**
+         * 토큰 버퍼의 문자열을 풀에서 찾아 재사용 (PCP/SNO 는 "강수없음" 등 몇 가지 값만 반복)
+         */
+        public Builder text(Category category, int slot, char[] chars, int offset, int length) {
+            for (int i = 0; i < textPoolSize; i++) {
+                String pooled = textPool[i];
+                if (matches(pooled, chars, offset, length)) {
+                    return text(category, slot, pooled);
+                }
+            }
+
+            String text = new String(chars, offset, length);
+            if (textPoolSize < textPool.length) {
+                textPool[textPoolSize++] = text;
+            }
+            return text(category, slot, text);
+        }
+
+        /**
+         * 레코드 항목 추가 (문자열 값 파싱)
+         */
+        public Builder item(WeatherApiResponse.Item item) {
+            if (item.baseDate() != null) {
+                base(item.baseDate(), item.baseTime());
+            }
+            if (item.nx() != null && item.ny() != null && itemCount == 0) {
+                grid(item.nx(), item.ny());
+            }
+
+            int fcstDate = parseInt(item.fcstDate());
+            int fcstTime = parseInt(item.fcstTime());
+            Category category = Category.of(item.category());
+            if (fcstDate < 0 || fcstTime < 0) {
+                return this;
+            }
+
+            int slot = slot(fcstDate, fcstTime);
+            String value = item.fcstValue();
+            if (category == null || value == null || value.isEmpty()) {
+                return this;
+            }
+
+            switch (category.kind) {
+                case NUMERIC -> value(category, slot, parseDouble(value));
+                case CODE -> {
+                    int code = parseInt(value);
+                    if (code >= 0 && code <= Byte.MAX_VALUE) {
+                        code(category, slot, code);
+                    }
+                }
+                case TEXT -> text(category, slot, value);
+            }
+            return this;
+        }
+
+        public KmaForecast build() {
+            return new KmaForecast(this);
+        }
+
+        private void grow() {
+            capacity *= 2;
+            fcstDates = Arrays.copyOf(fcstDates, capacity);
+            fcstTimes = Arrays.copyOf(fcstTimes, capacity);
+            for (int i = 0; i < NUMERIC_COLUMNS; i++) {
+                numeric[i] = Arrays.copyOf(numeric[i], capacity);
+                Arrays.fill(numeric[i], size, capacity, Double.NaN);
+            }
+            for (int i = 0; i < CODE_COLUMNS; i++) {
+                codes[i] = Arrays.copyOf(codes[i], capacity);
+                Arrays.fill(codes[i], size, capacity, (byte) -1);
+            }
+            for (int i = 0; i < TEXT_COLUMNS; i++) {
+                texts[i] = Arrays.copyOf(texts[i], capacity);
+            }
+        }
+
+        private static int parseInt(String value) {
+            if (value == null || value.isEmpty()) {
+                return -1;
+            }
+            int result = 0;
+            for (int i = 0; i < value.length(); i++) {
+                int digit = value.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                result = result * 10 + digit;
+            }
+            return result;
+        }
+
+        private static double parseDouble(String value) {
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                return 0.0;
+            }
+        }
+    }
+
+    private static boolean matches(String value, char[] chars, int offset, int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
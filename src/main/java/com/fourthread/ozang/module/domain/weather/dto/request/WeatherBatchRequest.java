@@ -0,0 +1,33 @@
+package com.fourthread.ozang.module.domain.weather.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 여러 위치 날씨 일괄 조회 요청
+ */
+public record WeatherBatchRequest(
+    @NotEmpty(message = "좌표 목록은 필수입니다")
+    @Size(max = 20, message = "좌표는 한 번에 20개까지 조회할 수 있습니다")
+    List<@NotNull @Valid Coordinate> locations
+) {
+
+    public record Coordinate(
+        @NotNull(message = "경도는 필수입니다")
+        @Min(value = 124, message = "경도는 124 이상이어야 합니다")
+        @Max(value = 132, message = "경도는 132 이하여야 합니다")
+        Double longitude,
+
+        @NotNull(message = "위도는 필수입니다")
+        @Min(value = 33, message = "위도는 33 이상이어야 합니다")
+        @Max(value = 43, message = "위도는 43 이하여야 합니다")
+        Double latitude
+    ) {
+
+    }
+}
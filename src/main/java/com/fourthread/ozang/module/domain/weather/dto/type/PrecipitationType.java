@@ -1,19 +1,39 @@
 package com.fourthread.ozang.module.domain.weather.dto.type;
 
 public enum PrecipitationType {
-    NONE("없음"),
-    RAIN("비"),
-    RAIN_SNOW("비/눈"),
-    SNOW("눈"),
-    SHOWER("소나기");
+    NONE("없음", 0),
+    RAIN("비", 1),
+    RAIN_SNOW("비/눈", 2),
+    SNOW("눈", 3),
+    SHOWER("소나기", 4);
 
     private final String description;
+    // 기상청 강수형태(PTY) 코드
+    private final int code;
 
-    PrecipitationType(String description) {
+    PrecipitationType(String description, int code) {
         this.description = description;
+        this.code = code;
     }
 
     public String getDescription() {
         return description;
     }
+
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * 기상청 강수형태(PTY) 코드 - 모르는 코드는 NONE
+     */
+    public static PrecipitationType fromCode(int code) {
+        return switch (code) {
+            case 1 -> RAIN;
+            case 2 -> RAIN_SNOW;
+            case 3 -> SNOW;
+            case 4 -> SHOWER;
+            default -> NONE;
+        };
+    }
 }
\ No newline at end of file
@@ -1,14 +1,17 @@
 package com.fourthread.ozang.module.domain.weather.dto.type;
 
 public enum SkyStatus {
-    CLEAR("맑음"),
-    MOSTLY_CLOUDY("구름많음"),
-    CLOUDY("흐림");
+    CLEAR("맑음", 1),
+    MOSTLY_CLOUDY("구름많음", 3),
+    CLOUDY("흐림", 4);
 
     private final String description;
+    // 기상청 하늘상태(SKY) 코드
+    private final int code;
 
-    SkyStatus(String description) {
+    SkyStatus(String description, int code) {
         this.description = description;
+        this.code = code;
     }
 
     public static SkyStatus fromCode(String code) {
@@ -19,7 +22,22 @@ public enum SkyStatus {
         };
     }
 
+    /**
+     * 기상청 하늘상태(SKY) 코드 - 모르는 코드는 CLEAR
+     */
+    public static SkyStatus fromCode(int code) {
+        return switch (code) {
+            case 3 -> MOSTLY_CLOUDY;
+            case 4 -> CLOUDY;
+            default -> CLEAR;
+        };
+    }
+
     public String getDescription() {
         return description;
     }
+
+    public int getCode() {
+        return code;
+    }
 }
\ No newline at end of file
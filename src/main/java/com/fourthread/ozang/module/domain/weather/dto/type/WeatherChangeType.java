@@ -0,0 +1,20 @@
+package com.fourthread.ozang.module.domain.weather.dto.type;
+
+/**
+ * 직전 발표분 대비 예보 변화 종류
+ */
+public enum WeatherChangeType {
+    PRECIPITATION_START("강수 시작"),
+    TEMPERATURE_RISE("기온 상승"),
+    TEMPERATURE_DROP("기온 하강");
+
+    private final String description;
+
+    WeatherChangeType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,56 @@
+package com.fourthread.ozang.module.domain.weather.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 외부 API 일일 호출 사용량 (재시작 후에도 오늘 사용량 유지, 여러 인스턴스 사용량 합산)
+ */
+@Entity
+@Table(name = "api_quota_usages")
+@IdClass(ApiQuotaUsage.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ApiQuotaUsage {
+
+    @Id
+    @Column(length = 32)
+    private String upstream;
+
+    @Id
+    private LocalDate usageDate;
+
+    @Column(nullable = false)
+    private long usedCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ApiQuotaUsage(String upstream, LocalDate usageDate, long usedCount, LocalDateTime updatedAt) {
+        this.upstream = upstream;
+        this.usageDate = usageDate;
+        this.usedCount = usedCount;
+        this.updatedAt = updatedAt;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private String upstream;
+        private LocalDate usageDate;
+    }
+}
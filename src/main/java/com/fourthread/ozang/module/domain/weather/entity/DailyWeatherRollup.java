@@ -0,0 +1,209 @@
+package com.fourthread.ozang.module.domain.weather.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 격자 + 날짜별 일 집계 (전날 대비 계산용)
+ * - 저장 시 예보 시각마다 시간 값(기온/습도/강수량)을 반영하고 최저/최고/평균/합계를 다시 계산
+ * - 시간 값은 24시간 x 3항목 short 배열(값 x10, 없으면 Short.MIN_VALUE)로 한 컬럼에 저장
+ * - 더 최근 발표분 값으로 덮어쓰고, 지난 발표분 값은 비어 있는 시각만 채운다
+ */
+@Entity
+@Table(name = "daily_weather_rollups")
+@IdClass(DailyWeatherRollup.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyWeatherRollup {
+
+    private static final int HOURS = 24;
+    private static final int TEMPERATURE = 0;
+    private static final int HUMIDITY = 1;
+    private static final int PRECIPITATION = 2;
+    private static final int FIELDS = 3;
+    private static final short MISSING = Short.MIN_VALUE;
+
+    @Id
+    private Integer x;
+
+    @Id
+    private Integer y;
+
+    @Id
+    private LocalDate forecastDate;
+
+    private Double temperatureMin;
+    private Double temperatureMax;
+    private Double temperatureAvg;
+    private Double humidityMin;
+    private Double humidityMax;
+    private Double humidityAvg;
+    private Double precipitationTotal;
+
+    @Column(nullable = false)
+    private int hourCount;
+
+    // 마지막으로 반영한 발표시각
+    @Column(nullable = false)
+    private LocalDateTime forecastedAt;
+
+    @Column(nullable = false, length = HOURS * FIELDS * Short.BYTES)
+    private byte[] hourly;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static DailyWeatherRollup of(int x, int y, LocalDate forecastDate) {
+        DailyWeatherRollup rollup = new DailyWeatherRollup();
+        rollup.x = x;
+        rollup.y = y;
+        rollup.forecastDate = forecastDate;
+        rollup.hourly = new byte[HOURS * FIELDS * Short.BYTES];
+        ByteBuffer buffer = ByteBuffer.wrap(rollup.hourly);
+        for (int i = 0; i < HOURS * FIELDS; i++) {
+            buffer.putShort(MISSING);
+        }
+        rollup.updatedAt = LocalDateTime.now();
+        return rollup;
+    }
+
+    /**
+     * 예보 시각 한 시간 반영 - null 값은 건너뛴다
+     * @return 값이 바뀌었으면 true
+     */
+    public boolean apply(LocalDateTime forecastedAt, int hour, Double temperature, Double humidity,
+        Double precipitation) {
+        if (hour < 0 || hour >= HOURS) {
+            throw new IllegalArgumentException("Hour out of range: " + hour);
+        }
+        boolean overwrite = this.forecastedAt == null || !forecastedAt.isBefore(this.forecastedAt);
+        boolean changed = set(hour, TEMPERATURE, temperature, overwrite)
+            | set(hour, HUMIDITY, humidity, overwrite)
+            | set(hour, PRECIPITATION, precipitation, overwrite);
+
+        if (overwrite) {
+            this.forecastedAt = forecastedAt;
+        }
+        if (changed) {
+            summarize();
+            this.updatedAt = LocalDateTime.now();
+        }
+        return changed;
+    }
+
+    /**
+     * 해당 시각 기온 - 없으면 null
+     */
+    public Double temperatureAt(int hour) {
+        return get(hour, TEMPERATURE);
+    }
+
+    /**
+     * 해당 시각 습도 - 없으면 null
+     */
+    public Double humidityAt(int hour) {
+        return get(hour, HUMIDITY);
+    }
+
+    private boolean set(int hour, int field, Double value, boolean overwrite) {
+        if (value == null || Double.isNaN(value)) {
+            return false;
+        }
+        int index = (hour * FIELDS + field) * Short.BYTES;
+        ByteBuffer buffer = ByteBuffer.wrap(hourly);
+        short current = buffer.getShort(index);
+        if (current != MISSING && !overwrite) {
+            return false;
+        }
+        short encoded = (short) Math.max(MISSING + 1, Math.min(Short.MAX_VALUE, Math.round(value * 10)));
+        if (current == encoded) {
+            return false;
+        }
+        buffer.putShort(index, encoded);
+        return true;
+    }
+
+    private Double get(int hour, int field) {
+        if (hour < 0 || hour >= HOURS) {
+            return null;
+        }
+        short value = ByteBuffer.wrap(hourly).getShort((hour * FIELDS + field) * Short.BYTES);
+        return value == MISSING ? null : value / 10.0;
+    }
+
+    private void summarize() {
+        ByteBuffer buffer = ByteBuffer.wrap(hourly);
+        int tmpMin = Integer.MAX_VALUE;
+        int tmpMax = Integer.MIN_VALUE;
+        int tmpSum = 0;
+        int tmpCount = 0;
+        int rehMin = Integer.MAX_VALUE;
+        int rehMax = Integer.MIN_VALUE;
+        int rehSum = 0;
+        int rehCount = 0;
+        int pcpSum = 0;
+        int pcpCount = 0;
+        int hours = 0;
+
+        for (int hour = 0; hour < HOURS; hour++) {
+            short tmp = buffer.getShort((hour * FIELDS + TEMPERATURE) * Short.BYTES);
+            short reh = buffer.getShort((hour * FIELDS + HUMIDITY) * Short.BYTES);
+            short pcp = buffer.getShort((hour * FIELDS + PRECIPITATION) * Short.BYTES);
+            if (tmp != MISSING) {
+                tmpMin = Math.min(tmpMin, tmp);
+                tmpMax = Math.max(tmpMax, tmp);
+                tmpSum += tmp;
+                tmpCount++;
+            }
+            if (reh != MISSING) {
+                rehMin = Math.min(rehMin, reh);
+                rehMax = Math.max(rehMax, reh);
+                rehSum += reh;
+                rehCount++;
+            }
+            if (pcp != MISSING) {
+                pcpSum += pcp;
+                pcpCount++;
+            }
+            if (tmp != MISSING || reh != MISSING || pcp != MISSING) {
+                hours++;
+            }
+        }
+
+        this.temperatureMin = tmpCount > 0 ? tmpMin / 10.0 : null;
+        this.temperatureMax = tmpCount > 0 ? tmpMax / 10.0 : null;
+        this.temperatureAvg = tmpCount > 0 ? round(tmpSum / (tmpCount * 10.0)) : null;
+        this.humidityMin = rehCount > 0 ? rehMin / 10.0 : null;
+        this.humidityMax = rehCount > 0 ? rehMax / 10.0 : null;
+        this.humidityAvg = rehCount > 0 ? round(rehSum / (rehCount * 10.0)) : null;
+        this.precipitationTotal = pcpCount > 0 ? pcpSum / 10.0 : null;
+        this.hourCount = hours;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Integer x;
+        private Integer y;
+        private LocalDate forecastDate;
+    }
+}
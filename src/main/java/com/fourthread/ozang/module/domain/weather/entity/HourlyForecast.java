@@ -0,0 +1,91 @@
+package com.fourthread.ozang.module.domain.weather.entity;
+
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.util.HourlySeriesCodec;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 격자 + 발표시각별 시간별 예보 계열
+ * - 단기예보 응답 한 건의 전체 예보 시각/카테고리 값을 한 행에 압축 저장 (HourlySeriesCodec)
+ * - 시간별 조회는 외부 API 호출 없이 이 행만 복원해서 응답
+ */
+@Entity
+@Table(name = "hourly_forecasts")
+@IdClass(HourlyForecast.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HourlyForecast {
+
+    @Id
+    private Integer x;
+
+    @Id
+    private Integer y;
+
+    @Id
+    private LocalDateTime forecastedAt;
+
+    @Column(nullable = false)
+    private int slotCount;
+
+    @Column(nullable = false)
+    private LocalDateTime firstForecastAt;
+
+    @Column(nullable = false)
+    private LocalDateTime lastForecastAt;
+
+    @Column(nullable = false, length = 16384)
+    private byte[] series;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static HourlyForecast of(int x, int y, LocalDateTime forecastedAt, KmaForecast forecast) {
+        HourlyForecast hourly = new HourlyForecast();
+        hourly.x = x;
+        hourly.y = y;
+        hourly.forecastedAt = forecastedAt;
+        hourly.update(forecast);
+        return hourly;
+    }
+
+    /**
+     * 같은 발표분을 다시 받으면 최신 응답으로 교체
+     */
+    public void update(KmaForecast forecast) {
+        if (forecast == null || forecast.isEmpty()) {
+            throw new IllegalArgumentException("Hourly forecast cannot be null or empty");
+        }
+        this.slotCount = forecast.size();
+        this.firstForecastAt = forecast.fcstDateTime(0);
+        this.lastForecastAt = forecast.fcstDateTime(forecast.size() - 1);
+        this.series = HourlySeriesCodec.encode(forecast, forecastedAt);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public KmaForecast toForecast() {
+        return HourlySeriesCodec.decode(series, forecastedAt, x, y);
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Integer x;
+        private Integer y;
+        private LocalDateTime forecastedAt;
+    }
+}
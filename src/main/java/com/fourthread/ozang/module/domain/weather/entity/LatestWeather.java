@@ -0,0 +1,54 @@
+package com.fourthread.ozang.module.domain.weather.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 격자별 최신 날씨 (읽기 모델)
+ * - 저장 시 upsert 로 갱신하고 조회는 (x, y) PK 로 바로 찾는다
+ * - 이력(weathers)은 피드가 id 로 참조하므로 그대로 유지하고 여기에는 최신 행의 키만 둔다
+ *   (weathers 파티션 키인 forecasted_at 을 함께 저장해 이력 조회도 PK 로 처리)
+ */
+@Entity
+@Table(name = "latest_weather_by_grid")
+@IdClass(LatestWeather.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LatestWeather {
+
+    @Id
+    private Integer x;
+
+    @Id
+    private Integer y;
+
+    @Column(nullable = false)
+    private UUID weatherId;
+
+    @Column(nullable = false)
+    private LocalDateTime forecastedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Integer x;
+        private Integer y;
+    }
+}
@@ -0,0 +1,51 @@
+package com.fourthread.ozang.module.domain.weather.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 좌표 셀 단위 역지오코딩(좌표 → 행정구역명) 결과 저장
+ * - cellKey: 반올림한 위경도 ("37.57:126.98")
+ * - resolved=false 는 카카오 API 가 행정구역을 찾지 못한 좌표 (negative cache)
+ */
+@Entity
+@Table(name = "reverse_geocodes")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReverseGeocode {
+
+    @Id
+    @Column(length = 32)
+    private String cellKey;
+
+    @Column(length = 500)
+    private String locationNames;
+
+    @Column(nullable = false)
+    private boolean resolved;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public ReverseGeocode(String cellKey, List<String> locationNames, LocalDateTime expiresAt) {
+        this.cellKey = cellKey;
+        this.locationNames = locationNames.isEmpty() ? null : String.join(",", locationNames);
+        this.resolved = !locationNames.isEmpty();
+        this.expiresAt = expiresAt;
+    }
+
+    public List<String> getLocationNameList() {
+        return locationNames != null ? List.of(locationNames.split(",")) : List.of();
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -57,6 +57,8 @@ public class Weather extends BaseEntity {
     private WindInfo wind;
 
     // API 응답 해시 (중복 방지용)
+    // 파티션 테이블(schema.sql)에서는 파티션 키를 포함해 (api_response_hash, forecasted_at) 유니크
+    // 응답마다 발표시각이 하나이므로 의미는 같다
     @Column(unique = true)
     @Setter
     private String apiResponseHash;
@@ -108,6 +110,32 @@ public class Weather extends BaseEntity {
         }
     }
 
+    /**
+     * 이미 해석된 수치 값 반영 (열 단위 응답용) - SKY/PTY 는 코드 값
+     */
+    public void updateWeatherData(String category, double value) {
+        if (category == null || Double.isNaN(value)) {
+            return;
+        }
+
+        switch (category) {
+            case "TMP" -> this.temperature.setCurrent(value);
+            case "TMN" -> this.temperature.setMin(value);
+            case "TMX" -> this.temperature.setMax(value);
+            case "SKY" -> this.skyStatus = toSkyStatus((int) value);
+            case "PTY" -> this.precipitation.setType(toPrecipitationType((int) value));
+            case "POP" -> this.precipitation.setProbability(value);
+            case "REH" -> this.humidity.setCurrent(value);
+            case "WSD" -> {
+                this.wind.setSpeed(value);
+                this.wind.setStrength(WindStrength.fromSpeed(value));
+            }
+            case "VEC" -> this.wind.setDirection(value);
+            case "UUU" -> this.wind.setUComponent(value);
+            case "VVV" -> this.wind.setVComponent(value);
+        }
+    }
+
     private Double parseDouble(String value) {
         try {
             return Double.parseDouble(value);
@@ -117,23 +145,19 @@ public class Weather extends BaseEntity {
     }
 
     private SkyStatus parseSkyStatus(String code) {
-        return switch (code) {
-            case "1" -> SkyStatus.CLEAR;
-            case "3" -> SkyStatus.MOSTLY_CLOUDY;
-            case "4" -> SkyStatus.CLOUDY;
-            default -> SkyStatus.CLEAR;
-        };
+        return toSkyStatus(code.length() == 1 ? code.charAt(0) - '0' : -1);
+    }
+
+    private SkyStatus toSkyStatus(int code) {
+        return SkyStatus.fromCode(code);
     }
 
     private PrecipitationType parsePrecipitationType(String code) {
-        return switch (code) {
-            case "0" -> PrecipitationType.NONE;
-            case "1" -> PrecipitationType.RAIN;
-            case "2" -> PrecipitationType.RAIN_SNOW;
-            case "3" -> PrecipitationType.SNOW;
-            case "4" -> PrecipitationType.SHOWER;
-            default -> PrecipitationType.NONE;
-        };
+        return toPrecipitationType(code.length() == 1 ? code.charAt(0) - '0' : -1);
+    }
+
+    private PrecipitationType toPrecipitationType(int code) {
+        return PrecipitationType.fromCode(code);
     }
 
     private Double parsePrecipitationAmount(String value) {
@@ -1,9 +1,15 @@
 package com.fourthread.ozang.module.domain.weather.mapper;
 
+import com.fourthread.ozang.module.domain.weather.dto.HourlyForecastDto;
+import com.fourthread.ozang.module.domain.weather.dto.HumidityDto;
+import com.fourthread.ozang.module.domain.weather.dto.TemperatureDto;
 import com.fourthread.ozang.module.domain.weather.dto.WeatherAPILocation;
 import com.fourthread.ozang.module.domain.weather.dto.WeatherDto;
 import com.fourthread.ozang.module.domain.weather.dto.WeatherSummaryDto;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast.Category;
 import com.fourthread.ozang.module.domain.weather.dto.external.WeatherApiResponse;
+import com.fourthread.ozang.module.domain.weather.entity.DailyWeatherRollup;
 import com.fourthread.ozang.module.domain.weather.entity.Weather;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -31,6 +37,41 @@ public interface WeatherMapper {
         );
     }
 
+    /**
+     * 전날 일 집계와 비교한 날씨 응답
+     * - 전날 같은 시각 값과 비교하고, 그 시각 값이 없으면 전날 평균과 비교
+     * - 전날 집계가 없으면 저장된 값 그대로
+     */
+    default WeatherDto toDto(Weather entity, DailyWeatherRollup dayBefore) {
+        return withDayBefore(toDto(entity), dayBefore);
+    }
+
+    /**
+     * 날씨 응답의 전날 대비 값을 전날 일 집계로 채운다 (저장 날씨/스냅샷 응답 공통)
+     */
+    default WeatherDto withDayBefore(WeatherDto dto, DailyWeatherRollup dayBefore) {
+        if (dto == null || dayBefore == null) return dto;
+
+        int hour = dto.forecastAt().getHour();
+        TemperatureDto temperature = dto.temperature();
+        Double previousTemperature = dayBefore.temperatureAt(hour) != null
+            ? dayBefore.temperatureAt(hour) : dayBefore.getTemperatureAvg();
+        if (temperature.current() != null && previousTemperature != null) {
+            temperature = new TemperatureDto(temperature.current(),
+                roundDelta(temperature.current() - previousTemperature), temperature.min(), temperature.max());
+        }
+
+        HumidityDto humidity = dto.humidity();
+        Double previousHumidity = dayBefore.humidityAt(hour) != null
+            ? dayBefore.humidityAt(hour) : dayBefore.getHumidityAvg();
+        if (humidity.current() != null && previousHumidity != null) {
+            humidity = new HumidityDto(humidity.current(), roundDelta(humidity.current() - previousHumidity));
+        }
+
+        return new WeatherDto(dto.id(), dto.forecastedAt(), dto.forecastAt(), dto.location(), dto.skyStatus(),
+            dto.precipitation(), humidity, temperature, dto.windSpeed(), dto.stale());
+    }
+
     default WeatherSummaryDto toSummaryDto(Weather entity) {
         if (entity == null) return null;
 
@@ -75,6 +116,71 @@ public interface WeatherMapper {
         return entity;
     }
 
+    /**
+     * 열 단위 응답으로 엔티티 생성 - 항목 순서대로 적용하던 것과 같이 카테고리별 마지막 값 사용
+     */
+    default Weather fromForecast(KmaForecast forecast, WeatherAPILocation location) {
+        if (forecast == null || forecast.isEmpty()) {
+            throw new IllegalArgumentException("Weather forecast cannot be null or empty");
+        }
+        if (location == null) {
+            throw new IllegalArgumentException("Location cannot be null");
+        }
+
+        LocalDateTime forecastedAt = parseDateTime(forecast.getBaseDate(), forecast.getBaseTime());
+        LocalDateTime forecastAt = forecast.fcstDateTime(0);
+
+        Weather entity = Weather.create(forecastedAt, forecastAt, location, com.fourthread.ozang.module.domain.weather.dto.type.SkyStatus.CLEAR);
+
+        for (Category category : Category.values()) {
+            int slot = forecast.lastSlot(category);
+            if (slot >= 0) {
+                applyForecastValue(entity, forecast, category, slot);
+            }
+        }
+
+        return entity;
+    }
+
+    /**
+     * 예보 시각 한 행을 시간별 예보로 변환 - 값 해석은 엔티티 규칙을 그대로 사용
+     */
+    default HourlyForecastDto toHourlyDto(KmaForecast forecast, int slot, WeatherAPILocation location) {
+        Weather entity = Weather.create(
+            parseDateTime(forecast.getBaseDate(), forecast.getBaseTime()),
+            forecast.fcstDateTime(slot),
+            location,
+            com.fourthread.ozang.module.domain.weather.dto.type.SkyStatus.CLEAR);
+
+        for (Category category : Category.values()) {
+            if (forecast.has(category, slot)) {
+                applyForecastValue(entity, forecast, category, slot);
+            }
+        }
+
+        return new HourlyForecastDto(
+            entity.getForecastAt(),
+            entity.getSkyStatus(),
+            entity.getPrecipitation(),
+            entity.getTemperature().current(),
+            entity.getHumidity().current(),
+            entity.getWindSpeed()
+        );
+    }
+
+    private double roundDelta(double delta) {
+        return Math.round(delta * 10) / 10.0;
+    }
+
+    private void applyForecastValue(Weather entity, KmaForecast forecast, Category category, int slot) {
+        switch (category.kind()) {
+            case NUMERIC -> entity.updateWeatherData(category.name(), forecast.value(category, slot));
+            case CODE -> entity.updateWeatherData(category.name(), forecast.code(category, slot));
+            // 강수량 표기("1mm 미만" 등)는 엔티티 규칙으로 해석
+            case TEXT -> entity.updateWeatherData(category.name(), forecast.text(category, slot));
+        }
+    }
+
     //  날짜/시간 파싱
     default LocalDateTime parseDateTime(String date, String time) {
         try {
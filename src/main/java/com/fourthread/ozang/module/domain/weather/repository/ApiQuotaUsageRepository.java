@@ -0,0 +1,36 @@
+package com.fourthread.ozang.module.domain.weather.repository;
+
+import com.fourthread.ozang.module.domain.weather.entity.ApiQuotaUsage;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ApiQuotaUsageRepository extends JpaRepository<ApiQuotaUsage, ApiQuotaUsage.Key> {
+
+    Optional<ApiQuotaUsage> findByUpstreamAndUsageDate(String upstream, LocalDate usageDate);
+
+    /**
+     * 사용량 누적 (행이 없으면 0 반환)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ApiQuotaUsage q SET q.usedCount = q.usedCount + :delta, q.updatedAt = :now " +
+        "WHERE q.upstream = :upstream AND q.usageDate = :usageDate")
+    int increment(@Param("upstream") String upstream, @Param("usageDate") LocalDate usageDate,
+        @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    /**
+     * 지난 사용량 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ApiQuotaUsage q WHERE q.usageDate < :before")
+    int deleteBefore(@Param("before") LocalDate before);
+}
@@ -0,0 +1,23 @@
+package com.fourthread.ozang.module.domain.weather.repository;
+
+import com.fourthread.ozang.module.domain.weather.entity.DailyWeatherRollup;
+import java.time.LocalDate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface DailyWeatherRollupRepository extends JpaRepository<DailyWeatherRollup, DailyWeatherRollup.Key> {
+
+    /**
+     * 보관 기간이 지난 일 집계 삭제 (배치용)
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DailyWeatherRollup r WHERE r.forecastDate < :cutoff")
+    int deleteExpired(@Param("cutoff") LocalDate cutoff);
+}
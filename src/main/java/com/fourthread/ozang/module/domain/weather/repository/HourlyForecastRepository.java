@@ -0,0 +1,29 @@
+package com.fourthread.ozang.module.domain.weather.repository;
+
+import com.fourthread.ozang.module.domain.weather.entity.HourlyForecast;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface HourlyForecastRepository extends JpaRepository<HourlyForecast, HourlyForecast.Key> {
+
+    /**
+     * 격자의 가장 최근 발표분 시간별 예보
+     */
+    Optional<HourlyForecast> findFirstByXAndYOrderByForecastedAtDesc(Integer x, Integer y);
+
+    /**
+     * 보관 기간이 지난 발표분 삭제 (배치용)
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM HourlyForecast h WHERE h.forecastedAt < :cutoff")
+    int deleteExpired(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,10 @@
+package com.fourthread.ozang.module.domain.weather.repository;
+
+import com.fourthread.ozang.module.domain.weather.entity.LatestWeather;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LatestWeatherRepository
+    extends JpaRepository<LatestWeather, LatestWeather.Key>, LatestWeatherRepositoryCustom {
+}
@@ -0,0 +1,14 @@
+package com.fourthread.ozang.module.domain.weather.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface LatestWeatherRepositoryCustom {
+
+    /**
+     * 격자별 최신 날씨 갱신 (없으면 추가)
+     * 이미 더 최근 발표시각의 날씨가 있으면 바꾸지 않는다
+     * @return 추가/갱신된 행 수 (0 이면 기존 행이 더 최신)
+     */
+    int upsert(int x, int y, UUID weatherId, LocalDateTime forecastedAt);
+}
@@ -0,0 +1,59 @@
+package com.fourthread.ozang.module.domain.weather.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 격자별 최신 날씨 upsert
+ * - PostgreSQL: INSERT ... ON CONFLICT (x, y) DO UPDATE (동시 저장에도 한 문장으로 처리)
+ * - 그 밖의 DB(H2 테스트/개발): 표준 MERGE
+ * 두 방식 모두 기존 행의 발표시각이 더 최근이면 갱신하지 않는다
+ */
+@RequiredArgsConstructor
+public class LatestWeatherRepositoryImpl implements LatestWeatherRepositoryCustom {
+
+    private static final String POSTGRES_UPSERT =
+        "INSERT INTO latest_weather_by_grid (x, y, weather_id, forecasted_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?) "
+            + "ON CONFLICT (x, y) DO UPDATE SET "
+            + "weather_id = EXCLUDED.weather_id, "
+            + "forecasted_at = EXCLUDED.forecasted_at, "
+            + "updated_at = EXCLUDED.updated_at "
+            + "WHERE latest_weather_by_grid.forecasted_at <= EXCLUDED.forecasted_at";
+
+    private static final String MERGE_UPSERT =
+        "MERGE INTO latest_weather_by_grid t "
+            + "USING (VALUES (CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS UUID), "
+            + "CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP))) "
+            + "AS s (x, y, weather_id, forecasted_at, updated_at) "
+            + "ON t.x = s.x AND t.y = s.y "
+            + "WHEN MATCHED AND t.forecasted_at <= s.forecasted_at THEN UPDATE SET "
+            + "weather_id = s.weather_id, forecasted_at = s.forecasted_at, updated_at = s.updated_at "
+            + "WHEN NOT MATCHED THEN INSERT (x, y, weather_id, forecasted_at, updated_at) "
+            + "VALUES (s.x, s.y, s.weather_id, s.forecasted_at, s.updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String upsertSql;
+
+    @Override
+    public int upsert(int x, int y, UUID weatherId, LocalDateTime forecastedAt) {
+        return jdbcTemplate.update(upsertSql(), x, y, weatherId,
+            Timestamp.valueOf(forecastedAt), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            sql = "PostgreSQL".equalsIgnoreCase(product) ? POSTGRES_UPSERT : MERGE_UPSERT;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,20 @@
+package com.fourthread.ozang.module.domain.weather.repository;
+
+import com.fourthread.ozang.module.domain.weather.entity.ReverseGeocode;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReverseGeocodeRepository extends JpaRepository<ReverseGeocode, String> {
+
+    /**
+     * 만료된 역지오코딩 결과 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ReverseGeocode r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,166 @@
+package com.fourthread.ozang.module.domain.weather.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * weathers 일 단위 파티션 관리 (PostgreSQL 선언적 파티셔닝, forecasted_at 범위)
+ * - 파티션 이름: weathers_pYYYYMMDD, 범위 [해당일 00:00, 다음날 00:00)
+ * - 범위를 벗어난 행은 weathers_default 파티션에 저장 (피드가 참조해 보관하는 날씨 포함)
+ * - DETACH/ATTACH 는 weathers 에 ACCESS EXCLUSIVE 락을 잡으므로 락 구간에서는 큰 테이블을 훑지 않는다
+ *   (default 파티션이 있으면 DETACH ... CONCURRENTLY 를 쓸 수 없음)
+ * - PostgreSQL 이 아니거나 weathers 가 파티션 테이블이 아니면 사용하지 않는다 (H2/개발 환경)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class WeatherPartitionRepository {
+
+    private static final String PARENT_TABLE = "weathers";
+    private static final String DEFAULT_PARTITION = "weathers_default";
+    private static final Pattern PARTITION_NAME = Pattern.compile("^weathers_p(\\d{8})$");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public boolean isPartitioned() {
+        try {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            if (!"PostgreSQL".equalsIgnoreCase(product)) {
+                return false;
+            }
+            String relkind = jdbcTemplate.queryForObject(
+                "SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)", String.class, PARENT_TABLE);
+            return "p".equals(relkind);
+        } catch (DataAccessException e) {
+            log.warn("weathers 파티션 여부 확인 실패 - 청크 삭제로 처리: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 생성된 일 단위 파티션의 날짜 목록 (오름차순)
+     */
+    public List<LocalDate> findPartitionDates() {
+        List<String> names = jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhparent = to_regclass(?)",
+            String.class, PARENT_TABLE);
+
+        return names.stream()
+            .map(PARTITION_NAME::matcher)
+            .filter(Matcher::matches)
+            .map(matcher -> LocalDate.parse(matcher.group(1), PARTITION_SUFFIX))
+            .sorted()
+            .toList();
+    }
+
+    /**
+     * 분리만 되고 삭제되지 않은 일 단위 파티션의 날짜 목록 (이전 삭제가 중간에 실패한 경우, 오름차순)
+     */
+    public List<LocalDate> findDetachedPartitionDates() {
+        List<String> names = jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_class c WHERE c.relkind = 'r' AND NOT c.relispartition "
+                + "AND c.relname ~ '^weathers_p[0-9]{8}$'",
+            String.class);
+
+        return names.stream()
+            .map(PARTITION_NAME::matcher)
+            .filter(Matcher::matches)
+            .map(matcher -> LocalDate.parse(matcher.group(1), PARTITION_SUFFIX))
+            .sorted()
+            .toList();
+    }
+
+    /**
+     * 일 단위 파티션 생성 (이미 있으면 무시)
+     * - default 파티션에 해당 날짜 행이 있으면 그대로는 생성할 수 없으므로, 한 트랜잭션에서
+     *   default 분리 -> 파티션 생성 -> 해당 날짜 행 이동 -> default 재연결
+     * @return default 파티션에서 옮긴 행 수
+     */
+    public int createPartition(LocalDate day) {
+        Timestamp from = Timestamp.valueOf(day.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+        String createSql = "CREATE TABLE IF NOT EXISTS " + partitionName(day)
+            + " PARTITION OF " + PARENT_TABLE
+            + " FOR VALUES FROM ('" + day.atStartOfDay() + "') TO ('" + day.plusDays(1).atStartOfDay() + "')";
+
+        Boolean hasDefaultRows = jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE forecasted_at >= ? AND forecasted_at < ?)",
+            Boolean.class, from, to);
+        if (!Boolean.TRUE.equals(hasDefaultRows)) {
+            jdbcTemplate.execute(createSql);
+            return 0;
+        }
+
+        Integer moved = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + DEFAULT_PARTITION);
+            jdbcTemplate.execute(createSql);
+            int inserted = jdbcTemplate.update("INSERT INTO " + PARENT_TABLE + " SELECT * FROM " + DEFAULT_PARTITION
+                + " WHERE forecasted_at >= ? AND forecasted_at < ?", from, to);
+            jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION
+                + " WHERE forecasted_at >= ? AND forecasted_at < ?", from, to);
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT");
+            return inserted;
+        });
+        int movedCount = Objects.requireNonNullElse(moved, 0);
+        log.info("날씨 파티션 생성 - {}: default 파티션에서 {}건 이동", day, movedCount);
+        return movedCount;
+    }
+
+    /**
+     * 일 단위 파티션 삭제
+     * - 1) 락 없이 피드가 참조하는 날씨 id 만 먼저 조회 (파티션 전체 탐색은 이 단계에서만)
+     * - 2) 짧은 트랜잭션에서 분리(DETACH) -> 조회한 id 의 행만 다시 weathers 에 넣고(default 로 이동) -> 테이블 삭제
+     *   (한 트랜잭션이므로 참조 중인 날씨가 조회되지 않는 구간이 없다)
+     * - 이미 분리된 파티션(이전 삭제 실패)이면 2) 에서 분리만 건너뛴다
+     * - 1) 과 2) 사이에 새로 생긴 참조는 보관 기간이 지난 날씨를 가리키는 경우뿐이라 고려하지 않는다
+     * @return 삭제된 행 수(통계 기반 추정치)와 보관된 행 수
+     */
+    public DroppedPartition dropPartition(LocalDate day) {
+        String partition = partitionName(day);
+        long estimatedRows = Objects.requireNonNullElse(jdbcTemplate.queryForObject(
+            "SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE oid = to_regclass(?)",
+            Long.class, partition), 0L);
+        List<UUID> referencedIds = jdbcTemplate.queryForList("SELECT p.id FROM " + partition
+            + " p WHERE EXISTS (SELECT 1 FROM feeds f WHERE f.weather_id = p.id)", UUID.class);
+
+        Integer retained = transactionTemplate.execute(status -> {
+            Boolean attached = jdbcTemplate.queryForObject(
+                "SELECT relispartition FROM pg_class WHERE oid = to_regclass(?)", Boolean.class, partition);
+            if (Boolean.TRUE.equals(attached)) {
+                jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+            }
+            int inserted = referencedIds.isEmpty() ? 0 : jdbcTemplate.update(
+                "INSERT INTO " + PARENT_TABLE + " SELECT * FROM " + partition + " WHERE id = ANY (?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", referencedIds.toArray())));
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            return inserted;
+        });
+        int retainedCount = Objects.requireNonNullElse(retained, 0);
+
+        return new DroppedPartition(day, Math.max(estimatedRows - retainedCount, 0), retainedCount);
+    }
+
+    private static String partitionName(LocalDate day) {
+        return PARENT_TABLE + "_p" + day.format(PARTITION_SUFFIX);
+    }
+
+    public record DroppedPartition(LocalDate day, long deletedCount, int retainedCount) {
+    }
+}
@@ -1,21 +1,36 @@
 package com.fourthread.ozang.module.domain.weather.repository;
 
+import com.fourthread.ozang.module.domain.weather.dto.WeatherRollupSource;
 import com.fourthread.ozang.module.domain.weather.entity.Weather;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface WeatherRepository extends JpaRepository<Weather, UUID> {
 
-    //  격자 좌표 기반 조회
+    /**
+     * 격자별 최신 날씨 조회 - latest_weather_by_grid (x, y) PK 조회 후 이력 테이블을 (id, forecasted_at) 으로 조회
+     * @return 저장된 날씨가 없으면 빈 값
+     */
+    @Query("SELECT w FROM LatestWeather l JOIN Weather w "
+        + "ON w.id = l.weatherId AND w.forecastedAt = l.forecastedAt "
+        + "WHERE l.x = :x AND l.y = :y")
+    Optional<Weather> findLatestByGrid(
+        @Param("x") Integer x,
+        @Param("y") Integer y
+    );
+
+    //  격자 좌표 기반 조회 (이력 전체에서 정렬 - 읽기 모델 재구성/검증용)
     @Query("SELECT w FROM Weather w WHERE " +
         "w.location.x = :x AND w.location.y = :y " +
         "ORDER BY w.forecastedAt DESC "
@@ -26,20 +41,25 @@ public interface WeatherRepository extends JpaRepository<Weather, UUID> {
     );
 
     /**
-     * 오래된 날씨 데이터 개수 조회 (배치용)
+     * 보관 기간이 지난 날씨 데이터 ID 조회 (배치용 - 청크 단위 삭제)
+     * 피드가 참조하는 날씨는 보관한다
      * @param cutoffDate 기준 날짜 (이전 데이터들이 삭제 대상)
-     * @return 삭제 대상 데이터 개수
+     * @param pageable 청크 크기
+     * @return 삭제 대상 ID 목록
      */
-    @Query("SELECT COUNT(w) FROM Weather w WHERE w.forecastedAt < :cutoffDate")
-    long countOldWeatherData(@Param("cutoffDate") LocalDateTime cutoffDate);
+    @Query("SELECT w.id FROM Weather w WHERE w.forecastedAt < :cutoffDate "
+        + "AND NOT EXISTS (SELECT 1 FROM Feed f WHERE f.weather = w)")
+    List<UUID> findExpiredIds(@Param("cutoffDate") LocalDateTime cutoffDate, Pageable pageable);
 
     /**
-     * 오래된 날씨 데이터 삭제 (배치용)
-     * @param cutoffDate 기준 날짜 (이전 데이터들을 삭제)
+     * ID 목록으로 날씨 데이터 삭제 (배치용 - 청크마다 별도 트랜잭션)
+     * @param ids 삭제할 ID 목록
+     * @return 삭제된 데이터 개수
      */
+    @Transactional
     @Modifying
-    @Query("DELETE FROM Weather w WHERE w.forecastedAt < :cutoffDate")
-    void deleteOldWeatherData(@Param("cutoffDate") LocalDateTime cutoffDate);
+    @Query("DELETE FROM Weather w WHERE w.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
 
     /**
      * 특정 날짜 범위의 날씨 데이터 조회 (배치 모니터링용)
@@ -53,5 +73,27 @@ public interface WeatherRepository extends JpaRepository<Weather, UUID> {
         @Param("endDate") LocalDateTime endDate
     );
 
+    /**
+     * 예보 대상 시각이 범위 안인 저장 날씨 (일 집계 백필용 - 발표시각 순)
+     * 발표시각 범위를 함께 걸어 파티션 테이블에서는 해당 날짜 파티션만 읽는다
+     * @param publishedFrom 발표시각 하한 (포함)
+     * @param from 예보 대상 시작 시각 (포함)
+     * @param to 예보 대상 끝 시각 (제외, 발표시각 상한)
+     */
+    @Query("SELECT new com.fourthread.ozang.module.domain.weather.dto.WeatherRollupSource("
+        + "w.location.x, w.location.y, w.forecastedAt, w.forecastAt, "
+        + "w.temperature.current, w.humidity.current, w.precipitation.amount) "
+        + "FROM Weather w WHERE w.forecastedAt >= :publishedFrom AND w.forecastedAt < :to "
+        + "AND w.forecastAt >= :from AND w.forecastAt < :to "
+        + "AND w.location.x IS NOT NULL AND w.location.y IS NOT NULL "
+        + "ORDER BY w.forecastedAt")
+    List<WeatherRollupSource> findRollupSources(
+        @Param("publishedFrom") LocalDateTime publishedFrom,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    Optional<Weather> findByApiResponseHash(String apiResponseHash);
+
   List<Weather> findALlByIdIn(Collection<UUID> ids);
 }
\ No newline at end of file
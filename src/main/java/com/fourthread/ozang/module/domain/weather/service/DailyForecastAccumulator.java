@@ -0,0 +1,272 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast.Category;
+import com.fourthread.ozang.module.domain.weather.dto.type.PrecipitationType;
+import com.fourthread.ozang.module.domain.weather.dto.type.SkyStatus;
+import java.time.LocalDate;
+
+/**
+ * 하루치 단기예보 항목 집계
+ * - 열 단위 응답(KmaForecast)은 예보 시각 행 단위로, 레코드 항목은 항목 단위로 누적
+ * - 항목을 한 번만 순회하며 카테고리별 값을 기본형 필드에 누적 (카테고리별 스트림/그룹핑 맵 없음)
+ * - 값이 없는 카테고리는 기존 기본값(기온 22/20/25, 습도 50, 풍속 1.0, 강수확률 0) 사용
+ */
+final class DailyForecastAccumulator {
+
+    private static final String[] DIGIT_CODES = {"0", "1", "2", "3", "4", "5", "6", "7", "8", "9"};
+
+    private final LocalDate date;
+    private final String baseDate;
+    private final String baseTime;
+
+    private int temperatureCount;
+    private double temperatureSum;
+    private double temperatureMin = Double.POSITIVE_INFINITY;
+    private double temperatureMax = Double.NEGATIVE_INFINITY;
+
+    private int humidityCount;
+    private double humiditySum;
+
+    private int windSpeedCount;
+    private double windSpeedSum;
+
+    private int probabilityCount;
+    private double probabilitySum;
+
+    private final int[] skyCounts = new int[DIGIT_CODES.length];
+
+    private PrecipitationType precipitationType;
+    private double precipitation;
+
+    private int itemCount;
+
+    DailyForecastAccumulator(LocalDate date, String baseDate, String baseTime) {
+        this.date = date;
+        this.baseDate = baseDate;
+        this.baseTime = baseTime;
+    }
+
+    void accept(String category, String value) {
+        itemCount++;
+        switch (category) {
+            case "TMP" -> acceptTemperature(parseDouble(value));
+            case "REH" -> {
+                humidityCount++;
+                humiditySum += parseDouble(value);
+            }
+            case "WSD" -> {
+                windSpeedCount++;
+                windSpeedSum += parseDouble(value);
+            }
+            case "POP" -> {
+                probabilityCount++;
+                probabilitySum += parseDouble(value) / 100.0;
+            }
+            case "SKY" -> {
+                int code = digitCode(value);
+                if (code >= 0) {
+                    skyCounts[code]++;
+                }
+            }
+            case "PTY" -> {
+                // 하루 중 첫 강수형태 사용
+                if (precipitationType == null) {
+                    precipitationType = toPrecipitationType(value);
+                }
+            }
+            case "PCP" -> precipitation += parsePrecipitation(value);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 예보 시각 한 행의 카테고리 값 누적 (이미 해석된 기본형 값 사용)
+     */
+    void accept(KmaForecast forecast, int slot) {
+        itemCount++;
+
+        double temperature = forecast.value(Category.TMP, slot);
+        if (!Double.isNaN(temperature)) {
+            acceptTemperature(temperature);
+        }
+
+        double humidity = forecast.value(Category.REH, slot);
+        if (!Double.isNaN(humidity)) {
+            humidityCount++;
+            humiditySum += humidity;
+        }
+
+        double windSpeed = forecast.value(Category.WSD, slot);
+        if (!Double.isNaN(windSpeed)) {
+            windSpeedCount++;
+            windSpeedSum += windSpeed;
+        }
+
+        double probability = forecast.value(Category.POP, slot);
+        if (!Double.isNaN(probability)) {
+            probabilityCount++;
+            probabilitySum += probability / 100.0;
+        }
+
+        int sky = forecast.code(Category.SKY, slot);
+        if (sky >= 0 && sky < skyCounts.length) {
+            skyCounts[sky]++;
+        }
+
+        int pty = forecast.code(Category.PTY, slot);
+        if (pty >= 0 && precipitationType == null) {
+            precipitationType = toPrecipitationType(pty);
+        }
+
+        String pcp = forecast.text(Category.PCP, slot);
+        if (pcp != null) {
+            precipitation += parsePrecipitation(pcp);
+        }
+    }
+
+    void acceptTemperature(double value) {
+        temperatureCount++;
+        temperatureSum += value;
+        temperatureMin = Math.min(temperatureMin, value);
+        temperatureMax = Math.max(temperatureMax, value);
+    }
+
+    boolean isEmpty() {
+        return itemCount == 0;
+    }
+
+    LocalDate getDate() {
+        return date;
+    }
+
+    String getBaseDate() {
+        return baseDate;
+    }
+
+    String getBaseTime() {
+        return baseTime;
+    }
+
+    double currentTemperature() {
+        return temperatureCount > 0 ? temperatureSum / temperatureCount : 22.0;
+    }
+
+    double minTemperature() {
+        return temperatureCount > 0 ? temperatureMin : 20.0;
+    }
+
+    double maxTemperature() {
+        return temperatureCount > 0 ? temperatureMax : 25.0;
+    }
+
+    double humidity() {
+        return humidityCount > 0 ? humiditySum / humidityCount : 50.0;
+    }
+
+    double windSpeed() {
+        return windSpeedCount > 0 ? windSpeedSum / windSpeedCount : 1.0;
+    }
+
+    double precipitationProbability() {
+        return probabilityCount > 0 ? probabilitySum / probabilityCount : 0.0;
+    }
+
+    double precipitation() {
+        return precipitation;
+    }
+
+    PrecipitationType precipitationType() {
+        return precipitationType != null ? precipitationType : PrecipitationType.NONE;
+    }
+
+    /**
+     * 가장 많이 나온 하늘상태 (동률이면 코드가 작은 값)
+     */
+    SkyStatus skyStatus() {
+        int best = -1;
+        for (int code = 0; code < skyCounts.length; code++) {
+            if (skyCounts[code] > 0 && (best < 0 || skyCounts[code] > skyCounts[best])) {
+                best = code;
+            }
+        }
+        return SkyStatus.fromCode(best < 0 ? "1" : DIGIT_CODES[best]);
+    }
+
+    static PrecipitationType toPrecipitationType(String value) {
+        return toPrecipitationType(digitCode(value));
+    }
+
+    static PrecipitationType toPrecipitationType(int code) {
+        return switch (code) {
+            case 1 -> PrecipitationType.RAIN;
+            case 2 -> PrecipitationType.RAIN_SNOW;
+            case 3 -> PrecipitationType.SNOW;
+            case 4 -> PrecipitationType.SHOWER;
+            default -> PrecipitationType.NONE;
+        };
+    }
+
+    /**
+     * 강수량 문자열 파싱 - 숫자/소수점 외 문자를 제거한 뒤 파싱 (예: "1mm 미만" → 1.0)
+     * 범위 표기("30.0~50.0mm") 등 파싱할 수 없는 값은 0
+     */
+    static double parsePrecipitation(String value) {
+        if (value == null || value.isEmpty() || "강수없음".equals(value)) {
+            return 0.0;
+        }
+
+        int length = value.length();
+        int kept = 0;
+        for (int i = 0; i < length; i++) {
+            if (isNumeric(value.charAt(i))) {
+                kept++;
+            }
+        }
+        if (kept == 0) {
+            return 0.0;
+        }
+
+        String numeric = value;
+        if (kept != length) {
+            StringBuilder builder = new StringBuilder(kept);
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (isNumeric(c)) {
+                    builder.append(c);
+                }
+            }
+            numeric = builder.toString();
+        }
+
+        try {
+            return Double.parseDouble(numeric);
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+
+    static double parseDouble(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static boolean isNumeric(char c) {
+        return (c >= '0' && c <= '9') || c == '.';
+    }
+
+    private static int digitCode(String value) {
+        if (value == null || value.length() != 1) {
+            return -1;
+        }
+        int code = value.charAt(0) - '0';
+        return code >= 0 && code <= 9 ? code : -1;
+    }
+}
@@ -0,0 +1,157 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import com.fourthread.ozang.module.domain.weather.dto.WeatherAPILocation;
+import com.fourthread.ozang.module.domain.weather.dto.WeatherRollupSource;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast.Category;
+import com.fourthread.ozang.module.domain.weather.entity.DailyWeatherRollup;
+import com.fourthread.ozang.module.domain.weather.entity.Weather;
+import com.fourthread.ozang.module.domain.weather.mapper.WeatherMapper;
+import com.fourthread.ozang.module.domain.weather.repository.DailyWeatherRollupRepository;
+import com.fourthread.ozang.module.domain.weather.repository.WeatherRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 격자 + 날짜별 일 집계 관리 (daily_weather_rollups)
+ * - 날씨 저장 시 응답의 전체 예보 시각을 날짜별 집계에 반영 (저장 트랜잭션 안에서 호출)
+ * - 날씨 응답의 전날 대비 값은 전날 집계 한 행(PK 조회)과 비교해 계산
+ * - 집계 도입 전 이력은 백필 배치로 weathers 에서 날짜 단위로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyWeatherRollupService {
+
+    private final DailyWeatherRollupRepository dailyWeatherRollupRepository;
+    private final WeatherRepository weatherRepository;
+    private final WeatherMapper weatherMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 단기예보 응답 반영 - 응답에 포함된 날짜(보통 3~4일)의 집계를 한 번에 읽고 바뀐 행만 저장
+     * @return 저장한 집계 행 수
+     */
+    public int apply(int x, int y, LocalDateTime forecastedAt, KmaForecast forecast) {
+        if (forecast == null || forecast.isEmpty()) {
+            return 0;
+        }
+
+        Set<LocalDate> dates = new LinkedHashSet<>();
+        int lastFcstDate = -1;
+        for (int slot = 0; slot < forecast.size(); slot++) {
+            if (forecast.fcstDate(slot) != lastFcstDate) {
+                lastFcstDate = forecast.fcstDate(slot);
+                dates.add(KmaForecast.toLocalDate(lastFcstDate));
+            }
+        }
+        Map<LocalDate, DailyWeatherRollup> rollups = load(x, y, dates);
+
+        WeatherAPILocation location = new WeatherAPILocation(null, null, x, y, List.of());
+        Set<DailyWeatherRollup> changed = new LinkedHashSet<>();
+        for (int slot = 0; slot < forecast.size(); slot++) {
+            Double temperature = forecast.has(Category.TMP, slot) ? forecast.value(Category.TMP, slot) : null;
+            Double humidity = forecast.has(Category.REH, slot) ? forecast.value(Category.REH, slot) : null;
+            // 강수량 표기("1mm 미만" 등)는 엔티티 규칙으로 해석
+            Double precipitation = forecast.has(Category.PCP, slot)
+                ? weatherMapper.toHourlyDto(forecast, slot, location).precipitation().amount()
+                : null;
+            if (temperature == null && humidity == null && precipitation == null) {
+                continue;
+            }
+
+            DailyWeatherRollup rollup = rollups.get(KmaForecast.toLocalDate(forecast.fcstDate(slot)));
+            if (rollup.apply(forecastedAt, forecast.fcstTime(slot) / 100, temperature, humidity, precipitation)) {
+                changed.add(rollup);
+            }
+        }
+
+        dailyWeatherRollupRepository.saveAll(changed);
+        return changed.size();
+    }
+
+    /**
+     * 날씨 예보 대상 날짜의 전날 집계
+     */
+    public Optional<DailyWeatherRollup> findDayBefore(Weather weather) {
+        WeatherAPILocation location = weather.getLocation();
+        if (location.x() == null || location.y() == null) {
+            return Optional.empty();
+        }
+        return findDayBefore(location.x(), location.y(), weather.getForecastAt().toLocalDate());
+    }
+
+    /**
+     * 격자의 예보 대상 날짜 전날 집계
+     */
+    public Optional<DailyWeatherRollup> findDayBefore(int x, int y, LocalDate forecastDate) {
+        return dailyWeatherRollupRepository.findById(new DailyWeatherRollup.Key(x, y, forecastDate.minusDays(1)));
+    }
+
+    /**
+     * 저장 이력으로 하루치 집계 반영 (백필 배치용 - 하루마다 짧은 트랜잭션)
+     * 발표시각 순으로 반영하므로 같은 시각은 가장 최근 발표분 값이 남는다
+     * @return 반영한 저장 날씨 건수
+     */
+    public int backfill(LocalDate date) {
+        Integer applied = transactionTemplate.execute(status -> {
+            // 저장 날씨의 예보 대상 시각은 발표 직후 첫 예보 시각이므로 발표시각은 하루 전까지만 본다
+            List<WeatherRollupSource> sources = weatherRepository.findRollupSources(
+                date.minusDays(1).atStartOfDay(), date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+            if (sources.isEmpty()) {
+                return 0;
+            }
+
+            Set<DailyWeatherRollup.Key> keys = new LinkedHashSet<>();
+            for (WeatherRollupSource source : sources) {
+                keys.add(new DailyWeatherRollup.Key(source.x(), source.y(), date));
+            }
+            Map<DailyWeatherRollup.Key, DailyWeatherRollup> rollups = new HashMap<>();
+            for (DailyWeatherRollup rollup : dailyWeatherRollupRepository.findAllById(keys)) {
+                rollups.put(new DailyWeatherRollup.Key(rollup.getX(), rollup.getY(), rollup.getForecastDate()), rollup);
+            }
+
+            Set<DailyWeatherRollup> changed = new LinkedHashSet<>();
+            for (WeatherRollupSource source : sources) {
+                DailyWeatherRollup rollup = rollups.computeIfAbsent(
+                    new DailyWeatherRollup.Key(source.x(), source.y(), date),
+                    key -> DailyWeatherRollup.of(source.x(), source.y(), date));
+                if (rollup.apply(source.forecastedAt(), source.forecastAt().getHour(), source.temperature(),
+                    source.humidity(), source.precipitation())) {
+                    changed.add(rollup);
+                }
+            }
+
+            dailyWeatherRollupRepository.saveAll(changed);
+            log.debug("일 집계 백필 - 날짜: {}, 저장 날씨: {}건, 갱신 집계: {}건", date, sources.size(), changed.size());
+            return sources.size();
+        });
+        return applied != null ? applied : 0;
+    }
+
+    private Map<LocalDate, DailyWeatherRollup> load(int x, int y, Set<LocalDate> dates) {
+        List<DailyWeatherRollup.Key> keys = dates.stream()
+            .map(date -> new DailyWeatherRollup.Key(x, y, date))
+            .toList();
+
+        Map<LocalDate, DailyWeatherRollup> rollups = new LinkedHashMap<>();
+        for (DailyWeatherRollup rollup : dailyWeatherRollupRepository.findAllById(keys)) {
+            rollups.put(rollup.getForecastDate(), rollup);
+        }
+        for (LocalDate date : dates) {
+            rollups.computeIfAbsent(date, key -> DailyWeatherRollup.of(x, y, key));
+        }
+        return rollups;
+    }
+}
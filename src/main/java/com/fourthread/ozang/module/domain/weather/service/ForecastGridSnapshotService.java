@@ -0,0 +1,296 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import com.fourthread.ozang.module.domain.user.dto.data.ProfileGridLocation;
+import com.fourthread.ozang.module.domain.user.repository.ProfileRepository;
+import com.fourthread.ozang.module.domain.weather.dto.HumidityDto;
+import com.fourthread.ozang.module.domain.weather.dto.PrecipitationDto;
+import com.fourthread.ozang.module.domain.weather.dto.TemperatureDto;
+import com.fourthread.ozang.module.domain.weather.dto.WeatherAPILocation;
+import com.fourthread.ozang.module.domain.weather.dto.WeatherDto;
+import com.fourthread.ozang.module.domain.weather.dto.WindSpeedDto;
+import com.fourthread.ozang.module.domain.weather.dto.type.PrecipitationType;
+import com.fourthread.ozang.module.domain.weather.dto.type.SkyStatus;
+import com.fourthread.ozang.module.domain.weather.dto.type.WindStrength;
+import com.fourthread.ozang.module.domain.weather.entity.GridCoordinate;
+import com.fourthread.ozang.module.domain.weather.entity.Weather;
+import com.fourthread.ozang.module.domain.weather.mapper.WeatherMapper;
+import com.fourthread.ozang.module.domain.weather.repository.WeatherRepository;
+import com.fourthread.ozang.module.domain.weather.util.ForecastGridSnapshot;
+import com.fourthread.ozang.module.domain.weather.util.ForecastGridSnapshot.Field;
+import com.fourthread.ozang.module.domain.weather.util.GridLookupTable;
+import com.fourthread.ozang.module.domain.weather.util.KmaPublishSchedule;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 격자별 현재 발표분 날씨 스냅샷 관리
+ * - 발표 주기마다(사전 적재 배치 직후) 서비스 중인 격자의 현재 발표분 저장 날씨(weathers)로 스냅샷 파일을 다시 만들고 교체
+ * - 스냅샷 값은 저장 날씨 행 그대로 기록하므로 응답 id 가 가리키는 행과 응답 값이 같다 (스냅샷 사용 여부와 무관한 응답)
+ * - 지역명은 재생성/로딩 시 격자마다 한 번 정해 두고 조회 시에는 외부 조회를 하지 않는다
+ * - 스냅샷은 메모리 매핑 파일이라 재시작 후에도 바로 사용 (기동 시 기존 파일 로딩)
+ * - 현재 발표분 스냅샷에 격자가 있으면 저장 날씨 조회 없이 응답 생성 (전날 대비 값만 전날 집계 한 행을 PK 조회)
+ */
+@Slf4j
+@Service
+public class ForecastGridSnapshotService {
+
+    private final ProfileRepository profileRepository;
+    private final WeatherRepository weatherRepository;
+    private final WeatherMapper weatherMapper;
+    private final LocationNameService locationNameService;
+    private final DailyWeatherRollupService dailyWeatherRollupService;
+    private final ZoneId zoneId;
+    private final boolean enabled;
+    private final Path path;
+    private final int hours;
+
+    // 스냅샷과 격자별 위치(지역명)는 함께 교체
+    private volatile Loaded loaded;
+
+    public ForecastGridSnapshotService(
+        ProfileRepository profileRepository,
+        WeatherRepository weatherRepository,
+        WeatherMapper weatherMapper,
+        LocationNameService locationNameService,
+        DailyWeatherRollupService dailyWeatherRollupService,
+        ZoneId zoneId,
+        @Value("${weather.snapshot.enabled:false}") boolean enabled,
+        @Value("${weather.snapshot.path:data/weather-forecast.snap}") String path,
+        @Value("${weather.snapshot.hours:72}") int hours) {
+        this.profileRepository = profileRepository;
+        this.weatherRepository = weatherRepository;
+        this.weatherMapper = weatherMapper;
+        this.locationNameService = locationNameService;
+        this.dailyWeatherRollupService = dailyWeatherRollupService;
+        this.zoneId = zoneId;
+        this.enabled = enabled;
+        this.path = Path.of(path);
+        this.hours = hours;
+    }
+
+    /**
+     * 기존 스냅샷 파일 로딩 - 지난 발표분이어도 로딩해 두고 조회 시 발표시각으로 걸러낸다
+     * 격자별 위치는 스냅샷에 기록된 저장 날씨 행에서 한 번에 다시 읽는다
+     */
+    @PostConstruct
+    public void load() {
+        if (!enabled || !Files.exists(path)) {
+            return;
+        }
+        try {
+            ForecastGridSnapshot snapshot = ForecastGridSnapshot.map(path);
+            List<UUID> weatherIds = new ArrayList<>(snapshot.getCellCount());
+            for (int cell = 0; cell < snapshot.getCellCount(); cell++) {
+                weatherIds.add(snapshot.weatherId(cell));
+            }
+            Map<Integer, WeatherAPILocation> locations = new HashMap<>();
+            for (Weather weather : weatherRepository.findAllById(weatherIds)) {
+                WeatherAPILocation location = weather.getLocation();
+                locations.put(GridLookupTable.pack(location.x(), location.y()),
+                    resolveLocation(location, location.latitude(), location.longitude()));
+            }
+            loaded = new Loaded(snapshot, locations);
+            log.info("격자 예보 스냅샷 로딩 완료 - path: {}, 발표시각: {}, 격자: {}",
+                path, snapshot.getBaseDateTime(), snapshot.getCellCount());
+        } catch (RuntimeException | IOException e) {
+            log.warn("격자 예보 스냅샷 로딩 실패, 다음 발표 주기에 재생성합니다 - path: {}, 원인: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 발표분 스냅샷 재생성 후 교체
+     * @return 스냅샷에 담긴 격자 수 (비활성화 시 0)
+     */
+    public int rebuild() {
+        if (!enabled) {
+            return 0;
+        }
+        LocalDateTime baseDateTime = KmaPublishSchedule.baseDateTime(LocalDateTime.now(zoneId));
+        ForecastGridSnapshot.Builder builder = ForecastGridSnapshot.builder(baseDateTime, hours);
+
+        Map<Integer, ProfileGridLocation> grids = new LinkedHashMap<>();
+        for (ProfileGridLocation location : profileRepository.findActiveGridLocations()) {
+            grids.putIfAbsent(GridLookupTable.pack(location.x(), location.y()), location);
+        }
+
+        Map<Integer, WeatherAPILocation> locations = new HashMap<>();
+        int missing = 0;
+        for (Map.Entry<Integer, ProfileGridLocation> grid : grids.entrySet()) {
+            WeatherAPILocation location = addGrid(builder, grid.getValue(), baseDateTime);
+            if (location == null) {
+                missing++;
+            } else {
+                locations.put(grid.getKey(), location);
+            }
+        }
+
+        ForecastGridSnapshot built = builder.build();
+        loaded = new Loaded(persist(built), locations);
+        log.info("격자 예보 스냅샷 교체 완료 - 발표시각: {}, 대상 격자: {}개, 수록: {}개, 현재 발표분 없음: {}개",
+            baseDateTime, grids.size(), built.getCellCount(), missing);
+        return built.getCellCount();
+    }
+
+    /**
+     * 현재 발표분 스냅샷으로 날씨 응답 생성 - 스냅샷이 없거나 지난 발표분이거나 격자가 없으면 empty
+     * 응답은 스냅샷의 weatherId 가 가리키는 저장 날씨 응답(WeatherMapper.toDto)과 같다
+     */
+    public Optional<WeatherDto> find(GridCoordinate grid, LocalDateTime baseDateTime) {
+        Loaded current = loaded;
+        if (current == null || !current.snapshot().getBaseDateTime().equals(baseDateTime)) {
+            return Optional.empty();
+        }
+        ForecastGridSnapshot snapshot = current.snapshot();
+        int cell = snapshot.find(grid.getX(), grid.getY());
+        WeatherAPILocation location = current.locations().get(GridLookupTable.pack(grid.getX(), grid.getY()));
+        if (cell == ForecastGridSnapshot.MISS || location == null) {
+            return Optional.empty();
+        }
+        int hour = forecastHour(snapshot, cell);
+        if (hour == ForecastGridSnapshot.MISS) {
+            return Optional.empty();
+        }
+
+        WeatherDto dto = toDto(snapshot, cell, hour, location);
+        return Optional.of(weatherMapper.withDayBefore(dto, dailyWeatherRollupService
+            .findDayBefore(grid.getX(), grid.getY(), dto.forecastAt().toLocalDate())
+            .orElse(null)));
+    }
+
+    public int size() {
+        Loaded current = loaded;
+        return current != null ? current.snapshot().getCellCount() : 0;
+    }
+
+    /**
+     * 격자의 현재 발표분 저장 날씨를 예보 대상 시각 위치에 기록
+     * @return 응답에 쓸 위치(지역명 포함), 현재 발표분 저장 날씨가 없으면 null
+     */
+    private WeatherAPILocation addGrid(ForecastGridSnapshot.Builder builder, ProfileGridLocation grid,
+        LocalDateTime baseDateTime) {
+        int x = grid.x();
+        int y = grid.y();
+        Optional<Weather> weather = weatherRepository.findLatestByGrid(x, y);
+        if (weather.isEmpty() || !weather.get().getForecastedAt().equals(baseDateTime)) {
+            return null;
+        }
+
+        WeatherDto row = weatherMapper.toDto(weather.get());
+        LocalDateTime at = row.forecastAt();
+        long offset = ChronoUnit.HOURS.between(baseDateTime, at);
+        if (offset < 1 || offset > hours) {
+            log.warn("저장 날씨 예보 시각이 스냅샷 범위 밖이라 제외 - X: {}, Y: {}, 예보 시각: {}", x, y, at);
+            return null;
+        }
+
+        builder.weatherId(x, y, row.id());
+        put(builder, x, y, at, Field.TMP, row.temperature().current());
+        put(builder, x, y, at, Field.TMN, row.temperature().min());
+        put(builder, x, y, at, Field.TMX, row.temperature().max());
+        put(builder, x, y, at, Field.REH, row.humidity().current());
+        put(builder, x, y, at, Field.POP, row.precipitation().probability());
+        put(builder, x, y, at, Field.PCP, row.precipitation().amount());
+        put(builder, x, y, at, Field.WSD, row.windSpeed().speed());
+        // 하늘상태/강수형태는 기상청 코드로 저장 (enum 순서와 무관)
+        builder.value(x, y, at, Field.SKY, row.skyStatus().getCode());
+        builder.value(x, y, at, Field.PTY, row.precipitation().type().getCode());
+
+        WeatherAPILocation location = row.location();
+        return resolveLocation(location,
+            location.latitude() != null ? location.latitude() : grid.latitude(),
+            location.longitude() != null ? location.longitude() : grid.longitude());
+    }
+
+    /**
+     * 저장 날씨의 지역명, 비어 있으면 지역명 조회 (재생성/로딩 시 격자마다 한 번)
+     */
+    private WeatherAPILocation resolveLocation(WeatherAPILocation location, Double latitude, Double longitude) {
+        boolean named = location.locationNames().stream().anyMatch(name -> !name.isBlank());
+        if (named || latitude == null || longitude == null) {
+            return location;
+        }
+        return weatherMapper.toWeatherAPILocation(latitude, longitude, location.x(), location.y(),
+            locationNameService.getLocationNames(latitude, longitude));
+    }
+
+    private void put(ForecastGridSnapshot.Builder builder, int x, int y, LocalDateTime at, Field field,
+        Double value) {
+        if (value != null) {
+            builder.value(x, y, at, field, value);
+        }
+    }
+
+    private ForecastGridSnapshot persist(ForecastGridSnapshot built) {
+        try {
+            built.writeTo(path);
+            return ForecastGridSnapshot.map(path);
+        } catch (IOException e) {
+            log.warn("격자 예보 스냅샷 저장 실패, 힙 스냅샷 사용 - path: {}, 원인: {}", path, e.getMessage());
+            return built;
+        }
+    }
+
+    /**
+     * 격자의 저장 날씨가 기록된 시각 (SKY 는 저장 날씨마다 항상 있음)
+     */
+    private int forecastHour(ForecastGridSnapshot snapshot, int cell) {
+        for (int hour = 1; hour <= snapshot.getHours(); hour++) {
+            if (snapshot.has(cell, hour, Field.SKY)) {
+                return hour;
+            }
+        }
+        return ForecastGridSnapshot.MISS;
+    }
+
+    /**
+     * 저장 날씨 응답과 같은 값으로 복원 - 전날 대비 값은 저장 값(0)으로 채우고 find 에서 전날 집계로 다시 채운다
+     */
+    private WeatherDto toDto(ForecastGridSnapshot snapshot, int cell, int hour, WeatherAPILocation location) {
+        double windSpeed = snapshot.value(cell, hour, Field.WSD);
+        return new WeatherDto(
+            snapshot.weatherId(cell),
+            snapshot.getBaseDateTime(),
+            snapshot.forecastAt(hour),
+            location,
+            SkyStatus.fromCode(code(snapshot, cell, hour, Field.SKY)),
+            new PrecipitationDto(
+                PrecipitationType.fromCode(code(snapshot, cell, hour, Field.PTY)),
+                orNull(snapshot.value(cell, hour, Field.PCP)),
+                orNull(snapshot.value(cell, hour, Field.POP))),
+            new HumidityDto(orNull(snapshot.value(cell, hour, Field.REH)), 0.0),
+            new TemperatureDto(orNull(snapshot.value(cell, hour, Field.TMP)), 0.0,
+                orNull(snapshot.value(cell, hour, Field.TMN)), orNull(snapshot.value(cell, hour, Field.TMX))),
+            new WindSpeedDto(orNull(windSpeed), WindStrength.fromSpeed(Double.isNaN(windSpeed) ? 0 : windSpeed))
+        );
+    }
+
+    /**
+     * 저장된 기상청 코드 - 값이 없으면 -1 (fromCode 의 기본값으로 해석)
+     */
+    private int code(ForecastGridSnapshot snapshot, int cell, int hour, Field field) {
+        double value = snapshot.value(cell, hour, field);
+        return Double.isNaN(value) ? -1 : (int) value;
+    }
+
+    private Double orNull(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    private record Loaded(ForecastGridSnapshot snapshot, Map<Integer, WeatherAPILocation> locations) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import com.fourthread.ozang.module.domain.weather.dto.HourlyForecastDto;
+import com.fourthread.ozang.module.domain.weather.dto.HourlyForecastResponse;
+import com.fourthread.ozang.module.domain.weather.dto.WeatherAPILocation;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.entity.GridCoordinate;
+import com.fourthread.ozang.module.domain.weather.entity.HourlyForecast;
+import com.fourthread.ozang.module.domain.weather.exception.InvalidCoordinateException;
+import com.fourthread.ozang.module.domain.weather.mapper.WeatherMapper;
+import com.fourthread.ozang.module.domain.weather.repository.HourlyForecastRepository;
+import com.fourthread.ozang.module.domain.weather.util.CoordinateConverter;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 시간별 예보 조회
+ * - 날씨 저장 시 함께 저장한 단기예보 계열(hourly_forecasts)만 사용하고 외부 API 는 호출하지 않는다
+ * - 격자의 가장 최근 발표분에서 현재 시각(정시) 이후 예보만 반환
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HourlyForecastService {
+
+    private final HourlyForecastRepository hourlyForecastRepository;
+    private final CoordinateConverter coordinateConverter;
+    private final WeatherMapper weatherMapper;
+    private final ZoneId zoneId;
+
+    public HourlyForecastResponse getHourlyForecast(Double longitude, Double latitude) {
+        validateCoordinates(longitude, latitude);
+        GridCoordinate grid = coordinateConverter.convertToGrid(latitude, longitude);
+
+        Optional<HourlyForecast> stored = hourlyForecastRepository
+            .findFirstByXAndYOrderByForecastedAtDesc(grid.getX(), grid.getY());
+        if (stored.isEmpty()) {
+            log.debug("저장된 시간별 예보 없음 - 격자: ({}, {})", grid.getX(), grid.getY());
+            return new HourlyForecastResponse(grid.getX(), grid.getY(), null, List.of());
+        }
+
+        HourlyForecast hourly = stored.get();
+        KmaForecast forecast = hourly.toForecast();
+        WeatherAPILocation location = new WeatherAPILocation(latitude, longitude, grid.getX(), grid.getY(),
+            List.of());
+        LocalDateTime from = LocalDateTime.now(zoneId).truncatedTo(ChronoUnit.HOURS);
+
+        List<HourlyForecastDto> hours = new ArrayList<>(forecast.size());
+        for (int slot = 0; slot < forecast.size(); slot++) {
+            if (!forecast.fcstDateTime(slot).isBefore(from)) {
+                hours.add(weatherMapper.toHourlyDto(forecast, slot, location));
+            }
+        }
+
+        return new HourlyForecastResponse(grid.getX(), grid.getY(), hourly.getForecastedAt(), hours);
+    }
+
+    private void validateCoordinates(Double longitude, Double latitude) {
+        if (longitude == null || latitude == null) {
+            throw new InvalidCoordinateException("경도와 위도는 필수입니다.");
+        }
+
+        if (latitude < 33.0 || latitude > 43.0 || longitude < 124.0 || longitude > 132.0) {
+            throw new InvalidCoordinateException("한국 영토 범위를 벗어난 좌표입니다.");
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import com.fourthread.ozang.module.domain.weather.cache.SingleFlight;
+import com.fourthread.ozang.module.domain.weather.client.KakaoApiClient;
+import com.fourthread.ozang.module.domain.weather.entity.GridCoordinate;
+import com.fourthread.ozang.module.domain.weather.entity.ReverseGeocode;
+import com.fourthread.ozang.module.domain.weather.exception.WeatherApiException;
+import com.fourthread.ozang.module.domain.weather.repository.ReverseGeocodeRepository;
+import com.fourthread.ozang.module.domain.weather.util.CoordinateConverter;
+import com.fourthread.ozang.module.domain.weather.util.GridRegionTable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 좌표 → 행정구역명 조회
+ * - weather.location.provider
+ *   offline: 격자별 지역명 리소스(GridRegionTable)만 사용, 카카오 호출 없음
+ *            (리소스 격자 수가 offline.min-cells 미만이면 기동 실패 - 전체 격자 내보내기가 아닌 표로는 대부분 조회 실패)
+ *   kakao: 카카오 coord2regioncode + 2단계 캐시
+ *   hybrid: 오프라인 리소스 우선, 데이터 없는 격자만 카카오로 조회
+ *
+ * 카카오 조회 캐시
+ * - 위경도를 precision 자리로 반올림한 셀 단위로 캐싱 (셀 중심 좌표로 카카오 API 호출)
+ * - L1: 인메모리 LRU, L2: reverse_geocodes 테이블 (서버 재시작/다중 인스턴스 간 공유)
+ * - 행정구역이 없는 좌표(KAKAO_NO_CONTENT)는 짧은 TTL 로 negative 캐싱
+ * - 같은 셀의 동시 미스는 single-flight 로 병합
+ */
+@Slf4j
+@Service
+public class LocationNameService {
+
+    private static final String METRIC_PREFIX = "weather.location.lookups";
+    private static final String NO_CONTENT_CODE = "KAKAO_NO_CONTENT";
+    private static final String OFFLINE_NO_CONTENT_CODE = "OFFLINE_NO_CONTENT";
+
+    public enum Provider {
+        OFFLINE, KAKAO, HYBRID
+    }
+
+    private final KakaoApiClient kakaoApiClient;
+    private final ReverseGeocodeRepository reverseGeocodeRepository;
+    private final CoordinateConverter coordinateConverter;
+    private final GridRegionTable gridRegionTable;
+    private final Provider provider;
+    private final int precision;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final int maxSize;
+    private final Map<String, CachedNames> entries;
+    private final SingleFlight<String, CachedNames> flight;
+    private final Counter offlineHitCounter;
+    private final Counter memoryHitCounter;
+    private final Counter databaseHitCounter;
+    private final Counter remoteCallCounter;
+
+    public LocationNameService(
+        KakaoApiClient kakaoApiClient,
+        ReverseGeocodeRepository reverseGeocodeRepository,
+        CoordinateConverter coordinateConverter,
+        Optional<GridRegionTable> gridRegionTable,
+        MeterRegistry meterRegistry,
+        @Value("${weather.location.provider:kakao}") String provider,
+        @Value("${weather.location.offline.min-cells:1000}") int offlineMinCells,
+        @Value("${weather.location.cache.precision:2}") int precision,
+        @Value("${weather.location.cache.ttl:30d}") Duration ttl,
+        @Value("${weather.location.cache.negative-ttl:1d}") Duration negativeTtl,
+        @Value("${weather.location.cache.max-size:20000}") int maxSize) {
+
+        this.kakaoApiClient = kakaoApiClient;
+        this.reverseGeocodeRepository = reverseGeocodeRepository;
+        this.coordinateConverter = coordinateConverter;
+        this.gridRegionTable = gridRegionTable.orElse(null);
+        this.provider = Provider.valueOf(provider.toUpperCase(Locale.ROOT));
+        if (this.provider != Provider.KAKAO && this.gridRegionTable == null) {
+            throw new IllegalStateException(
+                "weather.location.provider=" + provider + " 사용 시 격자 지역명 리소스가 필요합니다.");
+        }
+        if (this.provider == Provider.OFFLINE && this.gridRegionTable.getCellCount() < offlineMinCells) {
+            throw new IllegalStateException(
+                "weather.location.provider=offline 사용 시 전체 격자 지역명 리소스가 필요합니다 - 격자: "
+                    + this.gridRegionTable.getCellCount() + "개, 최소: " + offlineMinCells
+                    + "개 (hybrid 또는 kakao 사용)");
+        }
+        this.precision = precision;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedNames> eldest) {
+                return size() > LocationNameService.this.maxSize;
+            }
+        };
+        this.flight = new SingleFlight<>("location", meterRegistry);
+        this.offlineHitCounter = Counter.builder(METRIC_PREFIX)
+            .tag("source", "offline")
+            .register(meterRegistry);
+        this.memoryHitCounter = Counter.builder(METRIC_PREFIX)
+            .tag("source", "memory")
+            .register(meterRegistry);
+        this.databaseHitCounter = Counter.builder(METRIC_PREFIX)
+            .tag("source", "database")
+            .register(meterRegistry);
+        this.remoteCallCounter = Counter.builder(METRIC_PREFIX)
+            .tag("source", "kakao")
+            .register(meterRegistry);
+        Gauge.builder("weather.location.cache.hit.ratio", this, LocationNameService::getHitRatio)
+            .register(meterRegistry);
+        Gauge.builder("weather.location.cache.size", this, LocationNameService::size)
+            .register(meterRegistry);
+    }
+
+    public List<String> getLocationNames(double latitude, double longitude) {
+        List<String> offlineNames = lookupOffline(latitude, longitude);
+        if (offlineNames != null) {
+            return offlineNames;
+        }
+
+        String cellKey = cellKey(latitude, longitude);
+        LocalDateTime now = LocalDateTime.now();
+
+        CachedNames cached = getFromMemory(cellKey, now);
+        if (cached != null) {
+            memoryHitCounter.increment();
+            return cached.orThrow();
+        }
+
+        return flight.execute(cellKey, () -> load(cellKey, now)).orThrow();
+    }
+
+    /**
+     * 좌표 → 행정구역명 조회 (논블로킹)
+     * - 오프라인/L1 적중은 즉시 반환
+     * - L2(DB) 조회와 저장은 boundedElastic 에서 실행, 카카오 호출은 WebClient 논블로킹 호출
+     */
+    public Mono<List<String>> getLocationNamesMono(double latitude, double longitude) {
+        List<String> offlineNames;
+        try {
+            offlineNames = lookupOffline(latitude, longitude);
+        } catch (WeatherApiException e) {
+            return Mono.error(e);
+        }
+        if (offlineNames != null) {
+            return Mono.just(offlineNames);
+        }
+
+        String cellKey = cellKey(latitude, longitude);
+        LocalDateTime now = LocalDateTime.now();
+
+        CachedNames cached = getFromMemory(cellKey, now);
+        if (cached != null) {
+            memoryHitCounter.increment();
+            return Mono.fromCallable(cached::orThrow);
+        }
+
+        return Mono.fromFuture(() -> flight.executeAsync(cellKey, () -> loadAsync(cellKey, now).toFuture()))
+            .map(CachedNames::orThrow);
+    }
+
+    /**
+     * 만료된 L2 항목 삭제 (날씨 데이터 정리 배치에서 호출)
+     */
+    @Transactional
+    public int cleanupExpired() {
+        int deleted = reverseGeocodeRepository.deleteExpired(LocalDateTime.now());
+        log.info("만료된 역지오코딩 캐시 삭제 완료 - {}건", deleted);
+        return deleted;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized int clear() {
+        int size = entries.size();
+        entries.clear();
+        return size;
+    }
+
+    public double getHitRatio() {
+        double hits = offlineHitCounter.count() + memoryHitCounter.count()
+            + databaseHitCounter.count();
+        double total = hits + remoteCallCounter.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    public Provider getProvider() {
+        return provider;
+    }
+
+    public long getRemoteCallCount() {
+        return (long) remoteCallCounter.count();
+    }
+
+    private CachedNames load(String cellKey, LocalDateTime now) {
+        CachedNames stored = findStored(cellKey, now);
+        if (stored != null) {
+            return stored;
+        }
+
+        remoteCallCounter.increment();
+        return store(cellKey, fetchFromKakao(cellKey), now);
+    }
+
+    private Mono<CachedNames> loadAsync(String cellKey, LocalDateTime now) {
+        return Mono.fromCallable(() -> findStored(cellKey, now))
+            .subscribeOn(Schedulers.boundedElastic())
+            .switchIfEmpty(Mono.defer(() -> {
+                remoteCallCounter.increment();
+                String[] coordinates = cellKey.split(":");
+                return kakaoApiClient.getLocationNamesMono(
+                        Double.parseDouble(coordinates[0]), Double.parseDouble(coordinates[1]))
+                    .onErrorResume(this::isNoContent, e -> {
+                        log.debug("행정구역 없는 좌표 negative 캐싱 - cellKey: {}", cellKey);
+                        return Mono.just(List.of());
+                    })
+                    .publishOn(Schedulers.boundedElastic())
+                    .map(locationNames -> store(cellKey, locationNames, now));
+            }));
+    }
+
+    /**
+     * L1 재확인 후 L2 조회 - 없으면 null
+     */
+    private CachedNames findStored(String cellKey, LocalDateTime now) {
+        // 직전 조회가 방금 끝났을 수 있으므로 재확인
+        CachedNames cached = getFromMemory(cellKey, now);
+        if (cached != null) {
+            memoryHitCounter.increment();
+            return cached;
+        }
+
+        Optional<ReverseGeocode> stored = reverseGeocodeRepository.findById(cellKey)
+            .filter(geocode -> !geocode.isExpired(now));
+        if (stored.isPresent()) {
+            databaseHitCounter.increment();
+            CachedNames names = new CachedNames(stored.get().getLocationNameList(),
+                stored.get().getExpiresAt());
+            putToMemory(cellKey, names);
+            return names;
+        }
+        return null;
+    }
+
+    private CachedNames store(String cellKey, List<String> locationNames, LocalDateTime now) {
+        CachedNames names = new CachedNames(locationNames,
+            now.plus(locationNames.isEmpty() ? negativeTtl : ttl));
+
+        try {
+            reverseGeocodeRepository.save(new ReverseGeocode(cellKey, locationNames, names.expiresAt()));
+        } catch (DataAccessException e) {
+            // 다른 인스턴스가 같은 셀을 먼저 저장한 경우 등 - 조회 결과는 그대로 사용
+            log.warn("역지오코딩 결과 저장 실패 - cellKey: {}, 원인: {}", cellKey, e.getMessage());
+        }
+        putToMemory(cellKey, names);
+        return names;
+    }
+
+    private List<String> fetchFromKakao(String cellKey) {
+        String[] coordinates = cellKey.split(":");
+        try {
+            return kakaoApiClient.getLocationNames(
+                Double.parseDouble(coordinates[0]), Double.parseDouble(coordinates[1]));
+        } catch (WeatherApiException e) {
+            if (isNoContent(e)) {
+                log.debug("행정구역 없는 좌표 negative 캐싱 - cellKey: {}", cellKey);
+                return List.of();
+            }
+            throw e;
+        }
+    }
+
+    private boolean isNoContent(Throwable e) {
+        return e instanceof WeatherApiException apiException
+            && NO_CONTENT_CODE.equals(apiException.getResultCode());
+    }
+
+    /**
+     * 오프라인 리소스 조회 - kakao 모드이거나 hybrid 에서 데이터가 없으면 null
+     */
+    private List<String> lookupOffline(double latitude, double longitude) {
+        if (provider == Provider.KAKAO) {
+            return null;
+        }
+
+        GridCoordinate grid = coordinateConverter.convertToGrid(latitude, longitude);
+        List<String> names = gridRegionTable.lookup(grid.getX(), grid.getY());
+        if (!names.isEmpty()) {
+            offlineHitCounter.increment();
+            return names;
+        }
+        if (provider == Provider.OFFLINE) {
+            throw new WeatherApiException("오프라인 지역명 데이터 없음 - x=" + grid.getX()
+                + ", y=" + grid.getY(), OFFLINE_NO_CONTENT_CODE);
+        }
+        return null;
+    }
+
+    private synchronized CachedNames getFromMemory(String cellKey, LocalDateTime now) {
+        CachedNames cached = entries.get(cellKey);
+        if (cached != null && !cached.expiresAt().isAfter(now)) {
+            entries.remove(cellKey);
+            return null;
+        }
+        return cached;
+    }
+
+    private synchronized void putToMemory(String cellKey, CachedNames names) {
+        entries.put(cellKey, names);
+    }
+
+    String cellKey(double latitude, double longitude) {
+        return round(latitude) + ":" + round(longitude);
+    }
+
+    private String round(double value) {
+        return BigDecimal.valueOf(value).setScale(precision, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    private record CachedNames(List<String> locationNames, LocalDateTime expiresAt) {
+
+        List<String> orThrow() {
+            if (locationNames.isEmpty()) {
+                throw new WeatherApiException("카카오 API 지역코드 응답 없음", NO_CONTENT_CODE);
+            }
+            return locationNames;
+        }
+    }
+}
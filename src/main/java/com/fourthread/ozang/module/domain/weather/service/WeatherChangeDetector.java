@@ -0,0 +1,90 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import com.fourthread.ozang.module.domain.weather.dto.WeatherChange;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast.Category;
+import com.fourthread.ozang.module.domain.weather.dto.type.PrecipitationType;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 격자의 직전 발표분과 새 발표분 비교
+ * - 두 발표분에 모두 있는 예보 시각 중 기준 시각부터 감시 구간(window) 이내만 비교
+ * - 강수 시작: 직전 발표분에서 강수없음(PTY 0)이던 시각이 새 발표분에서 강수로 바뀐 첫 시각
+ * - 기온 급변: 같은 시각 기온 차이가 임계값 이상인 시각 중 차이가 가장 큰 시각
+ * - 예보 시각은 두 응답 모두 오름차순이므로 한 번씩만 순회
+ */
+@Component
+public class WeatherChangeDetector {
+
+    private final Duration window;
+    private final double temperatureSwing;
+
+    public WeatherChangeDetector(
+        @Value("${weather.alert.window:12h}") Duration window,
+        @Value("${weather.alert.temperature-swing:5.0}") double temperatureSwing) {
+        this.window = window;
+        this.temperatureSwing = temperatureSwing;
+    }
+
+    public List<WeatherChange> detect(KmaForecast previous, KmaForecast current, LocalDateTime from) {
+        List<WeatherChange> changes = new ArrayList<>(2);
+        if (previous == null || current == null || previous.isEmpty() || current.isEmpty()) {
+            return changes;
+        }
+        LocalDateTime until = from.plus(window);
+
+        WeatherChange precipitation = null;
+        WeatherChange swing = null;
+        double maxDelta = 0;
+
+        int p = 0;
+        for (int c = 0; c < current.size(); c++) {
+            LocalDateTime at = current.fcstDateTime(c);
+            if (at.isBefore(from)) {
+                continue;
+            }
+            if (at.isAfter(until)) {
+                break;
+            }
+            while (p < previous.size() && previous.fcstDateTime(p).isBefore(at)) {
+                p++;
+            }
+            if (p >= previous.size()) {
+                break;
+            }
+            if (!previous.fcstDateTime(p).equals(at)) {
+                continue;
+            }
+
+            if (precipitation == null
+                && previous.has(Category.PTY, p) && previous.code(Category.PTY, p) == 0
+                && current.has(Category.PTY, c) && current.code(Category.PTY, c) != 0) {
+                precipitation = WeatherChange.precipitationStart(at,
+                    PrecipitationType.fromCode(current.code(Category.PTY, c)));
+            }
+
+            if (previous.has(Category.TMP, p) && current.has(Category.TMP, c)) {
+                double before = previous.value(Category.TMP, p);
+                double after = current.value(Category.TMP, c);
+                double delta = Math.abs(after - before);
+                if (delta >= temperatureSwing && delta > maxDelta) {
+                    maxDelta = delta;
+                    swing = WeatherChange.temperatureSwing(at, before, after);
+                }
+            }
+        }
+
+        if (precipitation != null) {
+            changes.add(precipitation);
+        }
+        if (swing != null) {
+            changes.add(swing);
+        }
+        return changes;
+    }
+}
@@ -0,0 +1,150 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import com.fourthread.ozang.module.domain.notification.event.WeatherChangedEvent;
+import com.fourthread.ozang.module.domain.weather.dto.WeatherAPILocation;
+import com.fourthread.ozang.module.domain.weather.dto.WeatherChange;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.entity.HourlyForecast;
+import com.fourthread.ozang.module.domain.weather.entity.Weather;
+import com.fourthread.ozang.module.domain.weather.repository.HourlyForecastRepository;
+import com.fourthread.ozang.module.domain.weather.repository.LatestWeatherRepository;
+import com.fourthread.ozang.module.domain.weather.repository.WeatherRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 날씨 데이터 저장 전용 서비스
+ * 외부 API 호출이 끝난 뒤 짧은 트랜잭션으로 저장만 수행 (API 대기 중 커넥션 점유 방지)
+ * - 이력 저장과 격자별 최신 날씨(latest_weather_by_grid), 시간별 예보 계열(hourly_forecasts),
+ *   날짜별 일 집계(daily_weather_rollups) 갱신을 한 트랜잭션에서 처리
+ * - 같은 응답을 동시에 저장해 해시 유니크 제약에 걸리면 먼저 저장된 데이터를 사용
+ * - 5일 예보처럼 날씨 이력을 만들지 않는 조회는 시간별 예보 계열만 저장하고 다시 읽어 쓴다
+ * - 격자의 새 발표분이면 직전 발표분 계열과 비교해 변화가 있을 때 WeatherChangedEvent 발행 (커밋 후 알림)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WeatherPersistenceService {
+
+    private final WeatherRepository weatherRepository;
+    private final LatestWeatherRepository latestWeatherRepository;
+    private final HourlyForecastRepository hourlyForecastRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final WeatherChangeDetector weatherChangeDetector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DailyWeatherRollupService dailyWeatherRollupService;
+    // 예보 시각은 서비스 시간대(KST) 기준이라 변화 비교 기준 시각도 같은 시간대로 구한다
+    private final ZoneId zoneId;
+
+    /**
+     * @param forecast 날씨를 만든 단기예보 응답 - 전체 예보 시각을 시간별 계열로 함께 저장 (null 이면 생략)
+     */
+    public Weather save(Weather weather, KmaForecast forecast) {
+        try {
+            return transactionTemplate.execute(status -> insert(weather, forecast));
+        } catch (DataIntegrityViolationException e) {
+            String responseHash = weather.getApiResponseHash();
+            if (responseHash == null) {
+                throw e;
+            }
+            Weather existing = weatherRepository.findByApiResponseHash(responseHash).orElseThrow(() -> e);
+            log.debug("동일 응답이 먼저 저장됨 - 기존 데이터 사용, ID: {}", existing.getId());
+            return existing;
+        }
+    }
+
+    /**
+     * 시간별 예보 계열만 저장 (날씨 이력 없이) - 같은 발표분이 이미 있으면 최신 응답으로 교체
+     */
+    public void saveForecast(int x, int y, LocalDateTime forecastedAt, KmaForecast forecast) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveHourly(x, y, forecastedAt, forecast));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("동일 발표분 계열이 먼저 저장됨 - X: {}, Y: {}, 발표시각: {}", x, y, forecastedAt);
+        }
+    }
+
+    /**
+     * 저장된 발표분 응답 복원 - 없거나 복원할 수 없는 발표분은 결과에서 빠진다
+     */
+    public Map<LocalDateTime, KmaForecast> findForecasts(int x, int y, Collection<LocalDateTime> forecastedAts) {
+        List<HourlyForecast.Key> keys = forecastedAts.stream()
+            .map(forecastedAt -> new HourlyForecast.Key(x, y, forecastedAt))
+            .toList();
+
+        Map<LocalDateTime, KmaForecast> forecasts = new HashMap<>();
+        for (HourlyForecast hourly : hourlyForecastRepository.findAllById(keys)) {
+            try {
+                forecasts.put(hourly.getForecastedAt(), hourly.toForecast());
+            } catch (IllegalArgumentException e) {
+                log.warn("저장된 발표분 복원 실패 - X: {}, Y: {}, 발표시각: {}, 원인: {}",
+                    x, y, hourly.getForecastedAt(), e.getMessage());
+            }
+        }
+        return forecasts;
+    }
+
+    private Weather insert(Weather weather, KmaForecast forecast) {
+        // 해시 중복을 트랜잭션 안에서 드러내도록 바로 flush
+        Weather savedWeather = weatherRepository.saveAndFlush(weather);
+
+        WeatherAPILocation location = savedWeather.getLocation();
+        if (location.x() != null && location.y() != null) {
+            latestWeatherRepository.upsert(location.x(), location.y(), savedWeather.getId(),
+                savedWeather.getForecastedAt());
+            saveHourly(location.x(), location.y(), savedWeather.getForecastedAt(), forecast);
+        }
+
+        log.debug("날씨 데이터 저장 - ID: {}", savedWeather.getId());
+        return savedWeather;
+    }
+
+    private void saveHourly(int x, int y, LocalDateTime forecastedAt, KmaForecast forecast) {
+        if (forecast == null || forecast.isEmpty()) {
+            return;
+        }
+        detectChanges(x, y, forecastedAt, forecast);
+        hourlyForecastRepository.findById(new HourlyForecast.Key(x, y, forecastedAt))
+            .ifPresentOrElse(
+                existing -> existing.update(forecast),
+                () -> hourlyForecastRepository.save(HourlyForecast.of(x, y, forecastedAt, forecast)));
+        dailyWeatherRollupService.apply(x, y, forecastedAt, forecast);
+    }
+
+    /**
+     * 직전 발표분 계열과 비교 - 같은 발표분 재저장이나 더 오래된 발표분은 비교하지 않는다
+     */
+    private void detectChanges(int x, int y, LocalDateTime forecastedAt, KmaForecast forecast) {
+        Optional<HourlyForecast> previous = hourlyForecastRepository.findFirstByXAndYOrderByForecastedAtDesc(x, y);
+        if (previous.isEmpty() || !previous.get().getForecastedAt().isBefore(forecastedAt)) {
+            return;
+        }
+
+        List<WeatherChange> changes;
+        try {
+            changes = weatherChangeDetector.detect(previous.get().toForecast(), forecast,
+                LocalDateTime.now(zoneId).truncatedTo(ChronoUnit.HOURS));
+        } catch (IllegalArgumentException e) {
+            log.warn("직전 발표분 복원 실패로 변화 감지 생략 - X: {}, Y: {}, 원인: {}", x, y, e.getMessage());
+            return;
+        }
+
+        if (!changes.isEmpty()) {
+            log.info("날씨 변화 감지 - X: {}, Y: {}, 발표시각: {}, 변화: {}", x, y, forecastedAt,
+                changes.stream().map(change -> change.type().name()).toList());
+            eventPublisher.publishEvent(new WeatherChangedEvent(x, y, forecastedAt, changes));
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import com.fourthread.ozang.module.domain.weather.repository.DailyWeatherRollupRepository;
+import com.fourthread.ozang.module.domain.weather.repository.HourlyForecastRepository;
+import com.fourthread.ozang.module.domain.weather.repository.WeatherPartitionRepository;
+import com.fourthread.ozang.module.domain.weather.repository.WeatherPartitionRepository.DroppedPartition;
+import com.fourthread.ozang.module.domain.weather.repository.WeatherRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * 날씨 데이터 보관 기간 관리
+ * - 파티션 테이블(PostgreSQL): 앞으로 쓸 일 단위 파티션을 미리 만들고 보관 기간이 지난 파티션을 통째로 삭제,
+ *   이어서 default 파티션에 남은 지난 날씨(파티션 생성 전 저장 등)는 청크 단위로 삭제
+ * - 그 밖의 환경(H2/개발, 파티션 적용 전): 정해진 건수씩 나누어 삭제 - 청크마다 짧은 트랜잭션
+ * - 피드가 참조하는 날씨는 두 방식 모두 보관
+ * - 시간별 예보 계열(hourly_forecasts)은 같은 기준 시각으로 한 번에 삭제 (격자/발표분당 한 행)
+ * - 일 집계(daily_weather_rollups)는 기준 날짜 전날까지 남기고 삭제 (보관 중인 첫날의 전날 대비 계산용)
+ */
+@Slf4j
+@Service
+public class WeatherRetentionService {
+
+    private final WeatherRepository weatherRepository;
+    private final WeatherPartitionRepository weatherPartitionRepository;
+    private final HourlyForecastRepository hourlyForecastRepository;
+    private final DailyWeatherRollupRepository dailyWeatherRollupRepository;
+    // 일 단위 파티션 경계와 보관 기준 시각은 서비스 시간대(KST) 기준
+    private final ZoneId zoneId;
+    private final int chunkSize;
+    private final int partitionDaysAhead;
+
+    public WeatherRetentionService(
+        WeatherRepository weatherRepository,
+        WeatherPartitionRepository weatherPartitionRepository,
+        HourlyForecastRepository hourlyForecastRepository,
+        DailyWeatherRollupRepository dailyWeatherRollupRepository,
+        ZoneId zoneId,
+        @Value("${batch.weather.cleanup.chunk-size:1000}") int chunkSize,
+        @Value("${batch.weather.partition.days-ahead:7}") int partitionDaysAhead) {
+        this.weatherRepository = weatherRepository;
+        this.weatherPartitionRepository = weatherPartitionRepository;
+        this.hourlyForecastRepository = hourlyForecastRepository;
+        this.dailyWeatherRollupRepository = dailyWeatherRollupRepository;
+        this.zoneId = zoneId;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.partitionDaysAhead = Math.max(1, partitionDaysAhead);
+    }
+
+    public LocalDateTime cutoff(int retentionDays) {
+        return LocalDateTime.now(zoneId).minusDays(retentionDays);
+    }
+
+    public boolean isPartitioned() {
+        return weatherPartitionRepository.isPartitioned();
+    }
+
+    /**
+     * 파티션 교체 - 오늘부터 partitionDaysAhead 일 뒤까지 파티션 생성, 범위 전체가 기준 시각 이전인 파티션 삭제
+     * (기준 시각이 걸친 날의 파티션은 다음 실행에서 삭제되므로 최대 하루 더 보관된다)
+     */
+    public PartitionRotation rotatePartitions(LocalDateTime cutoff) {
+        List<LocalDate> existing = weatherPartitionRepository.findPartitionDates();
+
+        int created = 0;
+        LocalDate today = LocalDate.now(zoneId);
+        for (int day = 0; day <= partitionDaysAhead; day++) {
+            LocalDate date = today.plusDays(day);
+            if (existing.contains(date)) {
+                continue;
+            }
+            // default 파티션에 해당 날짜 행이 있으면 옮긴 뒤 생성, 실패는 배치 실패로 전파
+            weatherPartitionRepository.createPartition(date);
+            created++;
+        }
+
+        // 이전 삭제가 분리 후 실패해 남은 테이블도 함께 삭제
+        List<LocalDate> droppable = Stream.concat(existing.stream(),
+                weatherPartitionRepository.findDetachedPartitionDates().stream())
+            .distinct()
+            .sorted()
+            .toList();
+
+        int dropped = 0;
+        long deletedCount = 0;
+        long retainedCount = 0;
+        for (LocalDate date : droppable) {
+            if (date.plusDays(1).atStartOfDay().isAfter(cutoff)) {
+                break;
+            }
+            DroppedPartition partition = weatherPartitionRepository.dropPartition(date);
+            dropped++;
+            deletedCount += partition.deletedCount();
+            retainedCount += partition.retainedCount();
+            log.info("날씨 파티션 삭제 - {}: 약 {}건 삭제, 피드 참조 {}건 보관",
+                date, partition.deletedCount(), partition.retainedCount());
+        }
+
+        return new PartitionRotation(created, dropped, deletedCount, retainedCount);
+    }
+
+    /**
+     * 기준 시각 이전 데이터를 최대 chunkSize 건 삭제
+     * @return 삭제된 건수 (chunkSize 보다 작으면 남은 대상 없음)
+     */
+    public int deleteExpiredChunk(LocalDateTime cutoff) {
+        List<UUID> ids = weatherRepository.findExpiredIds(cutoff, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return weatherRepository.deleteByIds(ids);
+    }
+
+    /**
+     * 기준 시각 이전 발표분의 시간별 예보 계열 삭제
+     * @return 삭제된 행 수
+     */
+    public int deleteExpiredHourly(LocalDateTime cutoff) {
+        return hourlyForecastRepository.deleteExpired(cutoff);
+    }
+
+    /**
+     * 기준 시각 전날보다 이전 날짜의 일 집계 삭제
+     * @return 삭제된 행 수
+     */
+    public int deleteExpiredRollups(LocalDateTime cutoff) {
+        return dailyWeatherRollupRepository.deleteExpired(cutoff.toLocalDate().minusDays(1));
+    }
+
+    /**
+     * 보관 기간 정리 (파티션 교체 후 청크 삭제)
+     * @return 삭제된 건수 (파티션 삭제는 추정치)
+     */
+    public long cleanup(int retentionDays) {
+        LocalDateTime cutoff = cutoff(retentionDays);
+        deleteExpiredHourly(cutoff);
+        deleteExpiredRollups(cutoff);
+
+        long total = 0;
+        if (isPartitioned()) {
+            total += rotatePartitions(cutoff).deletedCount();
+        }
+
+        // 파티션 테이블이면 default 파티션에 남은 지난 날씨만 대상
+        int deleted;
+        do {
+            deleted = deleteExpiredChunk(cutoff);
+            total += deleted;
+        } while (deleted >= chunkSize);
+        return total;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public record PartitionRotation(int createdCount, int droppedCount, long deletedCount, long retainedCount) {
+    }
+}
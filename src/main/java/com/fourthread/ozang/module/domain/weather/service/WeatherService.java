@@ -2,7 +2,9 @@ package com.fourthread.ozang.module.domain.weather.service;
 
 import com.fourthread.ozang.module.domain.weather.dto.WeatherAPILocation;
 import com.fourthread.ozang.module.domain.weather.dto.WeatherDto;
+import com.fourthread.ozang.module.domain.weather.dto.request.WeatherBatchRequest.Coordinate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface WeatherService {
 
@@ -11,16 +13,42 @@ public interface WeatherService {
      */
     WeatherDto getWeatherForecast(Double longitude, Double latitude);
 
+    /**
+     * 위경도 좌표로 날씨 정보 조회 (비동기 - 외부 API 대기 중 요청 스레드를 점유하지 않음)
+     */
+    CompletableFuture<WeatherDto> getWeatherForecastAsync(Double longitude, Double latitude);
+
+    /**
+     * 여러 위치 날씨 정보 조회 (비동기 - 격자 단위로 중복 제거, 결과는 요청 순서)
+     */
+    CompletableFuture<List<WeatherDto>> getWeatherForecastBatchAsync(List<Coordinate> coordinates);
+
     /**
      * 오늘 실황(초단기실황) + 최대 5일 단기예보
      */
     List<WeatherDto> getFiveDayForecast(Double longitude, Double latitude);
 
+    /**
+     * 오늘 실황 + 최대 5일 단기예보 (비동기)
+     */
+    CompletableFuture<List<WeatherDto>> getFiveDayForecastAsync(Double longitude, Double latitude);
+
     /**
      * 위경도 좌표로 위치 정보 조회
      */
     WeatherAPILocation getWeatherLocation(Double longitude, Double latitude);
 
+    /**
+     * 위경도 좌표로 위치 정보 조회 (비동기)
+     */
+    CompletableFuture<WeatherAPILocation> getWeatherLocationAsync(Double longitude, Double latitude);
+
+    /**
+     * 예보 사전 적재 (배치용)
+     * @return 외부 API 를 호출해 새로 저장했으면 true, 이미 현재 발표시각 데이터가 있으면 false
+     */
+    boolean prewarmWeatherForecast(Double longitude, Double latitude);
+
     /**
      * 오래된 날씨 데이터 정리 (배치용)
      * @return 삭제된 데이터 개수
@@ -1,6 +1,10 @@
 package com.fourthread.ozang.module.domain.weather.service;
 
-import com.fourthread.ozang.module.domain.weather.client.KakaoApiClient;
+import com.fourthread.ozang.module.domain.weather.cache.FiveDayForecastCache;
+import com.fourthread.ozang.module.domain.weather.cache.ForecastCacheKey;
+import com.fourthread.ozang.module.domain.weather.cache.PublishCycleCache;
+import com.fourthread.ozang.module.domain.weather.cache.ResponseHashCache;
+import com.fourthread.ozang.module.domain.weather.cache.SingleFlight;
 import com.fourthread.ozang.module.domain.weather.client.WeatherApiClient;
 import com.fourthread.ozang.module.domain.weather.dto.HumidityDto;
 import com.fourthread.ozang.module.domain.weather.dto.PrecipitationDto;
@@ -8,9 +12,8 @@ import com.fourthread.ozang.module.domain.weather.dto.TemperatureDto;
 import com.fourthread.ozang.module.domain.weather.dto.WeatherAPILocation;
 import com.fourthread.ozang.module.domain.weather.dto.WeatherDto;
 import com.fourthread.ozang.module.domain.weather.dto.WindSpeedDto;
-import com.fourthread.ozang.module.domain.weather.dto.external.WeatherApiResponse;
-import com.fourthread.ozang.module.domain.weather.dto.type.PrecipitationType;
-import com.fourthread.ozang.module.domain.weather.dto.type.SkyStatus;
+import com.fourthread.ozang.module.domain.weather.dto.request.WeatherBatchRequest.Coordinate;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
 import com.fourthread.ozang.module.domain.weather.dto.type.WindStrength;
 import com.fourthread.ozang.module.domain.weather.entity.GridCoordinate;
 import com.fourthread.ozang.module.domain.weather.entity.Weather;
@@ -20,7 +23,8 @@ import com.fourthread.ozang.module.domain.weather.exception.WeatherDataFetchExce
 import com.fourthread.ozang.module.domain.weather.mapper.WeatherMapper;
 import com.fourthread.ozang.module.domain.weather.repository.WeatherRepository;
 import com.fourthread.ozang.module.domain.weather.util.CoordinateConverter;
-import java.security.MessageDigest;
+import com.fourthread.ozang.module.domain.weather.util.KmaPublishSchedule;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -29,7 +33,6 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.DoubleSummaryStatistics;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,45 +43,99 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Service
 public class WeatherServiceImpl implements WeatherService {
 
+    private static final DateTimeFormatter BASE_DATE_TIME_FMT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    private static final Set<Integer> MORNING_BASE_HOURS = Set.of(2, 5, 8, 11, 14);
+    private static final Set<Integer> EVENING_BASE_HOURS = Set.of(17, 20, 23);
+    private static final int[] FOURTH_DAY_MORNING_TIMES = {200, 500, 800, 1100, 1400};
+    private static final int[] FIFTH_DAY_TIMES = {0, 300, 600, 900, 1200, 1500, 1800, 2100};
+    private static final int[] FIFTH_DAY_FALLBACK_HOURS = {23, 20, 17};
+    private static final Duration FIFTH_DAY_FALLBACK_TIMEOUT = Duration.ofSeconds(15);
+    private static final Duration FIFTH_DAY_CANDIDATE_TIMEOUT = Duration.ofSeconds(5);
+
     private final WeatherRepository weatherRepository;
+    private final WeatherPersistenceService weatherPersistenceService;
     private final WeatherMapper weatherMapper;
     private final WeatherApiClient weatherApiClient;
-    private final KakaoApiClient kakaoApiClient;
+    private final LocationNameService locationNameService;
     private final CoordinateConverter coordinateConverter;
     private final Executor apiCallExecutor;
+    private final PublishCycleCache<WeatherDto> weatherForecastCache;
+    private final SingleFlight<ForecastCacheKey, WeatherDto> weatherForecastFlight;
+    private final FiveDayForecastCache fiveDayForecastCache;
+    private final WeatherRetentionService weatherRetentionService;
+    private final ResponseHashCache responseHashCache;
+    private final ForecastGridSnapshotService forecastGridSnapshotService;
+    private final DailyWeatherRollupService dailyWeatherRollupService;
+    // 발표시각/5일 예보 기준 날짜는 서비스 시간대(KST) 기준
+    private final ZoneId zoneId;
 
     @Value("${batch.weather.retention-days:30}")
     private int defaultRetentionDays;
 
+    @Value("${weather.stale.latency-budget:2s}")
+    private Duration staleLatencyBudget = Duration.ofSeconds(2);
+
+    @Value("${weather.stale.max-age:12h}")
+    private Duration staleMaxAge = Duration.ofHours(12);
+
+    @Value("${weather.batch.concurrency:4}")
+    private int batchConcurrency = 4;
+
     public WeatherServiceImpl(
         WeatherRepository weatherRepository,
+        WeatherPersistenceService weatherPersistenceService,
         WeatherMapper weatherMapper,
         WeatherApiClient weatherApiClient,
-        KakaoApiClient kakaoApiClient,
+        LocationNameService locationNameService,
         CoordinateConverter coordinateConverter,
-        @Qualifier("apiCallExecutor") Executor apiCallExecutor) {
+        @Qualifier("apiCallExecutor") Executor apiCallExecutor,
+        @Qualifier("weatherForecastCache") PublishCycleCache<WeatherDto> weatherForecastCache,
+        @Qualifier("weatherForecastFlight") SingleFlight<ForecastCacheKey, WeatherDto> weatherForecastFlight,
+        FiveDayForecastCache fiveDayForecastCache,
+        WeatherRetentionService weatherRetentionService,
+        ResponseHashCache responseHashCache,
+        ForecastGridSnapshotService forecastGridSnapshotService,
+        DailyWeatherRollupService dailyWeatherRollupService,
+        ZoneId zoneId) {
 
         this.weatherRepository = weatherRepository;
+        this.weatherPersistenceService = weatherPersistenceService;
         this.weatherMapper = weatherMapper;
         this.weatherApiClient = weatherApiClient;
-        this.kakaoApiClient = kakaoApiClient;
+        this.locationNameService = locationNameService;
         this.coordinateConverter = coordinateConverter;
         this.apiCallExecutor = apiCallExecutor;
+        this.weatherForecastCache = weatherForecastCache;
+        this.weatherForecastFlight = weatherForecastFlight;
+        this.fiveDayForecastCache = fiveDayForecastCache;
+        this.weatherRetentionService = weatherRetentionService;
+        this.responseHashCache = responseHashCache;
+        this.forecastGridSnapshotService = forecastGridSnapshotService;
+        this.dailyWeatherRollupService = dailyWeatherRollupService;
+        this.zoneId = zoneId;
     }
 
+    /**
+     * 트랜잭션 없이 실행 - 조회/저장은 각각 짧은 트랜잭션으로 처리하고
+     * 외부 API 대기 중에는 DB 커넥션을 점유하지 않는다
+     */
     @Override
-    @Transactional(readOnly = true)
     public WeatherDto getWeatherForecast(Double longitude, Double latitude) {
         log.info("날씨 정보 조회 시작 - 위도: {}, 경도: {}", latitude, longitude);
 
@@ -87,29 +144,232 @@ public class WeatherServiceImpl implements WeatherService {
         GridCoordinate gridCoordinate = coordinateConverter.convertToGrid(latitude, longitude);
         log.debug("격자 좌표 변환 완료 - X: {}, Y: {}", gridCoordinate.getX(), gridCoordinate.getY());
 
-        LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
-        Optional<Weather> cachedWeather = weatherRepository.findLatestByGridCoordinate(
+        // 발표시각 기준 캐시 유효성 판단 (발표시각이 바뀌면 키가 달라져 자연스럽게 미스)
+        LocalDateTime baseDateTime = KmaPublishSchedule.baseDateTime(LocalDateTime.now(zoneId));
+        ForecastCacheKey cacheKey = ForecastCacheKey.of(gridCoordinate, baseDateTime);
+        log.debug("기상청 API 기준 발표시각 - {}", baseDateTime);
+
+        Optional<WeatherDto> cachedDto = weatherForecastCache.get(cacheKey);
+        if (cachedDto.isPresent()) {
+            log.info("캐시된 날씨 데이터 사용 (L1)");
+            return cachedDto.get();
+        }
+
+        // 같은 격자/발표시각의 동시 미스는 하나의 조회로 병합
+        // 조회는 boundedElastic 에서 실행해 지연 예산을 넘기면 저장 데이터로 먼저 응답하고 조회는 계속 진행
+        CompletableFuture<WeatherDto> loading = weatherForecastFlight.executeAsync(cacheKey, () -> Mono
+            .fromCallable(() -> loadWeatherForecast(gridCoordinate, cacheKey,
+                () -> fetchAndSaveWeatherData(latitude, longitude, gridCoordinate)))
+            .subscribeOn(Schedulers.boundedElastic())
+            .toFuture());
+        WeatherDto weatherDto = withStaleFallback(loading, gridCoordinate).block();
+
+        log.info("날씨 정보 조회 완료");
+        return weatherDto;
+    }
+
+    /**
+     * 캐시 미스 시 저장된 데이터 또는 외부 API 로 조회 (single-flight 리더만 실행)
+     */
+    private WeatherDto loadWeatherForecast(GridCoordinate gridCoordinate, ForecastCacheKey cacheKey,
+        Supplier<Weather> fetcher) {
+        WeatherDto storedDto = findFreshWeather(gridCoordinate, cacheKey);
+        if (storedDto != null) {
+            return storedDto;
+        }
+
+        // 날씨 변화 감지/알림은 저장 시 처리 (WeatherPersistenceService → WeatherChangedEvent)
+        Weather weather = fetcher.get();
+
+        return cacheWeather(cacheKey, weather);
+    }
+
+    /**
+     * 직전 조회 결과(L1), 현재 발표분 격자 스냅샷, 현재 발표시각 이후 저장된 데이터 순으로 조회 - 없으면 null
+     */
+    private WeatherDto findFreshWeather(GridCoordinate gridCoordinate, ForecastCacheKey cacheKey) {
+        // 직전 조회가 방금 끝났을 수 있으므로 재확인
+        Optional<WeatherDto> justLoaded = weatherForecastCache.peek(cacheKey);
+        if (justLoaded.isPresent()) {
+            return justLoaded.get();
+        }
+
+        // 발표 주기마다 교체되는 메모리 매핑 스냅샷 (저장 날씨 조회 없음, 전날 집계만 PK 조회)
+        Optional<WeatherDto> snapshotDto = forecastGridSnapshotService.find(gridCoordinate,
+            cacheKey.baseDateTime());
+        if (snapshotDto.isPresent()) {
+            log.info("격자 예보 스냅샷 사용");
+            weatherForecastCache.put(cacheKey, snapshotDto.get());
+            return snapshotDto.get();
+        }
+
+        Optional<Weather> storedWeather = weatherRepository.findLatestByGrid(
             gridCoordinate.getX(),
             gridCoordinate.getY()
         );
 
-        if (cachedWeather.isPresent() && cachedWeather.get().getForecastedAt()
-            .isAfter(oneHourAgo)) {
-            log.info("캐시된 날씨 데이터 사용");
-            return weatherMapper.toDto(cachedWeather.get());
+        if (storedWeather.isPresent()
+            && !storedWeather.get().getForecastedAt().isBefore(cacheKey.baseDateTime())) {
+            log.info("저장된 날씨 데이터 사용");
+            WeatherDto storedDto = toDto(storedWeather.get());
+            weatherForecastCache.put(cacheKey, storedDto);
+            return storedDto;
         }
+        return null;
+    }
 
-        LocalDateTime now = LocalDateTime.now();
-        String baseDate = calculateBaseDate(now);
-        String baseTime = calculateBaseTime(now);
-        log.debug("기상청 API 요청 시간 - base_date: {}, base_time: {}", baseDate, baseTime);
+    /**
+     * 저장 날씨 응답 - 전날 대비 값은 전날 일 집계(PK 조회)로 계산
+     */
+    private WeatherDto toDto(Weather weather) {
+        return weatherMapper.toDto(weather, dailyWeatherRollupService.findDayBefore(weather).orElse(null));
+    }
 
-        Weather weather = fetchAndSaveWeatherData(latitude, longitude, gridCoordinate);
+    private WeatherDto cacheWeather(ForecastCacheKey cacheKey, Weather weather) {
+        WeatherDto weatherDto = toDto(weather);
+        weatherForecastCache.put(cacheKey, weatherDto);
+        return weatherDto;
+    }
 
-        //  날씨 변화 감지 및 알림 처리
+    /**
+     * 날씨 정보 조회 (비동기)
+     * - L1 적중은 즉시 완료
+     * - 미스 시 기상청/지역명 조회를 WebClient 논블로킹 호출로 병렬 실행(Mono.zip)
+     * - DB 조회/저장만 boundedElastic 에서 실행하므로 요청 스레드와 apiCallExecutor 를 점유하지 않는다
+     */
+    @Override
+    public CompletableFuture<WeatherDto> getWeatherForecastAsync(Double longitude, Double latitude) {
+        log.info("날씨 정보 비동기 조회 시작 - 위도: {}, 경도: {}", latitude, longitude);
 
-        log.info("날씨 정보 조회 완료");
-        return weatherMapper.toDto(weather);
+        validateCoordinates(longitude, latitude);
+
+        GridCoordinate gridCoordinate = coordinateConverter.convertToGrid(latitude, longitude);
+        ForecastCacheKey cacheKey = ForecastCacheKey.of(gridCoordinate,
+            KmaPublishSchedule.baseDateTime(LocalDateTime.now(zoneId)));
+        return loadWeatherForecastMono(gridCoordinate, cacheKey, latitude, longitude).toFuture();
+    }
+
+    /**
+     * 여러 위치 날씨 정보 조회 (비동기)
+     * - 격자 단위로 중복 제거 후 격자마다 한 번만 L1/single-flight/외부 API 경로로 조회
+     * - 격자 조회는 최대 batchConcurrency 개씩 동시 실행
+     * - 결과는 요청 순서대로 반환 (같은 격자의 위치는 같은 결과)
+     */
+    @Override
+    public CompletableFuture<List<WeatherDto>> getWeatherForecastBatchAsync(List<Coordinate> coordinates) {
+        log.info("날씨 정보 일괄 조회 시작 - 요청 위치: {}개", coordinates.size());
+
+        coordinates.forEach(coordinate -> validateCoordinates(coordinate.longitude(), coordinate.latitude()));
+
+        LocalDateTime baseDateTime = KmaPublishSchedule.baseDateTime(LocalDateTime.now(zoneId));
+        List<ForecastCacheKey> keys = new ArrayList<>(coordinates.size());
+        Map<ForecastCacheKey, Coordinate> representatives = new LinkedHashMap<>();
+        for (Coordinate coordinate : coordinates) {
+            GridCoordinate grid = coordinateConverter.convertToGrid(coordinate.latitude(), coordinate.longitude());
+            ForecastCacheKey key = ForecastCacheKey.of(grid, baseDateTime);
+            keys.add(key);
+            representatives.putIfAbsent(key, coordinate);
+        }
+        log.debug("격자 중복 제거 - 요청 위치: {}개, 조회 격자: {}개", coordinates.size(), representatives.size());
+
+        return Flux.fromIterable(representatives.entrySet())
+            .flatMap(entry -> loadWeatherForecastMono(
+                    new GridCoordinate(entry.getKey().x(), entry.getKey().y()), entry.getKey(),
+                    entry.getValue().latitude(), entry.getValue().longitude())
+                    .map(dto -> Map.entry(entry.getKey(), dto)),
+                batchConcurrency)
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+            .map(results -> keys.stream().map(results::get).toList())
+            .doOnNext(results -> log.info("날씨 정보 일괄 조회 완료 - 요청 위치: {}개, 조회 격자: {}개",
+                results.size(), representatives.size()))
+            .toFuture();
+    }
+
+    /**
+     * L1 → single-flight(스냅샷/저장 데이터/외부 API) 순으로 조회, 지연/장애 시 stale 응답
+     */
+    private Mono<WeatherDto> loadWeatherForecastMono(GridCoordinate gridCoordinate, ForecastCacheKey cacheKey,
+        Double latitude, Double longitude) {
+        Optional<WeatherDto> cachedDto = weatherForecastCache.get(cacheKey);
+        if (cachedDto.isPresent()) {
+            log.info("캐시된 날씨 데이터 사용 (L1)");
+            return Mono.just(cachedDto.get());
+        }
+
+        CompletableFuture<WeatherDto> loading = weatherForecastFlight.executeAsync(cacheKey, () -> Mono
+            .fromCallable(() -> findFreshWeather(gridCoordinate, cacheKey))
+            .subscribeOn(Schedulers.boundedElastic())
+            .switchIfEmpty(Mono.defer(() -> fetchAndSaveWeatherDataMono(latitude, longitude, gridCoordinate)
+                .map(weather -> cacheWeather(cacheKey, weather))))
+            .toFuture());
+        return withStaleFallback(loading, gridCoordinate);
+    }
+
+    /**
+     * stale-while-revalidate
+     * - 조회가 지연 예산을 넘기거나 외부 API 장애(서킷 OPEN 포함)로 실패하면 최근 저장 데이터를 stale 표시로 응답
+     * - 지연된 조회는 취소하지 않고 계속 진행해 완료 시 캐시를 갱신 (백그라운드 갱신)
+     * - 대신 응답할 데이터가 없으면 지연 시에는 조회 완료를 기다리고, 실패 시에는 원래 예외 전달
+     */
+    private Mono<WeatherDto> withStaleFallback(CompletableFuture<WeatherDto> loading, GridCoordinate gridCoordinate) {
+        Mono<WeatherDto> load = Mono.fromFuture(loading, true);
+        return load
+            .timeout(staleLatencyBudget)
+            .onErrorResume(this::isStaleServable, e -> Mono
+                .fromCallable(() -> findStaleWeather(gridCoordinate, e))
+                .subscribeOn(Schedulers.boundedElastic())
+                .switchIfEmpty(e instanceof TimeoutException ? load : Mono.error(e)));
+    }
+
+    private boolean isStaleServable(Throwable e) {
+        return e instanceof TimeoutException
+            || e instanceof WeatherApiException
+            || e instanceof WeatherDataFetchException;
+    }
+
+    /**
+     * 최대 경과 시간 이내에 저장된 최근 데이터 조회 - 없으면 null
+     * 현재 발표시각 데이터가 아니므로 L1 캐시에는 넣지 않는다
+     */
+    private WeatherDto findStaleWeather(GridCoordinate gridCoordinate, Throwable cause) {
+        Optional<Weather> storedWeather = weatherRepository.findLatestByGrid(
+            gridCoordinate.getX(),
+            gridCoordinate.getY()
+        );
+        LocalDateTime oldest = LocalDateTime.now(zoneId).minus(staleMaxAge);
+        if (storedWeather.isEmpty() || storedWeather.get().getForecastedAt().isBefore(oldest)) {
+            return null;
+        }
+
+        log.warn("저장된 날씨 데이터로 대신 응답 (stale) - X: {}, Y: {}, 발표시각: {}, 원인: {}",
+            gridCoordinate.getX(), gridCoordinate.getY(), storedWeather.get().getForecastedAt(),
+            cause instanceof TimeoutException ? "지연 예산 초과" : cause.getMessage());
+        return toDto(storedWeather.get()).asStale();
+    }
+
+    /**
+     * 예보 사전 적재 (배치용)
+     * - 현재 발표시각 데이터가 캐시/DB 에 있으면 건너뛰고, 없을 때만 조회 후 저장
+     * - 배치 작업 스레드가 apiCallExecutor 에서 실행되므로 내부에서 다시 병렬 호출하지 않고 순차 조회(V1)
+     */
+    @Override
+    public boolean prewarmWeatherForecast(Double longitude, Double latitude) {
+        validateCoordinates(longitude, latitude);
+
+        GridCoordinate gridCoordinate = coordinateConverter.convertToGrid(latitude, longitude);
+        ForecastCacheKey cacheKey = ForecastCacheKey.of(gridCoordinate,
+            KmaPublishSchedule.baseDateTime(LocalDateTime.now(zoneId)));
+
+        if (weatherForecastCache.peek(cacheKey).isPresent()) {
+            return false;
+        }
+
+        AtomicBoolean fetched = new AtomicBoolean(false);
+        weatherForecastFlight.execute(cacheKey, () -> loadWeatherForecast(gridCoordinate, cacheKey, () -> {
+            fetched.set(true);
+            return fetchAndSaveWeatherDataV1(latitude, longitude, gridCoordinate);
+        }));
+        return fetched.get();
     }
 
     @Override
@@ -120,7 +380,7 @@ public class WeatherServiceImpl implements WeatherService {
 
         GridCoordinate gridCoordinate = coordinateConverter.convertToGrid(latitude, longitude);
 
-        List<String> locationNames = kakaoApiClient.getLocationNames(latitude, longitude);
+        List<String> locationNames = locationNameService.getLocationNames(latitude, longitude);
 
         return weatherMapper.toWeatherAPILocation(
             latitude, longitude,
@@ -129,19 +389,33 @@ public class WeatherServiceImpl implements WeatherService {
         );
     }
 
-    // 비동기 처리
-    @Transactional
+    @Override
+    public CompletableFuture<WeatherAPILocation> getWeatherLocationAsync(Double longitude, Double latitude) {
+        validateCoordinates(longitude, latitude);
+
+        GridCoordinate gridCoordinate = coordinateConverter.convertToGrid(latitude, longitude);
+
+        return locationNameService.getLocationNamesMono(latitude, longitude)
+            .map(locationNames -> weatherMapper.toWeatherAPILocation(
+                latitude, longitude,
+                gridCoordinate.getX(), gridCoordinate.getY(),
+                locationNames
+            ))
+            .toFuture();
+    }
+
+    // 비동기 처리 (외부 API 호출은 트랜잭션 밖, 저장만 별도 트랜잭션)
     protected Weather fetchAndSaveWeatherData(Double latitude, Double longitude,
         GridCoordinate gridCoordinate) {
         try {
             log.info("외부 API 병렬 호출 시작");
             long startTime = System.currentTimeMillis();
 
-            CompletableFuture<WeatherApiResponse> weatherAPiFuture = CompletableFuture
+            CompletableFuture<KmaForecast> weatherAPiFuture = CompletableFuture
                 .supplyAsync(() -> {
                     long apiStartTime = System.currentTimeMillis();
                     log.debug("기상청 API 호출 시작");
-                    WeatherApiResponse response = weatherApiClient.getWeatherForecast(
+                    KmaForecast response = weatherApiClient.getWeatherForecast(
                         gridCoordinate);
                     long apiEndTime = System.currentTimeMillis();
                     log.debug("기상청 API 호출 완료 - 소요시간={}ms", apiEndTime - apiStartTime);
@@ -152,10 +426,10 @@ public class WeatherServiceImpl implements WeatherService {
             CompletableFuture<List<String>> locationFuture = CompletableFuture
                 .supplyAsync(() -> {
                     long apiStartTime = System.currentTimeMillis();
-                    log.debug("카카오 API 호출 시작");
-                    List<String> locations = kakaoApiClient.getLocationNames(latitude, longitude);
+                    log.debug("지역명 조회 시작");
+                    List<String> locations = locationNameService.getLocationNames(latitude, longitude);
                     long apiEndTime = System.currentTimeMillis();
-                    log.debug("카카오 API 호출 완료 - 소요시간={}ms", apiEndTime - apiStartTime);
+                    log.debug("지역명 조회 완료 - 소요시간={}ms", apiEndTime - apiStartTime);
                     return locations;
                 }, apiCallExecutor)
                 .orTimeout(5, TimeUnit.SECONDS);
@@ -164,12 +438,12 @@ public class WeatherServiceImpl implements WeatherService {
             CompletableFuture<Void> combinedFuture = CompletableFuture.allOf(
                 weatherAPiFuture, locationFuture);
 
-            WeatherApiResponse apiResponse;
+            KmaForecast forecast;
             List<String> locationNames;
 
             try {
                 combinedFuture.join(); // 모든 비동기 작업 완료 대기
-                apiResponse = weatherAPiFuture.join();
+                forecast = weatherAPiFuture.join();
                 locationNames = locationFuture.join();
 
                 long endTime = System.currentTimeMillis();
@@ -186,24 +460,7 @@ public class WeatherServiceImpl implements WeatherService {
                 throw new WeatherDataFetchException("외부 API 호출 실패", e);
             }
 
-            validateApiResponse(apiResponse);
-
-            WeatherAPILocation location = weatherMapper.toWeatherAPILocation(
-                latitude, longitude,
-                gridCoordinate.getX(), gridCoordinate.getY(),
-                locationNames
-            );
-
-            List<WeatherApiResponse.Item> items = apiResponse.response().body().items().item();
-            Weather weather = weatherMapper.fromApiResponse(items, location);
-
-            String responseHash = generateResponseHash(apiResponse);
-            weather.setApiResponseHash(responseHash);
-
-            Weather savedWeather = weatherRepository.save(weather);
-            log.info("날씨 데이터 저장 완료 - ID: {}", savedWeather.getId());
-
-            return savedWeather;
+            return saveWeather(latitude, longitude, gridCoordinate, forecast, locationNames);
 
         } catch (WeatherApiException | WeatherDataFetchException | InvalidCoordinateException e) {
             log.error("날씨 데이터 조회 실패", e);
@@ -214,38 +471,131 @@ public class WeatherServiceImpl implements WeatherService {
         }
     }
 
-    @Transactional
+    /**
+     * 외부 API 논블로킹 병렬 호출 후 저장 (저장은 boundedElastic 에서 실행)
+     */
+    private Mono<Weather> fetchAndSaveWeatherDataMono(Double latitude, Double longitude,
+        GridCoordinate gridCoordinate) {
+        long startTime = System.currentTimeMillis();
+
+        return Mono.zip(
+                weatherApiClient.getWeatherForecastMono(gridCoordinate)
+                    .timeout(Duration.ofSeconds(10)),
+                locationNameService.getLocationNamesMono(latitude, longitude)
+                    .timeout(Duration.ofSeconds(5)))
+            .doOnNext(responses -> log.info("외부 API 논블로킹 병렬 호출 완료 - 소요시간: {}ms",
+                System.currentTimeMillis() - startTime))
+            .publishOn(Schedulers.boundedElastic())
+            .map(responses -> saveWeather(latitude, longitude, gridCoordinate,
+                responses.getT1(), responses.getT2()))
+            .onErrorMap(e -> !isWeatherException(e), e -> {
+                log.error("날씨 데이터 비동기 조회 중 오류 발생", e);
+                return new WeatherDataFetchException("날씨 데이터 조회 중 오류 발생", e);
+            });
+    }
+
+    private Weather saveWeather(Double latitude, Double longitude, GridCoordinate gridCoordinate,
+        KmaForecast forecast, List<String> locationNames) {
+        validateApiResponse(forecast);
+
+        String responseHash = generateResponseHash(forecast);
+        ForecastCacheKey hashKey = responseHashKey(gridCoordinate, forecast);
+        Optional<Weather> unchanged = findUnchanged(hashKey, responseHash);
+        if (unchanged.isPresent()) {
+            return unchanged.get();
+        }
+
+        WeatherAPILocation location = weatherMapper.toWeatherAPILocation(
+            latitude, longitude,
+            gridCoordinate.getX(), gridCoordinate.getY(),
+            locationNames
+        );
+
+        Weather weather = weatherMapper.fromForecast(forecast, location);
+        weather.setApiResponseHash(responseHash);
+
+        Weather savedWeather = weatherPersistenceService.save(weather, forecast);
+        log.info("날씨 데이터 저장 완료 - ID: {}", savedWeather.getId());
+
+        rememberResponseHash(hashKey, savedWeather);
+        return savedWeather;
+    }
+
+    /**
+     * 같은 격자/발표시각 응답을 이미 저장했고 해시가 같으면 저장된 날씨 반환 (매핑/저장 생략)
+     */
+    private Optional<Weather> findUnchanged(ForecastCacheKey hashKey, String responseHash) {
+        if (hashKey == null) {
+            return Optional.empty();
+        }
+        Optional<Weather> unchanged = responseHashCache.find(hashKey, responseHash);
+        unchanged.ifPresent(weather -> log.info("동일 발표분 응답 - 저장 생략, 기존 ID: {}", weather.getId()));
+        return unchanged;
+    }
+
+    private void rememberResponseHash(ForecastCacheKey hashKey, Weather savedWeather) {
+        if (hashKey != null) {
+            responseHashCache.put(hashKey, savedWeather);
+        }
+    }
+
+    /**
+     * 응답 해시 인덱스 키 - 격자 + 응답에 실린 발표시각 (발표시각이 없거나 형식이 다르면 null)
+     */
+    private ForecastCacheKey responseHashKey(GridCoordinate gridCoordinate, KmaForecast forecast) {
+        if (forecast.getBaseDate() == null || forecast.getBaseTime() == null) {
+            return null;
+        }
+        try {
+            return ForecastCacheKey.of(gridCoordinate,
+                parseDateTime(forecast.getBaseDate(), forecast.getBaseTime()));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private boolean isWeatherException(Throwable e) {
+        return e instanceof WeatherApiException
+            || e instanceof WeatherDataFetchException
+            || e instanceof InvalidCoordinateException;
+    }
+
     protected Weather fetchAndSaveWeatherDataV1(Double latitude, Double longitude,
         GridCoordinate gridCoordinate) {
         try {
             //  1. 기상청 API 호출
             log.info(" 기상청 API 호출 시작");
-            WeatherApiResponse apiResponse = weatherApiClient.getWeatherForecast(gridCoordinate);
+            KmaForecast forecast = weatherApiClient.getWeatherForecast(gridCoordinate);
 
             //  2. 응답 검증
-            validateApiResponse(apiResponse);
+            validateApiResponse(forecast);
+
+            //  3. 같은 발표분 응답이면 저장된 날씨 사용
+            String responseHash = generateResponseHash(forecast);
+            ForecastCacheKey hashKey = responseHashKey(gridCoordinate, forecast);
+            Optional<Weather> unchanged = findUnchanged(hashKey, responseHash);
+            if (unchanged.isPresent()) {
+                return unchanged.get();
+            }
 
-            //  3. 카카오 API로 지역명 조회
-            List<String> locationNames = kakaoApiClient.getLocationNames(latitude, longitude);
+            //  4. 지역명 조회 (카카오 API, 캐시 우선)
+            List<String> locationNames = locationNameService.getLocationNames(latitude, longitude);
 
-            //  4. WeatherAPILocation 생성
+            //  5. WeatherAPILocation 생성
             WeatherAPILocation location = weatherMapper.toWeatherAPILocation(
                 latitude, longitude,
                 gridCoordinate.getX(), gridCoordinate.getY(),
                 locationNames
             );
 
-            //  5. Weather 엔티티 생성
-            List<WeatherApiResponse.Item> items = apiResponse.response().body().items().item();
-            Weather weather = weatherMapper.fromApiResponse(items, location);
-
-            //  6. API 응답 해시 생성 (중복 방지)
-            String responseHash = generateResponseHash(apiResponse);
+            //  6. Weather 엔티티 생성 (API 응답 해시로 중복 방지)
+            Weather weather = weatherMapper.fromForecast(forecast, location);
             weather.setApiResponseHash(responseHash);
 
             //  7. 저장
-            Weather savedWeather = weatherRepository.save(weather);
+            Weather savedWeather = weatherPersistenceService.save(weather, forecast);
             log.info("날씨 데이터 저장 완료 - ID: {}", savedWeather.getId());
+            rememberResponseHash(hashKey, savedWeather);
 
             return savedWeather;
 
@@ -259,44 +609,55 @@ public class WeatherServiceImpl implements WeatherService {
     }
 
     @Override
-    @Transactional
     public List<WeatherDto> getFiveDayForecast(Double longitude, Double latitude) {
         validateCoordinates(longitude, latitude);
 
         GridCoordinate grid = coordinateConverter.convertToGrid(latitude, longitude);
 
-        LocalDateTime nowKst = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        LocalDateTime nowKst = LocalDateTime.now(zoneId);
+        ForecastCacheKey cacheKey = fiveDayCacheKey(grid, nowKst);
+        Optional<List<WeatherDto>> cached = fiveDayForecastCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.info("캐시된 5일 예보 사용");
+            return cached.get();
+        }
+
         String baseDate = calculateBaseDate(nowKst);
         String baseTime = calculateBaseTime(nowKst);
         log.debug("기상청 단기예보 호출 기준시각 - date: {}, time: {}", baseDate, baseTime);
 
+        LocalDateTime baseDateTime = KmaPublishSchedule.baseDateTime(nowKst);
+        Optional<KmaForecast> stored = findStoredForecast(grid, baseDateTime);
+
         log.info("5일 예보 병렬 호출 시작");
         long startTime = System.currentTimeMillis();
 
-        CompletableFuture<WeatherApiResponse> weatherApiFuture = CompletableFuture
-            .supplyAsync(() -> {
-                long apiStartTime = System.currentTimeMillis();
-                log.debug("기상청 단기예보 API 호출 시작");
-                WeatherApiResponse response = weatherApiClient.callVilageFcst(grid, baseDate,
-                    baseTime);
-                long apiEndTime = System.currentTimeMillis();
-                log.debug("기상청 단기예보 API 호출 완료 - 소요시간: {}ms", apiEndTime - apiStartTime);
-                return response;
-            }, apiCallExecutor)
-            .orTimeout(15, TimeUnit.SECONDS);
+        CompletableFuture<KmaForecast> weatherApiFuture = stored.isPresent()
+            ? CompletableFuture.completedFuture(stored.get())
+            : CompletableFuture
+                .supplyAsync(() -> {
+                    long apiStartTime = System.currentTimeMillis();
+                    log.debug("기상청 단기예보 API 호출 시작");
+                    KmaForecast response = weatherApiClient.callVilageFcst(grid, baseDate,
+                        baseTime);
+                    long apiEndTime = System.currentTimeMillis();
+                    log.debug("기상청 단기예보 API 호출 완료 - 소요시간: {}ms", apiEndTime - apiStartTime);
+                    return response;
+                }, apiCallExecutor)
+                .orTimeout(15, TimeUnit.SECONDS);
 
         CompletableFuture<List<String>> locationFuture = CompletableFuture
             .supplyAsync(() -> {
                 long apiStartTime = System.currentTimeMillis();
-                log.debug("카카오 API 호출 시작");
-                List<String> locations = kakaoApiClient.getLocationNames(latitude, longitude);
+                log.debug("지역명 조회 시작");
+                List<String> locations = locationNameService.getLocationNames(latitude, longitude);
                 long apiEndTime = System.currentTimeMillis();
-                log.debug("카카오 API 호출 완료 - 소요시간: {}ms", apiEndTime - apiStartTime);
+                log.debug("지역명 조회 완료 - 소요시간: {}ms", apiEndTime - apiStartTime);
                 return locations;
             }, apiCallExecutor) // 커스텀 Executor 사용
             .orTimeout(5, TimeUnit.SECONDS);
 
-        WeatherApiResponse resp;
+        KmaForecast resp;
         List<String> locationNames;
 
         try {
@@ -313,102 +674,189 @@ public class WeatherServiceImpl implements WeatherService {
         }
 
         validateApiResponse(resp);
+        if (stored.isEmpty()) {
+            storeForecast(grid, baseDateTime, resp);
+        }
 
-        return ensureFiveDayForecast(
-            resp.response().body().items().item(),
-            baseDate, baseTime, grid,
-            LocalDate.now(ZoneId.of("Asia/Seoul")),
+        List<WeatherDto> result = ensureFiveDayForecast(
+            resp,
+            baseDateTime, baseTime, grid,
+            nowKst.toLocalDate(),
             new WeatherAPILocation(latitude, longitude, grid.getX(), grid.getY(), locationNames)
-        );
+        ).block();
+
+        fiveDayForecastCache.put(cacheKey, result);
+        return result;
+    }
+
+    /**
+     * 5일 예보 조회 (비동기)
+     * - 캐시 적중은 즉시 완료
+     * - 기상청/지역명 조회와 5일째 데이터 보완 조회 모두 논블로킹 호출
+     */
+    @Override
+    public CompletableFuture<List<WeatherDto>> getFiveDayForecastAsync(Double longitude, Double latitude) {
+        validateCoordinates(longitude, latitude);
+
+        GridCoordinate grid = coordinateConverter.convertToGrid(latitude, longitude);
+
+        LocalDateTime nowKst = LocalDateTime.now(zoneId);
+        ForecastCacheKey cacheKey = fiveDayCacheKey(grid, nowKst);
+        Optional<List<WeatherDto>> cached = fiveDayForecastCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.info("캐시된 5일 예보 사용");
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        String baseDate = calculateBaseDate(nowKst);
+        String baseTime = calculateBaseTime(nowKst);
+        LocalDateTime baseDateTime = KmaPublishSchedule.baseDateTime(nowKst);
+        log.debug("기상청 단기예보 호출 기준시각 - date: {}, time: {}", baseDate, baseTime);
+
+        long startTime = System.currentTimeMillis();
+
+        Mono<KmaForecast> currentResponse = storedForecasts(grid, List.of(baseDateTime))
+            .mapNotNull(stored -> stored.get(baseDateTime))
+            .switchIfEmpty(Mono.defer(() -> weatherApiClient.callVilageFcstMono(grid, baseDate, baseTime)
+                .timeout(Duration.ofSeconds(15))
+                .doOnNext(resp -> {
+                    if ("00".equals(resp.getResultCode())) {
+                        storeForecast(grid, baseDateTime, resp);
+                    }
+                })));
+
+        return Mono.zip(
+                currentResponse,
+                locationNameService.getLocationNamesMono(latitude, longitude)
+                    .timeout(Duration.ofSeconds(5)))
+            .doOnNext(responses -> log.info("5일 예보 API 논블로킹 병렬 호출 완료 - 소요시간: {}ms",
+                System.currentTimeMillis() - startTime))
+            .onErrorMap(e -> {
+                log.error("5일 예보 API 호출 중 오류 발생", e);
+                return new WeatherDataFetchException("5일 예보 API 호출 실패", e);
+            })
+            .switchIfEmpty(Mono.error(() -> new WeatherDataFetchException("API 응답이 null입니다.")))
+            .flatMap(responses -> {
+                KmaForecast resp = responses.getT1();
+                validateApiResponse(resp);
+                return ensureFiveDayForecast(
+                    resp,
+                    baseDateTime, baseTime, grid,
+                    nowKst.toLocalDate(),
+                    new WeatherAPILocation(latitude, longitude, grid.getX(), grid.getY(),
+                        responses.getT2())
+                );
+            })
+            .doOnNext(result -> fiveDayForecastCache.put(cacheKey, result))
+            .toFuture();
+    }
+
+    /**
+     * 5일 예보 캐시 키 - 격자 + 발표시각
+     * 23시 발표분은 자정을 넘겨 02시 발표 전까지 쓰이지만 날짜가 바뀌면 오늘 기준 5일 범위도 바뀌므로 자정으로 끊는다
+     */
+    private ForecastCacheKey fiveDayCacheKey(GridCoordinate grid, LocalDateTime nowKst) {
+        LocalDateTime baseDateTime = KmaPublishSchedule.baseDateTime(nowKst);
+        LocalDateTime startOfDay = nowKst.toLocalDate().atStartOfDay();
+        return ForecastCacheKey.of(grid, baseDateTime.isBefore(startOfDay) ? startOfDay : baseDateTime);
     }
 
     private List<WeatherDto> filterFiveDay(
-        List<WeatherApiResponse.Item> items,
+        KmaForecast forecast,
         String baseTime,
         LocalDate today,
         WeatherAPILocation loc
     ) {
         int baseHour = Integer.parseInt(baseTime.substring(0, 2));
-        boolean morning = Set.of(2, 5, 8, 11, 14).contains(baseHour);
-        boolean evening = Set.of(17, 20, 23).contains(baseHour);
+        boolean morning = MORNING_BASE_HOURS.contains(baseHour);
+        boolean evening = EVENING_BASE_HOURS.contains(baseHour);
 
         log.debug("기준시각: {}시, morning: {}, evening: {}", baseHour, morning, evening);
 
-        Map<LocalDate, List<WeatherApiResponse.Item>> byDate = items.stream()
-            .filter(it -> includeCurrentApiItem(it, today, morning, evening))
-            .collect(Collectors.groupingBy(
-                it -> LocalDate.parse(it.fcstDate(), DateTimeFormatter.BASIC_ISO_DATE),
-                LinkedHashMap::new,
-                Collectors.toList()
-            ));
+        // 예보 시각 행을 한 번만 순회하며 날짜별로 바로 집계 (LocalDate 는 날짜 수만큼만 생성)
+        Map<LocalDate, DailyForecastAccumulator> byDate = new LinkedHashMap<>();
+        int lastFcstDate = -1;
+        LocalDate date = null;
+        int offset = 0;
+        for (int slot = 0; slot < forecast.size(); slot++) {
+            int fcstDate = forecast.fcstDate(slot);
+            if (fcstDate != lastFcstDate) {
+                lastFcstDate = fcstDate;
+                date = KmaForecast.toLocalDate(fcstDate);
+                offset = (int) ChronoUnit.DAYS.between(today, date);
+            }
+            if (!includeCurrentApiItem(offset, forecast.fcstTime(slot), morning, evening)) {
+                continue;
+            }
+
+            DailyForecastAccumulator accumulator = byDate.get(date);
+            if (accumulator == null) {
+                accumulator = new DailyForecastAccumulator(date, forecast.getBaseDate(),
+                    forecast.getBaseTime());
+                byDate.put(date, accumulator);
+            }
+            accumulator.accept(forecast, slot);
+        }
 
         log.debug("현재 API에서 추출된 날짜: {}", byDate.keySet());
 
-        List<WeatherDto> result = new ArrayList<>();
+        List<WeatherDto> result = new ArrayList<>(byDate.size());
         WeatherDto previousDay = null;
 
-        for (var entry : byDate.entrySet()) {
-            LocalDate date = entry.getKey();
-            List<WeatherApiResponse.Item> day = entry.getValue();
-
-            int dayOffset = (int) ChronoUnit.DAYS.between(today, date);
-            if (dayOffset > 5) {
-                continue;
-            }
-
-            log.debug("처리 중인 날짜: {}, 데이터 개수: {}", date, day.size());
-
-            WeatherDto weatherDto = createWeatherDtoFromItems(day, day.get(0).baseDate(),
-                day.get(0).baseTime(), loc, previousDay);
-            if (weatherDto != null) {
-                result.add(weatherDto);
-                previousDay = weatherDto;
-            }
+        for (DailyForecastAccumulator accumulator : byDate.values()) {
+            WeatherDto weatherDto = toWeatherDto(accumulator, loc, previousDay);
+            result.add(weatherDto);
+            previousDay = weatherDto;
         }
 
         log.debug("현재 API에서 생성된 예보: {}일치", result.size());
         return result;
     }
 
-    private boolean includeCurrentApiItem(WeatherApiResponse.Item it, LocalDate today,
-        boolean morning, boolean evening) {
-        LocalDate d = LocalDate.parse(it.fcstDate(), DateTimeFormatter.BASIC_ISO_DATE);
-        int offset = (int) ChronoUnit.DAYS.between(today, d);
-        String t = it.fcstTime();
-
+    /**
+     * @param fcstTime 예보 시각 (HHmm 정수)
+     */
+    private boolean includeCurrentApiItem(int offset, int fcstTime, boolean morning,
+        boolean evening) {
         if (offset < 0 || offset > 5) {
             return false;
         }
 
         if (offset <= 3) {
-            return t.endsWith("00");
+            return fcstTime % 100 == 0;
         }
 
         if (offset == 4) {
             return morning
-                ? Set.of("0200", "0500", "0800", "1100", "1400").contains(t)
-                : t.endsWith("00");
+                ? contains(FOURTH_DAY_MORNING_TIMES, fcstTime)
+                : fcstTime % 100 == 0;
         }
 
-        if (offset == 5) {
-            if (!evening) {
-                return false;
+        return evening && contains(FIFTH_DAY_TIMES, fcstTime);
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int candidate : values) {
+            if (candidate == value) {
+                return true;
             }
-            Set<String> fiveDayTimes = Set.of("0000", "0300", "0600", "0900", "1200", "1500",
-                "1800", "2100");
-            return fiveDayTimes.contains(t);
         }
-
         return false;
     }
 
-    private List<WeatherDto> ensureFiveDayForecast(
-        List<WeatherApiResponse.Item> items,
-        String baseDate, String baseTime, GridCoordinate grid,
+    /**
+     * 현재 발표분으로 5일 예보를 만들고 5일째가 없으면 이전 발표분에서 보완
+     * 현재 응답은 다음 발표 주기의 보완 조회에 재사용하도록 캐시
+     */
+    private Mono<List<WeatherDto>> ensureFiveDayForecast(
+        KmaForecast forecastResponse,
+        LocalDateTime baseDateTime, String baseTime, GridCoordinate grid,
         LocalDate today,
         WeatherAPILocation loc
     ) {
-        List<WeatherDto> forecast = filterFiveDay(items, baseTime, today, loc);
+        fiveDayForecastCache.putResponse(ForecastCacheKey.of(grid, baseDateTime), forecastResponse);
+
+        List<WeatherDto> forecast = filterFiveDay(forecastResponse, baseTime, today, loc);
 
         LocalDate fifthDay = today.plusDays(5);
         boolean hasFifthDay = forecast.stream()
@@ -416,17 +864,23 @@ public class WeatherServiceImpl implements WeatherService {
 
         log.debug("현재 예보 일수: {}, 5일째 데이터 존재: {}", forecast.size(), hasFifthDay);
 
-        if (!hasFifthDay) {
-            log.info("5일째 데이터 부족으로 이전 발표시각에서 조회 시도");
-            WeatherDto lastForecast = forecast.isEmpty() ? null : forecast.get(forecast.size() - 1);
-            WeatherDto fifthDayForecast = getFifthDayFromPreviousTime(grid, baseDate, baseTime,
-                today, loc, lastForecast);
-            if (fifthDayForecast != null) {
+        if (hasFifthDay) {
+            return Mono.just(sortFiveDay(forecast));
+        }
+
+        log.info("5일째 데이터 부족으로 이전 발표시각에서 조회 시도");
+        WeatherDto lastForecast = forecast.isEmpty() ? null : forecast.get(forecast.size() - 1);
+        return getFifthDayFromPreviousTime(grid, baseDateTime, today, loc, lastForecast)
+            .map(fifthDayForecast -> {
                 forecast.add(fifthDayForecast);
                 log.info("5일째 데이터 추가 완료");
-            }
-        }
+                return forecast;
+            })
+            .defaultIfEmpty(forecast)
+            .map(this::sortFiveDay);
+    }
 
+    private List<WeatherDto> sortFiveDay(List<WeatherDto> forecast) {
         List<WeatherDto> result = forecast.stream()
             .sorted(Comparator.comparing(WeatherDto::forecastAt))
             .limit(5)
@@ -436,143 +890,150 @@ public class WeatherServiceImpl implements WeatherService {
         return result;
     }
 
-    private WeatherDto getFifthDayFromPreviousTime(
-        GridCoordinate grid, String currentBaseDate, String currentBaseTime,
+    /**
+     * 이전 발표분(23/20/17시, 현재 발표시각 이전 중 가장 최근)에서 5일째 데이터 조회
+     * - 후보를 동시에 조회하되 결과는 후보 순서대로 보고 가장 최근 발표분의 사용 가능한 결과를 채택 (나머지는 취소)
+     * - 발표된 예보는 바뀌지 않으므로 캐시나 저장된 발표분(hourly_forecasts)이 있으면 호출하지 않는다
+     */
+    private Mono<WeatherDto> getFifthDayFromPreviousTime(
+        GridCoordinate grid, LocalDateTime currentBaseDateTime,
         LocalDate today, WeatherAPILocation loc, WeatherDto previousDay
     ) {
-        try {
-            String[] previousTimes = {"2300", "2000", "1700"};
-            String currentTime = currentBaseTime.substring(0, 2) + "00";
-
-            for (String prevTime : previousTimes) {
-                if (prevTime.compareTo(currentTime) < 0 || !currentBaseDate.equals(
-                    calculateBaseDate(LocalDateTime.now()))) {
-
-                    String targetDate = currentBaseDate;
-                    if (prevTime.compareTo(currentTime) >= 0) {
-                        LocalDate prevDay = LocalDate.parse(currentBaseDate,
-                            DateTimeFormatter.ofPattern("yyyyMMdd")).minusDays(1);
-                        targetDate = prevDay.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-                    }
+        List<LocalDateTime> candidates = new ArrayList<>(FIFTH_DAY_FALLBACK_HOURS.length);
+        for (int hour : FIFTH_DAY_FALLBACK_HOURS) {
+            LocalDateTime candidate = currentBaseDateTime.toLocalDate().atTime(hour, 0);
+            candidates.add(candidate.isBefore(currentBaseDateTime) ? candidate : candidate.minusDays(1));
+        }
 
+        return storedForecasts(grid, candidates)
+            .flatMapMany(stored -> Flux.fromIterable(candidates)
+                .flatMapSequential(candidate -> {
+                    String targetDate = candidate.format(KmaPublishSchedule.BASE_DATE_FMT);
+                    String prevTime = candidate.format(KmaPublishSchedule.BASE_TIME_FMT);
                     log.debug("5일째 데이터 조회 시도 - date: {}, time: {}", targetDate, prevTime);
 
-                    WeatherApiResponse prevResp = weatherApiClient.callVilageFcst(grid, targetDate,
-                        prevTime);
-
-                    if (prevResp != null && prevResp.response() != null &&
-                        prevResp.response().body() != null &&
-                        prevResp.response().body().items() != null) {
-
-                        LocalDate fifthDay = today.plusDays(5);
-                        List<WeatherApiResponse.Item> fifthDayItems = prevResp.response().body()
-                            .items().item().stream()
-                            .filter(item -> {
-                                LocalDate itemDate = LocalDate.parse(item.fcstDate(),
-                                    DateTimeFormatter.BASIC_ISO_DATE);
-                                return itemDate.equals(fifthDay);
-                            })
-                            .collect(Collectors.toList());
-
-                        if (!fifthDayItems.isEmpty()) {
-                            log.info("5일째 데이터 발견 - {}개 항목", fifthDayItems.size());
-                            return createWeatherDtoFromItems(fifthDayItems, targetDate, prevTime,
-                                loc,
-                                previousDay);
-                        }
-                    }
-                }
-            }
+                    return previousPublishResponse(grid, candidate, targetDate, prevTime, stored.get(candidate))
+                        .timeout(FIFTH_DAY_CANDIDATE_TIMEOUT)
+                        .mapNotNull(prevResp -> createFifthDayWeatherDto(prevResp,
+                            today.plusDays(5), targetDate, prevTime, loc, previousDay))
+                        .onErrorResume(e -> {
+                            log.warn("5일째 데이터 조회 실패 - date: {}, time: {}, error: {}",
+                                targetDate, prevTime, e.getMessage());
+                            return Mono.empty();
+                        });
+                }, candidates.size()))
+            .next()
+            .timeout(FIFTH_DAY_FALLBACK_TIMEOUT)
+            .switchIfEmpty(Mono.fromRunnable(() -> log.warn("5일째 데이터를 찾을 수 없습니다")))
+            .onErrorResume(e -> {
+                log.error("5일째 데이터 조회 중 오류 발생", e);
+                return Mono.empty();
+            });
+    }
 
-            log.warn("5일째 데이터를 찾을 수 없습니다");
-            return null;
+    /**
+     * @param stored 저장된 같은 발표분 응답 (없으면 null)
+     */
+    private Mono<KmaForecast> previousPublishResponse(
+        GridCoordinate grid, LocalDateTime baseDateTime, String baseDate, String baseTime, KmaForecast stored
+    ) {
+        ForecastCacheKey key = ForecastCacheKey.of(grid, baseDateTime);
+        Optional<KmaForecast> cached = fiveDayForecastCache.getResponse(key);
+        if (cached.isPresent()) {
+            log.debug("캐시된 이전 발표분 사용 - date: {}, time: {}", baseDate, baseTime);
+            return Mono.just(cached.get());
+        }
+        if (stored != null) {
+            log.debug("저장된 이전 발표분 사용 - date: {}, time: {}", baseDate, baseTime);
+            fiveDayForecastCache.putResponse(key, stored);
+            return Mono.just(stored);
+        }
+        return Mono.defer(() -> weatherApiClient.callVilageFcstMono(grid, baseDate, baseTime))
+            .filter(prevResp -> !prevResp.isEmpty())
+            .doOnNext(prevResp -> {
+                fiveDayForecastCache.putResponse(key, prevResp);
+                storeForecast(grid, baseDateTime, prevResp);
+            });
+    }
 
-        } catch (Exception e) {
-            log.error("5일째 데이터 조회 중 오류 발생", e);
-            return null;
+    /**
+     * 저장된 발표분 응답 조회 (동기 경로) - 조회 실패는 외부 API 호출로 대신한다
+     */
+    private Optional<KmaForecast> findStoredForecast(GridCoordinate grid, LocalDateTime baseDateTime) {
+        try {
+            return Optional.ofNullable(weatherPersistenceService
+                .findForecasts(grid.getX(), grid.getY(), List.of(baseDateTime))
+                .get(baseDateTime));
+        } catch (RuntimeException e) {
+            log.warn("저장된 발표분 조회 실패 - 외부 API 호출, 원인: {}", e.getMessage());
+            return Optional.empty();
         }
     }
 
-    private WeatherDto createWeatherDtoFromItems(
-        List<WeatherApiResponse.Item> dayItems,
+    /**
+     * 저장된 발표분 응답 일괄 조회 (논블로킹 경로) - DB 조회만 boundedElastic 에서 실행, 실패 시 빈 결과
+     */
+    private Mono<Map<LocalDateTime, KmaForecast>> storedForecasts(
+        GridCoordinate grid, List<LocalDateTime> baseDateTimes
+    ) {
+        return Mono.fromCallable(() -> weatherPersistenceService.findForecasts(grid.getX(), grid.getY(),
+                baseDateTimes))
+            .subscribeOn(Schedulers.boundedElastic())
+            .onErrorResume(e -> {
+                log.warn("저장된 발표분 조회 실패 - 외부 API 호출, 원인: {}", e.getMessage());
+                return Mono.just(Map.of());
+            });
+    }
+
+    /**
+     * 외부 API 에서 받은 발표분 응답을 시간별 예보 계열로 저장 - 응답 경로를 막지 않도록 boundedElastic 에서 실행
+     */
+    private void storeForecast(GridCoordinate grid, LocalDateTime baseDateTime, KmaForecast forecast) {
+        if (forecast.isEmpty()) {
+            return;
+        }
+        Schedulers.boundedElastic().schedule(() -> {
+            try {
+                weatherPersistenceService.saveForecast(grid.getX(), grid.getY(), baseDateTime, forecast);
+            } catch (RuntimeException e) {
+                log.warn("발표분 응답 저장 실패 - X: {}, Y: {}, 발표시각: {}, 원인: {}",
+                    grid.getX(), grid.getY(), baseDateTime, e.getMessage());
+            }
+        });
+    }
+
+    private WeatherDto createFifthDayWeatherDto(
+        KmaForecast forecast,
+        LocalDate fifthDay,
         String baseDate, String baseTime,
         WeatherAPILocation loc,
         WeatherDto previousDay
     ) {
-        if (dayItems.isEmpty()) {
+        int fifthDayValue = fifthDay.getYear() * 10000 + fifthDay.getMonthValue() * 100
+            + fifthDay.getDayOfMonth();
+
+        DailyForecastAccumulator accumulator = new DailyForecastAccumulator(fifthDay, baseDate, baseTime);
+        for (int slot = 0; slot < forecast.size(); slot++) {
+            if (forecast.fcstDate(slot) == fifthDayValue) {
+                accumulator.accept(forecast, slot);
+            }
+        }
+
+        if (accumulator.isEmpty()) {
             return null;
         }
+        log.info("5일째 데이터 발견 - {}", fifthDay);
+        return toWeatherDto(accumulator, loc, previousDay);
+    }
 
-        LocalDate date = LocalDate.parse(dayItems.get(0).fcstDate(),
-            DateTimeFormatter.BASIC_ISO_DATE);
-
-        // 기온(TMP) 처리
-        DoubleSummaryStatistics tStat = dayItems.stream()
-            .filter(i -> "TMP".equals(i.category()))
-            .mapToDouble(i -> parseDouble(i.fcstValue()))
-            .summaryStatistics();
-
-        double curTemp = tStat.getCount() > 0 ? tStat.getAverage() : 22.0;
-        double minTemp = tStat.getCount() > 0 ? tStat.getMin() : 20.0;
-        double maxTemp = tStat.getCount() > 0 ? tStat.getMax() : 25.0;
-
-        // 습도(REH)
-        double avgHum = dayItems.stream()
-            .filter(i -> "REH".equals(i.category()))
-            .mapToDouble(i -> parseDouble(i.fcstValue()))
-            .average().orElse(50.0);
-
-        // 풍속(WSD)
-        double avgWsd = dayItems.stream()
-            .filter(i -> "WSD".equals(i.category()))
-            .mapToDouble(i -> parseDouble(i.fcstValue()))
-            .average().orElse(1.0);
-
-        // 강수확률(POP)
-        double avgPop = dayItems.stream()
-            .filter(i -> "POP".equals(i.category()))
-            .mapToDouble(i -> parseDouble(i.fcstValue()) / 100.0)
-            .average().orElse(0.0);
-
-        // 하늘상태(SKY)
-        String skyCode = dayItems.stream()
-            .filter(i -> "SKY".equals(i.category()))
-            .collect(
-                Collectors.groupingBy(WeatherApiResponse.Item::fcstValue, Collectors.counting()))
-            .entrySet().stream()
-            .max(Map.Entry.comparingByValue())
-            .map(Map.Entry::getKey).orElse("1");
-
-        // 강수형태 및 강수량
-        PrecipitationType precipitationType = dayItems.stream()
-            .filter(i -> "PTY".equals(i.category()))
-            .map(i -> {
-                String value = i.fcstValue();
-                return switch (value) {
-                    case "1" -> PrecipitationType.RAIN;
-                    case "2" -> PrecipitationType.RAIN_SNOW;
-                    case "3" -> PrecipitationType.SNOW;
-                    case "4" -> PrecipitationType.SHOWER;
-                    default -> PrecipitationType.NONE;
-                };
-            })
-            .findFirst()
-            .orElse(PrecipitationType.NONE);
-
-        double precipitation = dayItems.stream()
-            .filter(i -> "PCP".equals(i.category()))
-            .mapToDouble(i -> {
-                String value = i.fcstValue();
-                if ("강수없음".equals(value) || value.isEmpty()) {
-                    return 0.0;
-                }
-                try {
-                    return Double.parseDouble(value.replaceAll("[^0-9.]", ""));
-                } catch (NumberFormatException e) {
-                    return 0.0;
-                }
-            })
-            .sum();
+    private WeatherDto toWeatherDto(
+        DailyForecastAccumulator accumulator,
+        WeatherAPILocation loc,
+        WeatherDto previousDay
+    ) {
+        double curTemp = accumulator.currentTemperature();
+        double avgHum = accumulator.humidity();
+        double avgWsd = accumulator.windSpeed();
 
         // 전날 대비 변화량 계산
         double temperatureCompared =
@@ -582,46 +1043,36 @@ public class WeatherServiceImpl implements WeatherService {
 
         return new WeatherDto(
             UUID.randomUUID(),
-            parseDateTime(baseDate, baseTime),
-            LocalDateTime.of(date, LocalTime.NOON),
+            parseDateTime(accumulator.getBaseDate(), accumulator.getBaseTime()),
+            LocalDateTime.of(accumulator.getDate(), LocalTime.NOON),
             loc,
-            SkyStatus.fromCode(skyCode),
-            new PrecipitationDto(precipitationType, precipitation, avgPop),
+            accumulator.skyStatus(),
+            new PrecipitationDto(accumulator.precipitationType(), accumulator.precipitation(),
+                accumulator.precipitationProbability()),
             new HumidityDto(avgHum, humidityCompared),
-            new TemperatureDto(curTemp, temperatureCompared, minTemp, maxTemp),
+            new TemperatureDto(curTemp, temperatureCompared, accumulator.minTemperature(),
+                accumulator.maxTemperature()),
             new WindSpeedDto(avgWsd, WindStrength.fromSpeed(avgWsd))
         );
     }
 
 
     @Override
-    @Transactional
     public int cleanupOldWeatherData() {
         return cleanupOldWeatherData(defaultRetentionDays);
     }
 
+    /**
+     * 트랜잭션 없이 실행 - 파티션 삭제/청크 삭제가 각각 짧은 트랜잭션으로 처리된다
+     */
     @Override
-    @Transactional
     public int cleanupOldWeatherData(int retentionDays) {
         log.info("오래된 날씨 데이터 정리 시작 - 보관 기간: {}일", retentionDays);
 
         try {
-            LocalDateTime cutoffDate = LocalDateTime.now().minusDays(retentionDays);
-            log.debug("삭제 기준 날짜: {}", cutoffDate);
-
-            long deleteCount = weatherRepository.countOldWeatherData(cutoffDate);
-
-            if (deleteCount > 0) {
-                log.info("삭제 예정 날씨 데이터: {}건", deleteCount);
-
-                // 삭제(배치)
-                weatherRepository.deleteOldWeatherData(cutoffDate);
-                log.info("{}일 이전 날씨 데이터 {}건 삭제 완료", retentionDays, deleteCount);
-            } else {
-                log.info("삭제할 오래된 날씨 데이터가 없습니다");
-            }
-
-            return (int) deleteCount;
+            long deleteCount = weatherRetentionService.cleanup(retentionDays);
+            log.info("{}일 이전 날씨 데이터 {}건 삭제 완료", retentionDays, deleteCount);
+            return (int) Math.min(deleteCount, Integer.MAX_VALUE);
 
         } catch (Exception e) {
             log.error("날씨 데이터 정리 중 오류 발생", e);
@@ -634,15 +1085,7 @@ public class WeatherServiceImpl implements WeatherService {
             ? String.format("%04d", Integer.parseInt(time))
             : time;
         String ymdhm = date + t.substring(0, 2) + "00";
-        return LocalDateTime.parse(ymdhm, DateTimeFormatter.ofPattern("yyyyMMddHHmm"));
-    }
-
-    private double parseDouble(String v) {
-        try {
-            return Double.parseDouble(v);
-        } catch (Exception e) {
-            return 0;
-        }
+        return LocalDateTime.parse(ymdhm, BASE_DATE_TIME_FMT);
     }
 
     private void validateCoordinates(Double longitude, Double latitude) {
@@ -655,15 +1098,14 @@ public class WeatherServiceImpl implements WeatherService {
         }
     }
 
-    private void validateApiResponse(WeatherApiResponse response) {
-        if (response == null || response.response() == null) {
+    private void validateApiResponse(KmaForecast forecast) {
+        if (forecast == null) {
             throw new WeatherDataFetchException("API 응답이 null입니다.");
         }
 
-        WeatherApiResponse.Header header = response.response().header();
-        if (header == null || !"00".equals(header.resultCode())) {
-            String errorMsg = header != null ? header.resultMsg() : "Unknown error";
-            String resultCode = header != null ? header.resultCode() : "UNKNOWN";
+        if (!"00".equals(forecast.getResultCode())) {
+            String errorMsg = forecast.getResultCode() != null ? forecast.getResultMsg() : "Unknown error";
+            String resultCode = forecast.getResultCode() != null ? forecast.getResultCode() : "UNKNOWN";
 
             switch (resultCode) {
                 case "01" ->
@@ -688,9 +1130,7 @@ public class WeatherServiceImpl implements WeatherService {
             }
         }
 
-        WeatherApiResponse.Body body = response.response().body();
-        if (body == null || body.items() == null || body.items().item() == null || body.items()
-            .item().isEmpty()) {
+        if (forecast.isEmpty()) {
             throw new WeatherDataFetchException("날씨 데이터가 없습니다.");
         }
     }
@@ -699,42 +1139,21 @@ public class WeatherServiceImpl implements WeatherService {
      * 단기예보용 base_date 계산 (KST 발표시 10분 이후부터 해당 시각)
      */
     private String calculateBaseDate(LocalDateTime now) {
-        int[] hours = {23, 20, 17, 14, 11, 8, 5, 2};
-        for (int h : hours) {
-            LocalDateTime publish = now.withHour(h).withMinute(10).withSecond(0);
-            if (!now.isBefore(publish)) {
-                return publish.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            }
-        }
-        return now.minusDays(1).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        return KmaPublishSchedule.baseDate(now);
     }
 
     /**
      * 단기예보용 base_time 계산 ("HH00", 발표시각 10분 이후부터)
      */
     private String calculateBaseTime(LocalDateTime now) {
-        int[] hours = {23, 20, 17, 14, 11, 8, 5, 2};
-        for (int h : hours) {
-            LocalDateTime publish = now.withHour(h).withMinute(10).withSecond(0);
-            if (!now.isBefore(publish)) {
-                return String.format("%02d00", h);
-            }
-        }
-        return "2300";
+        return KmaPublishSchedule.baseTime(now);
     }
 
-    private String generateResponseHash(WeatherApiResponse response) {
-        try {
-            String data = response.toString();
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            byte[] hash = md.digest(data.getBytes());
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                hexString.append(String.format("%02x", b));
-            }
-            return hexString.toString();
-        } catch (Exception e) {
-            return String.valueOf(System.currentTimeMillis());
-        }
+    /**
+     * 응답 해시 (파싱하면서 원문 바이트로 계산한 xxHash64)
+     */
+    private String generateResponseHash(KmaForecast forecast) {
+        String hash = forecast.getResponseHash();
+        return hash != null ? hash : String.valueOf(System.currentTimeMillis());
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.fourthread.ozang.module.domain.weather.util;
 
 import com.fourthread.ozang.module.domain.weather.entity.GridCoordinate;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -16,13 +18,17 @@ public class CoordinateConverter {
     private static final double XO = 210 / GRID; // 기준점 X좌표 (GRID)
     private static final double YO = 675 / GRID; // 기준점 Y좌표 (GRID)
 
-    public GridCoordinate convertToGrid(double lat, double lon) {
-        double DEGRAD = Math.PI / 180.0;
+    // 투영 상수 (입력 좌표와 무관하므로 클래스 로딩 시 1회 계산)
+    private static final double DEGRAD = Math.PI / 180.0;
+    private static final double OLON_RAD = OLON * DEGRAD;
+    private static final double SN;
+    private static final double RE_SF; // re * sf
+    private static final double RO;
 
+    static {
         double re = RE / GRID;
         double slat1 = SLAT1 * DEGRAD;
         double slat2 = SLAT2 * DEGRAD;
-        double olon = OLON * DEGRAD;
         double olat = OLAT * DEGRAD;
 
         double sn = Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(Math.PI * 0.25 + slat1 * 0.5);
@@ -32,16 +38,48 @@ public class CoordinateConverter {
         double ro = Math.tan(Math.PI * 0.25 + olat * 0.5);
         ro = re * sf / Math.pow(ro, sn);
 
-        double ra = Math.tan(Math.PI * 0.25 + (lat) * DEGRAD * 0.5);
-        ra = re * sf / Math.pow(ra, sn);
-        double theta = lon * DEGRAD - olon;
+        SN = sn;
+        RE_SF = re * sf;
+        RO = ro;
+    }
+
+    // 선택적 격자 조회 테이블 (weather.grid.lookup-table.enabled=true 일 때만 존재)
+    private final GridLookupTable lookupTable;
+
+    public CoordinateConverter() {
+        this.lookupTable = null;
+    }
+
+    @Autowired
+    public CoordinateConverter(Optional<GridLookupTable> lookupTable) {
+        this.lookupTable = lookupTable.orElse(null);
+    }
+
+    public GridCoordinate convertToGrid(double lat, double lon) {
+        int packed = GridLookupTable.MISS;
+        if (lookupTable != null) {
+            packed = lookupTable.lookup(lat, lon);
+        }
+        if (packed == GridLookupTable.MISS) {
+            packed = compute(lat, lon);
+        }
+        return new GridCoordinate(GridLookupTable.unpackX(packed), GridLookupTable.unpackY(packed));
+    }
+
+    /**
+     * 공식 기반 격자 변환
+     * @return 패킹된 격자값 (GridLookupTable.unpackX / unpackY)
+     */
+    static int compute(double lat, double lon) {
+        double ra = Math.tan(Math.PI * 0.25 + lat * DEGRAD * 0.5);
+        ra = RE_SF / Math.pow(ra, SN);
+        double theta = lon * DEGRAD - OLON_RAD;
         if (theta > Math.PI) theta -= 2.0 * Math.PI;
         if (theta < -Math.PI) theta += 2.0 * Math.PI;
-        theta *= sn;
+        theta *= SN;
 
         int x = (int) Math.floor(ra * Math.sin(theta) + XO + 0.5);
-        int y = (int) Math.floor(ro - ra * Math.cos(theta) + YO + 0.5);
-
-        return new GridCoordinate(x, y);
+        int y = (int) Math.floor(RO - ra * Math.cos(theta) + YO + 0.5);
+        return GridLookupTable.pack(x, y);
     }
 }
@@ -0,0 +1,279 @@
+package com.fourthread.ozang.module.domain.weather.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 발표시각 1회분 격자별 시간 예보 스냅샷 (고정 레이아웃)
+ * - (nx, ny, hourOffset) → 카테고리 값을 위치 계산만으로 조회 (객체 생성 없이 버퍼 읽기)
+ * - 격자 색인은 패킹된 격자값(GridLookupTable.pack) 오름차순이라 이진 탐색
+ * - 파일로 저장 후 읽기 전용 메모리 매핑으로 로딩 (재시작 후에도 다시 채우지 않고 바로 사용)
+ *
+ * 파일 포맷 (big-endian)
+ * magic(int) | version(int) | base(long, 발표시각 epoch 분) | hours(int) | cells(int) | grids[cells] | records[cells]
+ * grid = 패킹된 격자값(int)
+ * record = weatherId(long msb + long lsb) + values[hours][FIELD_COUNT]
+ * value = 값 x10 (short), 값이 없으면 Short.MIN_VALUE
+ * hourOffset 은 발표시각 기준 경과 시간이며 1 ~ hours (첫 예보는 발표시각 1시간 뒤)
+ */
+public final class ForecastGridSnapshot {
+
+    public static final int MISS = -1;
+
+    /**
+     * 스냅샷 카테고리 - PTY/SKY 는 기상청 코드값, PCP 는 해석된 강수량(mm), TMN/TMX 는 일 최저/최고 기온
+     */
+    public enum Field {
+        TMP, REH, POP, PTY, SKY, WSD, PCP, TMN, TMX
+    }
+
+    private static final int MAGIC = 0x4B464753; // "KFGS"
+    private static final int VERSION = 3; // 2: PTY/SKY 를 기상청 코드로 저장, 3: TMN/TMX 추가
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 + 4;
+    private static final int GRID_BYTES = 4;
+    private static final int ID_BYTES = 16;
+    private static final int FIELD_COUNT = Field.values().length;
+    private static final int VALUE_BYTES = 2;
+    private static final short MISSING = Short.MIN_VALUE;
+    private static final double SCALE = 10.0;
+
+    private final ByteBuffer buffer;
+    private final long baseEpochMinutes;
+    private final LocalDateTime baseDateTime;
+    private final int hours;
+    private final int cells;
+    private final int recordBytes;
+    private final int recordsOffset;
+
+    private ForecastGridSnapshot(ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("격자 예보 스냅샷 형식이 올바르지 않습니다.");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 격자 예보 스냅샷 버전입니다: " + buffer.getInt(4));
+        }
+        this.buffer = buffer;
+        this.baseEpochMinutes = buffer.getLong(8);
+        this.baseDateTime = LocalDateTime.ofEpochSecond(baseEpochMinutes * 60, 0, ZoneOffset.UTC);
+        this.hours = buffer.getInt(16);
+        this.cells = buffer.getInt(20);
+        this.recordBytes = recordBytes(hours);
+        this.recordsOffset = HEADER_BYTES + cells * GRID_BYTES;
+
+        long expected = (long) recordsOffset + (long) cells * recordBytes;
+        if (hours <= 0 || cells < 0 || buffer.capacity() != expected) {
+            throw new IllegalArgumentException(
+                "격자 예보 스냅샷 크기가 올바르지 않습니다. expected=" + expected + ", actual=" + buffer.capacity());
+        }
+    }
+
+    public static Builder builder(LocalDateTime baseDateTime, int hours) {
+        return new Builder(baseDateTime, hours);
+    }
+
+    /**
+     * 파일을 읽기 전용으로 메모리 매핑하여 로딩
+     */
+    public static ForecastGridSnapshot map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new ForecastGridSnapshot(mapped.order(ByteOrder.BIG_ENDIAN));
+        }
+    }
+
+    /**
+     * 파일로 저장 (임시 파일에 기록 후 원자적 교체 - 기존 파일을 매핑 중인 조회는 이전 내용을 계속 읽는다)
+     */
+    public void writeTo(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            ByteBuffer source = buffer.duplicate().clear();
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 격자 위치 조회
+     * @return 셀 번호, 스냅샷에 없는 격자면 MISS
+     */
+    public int find(int x, int y) {
+        int key = GridLookupTable.pack(x, y);
+        int low = 0;
+        int high = cells - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int grid = buffer.getInt(HEADER_BYTES + mid * GRID_BYTES);
+            if (grid < key) {
+                low = mid + 1;
+            } else if (grid > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return MISS;
+    }
+
+    /**
+     * 예보 시각의 hourOffset
+     * @return 1 ~ hours, 범위 밖이면 MISS
+     */
+    public int hourOffset(LocalDateTime forecastAt) {
+        long offset = forecastAt.toEpochSecond(ZoneOffset.UTC) / 60 - baseEpochMinutes;
+        if (offset % 60 != 0) {
+            return MISS;
+        }
+        offset /= 60;
+        return offset >= 1 && offset <= hours ? (int) offset : MISS;
+    }
+
+    public boolean has(int cell, int hourOffset, Field field) {
+        return buffer.getShort(valueOffset(cell, hourOffset, field)) != MISSING;
+    }
+
+    /**
+     * @return 값, 없으면 NaN
+     */
+    public double value(int cell, int hourOffset, Field field) {
+        short raw = buffer.getShort(valueOffset(cell, hourOffset, field));
+        return raw == MISSING ? Double.NaN : raw / SCALE;
+    }
+
+    public UUID weatherId(int cell) {
+        int offset = recordsOffset + cell * recordBytes;
+        return new UUID(buffer.getLong(offset), buffer.getLong(offset + 8));
+    }
+
+    public int gridX(int cell) {
+        return GridLookupTable.unpackX(buffer.getInt(HEADER_BYTES + cell * GRID_BYTES));
+    }
+
+    public int gridY(int cell) {
+        return GridLookupTable.unpackY(buffer.getInt(HEADER_BYTES + cell * GRID_BYTES));
+    }
+
+    public LocalDateTime getBaseDateTime() {
+        return baseDateTime;
+    }
+
+    public LocalDateTime forecastAt(int hourOffset) {
+        return baseDateTime.plusHours(hourOffset);
+    }
+
+    public int getHours() {
+        return hours;
+    }
+
+    public int getCellCount() {
+        return cells;
+    }
+
+    private int valueOffset(int cell, int hourOffset, Field field) {
+        if (cell < 0 || cell >= cells || hourOffset < 1 || hourOffset > hours) {
+            throw new IndexOutOfBoundsException(
+                "격자 예보 스냅샷 범위를 벗어났습니다. cell=" + cell + ", hourOffset=" + hourOffset);
+        }
+        return recordsOffset + cell * recordBytes + ID_BYTES
+            + ((hourOffset - 1) * FIELD_COUNT + field.ordinal()) * VALUE_BYTES;
+    }
+
+    private static int recordBytes(int hours) {
+        return ID_BYTES + hours * FIELD_COUNT * VALUE_BYTES;
+    }
+
+    /**
+     * 격자 순서와 상관없이 값을 채운 뒤 build 에서 격자 오름차순으로 기록
+     */
+    public static final class Builder {
+
+        private final LocalDateTime baseDateTime;
+        private final int hours;
+        private final Map<Integer, UUID> weatherIds = new TreeMap<>();
+        private final Map<Integer, short[]> values = new TreeMap<>();
+
+        private Builder(LocalDateTime baseDateTime, int hours) {
+            if (hours <= 0) {
+                throw new IllegalArgumentException("격자 예보 스냅샷 시간 수는 1 이상이어야 합니다: " + hours);
+            }
+            this.baseDateTime = baseDateTime;
+            this.hours = hours;
+        }
+
+        public Builder weatherId(int x, int y, UUID weatherId) {
+            weatherIds.put(GridLookupTable.pack(x, y), weatherId);
+            values.computeIfAbsent(GridLookupTable.pack(x, y), key -> newRecord());
+            return this;
+        }
+
+        /**
+         * 범위 밖 예보 시각이나 NaN 은 기록하지 않는다
+         */
+        public Builder value(int x, int y, LocalDateTime forecastAt, Field field, double value) {
+            long offset = Duration.between(baseDateTime, forecastAt).toHours();
+            if (offset < 1 || offset > hours || Double.isNaN(value)) {
+                return this;
+            }
+            long scaled = Math.round(value * SCALE);
+            if (scaled <= MISSING || scaled > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("격자 예보 스냅샷 값 범위를 벗어났습니다: " + field + "=" + value);
+            }
+            short[] record = values.computeIfAbsent(GridLookupTable.pack(x, y), key -> newRecord());
+            record[((int) offset - 1) * FIELD_COUNT + field.ordinal()] = (short) scaled;
+            return this;
+        }
+
+        public int size() {
+            return values.size();
+        }
+
+        public ForecastGridSnapshot build() {
+            int cells = values.size();
+            int recordBytes = recordBytes(hours);
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + cells * (GRID_BYTES + recordBytes))
+                .order(ByteOrder.BIG_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION)
+                .putLong(baseDateTime.toEpochSecond(ZoneOffset.UTC) / 60)
+                .putInt(hours).putInt(cells);
+
+            // TreeMap 순회 순서 = 패킹된 격자값 오름차순
+            for (Integer grid : values.keySet()) {
+                buffer.putInt(grid);
+            }
+            for (Map.Entry<Integer, short[]> entry : values.entrySet()) {
+                UUID weatherId = weatherIds.get(entry.getKey());
+                buffer.putLong(weatherId != null ? weatherId.getMostSignificantBits() : 0L);
+                buffer.putLong(weatherId != null ? weatherId.getLeastSignificantBits() : 0L);
+                for (short value : entry.getValue()) {
+                    buffer.putShort(value);
+                }
+            }
+            return new ForecastGridSnapshot(buffer.clear());
+        }
+
+        private short[] newRecord() {
+            short[] record = new short[hours * FIELD_COUNT];
+            Arrays.fill(record, MISSING);
+            return record;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.fourthread.ozang.module.domain.weather.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 위경도 → 기상청 격자(nx, ny) 양자화 조회 테이블
+ * - validateCoordinates 허용 범위(위도 33~43, 경도 124~132)를 step 간격 셀로 분할
+ * - 셀의 네 꼭짓점이 모두 같은 격자로 변환되는 경우에만 값을 저장 (격자 경계가 지나가는 셀은 MISS → 공식 계산)
+ *   nx, ny 는 위도/경도 각각에 대해 단조이므로 셀 내부 값은 꼭짓점 값 사이에 있어 공식과 결과가 동일
+ *   단, ny 는 기준 경도(126°)를 기준으로 단조 방향이 바뀌므로 126°를 걸치는 셀은 MISS 처리
+ * - 파일로 저장 후 읽기 전용 메모리 매핑으로 로딩 (힙 사용 없음, 프로세스 간 페이지 캐시 공유)
+ *
+ * 파일 포맷 (big-endian)
+ * magic(int) | version(int) | minLat(double) | minLon(double) | step(double) | rows(int) | cols(int) | cells[rows*cols]
+ * cell = nx(short) + ny(short), MISS 셀은 nx = -1
+ */
+@Slf4j
+public final class GridLookupTable {
+
+    public static final int MISS = Integer.MIN_VALUE;
+
+    public static final double MIN_LAT = 33.0;
+    public static final double MAX_LAT = 43.0;
+    public static final double MIN_LON = 124.0;
+    public static final double MAX_LON = 132.0;
+
+    private static final int MAGIC = 0x4B474C54; // "KGLT"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 8 + 4 + 4;
+    private static final int CELL_BYTES = 4;
+    private static final short MISS_CELL = -1;
+    private static final double PROJECTION_ORIGIN_LON = 126.0;
+
+    private final ByteBuffer buffer;
+    private final double minLat;
+    private final double minLon;
+    private final double step;
+    private final int rows;
+    private final int cols;
+
+    private GridLookupTable(ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("격자 조회 테이블 형식이 올바르지 않습니다.");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 격자 조회 테이블 버전입니다: " + buffer.getInt(4));
+        }
+        this.buffer = buffer;
+        this.minLat = buffer.getDouble(8);
+        this.minLon = buffer.getDouble(16);
+        this.step = buffer.getDouble(24);
+        this.rows = buffer.getInt(32);
+        this.cols = buffer.getInt(36);
+
+        long expected = HEADER_BYTES + (long) rows * cols * CELL_BYTES;
+        if (buffer.capacity() != expected) {
+            throw new IllegalArgumentException(
+                "격자 조회 테이블 크기가 올바르지 않습니다. expected=" + expected + ", actual=" + buffer.capacity());
+        }
+    }
+
+    /**
+     * 공식으로 조회 테이블 생성 (꼭짓점은 1회만 계산)
+     */
+    public static GridLookupTable build(double step) {
+        if (step <= 0 || step > 1.0) {
+            throw new IllegalArgumentException("격자 조회 테이블 간격은 0 초과 1 이하여야 합니다: " + step);
+        }
+        int rows = (int) Math.ceil((MAX_LAT - MIN_LAT) / step);
+        int cols = (int) Math.ceil((MAX_LON - MIN_LON) / step);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + rows * cols * CELL_BYTES)
+            .order(ByteOrder.BIG_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION)
+            .putDouble(MIN_LAT).putDouble(MIN_LON).putDouble(step)
+            .putInt(rows).putInt(cols);
+
+        // 꼭짓점 격자값 (행 단위로 두 줄만 유지)
+        int[] lowerX = new int[cols + 1];
+        int[] lowerY = new int[cols + 1];
+        int[] upperX = new int[cols + 1];
+        int[] upperY = new int[cols + 1];
+        fillCorners(MIN_LAT, step, lowerX, lowerY);
+
+        int missCount = 0;
+        for (int r = 0; r < rows; r++) {
+            fillCorners(MIN_LAT + (r + 1) * step, step, upperX, upperY);
+
+            for (int c = 0; c < cols; c++) {
+                double west = MIN_LON + c * step;
+                double east = MIN_LON + (c + 1) * step;
+                boolean crossesOrigin = west < PROJECTION_ORIGIN_LON && east > PROJECTION_ORIGIN_LON;
+
+                int x = lowerX[c];
+                int y = lowerY[c];
+                boolean uniform = !crossesOrigin
+                    && x == lowerX[c + 1] && x == upperX[c] && x == upperX[c + 1]
+                    && y == lowerY[c + 1] && y == upperY[c] && y == upperY[c + 1];
+
+                if (uniform) {
+                    buffer.putShort((short) x).putShort((short) y);
+                } else {
+                    buffer.putShort(MISS_CELL).putShort(MISS_CELL);
+                    missCount++;
+                }
+            }
+
+            int[] tmpX = lowerX;
+            lowerX = upperX;
+            upperX = tmpX;
+            int[] tmpY = lowerY;
+            lowerY = upperY;
+            upperY = tmpY;
+        }
+
+        log.info("격자 조회 테이블 생성 완료 - step: {}, 셀: {}x{}, 경계 셀: {}", step, rows, cols, missCount);
+        return new GridLookupTable(buffer.clear());
+    }
+
+    /**
+     * 파일을 읽기 전용으로 메모리 매핑하여 로딩
+     */
+    public static GridLookupTable map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new GridLookupTable(mapped.order(ByteOrder.BIG_ENDIAN));
+        }
+    }
+
+    /**
+     * 파일로 저장 (임시 파일에 기록 후 교체)
+     */
+    public void writeTo(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            ByteBuffer source = buffer.duplicate().clear();
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 위경도에 해당하는 격자 조회
+     * @return 패킹된 격자값 (unpackX / unpackY), 범위 밖이거나 경계 셀이면 MISS
+     */
+    public int lookup(double lat, double lon) {
+        double rowPos = (lat - minLat) / step;
+        double colPos = (lon - minLon) / step;
+        if (!(rowPos >= 0 && colPos >= 0)) {
+            return MISS;
+        }
+        int row = (int) rowPos;
+        int col = (int) colPos;
+        if (row >= rows || col >= cols) {
+            return MISS;
+        }
+
+        int offset = HEADER_BYTES + (row * cols + col) * CELL_BYTES;
+        short x = buffer.getShort(offset);
+        if (x == MISS_CELL) {
+            return MISS;
+        }
+        return pack(x, buffer.getShort(offset + 2));
+    }
+
+    public static int pack(int x, int y) {
+        return (x << 16) | (y & 0xFFFF);
+    }
+
+    public static int unpackX(int packed) {
+        return packed >> 16;
+    }
+
+    public static int unpackY(int packed) {
+        return (short) packed;
+    }
+
+    public double getStep() {
+        return step;
+    }
+
+    public int getCellCount() {
+        return rows * cols;
+    }
+
+    private static void fillCorners(double lat, double step, int[] xs, int[] ys) {
+        for (int c = 0; c < xs.length; c++) {
+            double lon = MIN_LON + c * step;
+            int packed = CoordinateConverter.compute(lat, lon);
+            xs[c] = unpackX(packed);
+            ys[c] = unpackY(packed);
+        }
+    }
+}
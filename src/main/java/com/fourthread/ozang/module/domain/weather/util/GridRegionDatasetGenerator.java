@@ -0,0 +1,139 @@
+package com.fourthread.ozang.module.domain.weather.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오프라인 지역명 리소스 생성기 (빌드 시 processResources 전에 generateGridRegions 태스크로 실행)
+ *
+ * 입력: 기상청 "단기예보 조회서비스 격자 위경도" 엑셀을 UTF-8 CSV 로 저장한 파일
+ *       헤더에 "1단계", "2단계", "3단계", "격자 X", "격자 Y" 컬럼이 있어야 한다
+ * 출력: GridRegionTable 바이너리
+ *
+ * 하나의 격자에 여러 행정구역이 걸치는 경우 가장 상세한(읍·면·동까지 있는) 첫 행을 사용
+ */
+public final class GridRegionDatasetGenerator {
+
+    private static final String SIDO = "1단계";
+    private static final String SIGUNGU = "2단계";
+    private static final String DONG = "3단계";
+    private static final String GRID_X = "격자 X";
+    private static final String GRID_Y = "격자 Y";
+
+    private GridRegionDatasetGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("사용법: GridRegionDatasetGenerator <입력 CSV> <출력 파일>");
+            System.exit(1);
+        }
+
+        Path output = Path.of(args[1]);
+        int cellCount = generate(Path.of(args[0]), output);
+        System.out.printf("격자 지역명 리소스 생성 완료 - 격자: %d개, 파일: %s (%d bytes)%n",
+            cellCount, output, Files.size(output));
+    }
+
+    /**
+     * CSV 를 읽어 바이너리 리소스 생성
+     * @return 지역명이 기록된 격자 수
+     */
+    public static int generate(Path csv, Path output) throws IOException {
+        Map<Long, String[]> selected = new HashMap<>();
+        List<Long> order = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new IllegalArgumentException("CSV 가 비어 있습니다: " + csv);
+            }
+            List<String> header = Arrays.asList(split(stripBom(headerLine)));
+            int sidoIdx = requireColumn(header, SIDO);
+            int sigunguIdx = requireColumn(header, SIGUNGU);
+            int dongIdx = requireColumn(header, DONG);
+            int xIdx = requireColumn(header, GRID_X);
+            int yIdx = requireColumn(header, GRID_Y);
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] columns = split(line);
+                int x = Integer.parseInt(columns[xIdx]);
+                int y = Integer.parseInt(columns[yIdx]);
+                String[] names = {
+                    column(columns, sidoIdx), column(columns, sigunguIdx), column(columns, dongIdx)};
+
+                long key = ((long) x << 32) | (y & 0xFFFFFFFFL);
+                String[] current = selected.get(key);
+                if (current == null) {
+                    order.add(key);
+                    selected.put(key, names);
+                } else if (depth(names) > depth(current)) {
+                    selected.put(key, names);
+                }
+            }
+        }
+
+        GridRegionTable.Builder builder = GridRegionTable.builder();
+        for (long key : order) {
+            List<String> names = Arrays.stream(selected.get(key))
+                .filter(name -> !name.isEmpty())
+                .toList();
+            if (!names.isEmpty()) {
+                builder.put((int) (key >> 32), (int) key, names);
+            }
+        }
+
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(output, builder.toByteArray());
+        return builder.size();
+    }
+
+    private static int requireColumn(List<String> header, String name) {
+        int index = header.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("CSV 헤더에 '" + name + "' 컬럼이 없습니다: " + header);
+        }
+        return index;
+    }
+
+    private static String column(String[] columns, int index) {
+        return index < columns.length ? columns[index] : "";
+    }
+
+    private static int depth(String[] names) {
+        int depth = 0;
+        for (String name : names) {
+            if (!name.isEmpty()) {
+                depth++;
+            }
+        }
+        return depth;
+    }
+
+    private static String[] split(String line) {
+        String[] columns = line.split(",", -1);
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = columns[i].trim().replace("\"", "");
+        }
+        return columns;
+    }
+
+    private static String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+}
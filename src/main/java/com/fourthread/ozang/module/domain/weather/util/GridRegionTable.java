@@ -0,0 +1,200 @@
+package com.fourthread.ozang.module.domain.weather.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기상청 격자(nx, ny) → 행정구역명(시·도, 시·군·구, 읍·면·동) 오프라인 조회 테이블
+ * - 지역명은 문자열 풀에 한 번만 저장하고 셀에는 풀 인덱스만 기록 (인터닝)
+ * - 격자 범위(minX~minX+width, minY~minY+height)를 밀집 배열로 저장해 O(1) 조회
+ * - GridRegionDatasetGenerator 로 빌드 시 생성, 클래스패스 리소스로 배포
+ *
+ * 파일 포맷 (big-endian)
+ * magic(int) | version(int) | minX(short) | minY(short) | width(short) | height(short)
+ * | stringCount(int) | strings[stringCount] (length(u16) + UTF-8 bytes)
+ * | cells[width*height] (시도 id, 시군구 id, 읍면동 id : 각 u16, 0 = 없음, 풀 인덱스 + 1)
+ */
+public final class GridRegionTable {
+
+    private static final int MAGIC = 0x4B475254; // "KGRT"
+    private static final int VERSION = 1;
+    private static final int DEPTH = 3;
+
+    private final int minX;
+    private final int minY;
+    private final int width;
+    private final int height;
+    private final String[] strings;
+    private final char[] cells;
+
+    private GridRegionTable(int minX, int minY, int width, int height, String[] strings,
+        char[] cells) {
+        this.minX = minX;
+        this.minY = minY;
+        this.width = width;
+        this.height = height;
+        this.strings = strings;
+        this.cells = cells;
+    }
+
+    /**
+     * 격자에 해당하는 지역명 조회 (시·도, 시·군·구, 읍·면·동 순)
+     * @return 데이터가 없는 격자면 빈 리스트
+     */
+    public List<String> lookup(int x, int y) {
+        int col = x - minX;
+        int row = y - minY;
+        if (col < 0 || row < 0 || col >= width || row >= height) {
+            return List.of();
+        }
+
+        int offset = (row * width + col) * DEPTH;
+        List<String> names = new ArrayList<>(DEPTH);
+        for (int depth = 0; depth < DEPTH; depth++) {
+            int id = cells[offset + depth];
+            if (id != 0) {
+                names.add(strings[id - 1]);
+            }
+        }
+        return List.copyOf(names);
+    }
+
+    public int getCellCount() {
+        int count = 0;
+        for (int i = 0; i < cells.length; i += DEPTH) {
+            if (cells[i] != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int getStringCount() {
+        return strings.length;
+    }
+
+    public static GridRegionTable read(InputStream inputStream) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(inputStream.readAllBytes()).order(ByteOrder.BIG_ENDIAN);
+        if (buffer.remaining() < 16 || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("격자 지역명 데이터 형식이 올바르지 않습니다.");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 격자 지역명 데이터 버전입니다: " + version);
+        }
+
+        int minX = buffer.getShort();
+        int minY = buffer.getShort();
+        int width = Short.toUnsignedInt(buffer.getShort());
+        int height = Short.toUnsignedInt(buffer.getShort());
+
+        String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8).intern();
+        }
+
+        char[] cells = new char[width * height * DEPTH];
+        buffer.asCharBuffer().get(cells);
+        return new GridRegionTable(minX, minY, width, height, strings, cells);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 격자별 지역명을 모아 바이너리 포맷으로 기록
+     */
+    public static final class Builder {
+
+        private final Map<Long, List<String>> regions = new HashMap<>();
+
+        public Builder put(int x, int y, List<String> names) {
+            if (names.isEmpty() || names.size() > DEPTH) {
+                throw new IllegalArgumentException("지역명은 1~3단계여야 합니다: " + names);
+            }
+            regions.put(cellKey(x, y), List.copyOf(names));
+            return this;
+        }
+
+        public boolean contains(int x, int y) {
+            return regions.containsKey(cellKey(x, y));
+        }
+
+        public int size() {
+            return regions.size();
+        }
+
+        public byte[] toByteArray() throws IOException {
+            if (regions.isEmpty()) {
+                throw new IllegalStateException("격자 지역명 데이터가 비어 있습니다.");
+            }
+
+            int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+            for (long key : regions.keySet()) {
+                int x = (int) (key >> 32);
+                int y = (int) key;
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+            }
+            int width = maxX - minX + 1;
+            int height = maxY - minY + 1;
+
+            // 문자열 인터닝 (풀 인덱스 + 1, 0 은 없음)
+            Map<String, Integer> pool = new HashMap<>();
+            List<String> strings = new ArrayList<>();
+            char[] cells = new char[width * height * DEPTH];
+            for (Map.Entry<Long, List<String>> entry : regions.entrySet()) {
+                int x = (int) (entry.getKey() >> 32);
+                int y = (int) (long) entry.getKey();
+                int offset = ((y - minY) * width + (x - minX)) * DEPTH;
+                List<String> names = entry.getValue();
+                for (int depth = 0; depth < names.size(); depth++) {
+                    int id = pool.computeIfAbsent(names.get(depth), name -> {
+                        strings.add(name);
+                        return strings.size();
+                    });
+                    cells[offset + depth] = (char) id;
+                }
+            }
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeShort(minX);
+                out.writeShort(minY);
+                out.writeShort(width);
+                out.writeShort(height);
+                out.writeInt(strings.size());
+                for (String name : strings) {
+                    byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+                    out.writeShort(encoded.length);
+                    out.write(encoded);
+                }
+                for (char cell : cells) {
+                    out.writeChar(cell);
+                }
+            }
+            return bytes.toByteArray();
+        }
+
+        private static long cellKey(int x, int y) {
+            return ((long) x << 32) | (y & 0xFFFFFFFFL);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.fourthread.ozang.module.domain.weather.util;
+
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast.Category;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 단기예보 시간별 계열 압축 저장 형식
+ * - 예보 시각: 기준 시각과의 시간 차(short)
+ * - 수치 카테고리: 값 x10 을 short 로 저장 (기상청 값은 소수 첫째 자리까지, 값 없음은 Short.MIN_VALUE)
+ * - SKY/PTY 코드: byte (값 없음 -1)
+ * - PCP/SNO 원문: 응답 내 고유 문자열 사전 + 행별 사전 번호(short, 값 없음 -1)
+ * - 카테고리는 선언 순서가 아닌 고정 번호(Category.wireId)로 기록
+ * - 값이 하나도 없는 카테고리는 기록하지 않는다 (응답 1건 약 1,000항목 -> 2KB 내외)
+ *
+ * 시간별 예보 행(hourly_forecasts)은 계열만 저장하고 발표시각/격자는 행의 키로 채운다 (encode/decode)
+ * 공유 캐시 값은 응답 헤더/발표시각/격자/항목 수/응답 해시를 계열 앞에 함께 기록한다 (encodeResponse/decodeResponse)
+ */
+public final class HourlySeriesCodec {
+
+    private static final byte VERSION = 1;
+    private static final byte RESPONSE_VERSION = 1;
+    private static final double SCALE = 10.0;
+    private static final short MISSING = Short.MIN_VALUE;
+    // 빈 응답의 기준 시각 (행이 없으므로 값은 의미 없음)
+    private static final LocalDateTime EMPTY_REFERENCE = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    private HourlySeriesCodec() {
+    }
+
+    public static byte[] encode(KmaForecast forecast, LocalDateTime baseDateTime) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + forecast.size() * 32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeSeries(out, forecast, baseDateTime);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 저장된 계열을 열 단위 응답으로 복원 (발표시각/격자는 저장 행의 키로 채움)
+     */
+    public static KmaForecast decode(byte[] series, LocalDateTime baseDateTime, int nx, int ny) {
+        KmaForecast.Builder builder = KmaForecast.builder()
+            .header("00", "NORMAL_SERVICE")
+            .base(baseDateTime.format(KmaPublishSchedule.BASE_DATE_FMT),
+                baseDateTime.format(KmaPublishSchedule.BASE_TIME_FMT))
+            .grid(nx, ny);
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(series))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 시간별 예보 형식입니다: " + version);
+            }
+            readSeries(in, builder, baseDateTime);
+        } catch (IOException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("손상된 시간별 예보 데이터입니다", e);
+        }
+        return builder.totalCount(builder.getItemCount()).build();
+    }
+
+    /**
+     * 응답 전체 직렬화 (공유 캐시 저장용)
+     * - 예보 시각은 첫 행 기준 시간 차로 기록 (발표시각 형식과 무관)
+     */
+    public static byte[] encodeResponse(KmaForecast forecast) {
+        LocalDateTime reference = forecast.isEmpty() ? EMPTY_REFERENCE : forecast.fcstDateTime(0);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128 + forecast.size() * 32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(RESPONSE_VERSION);
+            writeNullable(out, forecast.getResultCode());
+            writeNullable(out, forecast.getResultMsg());
+            writeNullable(out, forecast.getBaseDate());
+            writeNullable(out, forecast.getBaseTime());
+            writeNullable(out, forecast.getResponseHash());
+            out.writeInt(forecast.getNx());
+            out.writeInt(forecast.getNy());
+            out.writeInt(forecast.getItemCount());
+            out.writeInt(forecast.getTotalCount());
+            out.writeLong(reference.toEpochSecond(ZoneOffset.UTC));
+            writeSeries(out, forecast, reference);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * encodeResponse 로 직렬화한 응답 복원
+     * @throws IllegalArgumentException 형식이 다르거나 잘린 경우
+     */
+    public static KmaForecast decodeResponse(byte[] data) {
+        KmaForecast.Builder builder = KmaForecast.builder();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != RESPONSE_VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 단기예보 응답 형식입니다: " + version);
+            }
+            builder.header(readNullable(in), readNullable(in));
+            String baseDate = readNullable(in);
+            String baseTime = readNullable(in);
+            builder.base(baseDate, baseTime)
+                .responseHash(readNullable(in))
+                .grid(in.readInt(), in.readInt());
+            int itemCount = in.readInt();
+            builder.totalCount(in.readInt());
+            LocalDateTime reference = LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC);
+            readSeries(in, builder, reference);
+            builder.itemCount(itemCount);
+        } catch (IOException | ArrayIndexOutOfBoundsException | DateTimeException e) {
+            throw new IllegalArgumentException("손상된 단기예보 응답 데이터입니다", e);
+        }
+        return builder.build();
+    }
+
+    private static void writeSeries(DataOutputStream out, KmaForecast forecast, LocalDateTime reference)
+        throws IOException {
+        int size = forecast.size();
+        out.writeShort(size);
+        for (int slot = 0; slot < size; slot++) {
+            out.writeShort((int) ChronoUnit.HOURS.between(reference, forecast.fcstDateTime(slot)));
+        }
+
+        List<Category> present = new ArrayList<>(CATEGORIES.length);
+        for (Category category : CATEGORIES) {
+            if (forecast.lastSlot(category) >= 0) {
+                present.add(category);
+            }
+        }
+
+        out.writeByte(present.size());
+        for (Category category : present) {
+            out.writeByte(category.wireId());
+            switch (category.kind()) {
+                case NUMERIC -> writeNumeric(out, forecast, category);
+                case CODE -> writeCodes(out, forecast, category);
+                case TEXT -> writeTexts(out, forecast, category);
+            }
+        }
+    }
+
+    private static void readSeries(DataInputStream in, KmaForecast.Builder builder, LocalDateTime reference)
+        throws IOException {
+        int size = in.readUnsignedShort();
+        for (int slot = 0; slot < size; slot++) {
+            LocalDateTime fcst = reference.plusHours(in.readShort());
+            builder.slot(fcst.getYear() * 10000 + fcst.getMonthValue() * 100 + fcst.getDayOfMonth(),
+                fcst.getHour() * 100);
+        }
+
+        int categoryCount = in.readUnsignedByte();
+        for (int i = 0; i < categoryCount; i++) {
+            int wireId = in.readUnsignedByte();
+            Category category = Category.ofWireId(wireId);
+            if (category == null) {
+                throw new IllegalArgumentException("알 수 없는 예보 카테고리 번호입니다: " + wireId);
+            }
+            switch (category.kind()) {
+                case NUMERIC -> readNumeric(in, builder, category, size);
+                case CODE -> readCodes(in, builder, category, size);
+                case TEXT -> readTexts(in, builder, category, size);
+            }
+        }
+    }
+
+    private static void writeNumeric(DataOutputStream out, KmaForecast forecast, Category category)
+        throws IOException {
+        for (int slot = 0; slot < forecast.size(); slot++) {
+            double value = forecast.value(category, slot);
+            long scaled = Double.isNaN(value) ? MISSING : Math.round(value * SCALE);
+            out.writeShort(scaled > Short.MIN_VALUE && scaled <= Short.MAX_VALUE ? (int) scaled : MISSING);
+        }
+    }
+
+    private static void writeCodes(DataOutputStream out, KmaForecast forecast, Category category)
+        throws IOException {
+        for (int slot = 0; slot < forecast.size(); slot++) {
+            out.writeByte(forecast.code(category, slot));
+        }
+    }
+
+    private static void writeTexts(DataOutputStream out, KmaForecast forecast, Category category)
+        throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> words = new ArrayList<>();
+        short[] indexes = new short[forecast.size()];
+        for (int slot = 0; slot < forecast.size(); slot++) {
+            String text = forecast.text(category, slot);
+            if (text == null) {
+                indexes[slot] = -1;
+                continue;
+            }
+            Integer index = dictionary.get(text);
+            if (index == null) {
+                index = words.size();
+                dictionary.put(text, index);
+                words.add(text);
+            }
+            indexes[slot] = index.shortValue();
+        }
+
+        out.writeShort(words.size());
+        for (String word : words) {
+            out.writeUTF(word);
+        }
+        for (short index : indexes) {
+            out.writeShort(index);
+        }
+    }
+
+    private static void readNumeric(DataInputStream in, KmaForecast.Builder builder, Category category,
+        int size) throws IOException {
+        for (int slot = 0; slot < size; slot++) {
+            short scaled = in.readShort();
+            if (scaled != MISSING) {
+                builder.value(category, slot, scaled / SCALE);
+            }
+        }
+    }
+
+    private static void readCodes(DataInputStream in, KmaForecast.Builder builder, Category category,
+        int size) throws IOException {
+        for (int slot = 0; slot < size; slot++) {
+            byte code = in.readByte();
+            if (code >= 0) {
+                builder.code(category, slot, code);
+            }
+        }
+    }
+
+    private static void readTexts(DataInputStream in, KmaForecast.Builder builder, Category category,
+        int size) throws IOException {
+        String[] words = new String[in.readUnsignedShort()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = in.readUTF();
+        }
+        for (int slot = 0; slot < size; slot++) {
+            short index = in.readShort();
+            if (index >= 0) {
+                builder.text(category, slot, words[index]);
+            }
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
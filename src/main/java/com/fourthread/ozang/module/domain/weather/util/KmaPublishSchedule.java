@@ -0,0 +1,51 @@
+package com.fourthread.ozang.module.domain.weather.util;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 기상청 단기예보 발표 스케줄
+ * 발표시각: [0200,0500,0800,1100,1400,1700,2000,2300], 각 발표시각 10분 이후부터 조회 가능
+ */
+public final class KmaPublishSchedule {
+
+    public static final DateTimeFormatter BASE_DATE_FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    public static final DateTimeFormatter BASE_TIME_FMT = DateTimeFormatter.ofPattern("HHmm");
+
+    private static final int[] PUBLISH_HOURS = {23, 20, 17, 14, 11, 8, 5, 2};
+    private static final int AVAILABLE_AFTER_MINUTES = 10;
+    private static final int PUBLISH_INTERVAL_HOURS = 3;
+
+    private KmaPublishSchedule() {
+    }
+
+    /**
+     * 현재 시각 기준으로 조회 가능한 가장 최근 발표시각
+     */
+    public static LocalDateTime baseDateTime(LocalDateTime now) {
+        for (int hour : PUBLISH_HOURS) {
+            LocalDateTime base = now.withHour(hour).withMinute(0).withSecond(0).withNano(0);
+            if (!now.isBefore(base.plusMinutes(AVAILABLE_AFTER_MINUTES))) {
+                return base;
+            }
+        }
+        return now.minusDays(1).withHour(23).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    /**
+     * 다음 발표 데이터가 조회 가능해지는 시각 (현재 발표분의 만료 시각)
+     */
+    public static LocalDateTime nextAvailableAt(LocalDateTime now) {
+        return baseDateTime(now)
+            .plusHours(PUBLISH_INTERVAL_HOURS)
+            .plusMinutes(AVAILABLE_AFTER_MINUTES);
+    }
+
+    public static String baseDate(LocalDateTime now) {
+        return baseDateTime(now).format(BASE_DATE_FMT);
+    }
+
+    public static String baseTime(LocalDateTime now) {
+        return baseDateTime(now).format(BASE_TIME_FMT);
+    }
+}
@@ -0,0 +1,130 @@
+package com.fourthread.ozang.module.domain.weather.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * xxHash64 (seed 0) 스트리밍 계산 - 응답 원문 중복 판별용 비암호화 해시
+ * - 32바이트 단위로 누적하므로 읽어 들이는 청크 크기와 무관하게 같은 값
+ * - 한 응답을 한 스레드에서 계산하는 용도라 동기화하지 않는다
+ */
+public final class XxHash64 {
+
+    private static final long PRIME1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME3 = 0x165667B19E3779F9L;
+    private static final long PRIME4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME5 = 0x27D4EB2F165667C5L;
+
+    private static final VarHandle LONG_LE =
+        MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_LE =
+        MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final byte[] buffer = new byte[32];
+    private int buffered;
+    private long length;
+
+    private long v1 = PRIME1 + PRIME2;
+    private long v2 = PRIME2;
+    private long v3 = 0;
+    private long v4 = -PRIME1;
+
+    public static long hash(byte[] bytes) {
+        XxHash64 hash = new XxHash64();
+        hash.update(bytes, 0, bytes.length);
+        return hash.getValue();
+    }
+
+    public void update(int b) {
+        length++;
+        buffer[buffered++] = (byte) b;
+        if (buffered == 32) {
+            stripe(buffer, 0);
+            buffered = 0;
+        }
+    }
+
+    public void update(byte[] bytes, int offset, int count) {
+        length += count;
+
+        if (buffered + count < 32) {
+            System.arraycopy(bytes, offset, buffer, buffered, count);
+            buffered += count;
+            return;
+        }
+
+        if (buffered > 0) {
+            int fill = 32 - buffered;
+            System.arraycopy(bytes, offset, buffer, buffered, fill);
+            stripe(buffer, 0);
+            offset += fill;
+            count -= fill;
+            buffered = 0;
+        }
+
+        int end = offset + count;
+        for (; offset + 32 <= end; offset += 32) {
+            stripe(bytes, offset);
+        }
+
+        buffered = end - offset;
+        System.arraycopy(bytes, offset, buffer, 0, buffered);
+    }
+
+    public long getValue() {
+        long hash;
+        if (length >= 32) {
+            hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7)
+                + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            hash = mergeRound(hash, v1);
+            hash = mergeRound(hash, v2);
+            hash = mergeRound(hash, v3);
+            hash = mergeRound(hash, v4);
+        } else {
+            hash = PRIME5;
+        }
+        hash += length;
+
+        int offset = 0;
+        for (; offset + 8 <= buffered; offset += 8) {
+            hash ^= round(0, (long) LONG_LE.get(buffer, offset));
+            hash = Long.rotateLeft(hash, 27) * PRIME1 + PRIME4;
+        }
+        if (offset + 4 <= buffered) {
+            hash ^= ((int) INT_LE.get(buffer, offset) & 0xFFFFFFFFL) * PRIME1;
+            hash = Long.rotateLeft(hash, 23) * PRIME2 + PRIME3;
+            offset += 4;
+        }
+        for (; offset < buffered; offset++) {
+            hash ^= (buffer[offset] & 0xFFL) * PRIME5;
+            hash = Long.rotateLeft(hash, 11) * PRIME1;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= PRIME2;
+        hash ^= hash >>> 29;
+        hash *= PRIME3;
+        hash ^= hash >>> 32;
+        return hash;
+    }
+
+    private void stripe(byte[] bytes, int offset) {
+        v1 = round(v1, (long) LONG_LE.get(bytes, offset));
+        v2 = round(v2, (long) LONG_LE.get(bytes, offset + 8));
+        v3 = round(v3, (long) LONG_LE.get(bytes, offset + 16));
+        v4 = round(v4, (long) LONG_LE.get(bytes, offset + 24));
+    }
+
+    private static long round(long acc, long input) {
+        acc += input * PRIME2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * PRIME1;
+    }
+
+    private static long mergeRound(long acc, long value) {
+        acc ^= round(0, value);
+        return acc * PRIME1 + PRIME4;
+    }
+}
@@ -11,7 +11,12 @@ DROP TABLE IF EXISTS clothes;
 DROP TABLE IF EXISTS profiles;
 DROP TABLE IF EXISTS clothes_attribute_definitions;
 DROP TABLE IF EXISTS users;
-DROP TABLE IF EXISTS weathers;
+DROP TABLE IF EXISTS weathers CASCADE;
+DROP TABLE IF EXISTS reverse_geocodes;
+DROP TABLE IF EXISTS api_quota_usages;
+DROP TABLE IF EXISTS latest_weather_by_grid;
+DROP TABLE IF EXISTS hourly_forecasts;
+DROP TABLE IF EXISTS daily_weather_rollups;
 
 -- 사용자 테이블
 CREATE TABLE users
@@ -83,7 +88,8 @@ CREATE TABLE clothes
     CONSTRAINT fk_clothes_owner_id FOREIGN KEY (owner_id) REFERENCES users (id)
 );
 
--- 날씨 테이블
+-- 날씨 테이블 (forecasted_at 일 단위 범위 파티션 - 파티션은 날씨 데이터 정리 배치가 미리 생성/삭제)
+-- 파티션 키를 포함해야 하므로 PK/UNIQUE 는 forecasted_at 과 복합으로 구성하고, 피드 FK 는 두지 않는다
 CREATE TABLE weathers
 (
     id                                 UUID         NOT NULL,
@@ -111,11 +117,83 @@ CREATE TABLE weathers
     strength                           VARCHAR(255) NULL,
     u_component                        FLOAT8       NULL,
     v_component                        FLOAT8       NULL,
-    CONSTRAINT weathers_pkey PRIMARY KEY (id),
-    CONSTRAINT uk_weathers_api_response_hash UNIQUE (api_response_hash),
+    CONSTRAINT weathers_pkey PRIMARY KEY (id, forecasted_at),
+    CONSTRAINT uk_weathers_api_response_hash UNIQUE (api_response_hash, forecasted_at),
     CONSTRAINT weathers_sky_status_check CHECK (sky_status IN ('CLEAR', 'MOSTLY_CLOUDY', 'CLOUDY')),
     CONSTRAINT weathers_strength_check CHECK (strength IN ('WEAK', 'MODERATE', 'STRONG')),
     CONSTRAINT weathers_type_check CHECK (type IN ('NONE', 'RAIN', 'RAIN_SNOW', 'SNOW', 'SHOWER'))
+) PARTITION BY RANGE (forecasted_at);
+
+-- 일 단위 파티션 범위 밖의 행 (피드가 참조해 보관하는 지난 날씨, 파티션 생성 전 저장된 날씨)
+CREATE TABLE weathers_default PARTITION OF weathers DEFAULT;
+
+-- 격자별 최신 날씨 (읽기 모델 - 저장 시 INSERT ... ON CONFLICT DO UPDATE 로 갱신)
+CREATE TABLE latest_weather_by_grid
+(
+    x             INTEGER      NOT NULL,
+    y             INTEGER      NOT NULL,
+    weather_id    UUID         NOT NULL,
+    forecasted_at TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    CONSTRAINT latest_weather_by_grid_pkey PRIMARY KEY (x, y)
+);
+
+-- 격자 + 발표시각별 시간별 예보 계열 (단기예보 응답 한 건을 카테고리별 압축 배열로 저장, 약 2KB)
+CREATE TABLE hourly_forecasts
+(
+    x                 INTEGER      NOT NULL,
+    y                 INTEGER      NOT NULL,
+    forecasted_at     TIMESTAMP(6) NOT NULL,
+    slot_count        INTEGER      NOT NULL,
+    first_forecast_at TIMESTAMP(6) NOT NULL,
+    last_forecast_at  TIMESTAMP(6) NOT NULL,
+    series            BYTEA        NOT NULL,
+    updated_at        TIMESTAMP(6) NOT NULL,
+    CONSTRAINT hourly_forecasts_pkey PRIMARY KEY (x, y, forecasted_at)
+);
+
+CREATE INDEX idx_hourly_forecasts_forecasted_at ON hourly_forecasts (forecasted_at);
+
+-- 격자 + 날짜별 일 집계 (전날 대비 계산용 - 시간 값은 24시간 x 기온/습도/강수량 short 배열)
+CREATE TABLE daily_weather_rollups
+(
+    x                   INTEGER      NOT NULL,
+    y                   INTEGER      NOT NULL,
+    forecast_date       DATE         NOT NULL,
+    temperature_min     FLOAT8       NULL,
+    temperature_max     FLOAT8       NULL,
+    temperature_avg     FLOAT8       NULL,
+    humidity_min        FLOAT8       NULL,
+    humidity_max        FLOAT8       NULL,
+    humidity_avg        FLOAT8       NULL,
+    precipitation_total FLOAT8       NULL,
+    hour_count          INTEGER      NOT NULL,
+    forecasted_at       TIMESTAMP(6) NOT NULL,
+    hourly              BYTEA        NOT NULL,
+    updated_at          TIMESTAMP(6) NOT NULL,
+    CONSTRAINT daily_weather_rollups_pkey PRIMARY KEY (x, y, forecast_date)
+);
+
+CREATE INDEX idx_daily_weather_rollups_forecast_date ON daily_weather_rollups (forecast_date);
+
+-- 역지오코딩(좌표 → 지역명) 캐시 테이블
+CREATE TABLE reverse_geocodes
+(
+    cell_key       VARCHAR(32)  NOT NULL,
+    location_names VARCHAR(500) NULL,
+    resolved       BOOLEAN      NOT NULL,
+    expires_at     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT reverse_geocodes_pkey PRIMARY KEY (cell_key)
+);
+
+-- 외부 API 일일 사용량 테이블
+CREATE TABLE api_quota_usages
+(
+    upstream    VARCHAR(32)  NOT NULL,
+    usage_date  DATE         NOT NULL,
+    used_count  BIGINT       NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT api_quota_usages_pkey PRIMARY KEY (upstream, usage_date)
 );
 
 -- 피드 테이블
@@ -124,13 +202,12 @@ CREATE TABLE feeds
     id            UUID         NOT NULL,
     created_at    TIMESTAMP(6) NOT NULL,
     updated_at    TIMESTAMP(6) NULL,
-    comment_count BYTEA,
+    comment_count INTEGER      NOT NULL DEFAULT 0,
     content       VARCHAR(255) NULL,
-    like_count    BYTEA,
+    like_count    INTEGER      NOT NULL DEFAULT 0,
     author_id     UUID         NULL,
     weather_id    UUID         NULL,
     CONSTRAINT feeds_pkey PRIMARY KEY (id),
-    CONSTRAINT fk_feeds_weather_id FOREIGN KEY (weather_id) REFERENCES weathers (id),
     CONSTRAINT fk_feeds_author_id FOREIGN KEY (author_id) REFERENCES users (id)
 );
 
@@ -195,6 +272,7 @@ CREATE TABLE feed_likes
     feed_id    UUID         NULL,
     user_id    UUID         NULL,
     CONSTRAINT feed_likes_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_feed_likes_user_id_feed_id UNIQUE (user_id, feed_id),
     CONSTRAINT fk_feed_likes_feed_id FOREIGN KEY (feed_id) REFERENCES feeds (id),
     CONSTRAINT fk_feed_likes_user_id FOREIGN KEY (user_id) REFERENCES users (id)
 );
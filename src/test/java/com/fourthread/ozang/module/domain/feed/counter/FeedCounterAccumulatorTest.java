@@ -0,0 +1,185 @@
+package com.fourthread.ozang.module.domain.feed.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fourthread.ozang.module.domain.feed.dto.FeedDto;
+import com.fourthread.ozang.module.domain.feed.repository.FeedRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("피드 좋아요/댓글 수 누적기 테스트")
+class FeedCounterAccumulatorTest {
+
+  private static final int THREADS = 16;
+  private static final int OPERATIONS = 5_000;
+
+  private final UUID hotFeedId = UUID.randomUUID();
+  private final AtomicLong persistedLikes = new AtomicLong();
+  private final AtomicLong persistedComments = new AtomicLong();
+
+  private FeedRepository feedRepository;
+  private FeedCounterAccumulator accumulator;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    feedRepository = mock(FeedRepository.class);
+    // like_count = like_count + ? 를 흉내 낸다
+    when(feedRepository.addCounts(any(), anyLong(), anyLong())).thenAnswer(invocation -> {
+      persistedLikes.addAndGet(invocation.getArgument(1));
+      persistedComments.addAndGet(invocation.getArgument(2));
+      return 1;
+    });
+    accumulator = new FeedCounterAccumulator(feedRepository,
+        new TransactionTemplate(new ResourcelessTransactionManager()));
+    executor = Executors.newFixedThreadPool(THREADS + 1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("한 피드에 동시 좋아요/취소/댓글이 몰려도 반영 중 유실 없이 모두 반영")
+  void hotFeed_NoLostUpdates() throws Exception {
+    // given
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicBoolean running = new AtomicBoolean(true);
+    AtomicLong maxObservedLikes = new AtomicLong();
+
+    // 누적 중에도 계속 반영하고, 조회 값(DB + 반영 전 증분)은 실제 좋아요 수를 넘지 않아야 한다
+    Future<?> flusher = executor.submit(() -> {
+      while (running.get()) {
+        accumulator.flush();
+        maxObservedLikes.accumulateAndGet(persistedLikes.get() + accumulator.pendingLikes(hotFeedId), Math::max);
+      }
+    });
+
+    List<Future<?>> workers = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      workers.add(executor.submit(() -> {
+        start.await();
+        for (int i = 0; i < OPERATIONS; i++) {
+          accumulator.recordLike(hotFeedId, 1);
+          if (i % 5 == 0) {
+            accumulator.recordLike(hotFeedId, -1);
+          }
+          accumulator.recordComment(hotFeedId, 1);
+        }
+        return null;
+      }));
+    }
+
+    // when
+    start.countDown();
+    for (Future<?> worker : workers) {
+      worker.get(30, TimeUnit.SECONDS);
+    }
+    running.set(false);
+    flusher.get(30, TimeUnit.SECONDS);
+    accumulator.flush();
+
+    // then
+    long expectedLikes = (long) THREADS * (OPERATIONS - OPERATIONS / 5);
+    long expectedComments = (long) THREADS * OPERATIONS;
+    assertThat(persistedLikes).hasValue(expectedLikes);
+    assertThat(persistedComments).hasValue(expectedComments);
+    assertThat(accumulator.pendingLikes(hotFeedId)).isZero();
+    assertThat(accumulator.pendingComments(hotFeedId)).isZero();
+    assertThat(maxObservedLikes.get()).isLessThanOrEqualTo(expectedLikes + OPERATIONS);
+  }
+
+  @Test
+  @DisplayName("조회 응답에 반영 전 증분을 더하고, 변화 없는 피드는 다음 반영 때 정리")
+  void merge_AddsPendingDeltas() {
+    // given
+    FeedDto feed = FeedDto.builder()
+        .id(hotFeedId)
+        .likeCount(10L)
+        .commentCount(3)
+        .build();
+    accumulator.recordLike(hotFeedId, 2);
+    accumulator.recordComment(hotFeedId, 1);
+
+    // when
+    FeedDto merged = accumulator.merge(feed);
+    accumulator.flush();
+    accumulator.flush();
+
+    // then
+    assertThat(merged.likeCount()).isEqualTo(12L);
+    assertThat(merged.commentCount()).isEqualTo(4);
+    assertThat(persistedLikes).hasValue(2);
+    assertThat(accumulator.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("반영 실패 시 증분을 유지하고 다음 반영 때 다시 반영")
+  void flush_RetriesOnFailure() {
+    // given
+    when(feedRepository.addCounts(any(), anyLong(), anyLong()))
+        .thenThrow(new QueryTimeoutException("timeout"))
+        .thenAnswer(invocation -> {
+          persistedLikes.addAndGet(invocation.getArgument(1));
+          return 1;
+        });
+    accumulator.recordLike(hotFeedId, 3);
+
+    // when
+    accumulator.flush();
+    long pendingAfterFailure = accumulator.pendingLikes(hotFeedId);
+    accumulator.flush();
+
+    // then
+    assertThat(pendingAfterFailure).isEqualTo(3);
+    assertThat(persistedLikes).hasValue(3);
+    assertThat(accumulator.pendingLikes(hotFeedId)).isZero();
+  }
+
+  @Test
+  @DisplayName("반영 트랜잭션이 커밋되면 바로 반영 중인 값을 빼서 중복 집계하지 않음")
+  void flush_ClearsFlushingOnCommit() {
+    // given - 커밋 직후 조회 값(DB + 반영 전 증분)을 기록
+    AtomicLong observedAfterCommit = new AtomicLong(-1);
+    when(feedRepository.addCounts(any(), anyLong(), anyLong())).thenAnswer(invocation -> {
+      persistedLikes.addAndGet(invocation.getArgument(1));
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          observedAfterCommit.set(persistedLikes.get() + accumulator.pendingLikes(hotFeedId));
+        }
+      });
+      return 1;
+    });
+    accumulator.recordLike(hotFeedId, 3);
+
+    // when
+    accumulator.flush();
+
+    // then
+    assertThat(observedAfterCommit).hasValue(3);
+    assertThat(accumulator.pendingLikes(hotFeedId)).isZero();
+  }
+}
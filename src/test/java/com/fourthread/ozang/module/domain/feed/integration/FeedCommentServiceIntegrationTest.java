@@ -30,7 +30,6 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -159,8 +158,8 @@ class FeedCommentServiceIntegrationTest {
         .author(author)
         .weather(weather)
         .content("Target feed for comments testing")
-        .likeCount(new AtomicInteger(0))
-        .commentCount(new AtomicInteger(0))
+        .likeCount(0)
+        .commentCount(0)
         .build();
     targetFeed = feedRepository.save(targetFeed);
     feedClothesRepository.save(new FeedClothes(clothes, targetFeed));
@@ -170,8 +169,8 @@ class FeedCommentServiceIntegrationTest {
         .author(author)
         .weather(weather)
         .content("Another feed")
-        .likeCount(new AtomicInteger(0))
-        .commentCount(new AtomicInteger(0))
+        .likeCount(0)
+        .commentCount(0)
         .build();
     anotherFeed = feedRepository.save(anotherFeed);
     feedClothesRepository.save(new FeedClothes(clothes, anotherFeed));
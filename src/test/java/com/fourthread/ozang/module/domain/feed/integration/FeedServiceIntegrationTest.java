@@ -14,6 +14,7 @@ import com.fourthread.ozang.module.domain.feed.entity.FeedClothes;
 import com.fourthread.ozang.module.domain.feed.entity.SortBy;
 import com.fourthread.ozang.module.domain.feed.entity.SortDirection;
 import com.fourthread.ozang.module.domain.feed.repository.FeedClothesRepository;
+import com.fourthread.ozang.module.domain.feed.repository.FeedLikeRepository;
 import com.fourthread.ozang.module.domain.feed.repository.FeedRepository;
 import com.fourthread.ozang.module.domain.feed.service.FeedService;
 import com.fourthread.ozang.module.domain.user.dto.type.Gender;
@@ -33,7 +34,6 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -91,6 +91,9 @@ public class FeedServiceIntegrationTest {
   @Autowired
   private FeedRepository feedRepository;
 
+  @Autowired
+  private FeedLikeRepository feedLikeRepository;
+
   @Autowired
   private FeedService feedService;
 
@@ -142,8 +145,8 @@ public class FeedServiceIntegrationTest {
         .author(author)
         .weather(weather)
         .content("content1")
-        .likeCount(new AtomicInteger(0))
-        .commentCount(new AtomicInteger(0))
+        .likeCount(0)
+        .commentCount(0)
         .build();
     feedRepository.save(feed);
 
@@ -161,7 +164,7 @@ public class FeedServiceIntegrationTest {
         .authorIdEqual(null)
         .build();
 
-    FeedData result = feedService.retrieveFeed(request);
+    FeedData result = feedService.retrieveFeed(request, author.getId());
     List<FeedDto> dataList = result.data();
     boolean hasNext = result.hasNext();
     String nextCursor = result.nextCursor();
@@ -185,8 +188,8 @@ public class FeedServiceIntegrationTest {
           .author(author)
           .weather(weather)
           .content("content" + i)
-          .likeCount(new AtomicInteger(0))
-          .commentCount(new AtomicInteger(0))
+          .likeCount(0)
+          .commentCount(0)
           .build();
       feeds.add(feedRepository.save(feed));
 
@@ -205,7 +208,7 @@ public class FeedServiceIntegrationTest {
         .authorIdEqual(null)
         .build();
 
-    FeedData result = feedService.retrieveFeed(request);
+    FeedData result = feedService.retrieveFeed(request, author.getId());
     List<FeedDto> dataList = result.data();
     boolean hasNext = result.hasNext();
     String nextCursor = result.nextCursor();
@@ -231,8 +234,8 @@ public class FeedServiceIntegrationTest {
           .author(author)
           .weather(weather)
           .content("content" + i)
-          .likeCount(new AtomicInteger(0))
-          .commentCount(new AtomicInteger(0))
+          .likeCount(0)
+          .commentCount(0)
           .build();
 
       feeds.add(feedRepository.save(feed));
@@ -253,7 +256,7 @@ public class FeedServiceIntegrationTest {
         .authorIdEqual(null)
         .build();
 
-    FeedData firstResult = feedService.retrieveFeed(firstRequest);
+    FeedData firstResult = feedService.retrieveFeed(firstRequest, author.getId());
 
     for (FeedDto feedDto : firstResult.data()) {
       System.out.println("createdAt = " + feedDto.createdAt());
@@ -277,7 +280,7 @@ public class FeedServiceIntegrationTest {
         .authorIdEqual(null)
         .build();
 
-    FeedData secondResult = feedService.retrieveFeed(secondRequest);
+    FeedData secondResult = feedService.retrieveFeed(secondRequest, author.getId());
     for (FeedDto feedDto : secondResult.data()) {
       System.out.println("createdAt = " + feedDto.createdAt());
     }
@@ -309,8 +312,8 @@ public class FeedServiceIntegrationTest {
           .author(author)
           .weather(weather)
           .content("content" + i)
-          .likeCount(new AtomicInteger(0))
-          .commentCount(new AtomicInteger(0))
+          .likeCount(0)
+          .commentCount(0)
           .build();
       feedRepository.save(feed);
       feedClothesRepository.save(new FeedClothes(clothes, feed));
@@ -328,7 +331,7 @@ public class FeedServiceIntegrationTest {
         .authorIdEqual(null)
         .build();
 
-    FeedData result = feedService.retrieveFeed(request);
+    FeedData result = feedService.retrieveFeed(request, author.getId());
 
     assertThat(result).isNotNull();
     assertThat(result.data().size()).isEqualTo(3);
@@ -349,8 +352,8 @@ public class FeedServiceIntegrationTest {
           .author(author)
           .weather(weather)
           .content("content" + i)
-          .likeCount(new AtomicInteger(0))
-          .commentCount(new AtomicInteger(0))
+          .likeCount(0)
+          .commentCount(0)
           .build();
       createdFeeds.add(feedRepository.save(feed));
       feedClothesRepository.save(new FeedClothes(clothes, feed));
@@ -380,6 +383,47 @@ public class FeedServiceIntegrationTest {
     testPagination(SortDirection.DESCENDING);
   }
 
+  @Test
+  @DisplayName("피드 목록 조회 - 조회 사용자 기준 likedByMe, 중복 좋아요는 한 번만 반영")
+  void retrieveFeed_likedByMe() {
+    // given
+    List<Feed> feeds = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      Feed feed = feedRepository.save(Feed.builder()
+          .author(author)
+          .weather(weather)
+          .content("content" + i)
+          .likeCount(0)
+          .commentCount(0)
+          .build());
+      feedClothesRepository.save(new FeedClothes(clothes, feed));
+      feeds.add(feed);
+    }
+    UUID likedFeedId = feeds.get(1).getId();
+
+    FeedPaginationRequest request = FeedPaginationRequest.builder()
+        .cursor(null)
+        .idAfter(null)
+        .limit(10)
+        .sortBy(SortBy.createdAt)
+        .sortDirection(SortDirection.DESCENDING)
+        .keywordLike(null)
+        .skyStatusEqual(null)
+        .precipitationTypeEqual(null)
+        .authorIdEqual(null)
+        .build();
+
+    // when
+    feedService.like(likedFeedId, author.getId());
+    feedService.like(likedFeedId, author.getId());
+    FeedData result = feedService.retrieveFeed(request, author.getId());
+
+    // then
+    assertThat(feedLikeRepository.count()).isEqualTo(1);
+    assertThat(result.data())
+        .allSatisfy(feedDto -> assertThat(feedDto.likedByMe()).isEqualTo(feedDto.id().equals(likedFeedId)));
+  }
+
   private void testPagination(SortDirection direction) {
     // 첫 번째 페이지
     FeedPaginationRequest firstRequest = FeedPaginationRequest.builder()
@@ -394,7 +438,7 @@ public class FeedServiceIntegrationTest {
         .authorIdEqual(null)
         .build();
 
-    FeedData firstResult = feedService.retrieveFeed(firstRequest);
+    FeedData firstResult = feedService.retrieveFeed(firstRequest, author.getId());
 
     System.out.println("첫 번째 페이지 결과:");
     System.out.println("데이터 개수: " + firstResult.data().size());
@@ -423,7 +467,7 @@ public class FeedServiceIntegrationTest {
           .authorIdEqual(null)
           .build();
 
-      FeedData secondResult = feedService.retrieveFeed(secondRequest);
+      FeedData secondResult = feedService.retrieveFeed(secondRequest, author.getId());
 
       System.out.println("두 번째 페이지 결과:");
       System.out.println("데이터 개수: " + secondResult.data().size());
@@ -0,0 +1,140 @@
+package com.fourthread.ozang.module.domain.feed.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fourthread.ozang.module.domain.feed.dto.FeedDto;
+import com.fourthread.ozang.module.domain.feed.repository.FeedLikeRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("사용자별 좋아요 피드 색인 테스트")
+class FeedLikeIndexTest {
+
+  private static final int MAX_LIKES_PER_USER = 3;
+
+  @Mock
+  private FeedLikeRepository feedLikeRepository;
+
+  private FeedLikeIndex index;
+
+  private final UUID userId = UUID.randomUUID();
+  private final List<UUID> page = IntStream.range(0, 20)
+      .mapToObj(i -> UUID.randomUUID())
+      .toList();
+
+  @BeforeEach
+  void setUp() {
+    index = new FeedLikeIndex(feedLikeRepository, 100, MAX_LIKES_PER_USER, Duration.ofMinutes(5));
+  }
+
+  @Test
+  @DisplayName("한 번 적재한 뒤 여러 페이지를 DB 조회 없이 판정")
+  void applyLikedByMe_LoadOnce() {
+    // given
+    when(feedLikeRepository.findFeedIdsByUserId(eq(userId), any(Pageable.class)))
+        .thenReturn(List.of(page.get(3), page.get(7)));
+    List<FeedDto> feeds = page.stream()
+        .map(id -> FeedDto.builder().id(id).likedByMe(false).build())
+        .toList();
+
+    // when
+    List<FeedDto> first = index.applyLikedByMe(userId, feeds);
+    List<FeedDto> second = index.applyLikedByMe(userId, feeds.subList(0, 10));
+
+    // then
+    assertThat(first).filteredOn(FeedDto::likedByMe)
+        .extracting(FeedDto::id)
+        .containsExactly(page.get(3), page.get(7));
+    assertThat(second).filteredOn(FeedDto::likedByMe).hasSize(2);
+    verify(feedLikeRepository, times(1)).findFeedIdsByUserId(eq(userId), any(Pageable.class));
+    verify(feedLikeRepository, never()).findLikedFeedIds(any(), anyCollection());
+  }
+
+  @Test
+  @DisplayName("좋아요/취소를 적재된 색인에 바로 반영")
+  void recordLike_UpdatesLoadedSet() {
+    // given
+    when(feedLikeRepository.findFeedIdsByUserId(eq(userId), any(Pageable.class)))
+        .thenReturn(List.of(page.get(0)));
+    index.likedAmong(userId, page);
+
+    // when
+    index.recordLike(userId, page.get(5));
+    index.recordUnlike(userId, page.get(0));
+
+    // then
+    assertThat(index.likedAmong(userId, page)).containsExactly(page.get(5));
+    verify(feedLikeRepository, times(1)).findFeedIdsByUserId(eq(userId), any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("좋아요가 많은 사용자는 색인하지 않고 페이지 단위 일괄 조회")
+  void likedAmong_Overflow() {
+    // given
+    when(feedLikeRepository.findFeedIdsByUserId(eq(userId), any(Pageable.class)))
+        .thenReturn(page.subList(0, MAX_LIKES_PER_USER + 1));
+    when(feedLikeRepository.findLikedFeedIds(eq(userId), anyCollection()))
+        .thenReturn(List.of(page.get(1)));
+
+    // when
+    index.likedAmong(userId, page);
+    Set<UUID> liked = index.likedAmong(userId, page);
+
+    // then
+    assertThat(liked).containsExactly(page.get(1));
+    verify(feedLikeRepository, times(1)).findFeedIdsByUserId(eq(userId), any(Pageable.class));
+    verify(feedLikeRepository, times(2)).findLikedFeedIds(eq(userId), anyCollection());
+  }
+
+  @Test
+  @DisplayName("조회 사용자가 없으면 DB 조회 없이 모두 false")
+  void applyLikedByMe_NoViewer() {
+    // given
+    List<FeedDto> feeds = List.of(FeedDto.builder().id(page.get(0)).likedByMe(true).build());
+
+    // when
+    List<FeedDto> result = index.applyLikedByMe(null, feeds);
+
+    // then
+    assertThat(result).extracting(FeedDto::likedByMe).containsExactly(false);
+    verify(feedLikeRepository, never()).findFeedIdsByUserId(any(), any());
+  }
+
+  @Test
+  @DisplayName("정렬 배열 집합의 추가/삭제/포함 확인")
+  void likedFeedSet() {
+    // given
+    LikedFeedSet set = LikedFeedSet.of(page.subList(0, 10));
+
+    // when
+    LikedFeedSet added = set.with(page.get(15)).with(page.get(15));
+    LikedFeedSet removed = added.without(page.get(0)).without(page.get(19));
+
+    // then
+    assertThat(set.size()).isEqualTo(10);
+    assertThat(added.size()).isEqualTo(11);
+    assertThat(removed.size()).isEqualTo(10);
+    assertThat(page).allSatisfy(id -> assertThat(added.contains(id))
+        .isEqualTo(page.indexOf(id) < 10 || id.equals(page.get(15))));
+    assertThat(removed.contains(page.get(0))).isFalse();
+    assertThat(removed.contains(page.get(15))).isTrue();
+  }
+}
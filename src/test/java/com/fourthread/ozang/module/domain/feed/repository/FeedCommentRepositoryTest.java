@@ -25,7 +25,6 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -139,8 +138,8 @@ class FeedCommentRepositoryTest {
         .author(author)
         .weather(weather)
         .content("Target feed for comments")
-        .likeCount(new AtomicInteger(0))
-        .commentCount(new AtomicInteger(0))
+        .likeCount(0)
+        .commentCount(0)
         .build();
     targetFeed = feedRepository.save(targetFeed);
     feedClothesRepository.save(new FeedClothes(clothes, targetFeed));
@@ -150,8 +149,8 @@ class FeedCommentRepositoryTest {
         .author(author)
         .weather(weather)
         .content("Other feed")
-        .likeCount(new AtomicInteger(0))
-        .commentCount(new AtomicInteger(0))
+        .likeCount(0)
+        .commentCount(0)
         .build();
     otherFeed = feedRepository.save(otherFeed);
     feedClothesRepository.save(new FeedClothes(clothes, otherFeed));
@@ -26,7 +26,6 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -489,8 +488,8 @@ class FeedRepositoryTest {
         .author(author)
         .weather(weather)
         .content(content)
-        .likeCount(new AtomicInteger(0))
-        .commentCount(new AtomicInteger(0))
+        .likeCount(0)
+        .commentCount(0)
         .build();
 
     Feed savedFeed = feedRepository.save(feed);
@@ -504,8 +503,8 @@ class FeedRepositoryTest {
         .author(author)
         .weather(weather)
         .content(content)
-        .likeCount(new AtomicInteger(likeCount))
-        .commentCount(new AtomicInteger(0))
+        .likeCount(likeCount)
+        .commentCount(0)
         .build();
 
     Feed savedFeed = feedRepository.save(feed);
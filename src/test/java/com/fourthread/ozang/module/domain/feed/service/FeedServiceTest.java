@@ -7,12 +7,15 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fourthread.ozang.module.domain.feed.counter.FeedCounterAccumulator;
 import com.fourthread.ozang.module.domain.feed.dto.FeedCommentData;
 import com.fourthread.ozang.module.domain.feed.dto.FeedCommentDto;
 import com.fourthread.ozang.module.domain.feed.dto.FeedData;
@@ -28,6 +31,7 @@ import com.fourthread.ozang.module.domain.feed.entity.FeedComment;
 import com.fourthread.ozang.module.domain.feed.entity.SortBy;
 import com.fourthread.ozang.module.domain.feed.entity.SortDirection;
 import com.fourthread.ozang.module.domain.feed.exception.FeedNotFoundException;
+import com.fourthread.ozang.module.domain.feed.like.FeedLikeIndex;
 import com.fourthread.ozang.module.domain.feed.mapper.FeedMapper;
 import com.fourthread.ozang.module.domain.feed.repository.FeedClothesRepository;
 import com.fourthread.ozang.module.domain.feed.repository.FeedCommentRepository;
@@ -47,7 +51,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -88,6 +91,12 @@ class FeedServiceTest {
   @Mock
   private FeedMapper feedMapper;
 
+  @Mock
+  private FeedCounterAccumulator feedCounterAccumulator;
+
+  @Mock
+  private FeedLikeIndex feedLikeIndex;
+
   @InjectMocks
   private FeedService feedService;
 
@@ -109,6 +118,10 @@ class FeedServiceTest {
 
   @BeforeEach
   void init() {
+    // 반영 전 좋아요/댓글 증분 없음
+    when(feedCounterAccumulator.merge(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    when(feedLikeIndex.applyLikedByMe(any(), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
     user = new User("test", "test@mail.com", "asdfasdf");
     user.setProfile(new Profile("test", Gender.ETC, LocalDate.now(),
         new Location(1.0, 1.0, 1, 1, new ArrayList<>()), 10, "url"));
@@ -117,8 +130,8 @@ class FeedServiceTest {
         .author(user)
         .weather(null)
         .content(null)
-        .likeCount(new AtomicInteger(0))
-        .commentCount(new AtomicInteger(0))
+        .likeCount(0)
+        .commentCount(0)
         .build();
 
     expectedFeedDto = FeedDto.builder()
@@ -182,7 +195,7 @@ class FeedServiceTest {
   @Test
   @DisplayName("피드 목록 조회 실패 - request가 잘못 들어옴")
   void retrieveFeedNullRequest() {
-    assertThrows(IllegalArgumentException.class, () -> feedService.retrieveFeed(null));
+    assertThrows(IllegalArgumentException.class, () -> feedService.retrieveFeed(null, userId));
   }
 
   @Test
@@ -200,7 +213,7 @@ class FeedServiceTest {
     when(feedRepository.search(request)).thenReturn(data);
     when(feedRepository.feedTotalCount(request)).thenReturn(2L);
 
-    FeedData result = feedService.retrieveFeed(request);
+    FeedData result = feedService.retrieveFeed(request, userId);
 
     assertFalse(result.hasNext());
     assertEquals(data, result.data());
@@ -240,7 +253,7 @@ class FeedServiceTest {
     when(feedRepository.feedTotalCount(request)).thenReturn(2L);
 
     // 실행
-    FeedData result = feedService.retrieveFeed(request);
+    FeedData result = feedService.retrieveFeed(request, userId);
 
     // 검증
     assertTrue(result.hasNext());
@@ -306,10 +319,48 @@ class FeedServiceTest {
 
     when(feedRepository.findById(any()))
         .thenReturn(Optional.of(feed));
+    when(userRepository.findById(userId))
+        .thenReturn(Optional.of(user));
+    when(feedLikeRepository.insertIfAbsent(any(), any(), eq(feedId), any()))
+        .thenReturn(1);
+
+    feedService.like(feedId, userId);
+
+    verify(feedCounterAccumulator).recordLike(feedId, 1);
+    verify(feedLikeIndex).recordLike(user.getId(), feedId);
+    assertThat(feed.getLikeCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("피드 좋아요 - 이미 좋아요한 피드면 수를 바꾸지 않음")
+  void likeTwice() {
+
+    when(feedRepository.findById(any()))
+        .thenReturn(Optional.of(feed));
+    when(userRepository.findById(userId))
+        .thenReturn(Optional.of(user));
+    when(feedLikeRepository.insertIfAbsent(any(), any(), eq(feedId), any()))
+        .thenReturn(0);
+
+    feedService.like(feedId, userId);
+
+    verify(feedCounterAccumulator, never()).recordLike(any(), eq(1));
+    verify(feedLikeIndex, never()).recordLike(any(), any());
+  }
+
+  @Test
+  @DisplayName("피드 좋아요 취소 - 좋아요하지 않은 피드면 수를 바꾸지 않음")
+  void unLikeNotLiked() {
+
+    when(feedRepository.findById(any()))
+        .thenReturn(Optional.of(feed));
+    when(feedLikeRepository.deleteByFeedIdAndUserId(feedId, userId))
+        .thenReturn(0);
 
-    feedService.like(feedId);
+    feedService.unLike(feedId, userId);
 
-    assertThat(feed.getLikeCount().intValue()).isEqualTo(1);
+    verify(feedCounterAccumulator, never()).recordLike(any(), eq(-1));
+    verify(feedLikeIndex, never()).recordUnlike(any(), any());
   }
 
   @Test
@@ -319,7 +370,7 @@ class FeedServiceTest {
     when(feedRepository.findById(any()))
         .thenThrow(new FeedNotFoundException(null, null, null));
 
-    assertThatThrownBy(() -> feedService.like(any()))
+    assertThatThrownBy(() -> feedService.like(feedId, userId))
         .isInstanceOf(FeedNotFoundException.class);
   }
 
@@ -342,6 +393,7 @@ class FeedServiceTest {
 
     FeedComment comment = captor.getValue();
     assertThat("댓글").isEqualTo(comment.getContent());
+    verify(feedCounterAccumulator).recordComment(feed.getId(), 1);
   }
 
   @Test
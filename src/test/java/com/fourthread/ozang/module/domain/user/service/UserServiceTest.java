@@ -9,6 +9,7 @@ import com.fourthread.ozang.module.domain.user.dto.request.UserLockUpdateRequest
 import com.fourthread.ozang.module.domain.user.dto.type.Role;
 import com.fourthread.ozang.module.domain.user.entity.User;
 import com.fourthread.ozang.module.domain.user.entity.Profile;
+import com.fourthread.ozang.module.domain.user.event.ProfileLocationChangedEvent;
 import com.fourthread.ozang.module.domain.user.exception.UserException;
 import com.fourthread.ozang.module.domain.user.mapper.ProfileMapper;
 import com.fourthread.ozang.module.domain.user.repository.ProfileRepository;
@@ -29,6 +30,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -57,6 +59,9 @@ public class UserServiceTest {
   @Mock
   private JwtService jwtService;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @Nested
   @DisplayName("사용자 생성")
   class CreateUser {
@@ -118,6 +123,7 @@ public class UserServiceTest {
       // then
       assertThat(user.getLocked()).isTrue();
       verify(jwtService).invalidateJwtTokenByEmail(email);
+      verify(eventPublisher).publishEvent(new ProfileLocationChangedEvent(userId, null, null));
     }
 
     @Test
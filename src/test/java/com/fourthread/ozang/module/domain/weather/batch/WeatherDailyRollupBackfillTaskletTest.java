@@ -0,0 +1,65 @@
+package com.fourthread.ozang.module.domain.weather.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fourthread.ozang.module.domain.weather.service.DailyWeatherRollupService;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("일 집계 백필 Tasklet 테스트")
+class WeatherDailyRollupBackfillTaskletTest {
+
+    @Mock
+    private DailyWeatherRollupService dailyWeatherRollupService;
+
+    @Test
+    @DisplayName("보관 기간 첫날부터 내일까지 하루씩 반영하고 진행 날짜를 Step 컨텍스트에 기록")
+    void execute_DayByDay() throws Exception {
+        // Given - 보관 기간 2일: 그저께, 어제, 오늘, 내일
+        when(dailyWeatherRollupService.backfill(any(LocalDate.class))).thenReturn(10);
+
+        WeatherDailyRollupBackfillTasklet tasklet =
+            new WeatherDailyRollupBackfillTasklet(dailyWeatherRollupService, 2);
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+        LocalDate today = LocalDate.now();
+
+        // When
+        RepeatStatus first = tasklet.execute(stepExecution.createStepContribution(), chunkContext);
+
+        // Then
+        assertThat(first).isEqualTo(RepeatStatus.CONTINUABLE);
+        ExecutionContext stepContext = stepExecution.getExecutionContext();
+        assertThat(stepContext.getString(WeatherDailyRollupBackfillTasklet.NEXT_DATE_KEY))
+            .isEqualTo(today.minusDays(1).toString());
+
+        // When - 남은 날짜
+        RepeatStatus status;
+        do {
+            status = tasklet.execute(stepExecution.createStepContribution(), chunkContext);
+        } while (status == RepeatStatus.CONTINUABLE);
+
+        // Then
+        verify(dailyWeatherRollupService, times(4)).backfill(any(LocalDate.class));
+        verify(dailyWeatherRollupService).backfill(today.minusDays(2));
+        verify(dailyWeatherRollupService).backfill(today.plusDays(1));
+        ExecutionContext jobContext = stepExecution.getJobExecution().getExecutionContext();
+        assertThat(jobContext.getInt("rollupBackfillDayCount")).isEqualTo(4);
+        assertThat(jobContext.getLong("rollupBackfillSourceCount")).isEqualTo(40);
+    }
+}
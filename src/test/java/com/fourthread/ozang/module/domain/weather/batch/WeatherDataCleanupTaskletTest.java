@@ -0,0 +1,106 @@
+package com.fourthread.ozang.module.domain.weather.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fourthread.ozang.module.domain.weather.service.LocationNameService;
+import com.fourthread.ozang.module.domain.weather.service.WeatherRetentionService;
+import com.fourthread.ozang.module.domain.weather.service.WeatherRetentionService.PartitionRotation;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("날씨 데이터 정리 Tasklet 테스트")
+class WeatherDataCleanupTaskletTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 6, 1, 3, 0);
+
+    @Mock
+    private WeatherRetentionService weatherRetentionService;
+
+    @Mock
+    private LocationNameService locationNameService;
+
+    @Test
+    @DisplayName("파티션 테이블이면 파티션 교체 후 default 파티션의 지난 날씨까지 청크 삭제")
+    void execute_Partitioned() throws Exception {
+        // Given
+        when(weatherRetentionService.cutoff(30)).thenReturn(CUTOFF);
+        when(weatherRetentionService.isPartitioned()).thenReturn(true);
+        when(weatherRetentionService.rotatePartitions(CUTOFF))
+            .thenReturn(new PartitionRotation(1, 2, 5_000, 3));
+        when(weatherRetentionService.getChunkSize()).thenReturn(100);
+        when(weatherRetentionService.deleteExpiredChunk(CUTOFF)).thenReturn(20);
+        when(weatherRetentionService.deleteExpiredHourly(CUTOFF)).thenReturn(6);
+        when(weatherRetentionService.deleteExpiredRollups(CUTOFF)).thenReturn(7);
+        when(locationNameService.cleanupExpired()).thenReturn(4);
+
+        WeatherDataCleanupTasklet tasklet =
+            new WeatherDataCleanupTasklet(weatherRetentionService, locationNameService, 30);
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+
+        // When
+        RepeatStatus status = tasklet.execute(stepExecution.createStepContribution(),
+            new ChunkContext(new StepContext(stepExecution)));
+
+        // Then
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        ExecutionContext context = stepExecution.getJobExecution().getExecutionContext();
+        assertThat(context.getInt("deletedWeatherCount")).isEqualTo(5_020);
+        assertThat(context.getInt("droppedWeatherPartitionCount")).isEqualTo(2);
+        assertThat(context.getLong("retainedWeatherCount")).isEqualTo(3);
+        assertThat(context.getInt("deletedReverseGeocodeCount")).isEqualTo(4);
+        assertThat(context.getInt("deletedHourlyForecastCount")).isEqualTo(6);
+        assertThat(context.getInt("deletedDailyRollupCount")).isEqualTo(7);
+        verify(weatherRetentionService, times(1)).deleteExpiredChunk(CUTOFF);
+    }
+
+    @Test
+    @DisplayName("파티션 미적용이면 청크마다 CONTINUABLE 로 반환하고 진행 상황을 Step 컨텍스트에 기록")
+    void execute_ChunkedFallback() throws Exception {
+        // Given
+        when(weatherRetentionService.cutoff(30)).thenReturn(CUTOFF);
+        when(weatherRetentionService.isPartitioned()).thenReturn(false);
+        when(weatherRetentionService.getChunkSize()).thenReturn(100);
+        when(weatherRetentionService.deleteExpiredChunk(CUTOFF)).thenReturn(100, 100, 40);
+
+        WeatherDataCleanupTasklet tasklet =
+            new WeatherDataCleanupTasklet(weatherRetentionService, locationNameService, 30);
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+
+        // When
+        RepeatStatus first = tasklet.execute(stepExecution.createStepContribution(), chunkContext);
+        long progress = stepExecution.getExecutionContext().getLong(WeatherDataCleanupTasklet.DELETED_KEY);
+        RepeatStatus second = tasklet.execute(stepExecution.createStepContribution(), chunkContext);
+        RepeatStatus last = tasklet.execute(stepExecution.createStepContribution(), chunkContext);
+
+        // Then
+        assertThat(first).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(second).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(last).isEqualTo(RepeatStatus.FINISHED);
+        assertThat(progress).isEqualTo(100);
+
+        ExecutionContext stepContext = stepExecution.getExecutionContext();
+        assertThat(stepContext.getLong(WeatherDataCleanupTasklet.DELETED_KEY)).isEqualTo(240);
+        assertThat(stepContext.getInt(WeatherDataCleanupTasklet.CHUNK_KEY)).isEqualTo(3);
+        assertThat(stepExecution.getJobExecution().getExecutionContext().getInt("deletedWeatherCount"))
+            .isEqualTo(240);
+        verify(weatherRetentionService, times(1)).cutoff(30);
+        verify(weatherRetentionService, never()).rotatePartitions(any());
+    }
+}
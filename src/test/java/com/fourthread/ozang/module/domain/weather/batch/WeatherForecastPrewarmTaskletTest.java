@@ -0,0 +1,103 @@
+package com.fourthread.ozang.module.domain.weather.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fourthread.ozang.module.domain.user.dto.data.ProfileGridLocation;
+import com.fourthread.ozang.module.domain.user.repository.ProfileRepository;
+import com.fourthread.ozang.module.domain.weather.exception.WeatherApiException;
+import com.fourthread.ozang.module.domain.weather.service.WeatherService;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("예보 사전 적재 Tasklet 테스트")
+class WeatherForecastPrewarmTaskletTest {
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private WeatherService weatherService;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("격자별 조회/생략/실패 건수를 집계하고 실패가 있어도 작업은 완료")
+    void execute_CountsResults() throws Exception {
+        // Given
+        when(profileRepository.findActiveGridLocations()).thenReturn(List.of(
+            new ProfileGridLocation(60, 127, 37.5665, 126.9780),
+            new ProfileGridLocation(61, 125, 37.5007, 127.0365),
+            new ProfileGridLocation(98, 76, 35.1796, 129.0756)
+        ));
+        when(weatherService.prewarmWeatherForecast(126.9780, 37.5665)).thenReturn(true);
+        when(weatherService.prewarmWeatherForecast(127.0365, 37.5007)).thenReturn(false);
+        when(weatherService.prewarmWeatherForecast(129.0756, 35.1796))
+            .thenThrow(new WeatherApiException("timeout", "WEATHER_TIMEOUT"));
+
+        WeatherForecastPrewarmTasklet tasklet =
+            new WeatherForecastPrewarmTasklet(profileRepository, weatherService, executor, 2);
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+
+        // When
+        RepeatStatus status = tasklet.execute(stepExecution.createStepContribution(),
+            new ChunkContext(new StepContext(stepExecution)));
+
+        // Then
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        ExecutionContext context = stepExecution.getJobExecution().getExecutionContext();
+        assertThat(context.getInt("prewarmCellCount")).isEqualTo(3);
+        assertThat(context.getInt("prewarmFetchedCount")).isEqualTo(1);
+        assertThat(context.getInt("prewarmSkippedCount")).isEqualTo(1);
+        assertThat(context.getInt("prewarmFailedCount")).isEqualTo(1);
+        assertThat(context.containsKey("prewarmDurationMs")).isTrue();
+    }
+
+    @Test
+    @DisplayName("대상 격자가 없으면 외부 조회 없이 완료")
+    void execute_NoLocations() throws Exception {
+        // Given
+        when(profileRepository.findActiveGridLocations()).thenReturn(List.of());
+
+        WeatherForecastPrewarmTasklet tasklet =
+            new WeatherForecastPrewarmTasklet(profileRepository, weatherService, executor, 2);
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+
+        // When
+        tasklet.execute(stepExecution.createStepContribution(),
+            new ChunkContext(new StepContext(stepExecution)));
+
+        // Then
+        assertThat(stepExecution.getJobExecution().getExecutionContext().getInt("prewarmCellCount"))
+            .isZero();
+        verify(weatherService, never()).prewarmWeatherForecast(anyDouble(), anyDouble());
+    }
+}
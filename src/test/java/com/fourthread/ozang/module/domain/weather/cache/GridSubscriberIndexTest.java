@@ -0,0 +1,71 @@
+package com.fourthread.ozang.module.domain.weather.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.fourthread.ozang.module.domain.user.dto.data.ProfileGridSubscriber;
+import com.fourthread.ozang.module.domain.user.event.ProfileLocationChangedEvent;
+import com.fourthread.ozang.module.domain.user.repository.ProfileRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("격자별 알림 대상 색인 테스트")
+class GridSubscriberIndexTest {
+
+    private static final UUID USER_A = UUID.randomUUID();
+    private static final UUID USER_B = UUID.randomUUID();
+
+    @InjectMocks
+    private GridSubscriberIndex index;
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Test
+    @DisplayName("활성 사용자 프로필 위치로 색인 생성")
+    void rebuild() {
+        // Given
+        when(profileRepository.findActiveGridSubscribers()).thenReturn(List.of(
+            new ProfileGridSubscriber(USER_A, 60, 127),
+            new ProfileGridSubscriber(USER_B, 60, 127)));
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(index.find(60, 127)).containsExactlyInAnyOrder(USER_A, USER_B);
+        assertThat(index.find(98, 76)).isEmpty();
+        assertThat(index.gridCount()).isEqualTo(1);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("위치 변경 이벤트로 격자 이동, 위치가 없으면 제외")
+    void on_MoveAndRemove() {
+        // Given
+        index.update(USER_A, 60, 127);
+
+        // When - 이동
+        index.on(new ProfileLocationChangedEvent(USER_A, 98, 76));
+
+        // Then
+        assertThat(index.find(60, 127)).isEmpty();
+        assertThat(index.find(98, 76)).containsExactly(USER_A);
+        assertThat(index.gridCount()).isEqualTo(1);
+
+        // When - 잠금 등으로 제외
+        index.on(new ProfileLocationChangedEvent(USER_A, null, null));
+
+        // Then
+        assertThat(index.find(98, 76)).isEmpty();
+        assertThat(index.size()).isZero();
+        assertThat(index.gridCount()).isZero();
+    }
+}
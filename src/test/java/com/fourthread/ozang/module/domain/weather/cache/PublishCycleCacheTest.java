@@ -0,0 +1,82 @@
+package com.fourthread.ozang.module.domain.weather.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("발표시각 단위 캐시 테스트")
+class PublishCycleCacheTest {
+
+    private static final LocalDateTime BASE_0500 = LocalDateTime.of(2025, 6, 30, 5, 0);
+    private static final LocalDateTime BASE_0800 = LocalDateTime.of(2025, 6, 30, 8, 0);
+
+    private SimpleMeterRegistry meterRegistry;
+    private PublishCycleCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PublishCycleCache<>("test", 2, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("적중/미스 횟수가 메트릭으로 기록된다")
+    void get_RecordsHitAndMiss() {
+        ForecastCacheKey key = new ForecastCacheKey(60, 127, BASE_0500);
+        cache.put(key, "seoul");
+
+        assertThat(cache.get(key)).contains("seoul");
+        assertThat(cache.get(new ForecastCacheKey(60, 127, BASE_0800))).isEmpty();
+
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("weather.cache.gets").tag("result", "hit").counter().count())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.get("weather.cache.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최대 크기 초과 시 가장 오래 사용되지 않은 항목 제거")
+    void put_EvictsLeastRecentlyUsed() {
+        ForecastCacheKey seoul = new ForecastCacheKey(60, 127, BASE_0500);
+        ForecastCacheKey busan = new ForecastCacheKey(98, 76, BASE_0500);
+        ForecastCacheKey jeju = new ForecastCacheKey(52, 38, BASE_0500);
+
+        cache.put(seoul, "seoul");
+        cache.put(busan, "busan");
+        cache.get(seoul);
+        cache.put(jeju, "jeju");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(busan)).isEmpty();
+        assertThat(cache.get(seoul)).contains("seoul");
+    }
+
+    @Test
+    @DisplayName("현재 발표시각 이전 항목만 제거")
+    void evictBefore_RemovesPreviousCycle() {
+        cache.put(new ForecastCacheKey(60, 127, BASE_0500), "old");
+        cache.put(new ForecastCacheKey(60, 127, BASE_0800), "new");
+
+        int evicted = cache.evictBefore(BASE_0800);
+
+        assertThat(evicted).isEqualTo(1);
+        assertThat(cache.get(new ForecastCacheKey(60, 127, BASE_0800))).contains("new");
+    }
+
+    @Test
+    @DisplayName("격자 단위 제거")
+    void evictGrid_RemovesOnlyGivenGrid() {
+        cache.put(new ForecastCacheKey(60, 127, BASE_0800), "seoul");
+        cache.put(new ForecastCacheKey(98, 76, BASE_0800), "busan");
+
+        int evicted = cache.evictGrid(60, 127);
+
+        assertThat(evicted).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,140 @@
+package com.fourthread.ozang.module.domain.weather.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast.Category;
+import com.fourthread.ozang.module.domain.weather.util.HourlySeriesCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("공유(L2) 단기예보 캐시 테스트")
+class SharedForecastCacheTest {
+
+    private static final String KEY = "weather:forecast:60:127:202510170500";
+    private static final String LOCK_KEY = "weather:forecast:lock:60:127:202510170500";
+    private static final Duration TTL = Duration.ofHours(4);
+
+    @Mock
+    private RedisTemplate<String, byte[]> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, byte[]> valueOperations;
+
+    private SharedForecastCache cache;
+    private AtomicInteger fetchCount;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache = new SharedForecastCache(redisTemplate, TTL, Duration.ofSeconds(10), Duration.ofMillis(500),
+            Duration.ofMillis(20), Clock.systemUTC(), new SimpleMeterRegistry());
+        fetchCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("공유 캐시에 있으면 기상청 API 를 호출하지 않음")
+    void getOrFetch_Hit() {
+        // given
+        when(valueOperations.get(KEY)).thenReturn(HourlySeriesCodec.encodeResponse(forecast(21.5)));
+
+        // when
+        KmaForecast result = cache.getOrFetch(60, 127, "20251017", "0500", this::fetch).block();
+
+        // then
+        assertThat(result.value(Category.TMP, 0)).isEqualTo(21.5);
+        assertThat(fetchCount).hasValue(0);
+        verify(valueOperations, never()).setIfAbsent(any(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("미스 시 락을 잡은 노드가 호출하고 저장한 뒤 락 해제")
+    void getOrFetch_MissLocked() {
+        // given
+        when(valueOperations.get(KEY)).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), any(), eq(Duration.ofSeconds(10)))).thenReturn(true);
+
+        // when
+        KmaForecast result = cache.getOrFetch(60, 127, "20251017", "0500", this::fetch).block();
+
+        // then
+        assertThat(result.value(Category.TMP, 0)).isEqualTo(23.0);
+        assertThat(fetchCount).hasValue(1);
+        verify(valueOperations, timeout(1000)).set(eq(KEY), any(byte[].class), eq(TTL));
+        verify(redisTemplate, timeout(1000)).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 잡고 있으면 저장될 때까지 기다렸다가 사용")
+    void getOrFetch_WaitForOtherNode() {
+        // given
+        when(valueOperations.get(KEY)).thenReturn(null, null, HourlySeriesCodec.encodeResponse(forecast(19.0)));
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), any(), any(Duration.class))).thenReturn(false);
+
+        // when
+        KmaForecast result = cache.getOrFetch(60, 127, "20251017", "0500", this::fetch).block();
+
+        // then
+        assertThat(result.value(Category.TMP, 0)).isEqualTo(19.0);
+        assertThat(fetchCount).hasValue(0);
+        verify(valueOperations, never()).set(any(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 바로 호출하고 잠시 공유 캐시를 건너뜀")
+    void getOrFetch_RedisDown() {
+        // given
+        when(valueOperations.get(KEY)).thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        KmaForecast first = cache.getOrFetch(60, 127, "20251017", "0500", this::fetch).block();
+        KmaForecast second = cache.getOrFetch(60, 127, "20251017", "0500", this::fetch).block();
+
+        // then
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(fetchCount).hasValue(2);
+        verify(valueOperations, times(1)).get(KEY);
+    }
+
+    private Mono<KmaForecast> fetch() {
+        return Mono.fromCallable(() -> {
+            fetchCount.incrementAndGet();
+            return forecast(23.0);
+        });
+    }
+
+    private static KmaForecast forecast(double temperature) {
+        KmaForecast.Builder builder = KmaForecast.builder()
+            .header("00", "NORMAL_SERVICE")
+            .base("20251017", "0500")
+            .grid(60, 127);
+        int slot = builder.slot(20251017, 600);
+        builder.value(Category.TMP, slot, temperature);
+        builder.code(Category.PTY, slot, 0);
+        builder.text(Category.PCP, slot, "강수없음");
+        return builder.build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.fourthread.ozang.module.domain.weather.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fourthread.ozang.module.domain.weather.exception.WeatherDataFetchException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Single-flight 조회 병합 테스트")
+class SingleFlightTest {
+
+    private static final int CONCURRENT_REQUESTS = 20;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<String, String> singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("test", meterRegistry);
+        executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시 요청은 하나의 조회만 실행하고 결과를 공유한다")
+    void execute_CoalescesConcurrentCalls() throws Exception {
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(CONCURRENT_REQUESTS);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                return singleFlight.execute("60:127", () -> {
+                    loaderCalls.incrementAndGet();
+                    await(release);
+                    return "forecast";
+                });
+            }));
+        }
+
+        ready.await(5, TimeUnit.SECONDS);
+        Thread.sleep(200);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("forecast");
+        }
+        assertThat(loaderCalls.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+        assertThat(meterRegistry.get("weather.singleflight.waiters").summary().totalAmount())
+            .isEqualTo(CONCURRENT_REQUESTS - 1);
+        assertThat(meterRegistry.get("weather.singleflight.duration").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 실패 시 예외를 전달하고 다음 요청은 새로 조회한다")
+    void execute_PropagatesFailureAndReleasesKey() {
+        assertThatThrownBy(() -> singleFlight.execute("60:127", () -> {
+            throw new WeatherDataFetchException("외부 API 호출 실패");
+        })).isInstanceOf(WeatherDataFetchException.class);
+
+        assertThat(singleFlight.execute("60:127", () -> "retry")).isEqualTo("retry");
+    }
+
+    @Test
+    @DisplayName("비동기 조회는 호출 스레드를 막지 않고 진행 중인 조회를 공유한다")
+    void executeAsync_SharesInFlightFuture() throws Exception {
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        CompletableFuture<String> first = singleFlight.executeAsync("60:127", () -> {
+            loaderCalls.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<String> second = singleFlight.executeAsync("60:127", () -> {
+            loaderCalls.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+
+        assertThat(first).isNotDone();
+        assertThat(singleFlight.inFlightCount()).isEqualTo(1);
+
+        upstream.complete("forecast");
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("forecast");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("forecast");
+        assertThat(loaderCalls.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 조회 실패 시 원래 예외로 완료되고 키를 해제한다")
+    void executeAsync_PropagatesFailure() throws Exception {
+        CompletableFuture<String> failed = singleFlight.executeAsync("60:127",
+            () -> CompletableFuture.failedFuture(new WeatherDataFetchException("외부 API 호출 실패")));
+
+        assertThatThrownBy(failed::join)
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(WeatherDataFetchException.class);
+        assertThat(singleFlight.inFlightCount()).isZero();
+        assertThat(singleFlight.executeAsync("60:127", () -> CompletableFuture.completedFuture("retry"))
+            .get(5, TimeUnit.SECONDS)).isEqualTo("retry");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -3,8 +3,13 @@ package com.fourthread.ozang.module.domain.weather.client;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.fourthread.ozang.module.domain.weather.client.guard.UpstreamGuard;
+import com.fourthread.ozang.module.domain.weather.client.guard.UpstreamLimits;
 import com.fourthread.ozang.module.domain.weather.exception.WeatherApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import okhttp3.mockwebserver.MockResponse;
@@ -35,7 +40,10 @@ class KakaoApiClientTest {
             .defaultHeader("Authorization", "KakaoAK test-key")
             .build();
 
-        kakaoApiClient = new KakaoApiClient(webClient);
+        kakaoApiClient = new KakaoApiClient(webClient, new UpstreamGuard("kakao",
+            new UpstreamLimits(100, 100, 10, 100_000, 1, Duration.ofMillis(300), 0.1, 10,
+                0.5, 10, 20, Duration.ofSeconds(30)),
+            Clock.systemDefaultZone(), new SimpleMeterRegistry()));
     }
 
     @AfterEach
@@ -0,0 +1,257 @@
+package com.fourthread.ozang.module.domain.weather.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourthread.ozang.module.domain.weather.dto.WeatherAPILocation;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast.Category;
+import com.fourthread.ozang.module.domain.weather.dto.external.WeatherApiResponse;
+import com.fourthread.ozang.module.domain.weather.mapper.WeatherMapper;
+import com.fourthread.ozang.module.domain.weather.util.HourlySeriesCodec;
+import com.fourthread.ozang.module.domain.weather.util.XxHash64;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mapstruct.factory.Mappers;
+
+@Slf4j
+@DisplayName("기상청 단기예보 스트리밍 파서 테스트")
+class KmaForecastParserTest {
+
+    private static final int ITERATIONS = 2_000;
+    private static final WeatherAPILocation LOCATION = new WeatherAPILocation(
+        37.5665, 126.9780, 60, 127, List.of("서울특별시 중구"));
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final WeatherMapper WEATHER_MAPPER = Mappers.getMapper(WeatherMapper.class);
+
+    private static byte[] body;
+
+    @BeforeAll
+    static void loadFixture() throws IOException {
+        // 기상청 getVilageFcst 응답 형식의 1000행 예보 (numOfRows=1000)
+        try (InputStream inputStream = KmaForecastParserTest.class
+            .getResourceAsStream("/weather/vilage-fcst-1000.json")) {
+            body = inputStream.readAllBytes();
+        }
+    }
+
+    @Test
+    @DisplayName("스트리밍 파싱 결과가 레코드 역직렬화 결과와 같다")
+    void parse_MatchesRecordDeserialization() throws IOException {
+        WeatherApiResponse response = OBJECT_MAPPER.readValue(body, WeatherApiResponse.class);
+        KmaForecast expected = KmaForecast.from(response);
+
+        KmaForecast forecast = parse(body);
+
+        assertThat(forecast.getResultCode()).isEqualTo("00");
+        assertThat(forecast.getResultMsg()).isEqualTo(expected.getResultMsg());
+        assertThat(forecast.getBaseDate()).isEqualTo("20251017");
+        assertThat(forecast.getBaseTime()).isEqualTo("0500");
+        assertThat(forecast.getNx()).isEqualTo(60);
+        assertThat(forecast.getNy()).isEqualTo(127);
+        assertThat(forecast.getItemCount()).isEqualTo(1000);
+        assertThat(forecast.getTotalCount()).isEqualTo(expected.getTotalCount());
+        assertThat(forecast.size()).isEqualTo(expected.size());
+
+        for (int slot = 0; slot < forecast.size(); slot++) {
+            assertThat(forecast.fcstDate(slot)).isEqualTo(expected.fcstDate(slot));
+            assertThat(forecast.fcstTime(slot)).isEqualTo(expected.fcstTime(slot));
+            for (Category category : Category.values()) {
+                switch (category.kind()) {
+                    case NUMERIC -> assertThat(forecast.value(category, slot))
+                        .isEqualTo(expected.value(category, slot));
+                    case CODE -> assertThat(forecast.code(category, slot))
+                        .isEqualTo(expected.code(category, slot));
+                    case TEXT -> assertThat(forecast.text(category, slot))
+                        .isEqualTo(expected.text(category, slot));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("바이너리 직렬화 후 복원하면 같은 응답이고 원문보다 작다")
+    void encodeResponse_RoundTrip() throws IOException {
+        KmaForecast expected = parse(body);
+
+        byte[] bytes = HourlySeriesCodec.encodeResponse(expected);
+        KmaForecast forecast = HourlySeriesCodec.decodeResponse(bytes);
+
+        log.info("단기예보 직렬화 크기 - 원문: {}B, 바이너리: {}B", body.length, bytes.length);
+        assertThat(bytes.length).isLessThan(body.length / 10);
+        assertThat(forecast.getResultCode()).isEqualTo(expected.getResultCode());
+        assertThat(forecast.getResultMsg()).isEqualTo(expected.getResultMsg());
+        assertThat(forecast.getBaseDate()).isEqualTo(expected.getBaseDate());
+        assertThat(forecast.getBaseTime()).isEqualTo(expected.getBaseTime());
+        assertThat(forecast.getNx()).isEqualTo(expected.getNx());
+        assertThat(forecast.getNy()).isEqualTo(expected.getNy());
+        assertThat(forecast.getItemCount()).isEqualTo(expected.getItemCount());
+        assertThat(forecast.getTotalCount()).isEqualTo(expected.getTotalCount());
+        assertThat(forecast.getResponseHash()).isEqualTo(expected.getResponseHash());
+        assertThat(forecast.size()).isEqualTo(expected.size());
+
+        for (int slot = 0; slot < forecast.size(); slot++) {
+            assertThat(forecast.fcstDate(slot)).isEqualTo(expected.fcstDate(slot));
+            assertThat(forecast.fcstTime(slot)).isEqualTo(expected.fcstTime(slot));
+            for (Category category : Category.values()) {
+                assertThat(forecast.has(category, slot)).isEqualTo(expected.has(category, slot));
+                switch (category.kind()) {
+                    case NUMERIC -> assertThat(forecast.value(category, slot))
+                        .isEqualTo(expected.value(category, slot));
+                    case CODE -> assertThat(forecast.code(category, slot))
+                        .isEqualTo(expected.code(category, slot));
+                    case TEXT -> assertThat(forecast.text(category, slot))
+                        .isEqualTo(expected.text(category, slot));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("응답 원문 해시는 같은 본문이면 같고 본문이 다르면 다르다")
+    void parse_Digest() throws IOException {
+        byte[] changed = new String(body, StandardCharsets.UTF_8)
+            .replaceFirst("\"fcstValue\":\"", "\"fcstValue\":\"1")
+            .getBytes(StandardCharsets.UTF_8);
+
+        assertThat(parse(body).getResponseHash()).isEqualTo(parse(body).getResponseHash());
+        assertThat(parse(changed).getResponseHash()).isNotEqualTo(parse(body).getResponseHash());
+    }
+
+    @Test
+    @DisplayName("응답 원문 해시는 파서가 읽은 원문 전체의 xxHash64")
+    void parse_DigestCoversRawBytes() throws IOException {
+        byte[] padded = (new String(body, StandardCharsets.UTF_8) + "\n\n")
+            .getBytes(StandardCharsets.UTF_8);
+
+        assertThat(parse(body).getResponseHash())
+            .isEqualTo(HexFormat.of().toHexDigits(XxHash64.hash(body)));
+        assertThat(parse(padded).getResponseHash())
+            .isEqualTo(HexFormat.of().toHexDigits(XxHash64.hash(padded)));
+    }
+
+    @Test
+    @DisplayName("필드 순서와 무관하게 해석하고 모르는 필드/카테고리는 무시")
+    void parse_FieldOrderAndUnknownFields() throws IOException {
+        String json = """
+            {"response":{"body":{"items":{"item":[
+              {"fcstValue":"18.5","nx":60,"ny":127,"fcstTime":"0900","category":"TMP",
+               "fcstDate":"20251017","baseTime":"0500","baseDate":"20251017","extra":{"a":[1,2]}},
+              {"baseDate":"20251017","baseTime":"0500","category":"XYZ","fcstDate":"20251017",
+               "fcstTime":"0900","fcstValue":"1","nx":60,"ny":127},
+              {"baseDate":"20251017","baseTime":"0500","category":"PCP","fcstDate":"20251017",
+               "fcstTime":"0900","fcstValue":"강수없음","nx":60,"ny":127}
+            ]},"totalCount":3},
+            "header":{"resultCode":"00","resultMsg":"NORMAL_SERVICE"}}}
+            """;
+
+        KmaForecast forecast = parse(json.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(forecast.getResultCode()).isEqualTo("00");
+        assertThat(forecast.getBaseTime()).isEqualTo("0500");
+        assertThat(forecast.size()).isEqualTo(1);
+        assertThat(forecast.getItemCount()).isEqualTo(3);
+        assertThat(forecast.value(Category.TMP, 0)).isEqualTo(18.5);
+        assertThat(forecast.text(Category.PCP, 0)).isEqualTo("강수없음");
+        assertThat(forecast.has(Category.REH, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("데이터가 없으면 items 가 빈 문자열로 와도 빈 응답")
+    void parse_EmptyItems() throws IOException {
+        String json = """
+            {"response":{"header":{"resultCode":"03","resultMsg":"NO_DATA"},
+             "body":{"dataType":"JSON","items":"","pageNo":1,"numOfRows":10,"totalCount":0}}}
+            """;
+
+        KmaForecast forecast = parse(json.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(forecast.getResultCode()).isEqualTo("03");
+        assertThat(forecast.isEmpty()).isTrue();
+    }
+
+    @ParameterizedTest
+    @DisplayName("실수 해석 결과가 Double.parseDouble 과 같다")
+    @ValueSource(strings = {"0", "13", "-2", "-0.5", "0.7", "1.25", "100", "359", "12.345678901234",
+        "1e3", "4.9E-3", "123456789012345678", "abc", "."})
+    void parseDouble_MatchesJdk(String value) {
+        char[] chars = ("xx" + value + "yy").toCharArray();
+
+        double expected;
+        try {
+            expected = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            expected = 0.0;
+        }
+
+        assertThat(KmaForecastParser.parseDouble(chars, 2, value.length())).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("요청당 파싱/엔티티 변환 처리 시간 및 할당량 비교")
+    void parse_Benchmark() throws IOException {
+        // 워밍업
+        for (int i = 0; i < ITERATIONS; i++) {
+            runRecord();
+            runColumnar();
+        }
+
+        long recordAllocated = allocatedBytes();
+        long recordStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            runRecord();
+        }
+        long recordNanos = System.nanoTime() - recordStart;
+        recordAllocated = allocatedBytes() - recordAllocated;
+
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            runColumnar();
+        }
+        long nanos = System.nanoTime() - start;
+        allocated = allocatedBytes() - allocated;
+
+        log.info("1000행 응답 파싱+엔티티 변환 - 레코드: {}us/회, {}KB/회 | 스트리밍 열 단위: {}us/회, {}KB/회",
+            recordNanos / ITERATIONS / 1_000, recordAllocated / ITERATIONS / 1024,
+            nanos / ITERATIONS / 1_000, allocated / ITERATIONS / 1024);
+
+        if (recordAllocated > 0 && allocated > 0) {
+            assertThat(allocated).isLessThan(recordAllocated);
+        }
+    }
+
+    private double runRecord() throws IOException {
+        WeatherApiResponse response = OBJECT_MAPPER.readValue(body, WeatherApiResponse.class);
+        return WEATHER_MAPPER.fromApiResponse(response.response().body().items().item(), LOCATION)
+            .getTemperature().current();
+    }
+
+    private double runColumnar() throws IOException {
+        return WEATHER_MAPPER.fromForecast(parse(body), LOCATION).getTemperature().current();
+    }
+
+    private static KmaForecast parse(byte[] bytes) throws IOException {
+        return KmaForecastParser.parse(new ByteArrayInputStream(bytes));
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+            && threadMXBean.isThreadAllocatedMemorySupported()) {
+            return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+}
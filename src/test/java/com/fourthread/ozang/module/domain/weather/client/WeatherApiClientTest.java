@@ -3,10 +3,20 @@ package com.fourthread.ozang.module.domain.weather.client;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.fourthread.ozang.module.domain.weather.cache.SharedForecastCache;
+import com.fourthread.ozang.module.domain.weather.client.guard.UpstreamGuard;
+import com.fourthread.ozang.module.domain.weather.client.guard.UpstreamLimits;
+import com.fourthread.ozang.module.domain.weather.client.guard.UpstreamRejectedException;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast.Category;
 import com.fourthread.ozang.module.domain.weather.dto.external.WeatherApiResponse;
 import com.fourthread.ozang.module.domain.weather.entity.GridCoordinate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.concurrent.TimeUnit;
 import okhttp3.mockwebserver.MockResponse;
@@ -24,9 +34,11 @@ import org.springframework.web.reactive.function.client.WebClient;
 class WeatherApiClientTest {
 
     private WeatherApiClient weatherApiClient;
+    private UpstreamGuard upstreamGuard;
     private MockWebServer mockWebServer;
     private static final String SERVICE_KEY = "test-service-key";
     private static final GridCoordinate TEST_GRID = new GridCoordinate(60, 127);
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
 
     @BeforeEach
     void setUp() throws IOException {
@@ -37,7 +49,11 @@ class WeatherApiClientTest {
             .baseUrl(mockWebServer.url("/").toString())
             .build();
 
-        weatherApiClient = new WeatherApiClient(webClient);
+        upstreamGuard = new UpstreamGuard("kma",
+            new UpstreamLimits(100, 100, 10, 10_000, 2, Duration.ofMillis(500), 0.1, 10,
+                0.5, 10, 20, Duration.ofSeconds(30)),
+            Clock.systemDefaultZone(), new SimpleMeterRegistry());
+        weatherApiClient = new WeatherApiClient(webClient, upstreamGuard, SharedForecastCache.disabled(), ZONE);
         ReflectionTestUtils.setField(weatherApiClient, "serviceKey", SERVICE_KEY);
     }
 
@@ -60,12 +76,19 @@ class WeatherApiClientTest {
                 .setHeader("Content-Type", "application/json"));
 
             // When
-            WeatherApiResponse response = weatherApiClient.getWeatherForecast(TEST_GRID);
+            KmaForecast response = weatherApiClient.getWeatherForecast(TEST_GRID);
 
             // Then
             assertThat(response).isNotNull();
-            assertThat(response.response().header().resultCode()).isEqualTo("00");
-            assertThat(response.response().body().items().item()).hasSize(3);
+            assertThat(response.getResultCode()).isEqualTo("00");
+            assertThat(response.getItemCount()).isEqualTo(3);
+            assertThat(response.size()).isEqualTo(1);
+            assertThat(response.getBaseDate()).isEqualTo("20250701");
+            assertThat(response.getBaseTime()).isEqualTo("0200");
+            assertThat(response.value(Category.TMP, 0)).isEqualTo(20.0);
+            assertThat(response.code(Category.SKY, 0)).isEqualTo(1);
+            assertThat(response.code(Category.PTY, 0)).isZero();
+            assertThat(response.getResponseHash()).hasSize(16);
 
             // 요청 검증
             RecordedRequest request = mockWebServer.takeRequest();
@@ -102,7 +125,7 @@ class WeatherApiClientTest {
                 .setHeader("Content-Type", "application/json"));
 
             // When
-            WeatherApiResponse response = weatherApiClient.getWeatherForecast(TEST_GRID);
+            KmaForecast response = weatherApiClient.getWeatherForecast(TEST_GRID);
 
             // Then
             assertThat(response).isNotNull();
@@ -150,7 +173,7 @@ class WeatherApiClientTest {
                 .setHeader("Content-Type", "application/json"));
 
             // When
-            WeatherApiResponse response = weatherApiClient.callVilageFcst(TEST_GRID, baseDate, baseTime);
+            KmaForecast response = weatherApiClient.callVilageFcst(TEST_GRID, baseDate, baseTime);
 
             // Then
             assertThat(response).isNotNull();
@@ -170,12 +193,13 @@ class WeatherApiClientTest {
                 .setHeader("Content-Type", "application/json"));
 
             // When
-            WeatherApiResponse response = weatherApiClient.callVilageFcst(
+            KmaForecast response = weatherApiClient.callVilageFcst(
                 TEST_GRID, "20250701", "0200"
             );
 
             // Then
-            assertThat(response.response().body().items().item()).hasSize(100);
+            assertThat(response.getItemCount()).isEqualTo(100);
+            assertThat(response.size()).isEqualTo(24);
 
             RecordedRequest request = mockWebServer.takeRequest();
             assertThat(request.getPath()).contains("numOfRows=1000");
@@ -190,7 +214,7 @@ class WeatherApiClientTest {
                 .setResponseCode(204)); // No Content
 
             // When
-            WeatherApiResponse response = weatherApiClient.callVilageFcst(
+            KmaForecast response = weatherApiClient.callVilageFcst(
                 TEST_GRID, "20250701", "0200"
             );
 
@@ -241,7 +265,7 @@ class WeatherApiClientTest {
             String path = request.getPath();
 
             // 현재 시간 기준으로 계산되었는지 확인
-            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime now = LocalDateTime.now(ZONE);
             String expectedDate = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
             assertThat(path).contains("base_date=" + expectedDate);
         }
@@ -261,12 +285,32 @@ class WeatherApiClientTest {
                 .setHeader("Content-Type", "application/json"));
 
             // When
-            WeatherApiResponse response = weatherApiClient.getWeatherForecast(TEST_GRID);
+            KmaForecast response = weatherApiClient.getWeatherForecast(TEST_GRID);
 
             // Then
             assertThat(response).isNotNull();
-            assertThat(response.response().header().resultCode()).isEqualTo("03");
-            assertThat(response.response().header().resultMsg()).isEqualTo("No data");
+            assertThat(response.getResultCode()).isEqualTo("03");
+            assertThat(response.getResultMsg()).isEqualTo("No data");
+            assertThat(response.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("요청 제한 횟수 초과(22) 응답 후에는 호출하지 않고 거절")
+        void handleQuotaExceeded() {
+            // Given
+            mockWebServer.enqueue(new MockResponse()
+                .setBody(createErrorResponse("22", "LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR"))
+                .setHeader("Content-Type", "application/json"));
+
+            // When
+            KmaForecast response = weatherApiClient.getWeatherForecast(TEST_GRID);
+
+            // Then
+            assertThat(response.getResultCode()).isEqualTo("22");
+            assertThat(upstreamGuard.getQuota().remaining()).isZero();
+            assertThatThrownBy(() -> weatherApiClient.callVilageFcst(TEST_GRID, "20250701", "0200"))
+                .isInstanceOf(UpstreamRejectedException.class);
+            assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
         }
 
         @Test
@@ -0,0 +1,141 @@
+package com.fourthread.ozang.module.domain.weather.client.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fourthread.ozang.module.domain.weather.client.archive.UpstreamArchive.Frame;
+import com.fourthread.ozang.module.domain.weather.client.archive.UpstreamArchive.Mode;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+@DisplayName("외부 API 응답 보관소 테스트")
+class UpstreamArchiveTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final Set<String> IGNORED = Set.of("serviceKey", "base_date", "base_time");
+
+    @TempDir
+    Path root;
+
+    @Test
+    @DisplayName("발표일자/시각과 인증키를 뺀 같은 요청이면 같은 키")
+    void key_IgnoresParams() {
+        // given
+        UpstreamArchive archive = archive(Mode.RECORD, clock("2025-07-20T01:00:00Z"));
+
+        // when
+        String first = archive.key("kma", URI.create(
+            "http://apis.data.go.kr/getVilageFcst?serviceKey=a&nx=60&ny=127&base_date=20250720&base_time=0800"));
+        String second = archive.key("kma", URI.create(
+            "http://apis.data.go.kr/getVilageFcst?ny=127&base_time=1100&nx=60&serviceKey=b&base_date=20250720"));
+
+        // then
+        assertThat(first).isEqualTo(second).isEqualTo("kma /getVilageFcst?nx=60&ny=127");
+    }
+
+    @Test
+    @DisplayName("날짜 디렉토리가 달라도 같은 키의 응답을 기록 순서대로 읽음")
+    void record_ReadAcrossDates() throws Exception {
+        // given
+        URI uri = URI.create("http://apis.data.go.kr/getVilageFcst?nx=60&ny=127&base_date=20250720");
+        archive(Mode.RECORD, clock("2025-07-20T01:00:00Z"))
+            .record("kma", uri, 200, "application/json", "first".getBytes(StandardCharsets.UTF_8));
+        archive(Mode.RECORD, clock("2025-07-21T01:00:00Z"))
+            .record("kma", uri, 200, "application/json", "second".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        List<Frame> frames = archive(Mode.REPLAY, clock("2025-07-22T01:00:00Z")).frames("kma", uri);
+
+        // then
+        assertThat(Files.isDirectory(root.resolve("kma").resolve("2025-07-20"))).isTrue();
+        assertThat(Files.isDirectory(root.resolve("kma").resolve("2025-07-21"))).isTrue();
+        assertThat(frames).extracting(frame -> new String(frame.body(), StandardCharsets.UTF_8))
+            .containsExactly("first", "second");
+        assertThat(frames.get(0).contentType()).isEqualTo("application/json");
+    }
+
+    @Test
+    @DisplayName("기록 모드 WebClient 는 응답을 그대로 넘기고 보관소에 기록")
+    void recordingFilter_PassThrough() throws Exception {
+        // given
+        UpstreamArchive archive = archive(Mode.RECORD, clock("2025-07-20T01:00:00Z"));
+        WebClient.Builder builder = WebClient.builder()
+            .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .body("{\"x\":1}")
+                .build()));
+        WebClient client = archive.apply(builder, "kakao").build();
+        URI uri = URI.create("https://dapi.kakao.com/v2/local/geo/coord2regioncode.json?x=126.97&y=37.56");
+
+        // when
+        String body = client.get().uri(uri).retrieve().bodyToMono(String.class).block();
+
+        // then
+        assertThat(body).isEqualTo("{\"x\":1}");
+        List<Frame> frames = awaitFrames(uri);
+        assertThat(frames).hasSize(1);
+        assertThat(new String(frames.get(0).body(), StandardCharsets.UTF_8)).isEqualTo("{\"x\":1}");
+    }
+
+    @Test
+    @DisplayName("재생 모드는 기록된 응답을 지연 후 돌려주고 기록이 없으면 404")
+    void replay_ServesRecorded() throws Exception {
+        // given
+        URI uri = URI.create("https://dapi.kakao.com/v2/local/geo/coord2regioncode.json?x=126.97&y=37.56");
+        archive(Mode.RECORD, clock("2025-07-20T01:00:00Z"))
+            .record("kakao", uri, 200, "application/json", "{\"x\":1}".getBytes(StandardCharsets.UTF_8));
+        ReplayExchangeFunction replay = new ReplayExchangeFunction("kakao",
+            archive(Mode.REPLAY, clock("2025-07-21T01:00:00Z")), Duration.ofMillis(50), Duration.ZERO);
+
+        // when
+        long started = System.nanoTime();
+        ClientResponse hit = replay.exchange(ClientRequest.create(
+            HttpMethod.GET, uri).build()).block();
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+        ClientResponse miss = replay.exchange(ClientRequest.create(HttpMethod.GET,
+            URI.create("https://dapi.kakao.com/v2/local/geo/coord2regioncode.json?x=127.00&y=37.56")).build()).block();
+
+        // then
+        assertThat(hit.statusCode().value()).isEqualTo(200);
+        assertThat(hit.bodyToMono(String.class).block()).isEqualTo("{\"x\":1}");
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(50);
+        assertThat(miss.statusCode().value()).isEqualTo(404);
+    }
+
+    private List<Frame> awaitFrames(URI uri) throws InterruptedException {
+        // 기록은 boundedElastic 에서 비동기로 수행
+        for (int i = 0; i < 50; i++) {
+            List<Frame> frames = archive(Mode.REPLAY, clock("2025-07-20T01:00:00Z")).frames("kakao", uri);
+            if (!frames.isEmpty()) {
+                return frames;
+            }
+            Thread.sleep(20);
+        }
+        return List.of();
+    }
+
+    private UpstreamArchive archive(Mode mode, Clock clock) {
+        return new UpstreamArchive(mode, root, IGNORED, Duration.ZERO, Duration.ZERO, clock);
+    }
+
+    private static Clock clock(String instant) {
+        return Clock.fixed(Instant.parse(instant), KST);
+    }
+}
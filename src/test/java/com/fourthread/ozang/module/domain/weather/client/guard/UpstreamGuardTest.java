@@ -0,0 +1,217 @@
+package com.fourthread.ozang.module.domain.weather.client.guard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fourthread.ozang.module.domain.weather.client.guard.DailyQuota.Usage;
+import com.fourthread.ozang.module.domain.weather.client.guard.UpstreamRejectedException.Reason;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+@DisplayName("외부 API 호출 제한 테스트")
+class UpstreamGuardTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("순간 최대 호출 수를 넘으면 호출 없이 거절")
+    void execute_RateLimited() {
+        UpstreamGuard guard = guard(new UpstreamLimits(0.001, 2, 10, 100, 0, Duration.ZERO, 0.1, 10,
+            0.5, 10, 20, Duration.ofSeconds(30)));
+        AtomicInteger calls = new AtomicInteger();
+
+        guard.execute(() -> Mono.fromCallable(calls::incrementAndGet)).block();
+        guard.execute(() -> Mono.fromCallable(calls::incrementAndGet)).block();
+
+        assertThatThrownBy(() -> guard.execute(() -> Mono.fromCallable(calls::incrementAndGet)).block())
+            .isInstanceOf(UpstreamRejectedException.class)
+            .hasMessageContaining(Reason.RATE_LIMITED.getDescription());
+        assertThat(calls).hasValue(2);
+        assertThat(guard.rejectedCount(Reason.RATE_LIMITED)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수를 넘으면 거절하고 호출이 끝나면 퍼밋 반환")
+    void execute_BulkheadFull() {
+        UpstreamGuard guard = guard(new UpstreamLimits(100, 100, 1, 100, 0, Duration.ZERO, 0.1, 10,
+            0.5, 10, 20, Duration.ofSeconds(30)));
+        Sinks.One<String> pending = Sinks.one();
+
+        Mono<String> first = guard.execute(pending::asMono);
+        first.subscribe();
+
+        assertThatThrownBy(() -> guard.execute(() -> Mono.just("second")).block())
+            .isInstanceOf(UpstreamRejectedException.class)
+            .hasMessageContaining(Reason.BULKHEAD_FULL.getDescription());
+
+        pending.tryEmitValue("first");
+        assertThat(guard.availableConcurrency()).isEqualTo(1);
+        assertThat(guard.execute(() -> Mono.just("third")).block()).isEqualTo("third");
+    }
+
+    @Test
+    @DisplayName("일일 한도를 모두 쓰면 다음 날까지 거절")
+    void execute_QuotaExhausted() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-07-01T03:00:00Z"));
+        UpstreamGuard guard = new UpstreamGuard("test",
+            new UpstreamLimits(100, 100, 10, 2, 0, Duration.ZERO, 0.1, 10,
+                0.5, 10, 20, Duration.ofSeconds(30)), clock, new SimpleMeterRegistry());
+
+        guard.execute(() -> Mono.just(1)).block();
+        guard.execute(() -> Mono.just(2)).block();
+
+        assertThat(guard.getQuota().remaining()).isZero();
+        assertThatThrownBy(() -> guard.execute(() -> Mono.just(3)).block())
+            .isInstanceOf(UpstreamRejectedException.class)
+            .hasMessageContaining(Reason.QUOTA_EXHAUSTED.getDescription());
+
+        clock.advance(Duration.ofDays(1));
+        assertThat(guard.getQuota().remaining()).isEqualTo(2);
+        assertThat(guard.execute(() -> Mono.just(4)).block()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("재시도는 예산 안에서만 수행")
+    void execute_RetryBudget() {
+        UpstreamGuard guard = guard(new UpstreamLimits(1_000, 1_000, 10, 1_000, 2, Duration.ofMillis(1), 0.1, 2,
+            0.5, 10, 20, Duration.ofSeconds(30)));
+        AtomicInteger calls = new AtomicInteger();
+
+        // 예산 2 - 첫 호출은 재시도 2회 후 실패
+        assertThatThrownBy(() -> guard.execute(() -> failing(calls)).block())
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(calls).hasValue(3);
+
+        // 예산 소진 - 재시도 없이 바로 실패
+        calls.set(0);
+        assertThatThrownBy(() -> guard.execute(() -> failing(calls)).block())
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("거절된 호출은 재시도하지 않음")
+    void execute_RejectedNotRetried() {
+        UpstreamGuard guard = guard(new UpstreamLimits(100, 100, 10, 1, 2, Duration.ofMillis(1), 0.1, 10,
+            0.5, 10, 20, Duration.ofSeconds(30)));
+        guard.markQuotaExhausted();
+
+        assertThatThrownBy(() -> guard.execute(() -> Mono.just(1)).block())
+            .isInstanceOf(UpstreamRejectedException.class);
+        assertThat(guard.rejectedCount(Reason.QUOTA_EXHAUSTED)).isEqualTo(1);
+        assertThat(guard.retryBudgetBalance()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("실패율이 기준을 넘으면 서킷 OPEN - 호출 없이 거절 후 시험 호출 성공 시 CLOSED")
+    void execute_CircuitBreaker() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-07-01T03:00:00Z"));
+        UpstreamGuard guard = new UpstreamGuard("test",
+            new UpstreamLimits(1_000, 1_000, 10, 1_000, 0, Duration.ZERO, 0.1, 10,
+                0.5, 4, 10, Duration.ofSeconds(30)), clock, new SimpleMeterRegistry());
+        AtomicInteger calls = new AtomicInteger();
+
+        guard.execute(() -> Mono.just(1)).block();
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> guard.execute(() -> failing(calls)).block())
+                .isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(guard.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> guard.execute(() -> failing(calls)).block())
+            .isInstanceOf(UpstreamRejectedException.class)
+            .hasMessageContaining(Reason.CIRCUIT_OPEN.getDescription());
+        assertThat(calls).hasValue(3);
+
+        clock.advance(Duration.ofSeconds(31));
+        assertThat(guard.circuitState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(guard.execute(() -> Mono.just(2)).block()).isEqualTo(2);
+        assertThat(guard.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 실패하면 다시 OPEN")
+    void execute_CircuitBreakerProbeFails() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-07-01T03:00:00Z"));
+        UpstreamGuard guard = new UpstreamGuard("test",
+            new UpstreamLimits(1_000, 1_000, 10, 1_000, 0, Duration.ZERO, 0.1, 10,
+                0.5, 2, 10, Duration.ofSeconds(30)), clock, new SimpleMeterRegistry());
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.execute(() -> failing(calls)).block())
+                .isInstanceOf(IllegalStateException.class);
+        }
+        clock.advance(Duration.ofSeconds(31));
+        assertThatThrownBy(() -> guard.execute(() -> failing(calls)).block())
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(guard.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("저장된 사용량과 미저장 사용량을 합산해 복원")
+    void dailyQuota_Restore() {
+        Clock clock = Clock.fixed(Instant.parse("2025-07-01T03:00:00Z"), KST);
+        DailyQuota quota = new DailyQuota(100, clock);
+        quota.tryConsume();
+        quota.tryConsume();
+
+        Usage usage = quota.drainPending();
+        quota.tryConsume();
+        quota.restore(LocalDate.of(2025, 7, 1), 50);
+
+        assertThat(usage.count()).isEqualTo(2);
+        assertThat(quota.used()).isEqualTo(51);
+        assertThat(quota.drainPending().count()).isEqualTo(1);
+    }
+
+    private static UpstreamGuard guard(UpstreamLimits limits) {
+        return new UpstreamGuard("test", limits, Clock.system(KST), new SimpleMeterRegistry());
+    }
+
+    private static Mono<Integer> failing(AtomicInteger calls) {
+        return Mono.fromCallable(() -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("upstream error");
+        });
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return KST;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.fourthread.ozang.module.domain.weather.client.guard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import com.fourthread.ozang.module.domain.weather.repository.ApiQuotaUsageRepository;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("외부 API 일일 사용량 저장 테스트")
+class UpstreamQuotaStoreTest {
+
+    // JVM 기본 시간대와 날짜가 다를 가능성이 큰 시간대 (UTC+14)
+    private static final ZoneId ZONE = ZoneId.of("Pacific/Kiritimati");
+
+    @Mock
+    private ApiQuotaUsageRepository apiQuotaUsageRepository;
+
+    @Test
+    @DisplayName("지난 사용량 삭제 기준일은 서비스 시간대 날짜로 계산")
+    void deleteExpired_UsesServiceZone() {
+        // given
+        UpstreamQuotaStore store = new UpstreamQuotaStore(List.of(), apiQuotaUsageRepository, ZONE);
+        LocalDate before = LocalDate.now(ZONE);
+
+        // when
+        store.deleteExpired();
+
+        // then
+        LocalDate after = LocalDate.now(ZONE);
+        ArgumentCaptor<LocalDate> captor = ArgumentCaptor.forClass(LocalDate.class);
+        verify(apiQuotaUsageRepository).deleteBefore(captor.capture());
+        assertThat(captor.getValue()).isBetween(before.minusDays(7), after.minusDays(7));
+    }
+}
@@ -0,0 +1,67 @@
+package com.fourthread.ozang.module.domain.weather.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("일 집계 엔티티 테스트")
+class DailyWeatherRollupTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 7, 1);
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 30, 23, 0);
+
+    @Test
+    @DisplayName("시간 값 반영 시 최저/최고/평균/합계 재계산")
+    void apply_Summarize() {
+        DailyWeatherRollup rollup = DailyWeatherRollup.of(60, 127, DATE);
+
+        rollup.apply(BASE, 6, 18.0, 80.0, 0.0);
+        rollup.apply(BASE, 12, 25.5, 60.0, 1.5);
+        rollup.apply(BASE, 18, 21.0, null, 0.5);
+
+        assertThat(rollup.getTemperatureMin()).isEqualTo(18.0);
+        assertThat(rollup.getTemperatureMax()).isEqualTo(25.5);
+        assertThat(rollup.getTemperatureAvg()).isEqualTo(21.5);
+        assertThat(rollup.getHumidityMin()).isEqualTo(60.0);
+        assertThat(rollup.getHumidityMax()).isEqualTo(80.0);
+        assertThat(rollup.getHumidityAvg()).isEqualTo(70.0);
+        assertThat(rollup.getPrecipitationTotal()).isEqualTo(2.0);
+        assertThat(rollup.getHourCount()).isEqualTo(3);
+        assertThat(rollup.temperatureAt(12)).isEqualTo(25.5);
+        assertThat(rollup.humidityAt(18)).isNull();
+        assertThat(rollup.temperatureAt(0)).isNull();
+    }
+
+    @Test
+    @DisplayName("최근 발표분은 덮어쓰고 지난 발표분은 빈 시각만 채움")
+    void apply_NewerPublishWins() {
+        DailyWeatherRollup rollup = DailyWeatherRollup.of(60, 127, DATE);
+        rollup.apply(BASE, 6, 18.0, null, null);
+
+        // 더 최근 발표분
+        assertThat(rollup.apply(BASE.plusHours(3), 6, 19.0, null, null)).isTrue();
+        // 지난 발표분 - 이미 있는 시각은 유지, 빈 시각은 채움
+        assertThat(rollup.apply(BASE, 6, 17.0, null, null)).isFalse();
+        assertThat(rollup.apply(BASE, 7, 20.0, null, null)).isTrue();
+        // 같은 값이면 변경 없음
+        assertThat(rollup.apply(BASE.plusHours(3), 7, 20.0, null, null)).isFalse();
+
+        assertThat(rollup.temperatureAt(6)).isEqualTo(19.0);
+        assertThat(rollup.temperatureAt(7)).isEqualTo(20.0);
+        assertThat(rollup.getForecastedAt()).isEqualTo(BASE.plusHours(3));
+        assertThat(rollup.getTemperatureAvg()).isEqualTo(19.5);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 시각은 예외")
+    void apply_InvalidHour() {
+        DailyWeatherRollup rollup = DailyWeatherRollup.of(60, 127, DATE);
+
+        assertThatThrownBy(() -> rollup.apply(BASE, 24, 20.0, null, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -7,10 +7,12 @@ import static org.assertj.core.api.Assertions.within;
 import com.fourthread.ozang.module.domain.weather.dto.WeatherAPILocation;
 import com.fourthread.ozang.module.domain.weather.dto.WeatherDto;
 import com.fourthread.ozang.module.domain.weather.dto.WeatherSummaryDto;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
 import com.fourthread.ozang.module.domain.weather.dto.external.WeatherApiResponse;
 import com.fourthread.ozang.module.domain.weather.dto.type.PrecipitationType;
 import com.fourthread.ozang.module.domain.weather.dto.type.SkyStatus;
 import com.fourthread.ozang.module.domain.weather.dto.type.WindStrength;
+import com.fourthread.ozang.module.domain.weather.entity.DailyWeatherRollup;
 import com.fourthread.ozang.module.domain.weather.entity.Weather;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -74,6 +76,32 @@ class WeatherMapperTest {
             WeatherDto dto = weatherMapper.toDto(null);
             assertThat(dto).isNull();
         }
+
+        @Test
+        @DisplayName("전날 같은 시각 값과 비교, 그 시각 값이 없으면 전날 평균과 비교")
+        void toDto_DayBeforeRollup() {
+            Weather weather = createCompleteWeather();
+            LocalDateTime previousAt = weather.getForecastAt().minusDays(1);
+            DailyWeatherRollup dayBefore = DailyWeatherRollup.of(60, 127, previousAt.toLocalDate());
+            dayBefore.apply(previousAt, previousAt.getHour(), 18.0, null, null);
+            dayBefore.apply(previousAt, (previousAt.getHour() + 1) % 24, null, 70.0, null);
+            dayBefore.apply(previousAt, (previousAt.getHour() + 2) % 24, null, 60.0, null);
+
+            WeatherDto dto = weatherMapper.toDto(weather, dayBefore);
+
+            assertThat(dto.temperature().current()).isEqualTo(20.5);
+            assertThat(dto.temperature().comparedToDayBefore()).isEqualTo(2.5);
+            assertThat(dto.humidity().current()).isEqualTo(65.0);
+            assertThat(dto.humidity().comparedToDayBefore()).isEqualTo(0.0);
+        }
+
+        @Test
+        @DisplayName("전날 집계가 없으면 저장된 값 그대로")
+        void toDto_WithoutDayBeforeRollup() {
+            Weather weather = createCompleteWeather();
+
+            assertThat(weatherMapper.toDto(weather, null)).isEqualTo(weatherMapper.toDto(weather));
+        }
     }
 
     @Nested
@@ -216,6 +244,52 @@ class WeatherMapperTest {
 
     }
 
+    @Nested
+    @DisplayName("fromForecast 메서드 테스트")
+    class FromForecastTest {
+
+        @Test
+        @DisplayName("열 단위 응답 변환 결과가 항목 단위 변환과 같다")
+        void fromForecast_MatchesItemConversion() {
+            List<WeatherApiResponse.Item> items = new ArrayList<>(createCompleteApiItems());
+            // 다음 예보 시각 값이 마지막 값으로 반영되는지 확인
+            items.add(new WeatherApiResponse.Item("20250630", "0200", "TMP", "20250630", "0400", "21.0",
+                60, 127));
+            items.add(new WeatherApiResponse.Item("20250630", "0200", "SKY", "20250630", "0400", "4",
+                60, 127));
+            items.add(new WeatherApiResponse.Item("20250630", "0200", "PCP", "20250630", "0400", "1mm 미만",
+                60, 127));
+
+            Weather expected = weatherMapper.fromApiResponse(items, TEST_LOCATION);
+            Weather weather = weatherMapper.fromForecast(forecastOf(items), TEST_LOCATION);
+
+            assertThat(weather.getForecastedAt()).isEqualTo(expected.getForecastedAt());
+            assertThat(weather.getForecastAt()).isEqualTo(expected.getForecastAt());
+            assertThat(weather.getSkyStatus()).isEqualTo(SkyStatus.CLOUDY);
+            assertThat(weather.getTemperature()).isEqualTo(expected.getTemperature());
+            assertThat(weather.getPrecipitation()).isEqualTo(expected.getPrecipitation());
+            assertThat(weather.getHumidity()).isEqualTo(expected.getHumidity());
+            assertThat(weather.getWindSpeed()).isEqualTo(expected.getWindSpeed());
+            assertThat(weather.getPrecipitation().amount()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("예보 시각 행이 없으면 예외")
+        void fromForecast_Empty() {
+            KmaForecast empty = KmaForecast.builder().header("00", "NORMAL_SERVICE").build();
+
+            assertThatThrownBy(() -> weatherMapper.fromForecast(empty, TEST_LOCATION))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Weather forecast cannot be null or empty");
+        }
+
+        private KmaForecast forecastOf(List<WeatherApiResponse.Item> items) {
+            KmaForecast.Builder builder = KmaForecast.builder().header("00", "NORMAL_SERVICE");
+            items.forEach(builder::item);
+            return builder.build();
+        }
+    }
+
     @Nested
     @DisplayName("parseDateTime 메서드 테스트")
     class ParseDateTimeTest {
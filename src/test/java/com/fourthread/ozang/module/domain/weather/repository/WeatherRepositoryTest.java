@@ -6,7 +6,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.within;
 
 import com.fourthread.ozang.module.domain.weather.dto.WeatherAPILocation;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast.Category;
 import com.fourthread.ozang.module.domain.weather.dto.type.SkyStatus;
+import com.fourthread.ozang.module.domain.weather.entity.HourlyForecast;
 import com.fourthread.ozang.module.domain.weather.entity.Weather;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -32,6 +35,12 @@ class WeatherRepositoryTest {
     @Autowired
     private WeatherRepository weatherRepository;
 
+    @Autowired
+    private LatestWeatherRepository latestWeatherRepository;
+
+    @Autowired
+    private HourlyForecastRepository hourlyForecastRepository;
+
     @Autowired
     private TestEntityManager entityManager;
 
@@ -188,6 +197,116 @@ class WeatherRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("격자별 최신 날씨 읽기 모델 테스트")
+    class LatestWeatherTest {
+
+        @Test
+        @DisplayName("upsert 한 최신 날씨를 격자 PK 로 조회")
+        void findLatestByGrid() {
+            // Given
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+            Weather older = weatherRepository.save(createWeather(now.minusHours(3)));
+            Weather newer = weatherRepository.save(createWeather(now));
+            entityManager.flush();
+
+            latestWeatherRepository.upsert(GRID_X, GRID_Y, older.getId(), older.getForecastedAt());
+            latestWeatherRepository.upsert(GRID_X, GRID_Y, newer.getId(), newer.getForecastedAt());
+            entityManager.clear();
+
+            // When
+            Optional<Weather> latest = weatherRepository.findLatestByGrid(GRID_X, GRID_Y);
+
+            // Then
+            assertThat(latest).isPresent();
+            assertThat(latest.get().getId()).isEqualTo(newer.getId());
+            assertThat(latestWeatherRepository.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("이전 발표시각 날씨로는 최신 날씨를 덮어쓰지 않음")
+        void upsert_IgnoresOlder() {
+            // Given
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+            Weather newer = weatherRepository.save(createWeather(now));
+            Weather older = weatherRepository.save(createWeather(now.minusHours(3)));
+            entityManager.flush();
+            latestWeatherRepository.upsert(GRID_X, GRID_Y, newer.getId(), newer.getForecastedAt());
+
+            // When
+            int updated = latestWeatherRepository.upsert(GRID_X, GRID_Y, older.getId(), older.getForecastedAt());
+            entityManager.clear();
+
+            // Then
+            assertThat(updated).isZero();
+            assertThat(weatherRepository.findLatestByGrid(GRID_X, GRID_Y))
+                .get()
+                .extracting(Weather::getId)
+                .isEqualTo(newer.getId());
+        }
+
+        @Test
+        @DisplayName("읽기 모델에 없는 격자는 빈 값")
+        void findLatestByGrid_NoData() {
+            assertThat(weatherRepository.findLatestByGrid(999, 999)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("시간별 예보 계열 테스트")
+    class HourlyForecastTest {
+
+        @Test
+        @DisplayName("격자의 가장 최근 발표분을 조회하고 저장한 계열을 그대로 복원")
+        void findLatestHourly() {
+            // Given
+            LocalDateTime base = LocalDateTime.of(2025, 6, 30, 2, 0);
+            hourlyForecastRepository.save(HourlyForecast.of(GRID_X, GRID_Y, base.minusHours(3), hourlySeries(18.0)));
+            hourlyForecastRepository.save(HourlyForecast.of(GRID_X, GRID_Y, base, hourlySeries(20.0)));
+            entityManager.flush();
+            entityManager.clear();
+
+            // When
+            Optional<HourlyForecast> latest = hourlyForecastRepository
+                .findFirstByXAndYOrderByForecastedAtDesc(GRID_X, GRID_Y);
+
+            // Then
+            assertThat(latest).isPresent();
+            assertThat(latest.get().getForecastedAt()).isEqualTo(base);
+            KmaForecast forecast = latest.get().toForecast();
+            assertThat(forecast.size()).isEqualTo(2);
+            assertThat(forecast.value(Category.TMP, 0)).isEqualTo(20.0);
+            assertThat(forecast.text(Category.PCP, 1)).isEqualTo("1mm 미만");
+        }
+
+        @Test
+        @DisplayName("기준 시각 이전 발표분만 삭제")
+        void deleteExpired() {
+            // Given
+            LocalDateTime base = LocalDateTime.of(2025, 6, 30, 2, 0);
+            hourlyForecastRepository.save(HourlyForecast.of(GRID_X, GRID_Y, base.minusDays(31), hourlySeries(18.0)));
+            hourlyForecastRepository.save(HourlyForecast.of(GRID_X, GRID_Y, base, hourlySeries(20.0)));
+            entityManager.flush();
+
+            // When
+            int deleted = hourlyForecastRepository.deleteExpired(base.minusDays(30));
+
+            // Then
+            assertThat(deleted).isEqualTo(1);
+            assertThat(hourlyForecastRepository.count()).isEqualTo(1);
+        }
+
+        private KmaForecast hourlySeries(double temperature) {
+            KmaForecast.Builder builder = KmaForecast.builder().base("20250630", "0200");
+            int first = builder.slot(20250630, 600);
+            builder.value(Category.TMP, first, temperature);
+            int second = builder.slot(20250630, 700);
+            builder.value(Category.TMP, second, temperature + 1);
+            builder.text(Category.PCP, second, "1mm 미만");
+            return builder.build();
+        }
+    }
+
     @Nested
     @DisplayName("API 응답 해시 유니크 제약 테스트")
     class ApiResponseHashTest {
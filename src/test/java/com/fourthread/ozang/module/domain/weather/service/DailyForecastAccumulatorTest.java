@@ -0,0 +1,221 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fourthread.ozang.module.domain.weather.dto.WeatherAPILocation;
+import com.fourthread.ozang.module.domain.weather.dto.WeatherDto;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.WeatherApiResponse;
+import com.fourthread.ozang.module.domain.weather.dto.type.PrecipitationType;
+import com.fourthread.ozang.module.domain.weather.dto.type.SkyStatus;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.DoubleSummaryStatistics;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("일별 예보 집계 테스트")
+class DailyForecastAccumulatorTest {
+
+    private static final WeatherAPILocation LOCATION = new WeatherAPILocation(
+        37.5665, 126.9780, 60, 127, List.of("서울특별시 중구"));
+
+    private static List<WeatherApiResponse.Item> items;
+    private static KmaForecast forecast;
+
+    // filterFiveDay 는 의존 빈을 사용하지 않음
+    @InjectMocks
+    private WeatherServiceImpl weatherService;
+
+    @BeforeAll
+    static void loadFixture() throws IOException {
+        // 기상청 getVilageFcst 응답 형식의 1000행 예보 (numOfRows=1000)
+        try (InputStream inputStream = DailyForecastAccumulatorTest.class
+            .getResourceAsStream("/weather/vilage-fcst-1000.json")) {
+            WeatherApiResponse response = new ObjectMapper().readValue(inputStream, WeatherApiResponse.class);
+            items = response.response().body().items().item();
+            forecast = KmaForecast.from(response);
+        }
+        assertThat(items).hasSize(1000);
+    }
+
+    @Test
+    @DisplayName("5일 예보 집계(filterFiveDay) 결과가 카테고리별 스트림 집계와 같다")
+    void filterFiveDay_MatchesLegacyAggregation() {
+        // given - 발표일 기준 0~3일째 정시 예보만 있어 모든 항목이 집계 대상
+        LocalDate today = LocalDate.parse(forecast.getBaseDate(), DateTimeFormatter.BASIC_ISO_DATE);
+        Map<LocalDate, List<WeatherApiResponse.Item>> legacyByDate = legacyGroupByDate(items);
+
+        // when
+        List<WeatherDto> result = ReflectionTestUtils.invokeMethod(weatherService, "filterFiveDay",
+            forecast, forecast.getBaseTime(), today, LOCATION);
+
+        // then
+        assertThat(result).extracting(dto -> dto.forecastAt().toLocalDate())
+            .containsExactlyElementsOf(legacyByDate.keySet());
+        for (WeatherDto dto : result) {
+            LegacyDaily legacy = legacyAggregate(legacyByDate.get(dto.forecastAt().toLocalDate()));
+
+            assertThat(dto.temperature().current()).isCloseTo(legacy.curTemp(), within(1e-9));
+            assertThat(dto.temperature().min()).isEqualTo(legacy.minTemp());
+            assertThat(dto.temperature().max()).isEqualTo(legacy.maxTemp());
+            assertThat(dto.humidity().current()).isCloseTo(legacy.humidity(), within(1e-9));
+            assertThat(dto.windSpeed().speed()).isCloseTo(legacy.windSpeed(), within(1e-9));
+            assertThat(dto.precipitation().probability()).isCloseTo(legacy.probability(), within(1e-9));
+            assertThat(dto.skyStatus()).isEqualTo(SkyStatus.fromCode(legacy.skyCode()));
+            assertThat(dto.precipitation().type()).isEqualTo(legacy.precipitationType());
+            assertThat(dto.precipitation().amount()).isCloseTo(legacy.precipitation(), within(1e-9));
+        }
+    }
+
+    @Test
+    @DisplayName("값이 없는 카테고리는 기본값 사용")
+    void accumulate_Defaults() {
+        DailyForecastAccumulator accumulator =
+            new DailyForecastAccumulator(LocalDate.of(2025, 10, 17), "20251017", "0500");
+
+        assertThat(accumulator.isEmpty()).isTrue();
+        assertThat(accumulator.currentTemperature()).isEqualTo(22.0);
+        assertThat(accumulator.minTemperature()).isEqualTo(20.0);
+        assertThat(accumulator.maxTemperature()).isEqualTo(25.0);
+        assertThat(accumulator.humidity()).isEqualTo(50.0);
+        assertThat(accumulator.windSpeed()).isEqualTo(1.0);
+        assertThat(accumulator.precipitationProbability()).isZero();
+        assertThat(accumulator.skyStatus()).isEqualTo(SkyStatus.CLEAR);
+        assertThat(accumulator.precipitationType()).isEqualTo(PrecipitationType.NONE);
+    }
+
+    @Test
+    @DisplayName("하늘상태 동률이면 코드가 작은 값, 강수형태는 첫 값 사용")
+    void accumulate_SkyTieAndFirstPrecipitationType() {
+        DailyForecastAccumulator accumulator =
+            new DailyForecastAccumulator(LocalDate.of(2025, 10, 17), "20251017", "0500");
+        accumulator.accept("SKY", "4");
+        accumulator.accept("SKY", "3");
+        accumulator.accept("SKY", "4");
+        accumulator.accept("SKY", "3");
+        accumulator.accept("PTY", "0");
+        accumulator.accept("PTY", "1");
+
+        assertThat(accumulator.skyStatus()).isEqualTo(SkyStatus.MOSTLY_CLOUDY);
+        assertThat(accumulator.precipitationType()).isEqualTo(PrecipitationType.NONE);
+    }
+
+    @Test
+    @DisplayName("강수량 문자열 파싱")
+    void parsePrecipitation() {
+        assertThat(DailyForecastAccumulator.parsePrecipitation("강수없음")).isZero();
+        assertThat(DailyForecastAccumulator.parsePrecipitation("")).isZero();
+        assertThat(DailyForecastAccumulator.parsePrecipitation("1mm 미만")).isEqualTo(1.0);
+        assertThat(DailyForecastAccumulator.parsePrecipitation("2.5mm")).isEqualTo(2.5);
+        assertThat(DailyForecastAccumulator.parsePrecipitation("30.0~50.0mm")).isZero();
+        assertThat(DailyForecastAccumulator.parsePrecipitation("50.0mm 이상")).isEqualTo(50.0);
+    }
+
+    /**
+     * 변경 이전의 날짜 그룹핑 (항목마다 fcstDate 파싱)
+     */
+    private static Map<LocalDate, List<WeatherApiResponse.Item>> legacyGroupByDate(
+        List<WeatherApiResponse.Item> items) {
+        return items.stream()
+            .collect(Collectors.groupingBy(
+                it -> LocalDate.parse(it.fcstDate(), DateTimeFormatter.BASIC_ISO_DATE),
+                LinkedHashMap::new,
+                Collectors.toList()
+            ));
+    }
+
+    /**
+     * 변경 이전의 카테고리별 스트림 집계
+     */
+    private static LegacyDaily legacyAggregate(List<WeatherApiResponse.Item> dayItems) {
+        DoubleSummaryStatistics tStat = dayItems.stream()
+            .filter(i -> "TMP".equals(i.category()))
+            .mapToDouble(i -> legacyParseDouble(i.fcstValue()))
+            .summaryStatistics();
+
+        double avgHum = dayItems.stream()
+            .filter(i -> "REH".equals(i.category()))
+            .mapToDouble(i -> legacyParseDouble(i.fcstValue()))
+            .average().orElse(50.0);
+
+        double avgWsd = dayItems.stream()
+            .filter(i -> "WSD".equals(i.category()))
+            .mapToDouble(i -> legacyParseDouble(i.fcstValue()))
+            .average().orElse(1.0);
+
+        double avgPop = dayItems.stream()
+            .filter(i -> "POP".equals(i.category()))
+            .mapToDouble(i -> legacyParseDouble(i.fcstValue()) / 100.0)
+            .average().orElse(0.0);
+
+        String skyCode = dayItems.stream()
+            .filter(i -> "SKY".equals(i.category()))
+            .collect(
+                Collectors.groupingBy(WeatherApiResponse.Item::fcstValue, Collectors.counting()))
+            .entrySet().stream()
+            .max(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey).orElse("1");
+
+        PrecipitationType precipitationType = dayItems.stream()
+            .filter(i -> "PTY".equals(i.category()))
+            .map(i -> switch (i.fcstValue()) {
+                case "1" -> PrecipitationType.RAIN;
+                case "2" -> PrecipitationType.RAIN_SNOW;
+                case "3" -> PrecipitationType.SNOW;
+                case "4" -> PrecipitationType.SHOWER;
+                default -> PrecipitationType.NONE;
+            })
+            .findFirst()
+            .orElse(PrecipitationType.NONE);
+
+        double precipitation = dayItems.stream()
+            .filter(i -> "PCP".equals(i.category()))
+            .mapToDouble(i -> {
+                String value = i.fcstValue();
+                if ("강수없음".equals(value) || value.isEmpty()) {
+                    return 0.0;
+                }
+                try {
+                    return Double.parseDouble(value.replaceAll("[^0-9.]", ""));
+                } catch (NumberFormatException e) {
+                    return 0.0;
+                }
+            })
+            .sum();
+
+        return new LegacyDaily(
+            tStat.getCount() > 0 ? tStat.getAverage() : 22.0,
+            tStat.getCount() > 0 ? tStat.getMin() : 20.0,
+            tStat.getCount() > 0 ? tStat.getMax() : 25.0,
+            avgHum, avgWsd, avgPop, skyCode, precipitationType, precipitation);
+    }
+
+    private static double legacyParseDouble(String v) {
+        try {
+            return Double.parseDouble(v);
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    private record LegacyDaily(
+        double curTemp, double minTemp, double maxTemp,
+        double humidity, double windSpeed, double probability,
+        String skyCode, PrecipitationType precipitationType, double precipitation
+    ) {}
+}
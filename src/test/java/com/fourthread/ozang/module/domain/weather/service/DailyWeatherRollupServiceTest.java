@@ -0,0 +1,115 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fourthread.ozang.module.domain.weather.dto.WeatherRollupSource;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast.Category;
+import com.fourthread.ozang.module.domain.weather.entity.DailyWeatherRollup;
+import com.fourthread.ozang.module.domain.weather.mapper.WeatherMapper;
+import com.fourthread.ozang.module.domain.weather.repository.DailyWeatherRollupRepository;
+import com.fourthread.ozang.module.domain.weather.repository.WeatherRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("일 집계 서비스 테스트")
+class DailyWeatherRollupServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 30, 23, 0);
+    private static final LocalDate DATE = LocalDate.of(2025, 7, 1);
+
+    @Mock
+    private DailyWeatherRollupRepository dailyWeatherRollupRepository;
+
+    @Mock
+    private WeatherRepository weatherRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Captor
+    private ArgumentCaptor<Iterable<DailyWeatherRollup>> rollupCaptor;
+
+    private DailyWeatherRollupService dailyWeatherRollupService;
+
+    @BeforeEach
+    void setUp() {
+        dailyWeatherRollupService = new DailyWeatherRollupService(dailyWeatherRollupRepository, weatherRepository,
+            Mappers.getMapper(WeatherMapper.class), transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("응답의 예보 시각을 날짜별 집계로 반영")
+    void apply_GroupsByDate() {
+        // Given - 6월 30일 23시, 7월 1일 0시/1시
+        KmaForecast.Builder builder = KmaForecast.builder();
+        int slot = builder.slot(20250630, 2300);
+        builder.value(Category.TMP, slot, 22.0);
+        slot = builder.slot(20250701, 0);
+        builder.value(Category.TMP, slot, 21.0);
+        builder.value(Category.REH, slot, 90);
+        builder.text(Category.PCP, slot, "1mm 미만");
+        slot = builder.slot(20250701, 100);
+        builder.value(Category.TMP, slot, 20.0);
+        when(dailyWeatherRollupRepository.findAllById(any())).thenReturn(List.of());
+
+        // When
+        int saved = dailyWeatherRollupService.apply(60, 127, BASE, builder.build());
+
+        // Then
+        assertThat(saved).isEqualTo(2);
+        verify(dailyWeatherRollupRepository).saveAll(rollupCaptor.capture());
+        List<DailyWeatherRollup> rollups = new ArrayList<>();
+        rollupCaptor.getValue().forEach(rollups::add);
+        DailyWeatherRollup july = rollups.stream()
+            .filter(rollup -> rollup.getForecastDate().equals(DATE))
+            .findFirst()
+            .orElseThrow();
+        assertThat(july.getTemperatureAvg()).isEqualTo(20.5);
+        assertThat(july.getHumidityAvg()).isEqualTo(90.0);
+        assertThat(july.getPrecipitationTotal()).isEqualTo(0.5);
+        assertThat(july.getHourCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("저장 이력으로 하루치 집계를 발표시각 순으로 반영")
+    void backfill_LatestPublishWins() {
+        // Given
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(weatherRepository.findRollupSources(DATE.minusDays(1).atStartOfDay(), DATE.atStartOfDay(),
+            DATE.plusDays(1).atStartOfDay()))
+            .thenReturn(List.of(
+                new WeatherRollupSource(60, 127, BASE, DATE.atTime(6, 0), 18.0, 80.0, 0.0),
+                new WeatherRollupSource(60, 127, BASE.plusHours(3), DATE.atTime(6, 0), 19.0, 75.0, 0.0)));
+        when(dailyWeatherRollupRepository.findAllById(any())).thenReturn(List.of());
+
+        // When
+        int applied = dailyWeatherRollupService.backfill(DATE);
+
+        // Then
+        assertThat(applied).isEqualTo(2);
+        verify(dailyWeatherRollupRepository).saveAll(rollupCaptor.capture());
+        DailyWeatherRollup rollup = rollupCaptor.getValue().iterator().next();
+        assertThat(rollup.temperatureAt(6)).isEqualTo(19.0);
+        assertThat(rollup.humidityAt(6)).isEqualTo(75.0);
+        assertThat(rollup.getForecastedAt()).isEqualTo(BASE.plusHours(3));
+    }
+}
@@ -0,0 +1,251 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fourthread.ozang.module.domain.user.dto.data.ProfileGridLocation;
+import com.fourthread.ozang.module.domain.user.repository.ProfileRepository;
+import com.fourthread.ozang.module.domain.weather.dto.WeatherAPILocation;
+import com.fourthread.ozang.module.domain.weather.dto.WeatherDto;
+import com.fourthread.ozang.module.domain.weather.dto.type.PrecipitationType;
+import com.fourthread.ozang.module.domain.weather.dto.type.SkyStatus;
+import com.fourthread.ozang.module.domain.weather.entity.DailyWeatherRollup;
+import com.fourthread.ozang.module.domain.weather.entity.GridCoordinate;
+import com.fourthread.ozang.module.domain.weather.entity.Weather;
+import com.fourthread.ozang.module.domain.weather.mapper.WeatherMapper;
+import com.fourthread.ozang.module.domain.weather.repository.WeatherRepository;
+import com.fourthread.ozang.module.domain.weather.util.ForecastGridSnapshot;
+import com.fourthread.ozang.module.domain.weather.util.ForecastGridSnapshot.Field;
+import com.fourthread.ozang.module.domain.weather.util.KmaPublishSchedule;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("격자 예보 스냅샷 서비스 테스트")
+class ForecastGridSnapshotServiceTest {
+
+    private static final Double LATITUDE = 37.5665;
+    private static final Double LONGITUDE = 126.9780;
+    private static final UUID WEATHER_ID = UUID.randomUUID();
+    // JVM 기본 시간대와 발표시각이 다를 가능성이 큰 시간대 (UTC+14)
+    private static final ZoneId ZONE = ZoneId.of("Pacific/Kiritimati");
+    private static final WeatherMapper WEATHER_MAPPER = Mappers.getMapper(WeatherMapper.class);
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private WeatherRepository weatherRepository;
+
+    @Mock
+    private LocationNameService locationNameService;
+
+    @Mock
+    private DailyWeatherRollupService dailyWeatherRollupService;
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private LocalDateTime base;
+    private ForecastGridSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("weather-forecast.snap");
+        base = KmaPublishSchedule.baseDateTime(LocalDateTime.now(ZONE));
+        snapshotService = newService(true);
+        lenient().when(locationNameService.getLocationNames(anyDouble(), anyDouble()))
+            .thenReturn(List.of("서울특별시 중구"));
+    }
+
+    @Test
+    @DisplayName("서비스 시간대의 현재 발표분 저장 날씨로 스냅샷을 만들고 저장 날씨와 같은 값으로 응답")
+    void rebuild_Find() {
+        // Given
+        Weather weather = givenStoredWeather(60, 127);
+
+        // When
+        int cellCount = snapshotService.rebuild();
+        Optional<WeatherDto> result = snapshotService.find(new GridCoordinate(60, 127), base);
+
+        // Then
+        assertThat(cellCount).isEqualTo(1);
+        assertThat(Files.exists(file)).isTrue();
+        assertThat(result).isPresent();
+        WeatherDto dto = result.get();
+        assertThat(dto).usingRecursiveComparison()
+            .ignoringFields("location")
+            .isEqualTo(WEATHER_MAPPER.toDto(weather));
+        assertThat(dto.id()).isEqualTo(WEATHER_ID);
+        assertThat(dto.forecastAt()).isEqualTo(base.plusHours(1));
+        assertThat(dto.skyStatus()).isEqualTo(SkyStatus.CLOUDY);
+        assertThat(dto.precipitation().type()).isEqualTo(PrecipitationType.RAIN);
+        assertThat(dto.temperature().min()).isEqualTo(15.0);
+        assertThat(dto.temperature().max()).isEqualTo(24.0);
+        assertThat(dto.location().x()).isEqualTo(60);
+        assertThat(dto.location().locationNames()).containsExactly("서울특별시 중구");
+    }
+
+    @Test
+    @DisplayName("하늘상태/강수형태는 enum 순서값이 아닌 기상청 코드로 저장")
+    void rebuild_StoresKmaCodes() throws IOException {
+        // Given
+        givenStoredWeather(60, 127);
+
+        // When
+        snapshotService.rebuild();
+        ForecastGridSnapshot written = ForecastGridSnapshot.map(file);
+
+        // Then
+        int cell = written.find(60, 127);
+        assertThat(written.value(cell, 1, Field.SKY)).isEqualTo(4.0);
+        assertThat(written.value(cell, 1, Field.PTY)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("지역명은 재생성 시 격자마다 한 번만 조회")
+    void find_NoLocationLookup() {
+        // Given
+        givenStoredWeather(60, 127);
+        snapshotService.rebuild();
+
+        // When
+        snapshotService.find(new GridCoordinate(60, 127), base);
+        snapshotService.find(new GridCoordinate(60, 127), base);
+
+        // Then
+        verify(locationNameService, times(1)).getLocationNames(anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("스냅샷 응답도 전날 일 집계와 비교한 전날 대비 값 사용")
+    void find_ComparedToDayBefore() {
+        // Given
+        givenStoredWeather(60, 127);
+        snapshotService.rebuild();
+        LocalDateTime forecastAt = base.plusHours(1);
+        DailyWeatherRollup dayBefore = DailyWeatherRollup.of(60, 127, forecastAt.toLocalDate().minusDays(1));
+        dayBefore.apply(base.minusDays(1), forecastAt.getHour(), 18.0, 70.0, null);
+        when(dailyWeatherRollupService.findDayBefore(eq(60), eq(127), eq(forecastAt.toLocalDate())))
+            .thenReturn(Optional.of(dayBefore));
+
+        // When
+        Optional<WeatherDto> result = snapshotService.find(new GridCoordinate(60, 127), base);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().temperature().comparedToDayBefore()).isEqualTo(2.5);
+        assertThat(result.get().humidity().comparedToDayBefore()).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("재시작 후 기존 스냅샷 파일을 그대로 로딩하고 위치는 저장 날씨에서 다시 읽음")
+    void load_ExistingFile() {
+        // Given
+        Weather weather = givenStoredWeather(60, 127);
+        snapshotService.rebuild();
+        when(weatherRepository.findAllById(List.of(WEATHER_ID))).thenReturn(List.of(weather));
+
+        // When
+        ForecastGridSnapshotService restarted = newService(true);
+        restarted.load();
+
+        // Then
+        assertThat(restarted.size()).isEqualTo(1);
+        assertThat(restarted.find(new GridCoordinate(60, 127), base))
+            .hasValueSatisfying(dto -> assertThat(dto.location().locationNames())
+                .containsExactly("서울특별시 중구"));
+    }
+
+    @Test
+    @DisplayName("지난 발표분이거나 스냅샷에 없는 격자는 empty")
+    void find_Miss() {
+        // Given
+        givenStoredWeather(60, 127);
+        snapshotService.rebuild();
+
+        // Then
+        assertThat(snapshotService.find(new GridCoordinate(60, 127), base.plusHours(3))).isEmpty();
+        assertThat(snapshotService.find(new GridCoordinate(55, 124), base)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("현재 발표분 저장 날씨가 없는 격자는 제외")
+    void rebuild_SkipsGridWithoutCurrentForecast() {
+        // Given
+        Weather previous = weather(60, 127, base.minusHours(3));
+        when(profileRepository.findActiveGridLocations())
+            .thenReturn(List.of(new ProfileGridLocation(60, 127, LATITUDE, LONGITUDE)));
+        when(weatherRepository.findLatestByGrid(60, 127)).thenReturn(Optional.of(previous));
+
+        // When
+        int cellCount = snapshotService.rebuild();
+
+        // Then
+        assertThat(cellCount).isZero();
+        assertThat(snapshotService.find(new GridCoordinate(60, 127), base)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비활성화 시 재생성/조회하지 않음")
+    void disabled() {
+        ForecastGridSnapshotService disabled = newService(false);
+
+        assertThat(disabled.rebuild()).isZero();
+        assertThat(disabled.find(new GridCoordinate(60, 127), base)).isEmpty();
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    private ForecastGridSnapshotService newService(boolean enabled) {
+        return new ForecastGridSnapshotService(profileRepository, weatherRepository, WEATHER_MAPPER,
+            locationNameService, dailyWeatherRollupService, ZONE, enabled, file.toString(), 72);
+    }
+
+    private Weather givenStoredWeather(int x, int y) {
+        Weather weather = weather(x, y, base);
+        when(profileRepository.findActiveGridLocations())
+            .thenReturn(List.of(new ProfileGridLocation(x, y, LATITUDE, LONGITUDE)));
+        when(weatherRepository.findLatestByGrid(x, y)).thenReturn(Optional.of(weather));
+        return weather;
+    }
+
+    /**
+     * 지역명 없이 저장된 날씨 (첫 예보 시각 = 발표시각 1시간 뒤)
+     */
+    private Weather weather(int x, int y, LocalDateTime forecastedAt) {
+        Weather weather = Weather.create(forecastedAt, forecastedAt.plusHours(1),
+            new WeatherAPILocation(LATITUDE, LONGITUDE, x, y, List.of()), SkyStatus.CLEAR);
+        weather.updateWeatherData("TMP", 20.5);
+        weather.updateWeatherData("TMN", 15.0);
+        weather.updateWeatherData("TMX", 24.0);
+        weather.updateWeatherData("REH", 80.0);
+        weather.updateWeatherData("POP", 60.0);
+        weather.updateWeatherData("WSD", 2.1);
+        weather.updateWeatherData("SKY", 4.0);
+        weather.updateWeatherData("PTY", 1.0);
+        weather.updateWeatherData("PCP", "1mm 미만");
+        ReflectionTestUtils.setField(weather, "id", WEATHER_ID);
+        return weather;
+    }
+}
@@ -0,0 +1,119 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fourthread.ozang.module.domain.weather.dto.HourlyForecastDto;
+import com.fourthread.ozang.module.domain.weather.dto.HourlyForecastResponse;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast.Category;
+import com.fourthread.ozang.module.domain.weather.dto.type.PrecipitationType;
+import com.fourthread.ozang.module.domain.weather.dto.type.SkyStatus;
+import com.fourthread.ozang.module.domain.weather.entity.GridCoordinate;
+import com.fourthread.ozang.module.domain.weather.entity.HourlyForecast;
+import com.fourthread.ozang.module.domain.weather.exception.InvalidCoordinateException;
+import com.fourthread.ozang.module.domain.weather.mapper.WeatherMapper;
+import com.fourthread.ozang.module.domain.weather.repository.HourlyForecastRepository;
+import com.fourthread.ozang.module.domain.weather.util.CoordinateConverter;
+import com.fourthread.ozang.module.domain.weather.util.KmaPublishSchedule;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("시간별 예보 조회 테스트")
+class HourlyForecastServiceTest {
+
+    // JVM 기본 시간대와 날짜가 다를 가능성이 큰 시간대 (UTC+14)
+    private static final ZoneId ZONE = ZoneId.of("Pacific/Kiritimati");
+    private static final Double LATITUDE = 37.5665;
+    private static final Double LONGITUDE = 126.9780;
+
+    @Mock
+    private HourlyForecastRepository hourlyForecastRepository;
+
+    @Mock
+    private CoordinateConverter coordinateConverter;
+
+    private HourlyForecastService hourlyForecastService;
+
+    @BeforeEach
+    void setUp() {
+        hourlyForecastService = new HourlyForecastService(hourlyForecastRepository, coordinateConverter,
+            Mappers.getMapper(WeatherMapper.class), ZONE);
+        lenient().when(coordinateConverter.convertToGrid(anyDouble(), anyDouble())).thenReturn(new GridCoordinate(60, 127));
+    }
+
+    @Test
+    @DisplayName("저장된 최근 발표분에서 서비스 시간대 현재 정시 이후 예보만 변환")
+    void getHourlyForecast() {
+        // Given
+        LocalDateTime now = LocalDateTime.now(ZONE).truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime base = KmaPublishSchedule.baseDateTime(now);
+        KmaForecast.Builder builder = KmaForecast.builder();
+        addSlot(builder, now.minusHours(1), 10.0, 1, 0, "강수없음");
+        addSlot(builder, now.plusHours(1), 12.0, 4, 1, "1mm 미만");
+        addSlot(builder, now.plusHours(2), 13.0, 3, 0, "강수없음");
+        when(hourlyForecastRepository.findFirstByXAndYOrderByForecastedAtDesc(60, 127))
+            .thenReturn(Optional.of(HourlyForecast.of(60, 127, base, builder.build())));
+
+        // When
+        HourlyForecastResponse response = hourlyForecastService.getHourlyForecast(LONGITUDE, LATITUDE);
+
+        // Then
+        assertThat(response.forecastedAt()).isEqualTo(base);
+        assertThat(response.hours()).extracting(HourlyForecastDto::forecastAt)
+            .containsExactly(now.plusHours(1), now.plusHours(2));
+        HourlyForecastDto first = response.hours().get(0);
+        assertThat(first.temperature()).isEqualTo(12.0);
+        assertThat(first.skyStatus()).isEqualTo(SkyStatus.CLOUDY);
+        assertThat(first.precipitation().type()).isEqualTo(PrecipitationType.RAIN);
+        assertThat(first.precipitation().amount()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("저장된 발표분이 없으면 빈 목록")
+    void getHourlyForecast_NoData() {
+        // Given
+        when(hourlyForecastRepository.findFirstByXAndYOrderByForecastedAtDesc(60, 127))
+            .thenReturn(Optional.empty());
+
+        // When
+        HourlyForecastResponse response = hourlyForecastService.getHourlyForecast(LONGITUDE, LATITUDE);
+
+        // Then
+        assertThat(response.forecastedAt()).isNull();
+        assertThat(response.hours()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한국 범위를 벗어난 좌표는 저장소 조회 없이 예외")
+    void getHourlyForecast_InvalidCoordinate() {
+        // When & Then
+        assertThatThrownBy(() -> hourlyForecastService.getHourlyForecast(0.0, 0.0))
+            .isInstanceOf(InvalidCoordinateException.class);
+        verifyNoInteractions(hourlyForecastRepository);
+    }
+
+    private void addSlot(KmaForecast.Builder builder, LocalDateTime fcst, double temperature, int sky, int pty,
+        String pcp) {
+        int slot = builder.slot(fcst.getYear() * 10000 + fcst.getMonthValue() * 100 + fcst.getDayOfMonth(),
+            fcst.getHour() * 100);
+        builder.value(Category.TMP, slot, temperature);
+        builder.code(Category.SKY, slot, sky);
+        builder.code(Category.PTY, slot, pty);
+        builder.text(Category.PCP, slot, pcp);
+    }
+}
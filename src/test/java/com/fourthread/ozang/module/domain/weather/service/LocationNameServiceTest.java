@@ -0,0 +1,263 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fourthread.ozang.module.domain.weather.client.KakaoApiClient;
+import com.fourthread.ozang.module.domain.weather.entity.GridCoordinate;
+import com.fourthread.ozang.module.domain.weather.entity.ReverseGeocode;
+import com.fourthread.ozang.module.domain.weather.exception.WeatherApiException;
+import com.fourthread.ozang.module.domain.weather.repository.ReverseGeocodeRepository;
+import com.fourthread.ozang.module.domain.weather.util.CoordinateConverter;
+import com.fourthread.ozang.module.domain.weather.util.GridRegionTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("역지오코딩 캐시 테스트")
+class LocationNameServiceTest {
+
+    private static final double LATITUDE = 37.5665;
+    private static final double LONGITUDE = 126.9780;
+    private static final List<String> SEOUL = List.of("서울특별시", "중구", "태평로1가");
+
+    @Mock
+    private KakaoApiClient kakaoApiClient;
+
+    @Mock
+    private ReverseGeocodeRepository reverseGeocodeRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LocationNameService locationNameService;
+
+    @BeforeEach
+    void setUp() {
+        locationNameService = createService("kakao", null);
+        lenient().when(reverseGeocodeRepository.findById(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("같은 셀의 반복 조회는 카카오/DB 를 다시 호출하지 않는다")
+    void getLocationNames_RepeatLookupStaysInMemory() {
+        when(kakaoApiClient.getLocationNames(37.57, 126.98)).thenReturn(SEOUL);
+
+        List<String> first = locationNameService.getLocationNames(LATITUDE, LONGITUDE);
+        List<String> second = locationNameService.getLocationNames(37.5701, 126.9799);
+
+        assertThat(first).isEqualTo(SEOUL);
+        assertThat(second).isEqualTo(SEOUL);
+        verify(kakaoApiClient, times(1)).getLocationNames(anyDouble(), anyDouble());
+        verify(reverseGeocodeRepository, times(1)).findById("37.57:126.98");
+        verify(reverseGeocodeRepository).save(any(ReverseGeocode.class));
+        assertThat(locationNameService.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("DB 에 저장된 유효한 결과가 있으면 카카오를 호출하지 않는다")
+    void getLocationNames_UsesStoredResult() {
+        when(reverseGeocodeRepository.findById("37.57:126.98")).thenReturn(Optional.of(
+            new ReverseGeocode("37.57:126.98", SEOUL, LocalDateTime.now().plusDays(1))));
+
+        List<String> result = locationNameService.getLocationNames(LATITUDE, LONGITUDE);
+
+        assertThat(result).isEqualTo(SEOUL);
+        verify(kakaoApiClient, never()).getLocationNames(anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("만료된 DB 결과는 무시하고 카카오로 다시 조회")
+    void getLocationNames_ExpiredStoredResult() {
+        when(reverseGeocodeRepository.findById("37.57:126.98")).thenReturn(Optional.of(
+            new ReverseGeocode("37.57:126.98", List.of("옛지명"), LocalDateTime.now().minusDays(1))));
+        when(kakaoApiClient.getLocationNames(37.57, 126.98)).thenReturn(SEOUL);
+
+        List<String> result = locationNameService.getLocationNames(LATITUDE, LONGITUDE);
+
+        assertThat(result).isEqualTo(SEOUL);
+    }
+
+    @Test
+    @DisplayName("행정구역 없는 좌표는 negative 캐싱되어 재호출하지 않는다")
+    void getLocationNames_NegativeCaching() {
+        when(kakaoApiClient.getLocationNames(anyDouble(), anyDouble()))
+            .thenThrow(new WeatherApiException("카카오 API 지역코드 응답 없음", "KAKAO_NO_CONTENT"));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> locationNameService.getLocationNames(35.0, 125.0))
+                .isInstanceOf(WeatherApiException.class)
+                .extracting("resultCode").isEqualTo("KAKAO_NO_CONTENT");
+        }
+
+        verify(kakaoApiClient, times(1)).getLocationNames(anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("일시적 오류는 캐싱하지 않는다")
+    void getLocationNames_TransientErrorNotCached() {
+        when(kakaoApiClient.getLocationNames(anyDouble(), anyDouble()))
+            .thenThrow(new WeatherApiException("timeout", "KAKAO_TIMEOUT"))
+            .thenReturn(SEOUL);
+
+        assertThatThrownBy(() -> locationNameService.getLocationNames(LATITUDE, LONGITUDE))
+            .isInstanceOf(WeatherApiException.class);
+        List<String> result = locationNameService.getLocationNames(LATITUDE, LONGITUDE);
+
+        assertThat(result).isEqualTo(SEOUL);
+        verify(kakaoApiClient, times(2)).getLocationNames(anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("비동기 조회도 같은 캐시를 사용하고 행정구역 없는 좌표는 negative 캐싱")
+    void getLocationNamesMono_SharesCache() {
+        when(kakaoApiClient.getLocationNamesMono(37.57, 126.98)).thenReturn(Mono.just(SEOUL));
+        when(kakaoApiClient.getLocationNamesMono(35.0, 125.0)).thenReturn(Mono.error(
+            new WeatherApiException("카카오 API 지역코드 응답 없음", "KAKAO_NO_CONTENT")));
+
+        assertThat(locationNameService.getLocationNamesMono(LATITUDE, LONGITUDE).block())
+            .isEqualTo(SEOUL);
+        assertThat(locationNameService.getLocationNames(LATITUDE, LONGITUDE)).isEqualTo(SEOUL);
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> locationNameService.getLocationNamesMono(35.0, 125.0).block())
+                .isInstanceOf(WeatherApiException.class)
+                .extracting("resultCode").isEqualTo("KAKAO_NO_CONTENT");
+        }
+
+        verify(kakaoApiClient, times(1)).getLocationNamesMono(37.57, 126.98);
+        verify(kakaoApiClient, times(1)).getLocationNamesMono(35.0, 125.0);
+        verify(kakaoApiClient, never()).getLocationNames(anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("offline - 격자 지역명 리소스만 사용하고 카카오를 호출하지 않는다")
+    void getLocationNames_Offline() {
+        locationNameService = createService("offline", gridRegionTable());
+
+        List<String> result = locationNameService.getLocationNames(LATITUDE, LONGITUDE);
+
+        assertThat(result).isEqualTo(SEOUL);
+        assertThatThrownBy(() -> locationNameService.getLocationNames(33.2, 126.5))
+            .isInstanceOf(WeatherApiException.class)
+            .extracting("resultCode").isEqualTo("OFFLINE_NO_CONTENT");
+        verify(kakaoApiClient, never()).getLocationNames(anyDouble(), anyDouble());
+        verify(reverseGeocodeRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("hybrid - 리소스에 없는 격자만 카카오로 조회")
+    void getLocationNames_Hybrid() {
+        locationNameService = createService("hybrid", gridRegionTable());
+        List<String> jeju = List.of("제주특별자치도", "서귀포시", "대정읍");
+        when(kakaoApiClient.getLocationNames(33.2, 126.5)).thenReturn(jeju);
+
+        assertThat(locationNameService.getLocationNames(LATITUDE, LONGITUDE)).isEqualTo(SEOUL);
+        assertThat(locationNameService.getLocationNames(33.2, 126.5)).isEqualTo(jeju);
+
+        verify(kakaoApiClient, times(1)).getLocationNames(anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("offline/hybrid 설정에 리소스가 없으면 기동 실패")
+    void constructor_OfflineWithoutResource() {
+        assertThatThrownBy(() -> createService("offline", null))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("offline 설정에 전체 격자를 덮지 않는 리소스면 기동 실패 (hybrid 는 허용)")
+    void constructor_OfflineWithPartialResource() {
+        assertThatThrownBy(() -> createService("offline", gridRegionTable(), 1000))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(createService("hybrid", gridRegionTable(), 1000).getProvider())
+            .isEqualTo(LocationNameService.Provider.HYBRID);
+    }
+
+    @Test
+    @DisplayName("부하 테스트 - 반복 조회 시 카카오 호출은 셀 수 이하로 수렴")
+    void getLocationNames_LoadTest() throws Exception {
+        int threads = 16;
+        int requestsPerThread = 2_000;
+        when(kakaoApiClient.getLocationNames(anyDouble(), anyDouble())).thenReturn(SEOUL);
+
+        Set<String> cells = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < requestsPerThread; i++) {
+                        // 서울 도심 약 10km x 10km 범위
+                        double lat = 37.50 + random.nextDouble() * 0.1;
+                        double lon = 126.90 + random.nextDouble() * 0.1;
+                        cells.add(locationNameService.cellKey(lat, lon));
+                        locationNameService.getLocationNames(lat, lon);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long remoteCalls = locationNameService.getRemoteCallCount();
+        assertThat(remoteCalls).isEqualTo(cells.size());
+        assertThat(locationNameService.getHitRatio()).isGreaterThan(0.99);
+        assertThat(meterRegistry.get("weather.location.cache.hit.ratio").gauge().value())
+            .isGreaterThan(0.99);
+    }
+
+    private LocationNameService createService(String provider, GridRegionTable gridRegionTable) {
+        return createService(provider, gridRegionTable, 1);
+    }
+
+    private LocationNameService createService(String provider, GridRegionTable gridRegionTable,
+        int offlineMinCells) {
+        meterRegistry = new SimpleMeterRegistry();
+        return new LocationNameService(kakaoApiClient, reverseGeocodeRepository,
+            new CoordinateConverter(), Optional.ofNullable(gridRegionTable), meterRegistry,
+            provider, offlineMinCells, 2, Duration.ofDays(30), Duration.ofDays(1), 1000);
+    }
+
+    private GridRegionTable gridRegionTable() {
+        GridCoordinate seoul = new CoordinateConverter().convertToGrid(LATITUDE, LONGITUDE);
+        try {
+            byte[] bytes = GridRegionTable.builder()
+                .put(seoul.getX(), seoul.getY(), SEOUL)
+                .toByteArray();
+            return GridRegionTable.read(new ByteArrayInputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
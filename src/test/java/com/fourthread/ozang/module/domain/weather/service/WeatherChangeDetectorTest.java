@@ -0,0 +1,85 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fourthread.ozang.module.domain.weather.dto.WeatherChange;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast.Category;
+import com.fourthread.ozang.module.domain.weather.dto.type.PrecipitationType;
+import com.fourthread.ozang.module.domain.weather.dto.type.WeatherChangeType;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("날씨 변화 감지 테스트")
+class WeatherChangeDetectorTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 7, 1, 6, 0);
+
+    private final WeatherChangeDetector detector = new WeatherChangeDetector(Duration.ofHours(12), 5.0);
+
+    @Test
+    @DisplayName("강수없음 예보가 비로 바뀐 첫 시각을 강수 시작으로 감지")
+    void detect_PrecipitationStart() {
+        // Given
+        KmaForecast previous = forecast(new double[]{20, 21, 22, 23}, new int[]{0, 0, 0, 0});
+        KmaForecast current = forecast(new double[]{20, 21, 22, 23}, new int[]{0, 0, 1, 1});
+
+        // When
+        List<WeatherChange> changes = detector.detect(previous, current, FROM);
+
+        // Then
+        assertThat(changes).hasSize(1);
+        WeatherChange change = changes.get(0);
+        assertThat(change.type()).isEqualTo(WeatherChangeType.PRECIPITATION_START);
+        assertThat(change.forecastAt()).isEqualTo(FROM.plusHours(2));
+        assertThat(change.precipitationType()).isEqualTo(PrecipitationType.RAIN);
+    }
+
+    @Test
+    @DisplayName("임계값 이상 기온 변화 중 가장 큰 시각을 감지")
+    void detect_TemperatureSwing() {
+        // Given
+        KmaForecast previous = forecast(new double[]{20, 21, 22, 23}, new int[]{0, 0, 0, 0});
+        KmaForecast current = forecast(new double[]{20, 15, 14, 22}, new int[]{0, 0, 0, 0});
+
+        // When
+        List<WeatherChange> changes = detector.detect(previous, current, FROM);
+
+        // Then
+        assertThat(changes).hasSize(1);
+        WeatherChange change = changes.get(0);
+        assertThat(change.type()).isEqualTo(WeatherChangeType.TEMPERATURE_DROP);
+        assertThat(change.forecastAt()).isEqualTo(FROM.plusHours(2));
+        assertThat(change.temperatureDelta()).isEqualTo(-8.0);
+    }
+
+    @Test
+    @DisplayName("임계값 미만이거나 감시 구간 밖의 변화는 무시")
+    void detect_NoChange() {
+        // Given - 감시 구간 이전 시각의 강수, 임계값 미만 기온 변화
+        KmaForecast previous = forecast(new double[]{20, 21, 22, 23}, new int[]{0, 0, 0, 0});
+        KmaForecast current = forecast(new double[]{20, 24, 25, 26}, new int[]{1, 0, 0, 0});
+
+        // When
+        List<WeatherChange> changes = detector.detect(previous, current, FROM.plusHours(1));
+
+        // Then
+        assertThat(changes).isEmpty();
+        assertThat(detector.detect(null, current, FROM)).isEmpty();
+    }
+
+    private KmaForecast forecast(double[] temperatures, int[] precipitations) {
+        KmaForecast.Builder builder = KmaForecast.builder();
+        for (int i = 0; i < temperatures.length; i++) {
+            LocalDateTime fcst = FROM.plusHours(i);
+            int slot = builder.slot(fcst.getYear() * 10000 + fcst.getMonthValue() * 100 + fcst.getDayOfMonth(),
+                fcst.getHour() * 100);
+            builder.value(Category.TMP, slot, temperatures[i]);
+            builder.code(Category.PTY, slot, precipitations[i]);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,236 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fourthread.ozang.module.domain.notification.event.WeatherChangedEvent;
+import com.fourthread.ozang.module.domain.weather.dto.WeatherAPILocation;
+import com.fourthread.ozang.module.domain.weather.dto.WeatherChange;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast.Category;
+import com.fourthread.ozang.module.domain.weather.dto.type.PrecipitationType;
+import com.fourthread.ozang.module.domain.weather.dto.type.SkyStatus;
+import com.fourthread.ozang.module.domain.weather.entity.HourlyForecast;
+import com.fourthread.ozang.module.domain.weather.entity.Weather;
+import com.fourthread.ozang.module.domain.weather.repository.HourlyForecastRepository;
+import com.fourthread.ozang.module.domain.weather.repository.LatestWeatherRepository;
+import com.fourthread.ozang.module.domain.weather.repository.WeatherRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("날씨 저장 서비스 테스트")
+class WeatherPersistenceServiceTest {
+
+    // JVM 기본 시간대와 다른 시간대로 주입한 시간대 사용 여부 확인
+    private static final ZoneId ZONE = ZoneId.of("Pacific/Kiritimati");
+
+    private WeatherPersistenceService weatherPersistenceService;
+
+    @Mock
+    private WeatherRepository weatherRepository;
+
+    @Mock
+    private LatestWeatherRepository latestWeatherRepository;
+
+    @Mock
+    private HourlyForecastRepository hourlyForecastRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private WeatherChangeDetector weatherChangeDetector;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DailyWeatherRollupService dailyWeatherRollupService;
+
+    @Captor
+    private ArgumentCaptor<WeatherChangedEvent> eventCaptor;
+
+    @Captor
+    private ArgumentCaptor<HourlyForecast> hourlyCaptor;
+
+    @Captor
+    private ArgumentCaptor<LocalDateTime> nowCaptor;
+
+    @BeforeEach
+    void setUp() {
+        weatherPersistenceService = new WeatherPersistenceService(weatherRepository, latestWeatherRepository,
+            hourlyForecastRepository, transactionTemplate, weatherChangeDetector, eventPublisher,
+            dailyWeatherRollupService, ZONE);
+    }
+
+    @Test
+    @DisplayName("이력 저장 후 격자별 최신 날씨 갱신")
+    void save_UpsertsLatest() {
+        // Given
+        Weather weather = createWeather("hash-1");
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<Weather>>getArgument(0).doInTransaction(null));
+        when(weatherRepository.saveAndFlush(weather)).thenReturn(weather);
+
+        // When
+        Weather saved = weatherPersistenceService.save(weather, null);
+
+        // Then
+        assertThat(saved).isSameAs(weather);
+        verify(latestWeatherRepository).upsert(60, 127, weather.getId(), weather.getForecastedAt());
+        verify(hourlyForecastRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("응답 전체 예보 시각을 시간별 계열로 함께 저장")
+    void save_StoresHourlySeries() {
+        // Given
+        Weather weather = createWeather("hash-1");
+        KmaForecast forecast = createForecast();
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<Weather>>getArgument(0).doInTransaction(null));
+        when(weatherRepository.saveAndFlush(weather)).thenReturn(weather);
+        when(hourlyForecastRepository.findById(any())).thenReturn(Optional.empty());
+
+        // When
+        weatherPersistenceService.save(weather, forecast);
+
+        // Then
+        verify(hourlyForecastRepository).save(hourlyCaptor.capture());
+        HourlyForecast hourly = hourlyCaptor.getValue();
+        assertThat(hourly.getX()).isEqualTo(60);
+        assertThat(hourly.getForecastedAt()).isEqualTo(weather.getForecastedAt());
+        assertThat(hourly.getSlotCount()).isEqualTo(2);
+        assertThat(hourly.toForecast().value(Category.TMP, 1)).isEqualTo(21.0);
+        verify(dailyWeatherRollupService).apply(60, 127, weather.getForecastedAt(), forecast);
+    }
+
+    @Test
+    @DisplayName("새 발표분이 직전 발표분과 달라지면 변화 이벤트 발행")
+    void save_PublishesWeatherChange() {
+        // Given
+        Weather weather = createWeather("hash-1");
+        KmaForecast forecast = createForecast();
+        HourlyForecast previous = HourlyForecast.of(60, 127, weather.getForecastedAt().minusHours(3), forecast);
+        WeatherChange change = WeatherChange.precipitationStart(LocalDateTime.of(2025, 6, 30, 7, 0),
+            PrecipitationType.RAIN);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<Weather>>getArgument(0).doInTransaction(null));
+        when(weatherRepository.saveAndFlush(weather)).thenReturn(weather);
+        when(hourlyForecastRepository.findFirstByXAndYOrderByForecastedAtDesc(60, 127))
+            .thenReturn(Optional.of(previous));
+        when(weatherChangeDetector.detect(any(KmaForecast.class), eq(forecast), any(LocalDateTime.class)))
+            .thenReturn(List.of(change));
+        when(hourlyForecastRepository.findById(any())).thenReturn(Optional.empty());
+
+        // When
+        LocalDateTime before = LocalDateTime.now(ZONE).truncatedTo(ChronoUnit.HOURS);
+        weatherPersistenceService.save(weather, forecast);
+        LocalDateTime after = LocalDateTime.now(ZONE).truncatedTo(ChronoUnit.HOURS);
+
+        // Then - 변화 비교 기준 시각은 주입한 시간대의 현재 정시
+        verify(weatherChangeDetector).detect(any(KmaForecast.class), eq(forecast), nowCaptor.capture());
+        assertThat(nowCaptor.getValue()).isBetween(before, after);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        WeatherChangedEvent event = eventCaptor.getValue();
+        assertThat(event.x()).isEqualTo(60);
+        assertThat(event.y()).isEqualTo(127);
+        assertThat(event.forecastedAt()).isEqualTo(weather.getForecastedAt());
+        assertThat(event.changes()).containsExactly(change);
+    }
+
+    @Test
+    @DisplayName("같은 발표분을 다시 저장하면 변화 감지하지 않음")
+    void save_SameBaseSkipsDetection() {
+        // Given
+        Weather weather = createWeather("hash-1");
+        KmaForecast forecast = createForecast();
+        HourlyForecast sameBase = HourlyForecast.of(60, 127, weather.getForecastedAt(), forecast);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<Weather>>getArgument(0).doInTransaction(null));
+        when(weatherRepository.saveAndFlush(weather)).thenReturn(weather);
+        when(hourlyForecastRepository.findFirstByXAndYOrderByForecastedAtDesc(60, 127))
+            .thenReturn(Optional.of(sameBase));
+        when(hourlyForecastRepository.findById(any())).thenReturn(Optional.of(sameBase));
+
+        // When
+        weatherPersistenceService.save(weather, forecast);
+
+        // Then
+        verify(weatherChangeDetector, never()).detect(any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("같은 응답이 먼저 저장되어 해시 제약에 걸리면 기존 데이터 반환")
+    void save_DuplicateHash() {
+        // Given
+        Weather weather = createWeather("hash-1");
+        Weather existing = createWeather("hash-1");
+        when(transactionTemplate.execute(any()))
+            .thenThrow(new DataIntegrityViolationException("uk_weathers_api_response_hash"));
+        when(weatherRepository.findByApiResponseHash("hash-1")).thenReturn(Optional.of(existing));
+
+        // When
+        Weather saved = weatherPersistenceService.save(weather, null);
+
+        // Then
+        assertThat(saved).isSameAs(existing);
+    }
+
+    @Test
+    @DisplayName("해시 외 제약 위반은 그대로 전달")
+    void save_OtherViolation() {
+        // Given
+        Weather weather = createWeather("hash-1");
+        when(transactionTemplate.execute(any()))
+            .thenThrow(new DataIntegrityViolationException("not null"));
+        when(weatherRepository.findByApiResponseHash("hash-1")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> weatherPersistenceService.save(weather, null))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private KmaForecast createForecast() {
+        KmaForecast.Builder builder = KmaForecast.builder()
+            .header("00", "NORMAL_SERVICE")
+            .base("20250630", "0200")
+            .grid(60, 127);
+        builder.value(Category.TMP, builder.slot(20250630, 600), 20.0);
+        builder.value(Category.TMP, builder.slot(20250630, 700), 21.0);
+        return builder.build();
+    }
+
+    private Weather createWeather(String responseHash) {
+        Weather weather = Weather.create(
+            LocalDateTime.of(2025, 6, 30, 2, 0),
+            LocalDateTime.now().plusHours(1),
+            new WeatherAPILocation(37.5665, 126.9780, 60, 127, List.of("서울특별시 중구")),
+            SkyStatus.CLEAR
+        );
+        weather.setApiResponseHash(responseHash);
+        return weather;
+    }
+}
@@ -0,0 +1,177 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fourthread.ozang.module.domain.weather.repository.DailyWeatherRollupRepository;
+import com.fourthread.ozang.module.domain.weather.repository.HourlyForecastRepository;
+import com.fourthread.ozang.module.domain.weather.repository.WeatherPartitionRepository;
+import com.fourthread.ozang.module.domain.weather.repository.WeatherPartitionRepository.DroppedPartition;
+import com.fourthread.ozang.module.domain.weather.repository.WeatherRepository;
+import com.fourthread.ozang.module.domain.weather.service.WeatherRetentionService.PartitionRotation;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("날씨 데이터 보관 기간 관리 테스트")
+class WeatherRetentionServiceTest {
+
+    // JVM 기본 시간대와 날짜가 다를 가능성이 큰 시간대 (UTC+14)
+    private static final ZoneId ZONE = ZoneId.of("Pacific/Kiritimati");
+
+    @Mock
+    private WeatherRepository weatherRepository;
+
+    @Mock
+    private WeatherPartitionRepository weatherPartitionRepository;
+
+    @Mock
+    private HourlyForecastRepository hourlyForecastRepository;
+
+    @Mock
+    private DailyWeatherRollupRepository dailyWeatherRollupRepository;
+
+    private WeatherRetentionService weatherRetentionService;
+
+    @BeforeEach
+    void setUp() {
+        weatherRetentionService = new WeatherRetentionService(weatherRepository, weatherPartitionRepository,
+            hourlyForecastRepository, dailyWeatherRollupRepository, ZONE, 3, 2);
+    }
+
+    @Test
+    @DisplayName("보관 기준 시각은 서비스 시간대 현재 시각 기준")
+    void cutoff_UsesServiceZone() {
+        // Given
+        LocalDateTime before = LocalDateTime.now(ZONE);
+
+        // When
+        LocalDateTime cutoff = weatherRetentionService.cutoff(30);
+
+        // Then
+        assertThat(cutoff).isBetween(before.minusDays(30), LocalDateTime.now(ZONE).minusDays(30));
+    }
+
+    @Test
+    @DisplayName("없는 미래 파티션만 생성하고 범위 전체가 기준 시각 이전인 파티션만 삭제")
+    void rotatePartitions() {
+        // Given
+        LocalDate today = LocalDate.now(ZONE);
+        when(weatherPartitionRepository.findPartitionDates()).thenReturn(List.of(
+            today.minusDays(32), today.minusDays(31), today.minusDays(30), today, today.plusDays(1)));
+        when(weatherPartitionRepository.dropPartition(any(LocalDate.class)))
+            .thenAnswer(invocation -> new DroppedPartition(invocation.getArgument(0), 100, 1));
+
+        // When - 기준 시각이 30일 전 날짜 중간이면 그날 파티션은 남긴다
+        PartitionRotation rotation = weatherRetentionService.rotatePartitions(
+            today.minusDays(30).atTime(12, 0));
+
+        // Then
+        verify(weatherPartitionRepository, times(1)).createPartition(today.plusDays(2));
+        verify(weatherPartitionRepository, never()).createPartition(today);
+        verify(weatherPartitionRepository).dropPartition(today.minusDays(32));
+        verify(weatherPartitionRepository).dropPartition(today.minusDays(31));
+        verify(weatherPartitionRepository, never()).dropPartition(today.minusDays(30));
+        assertThat(rotation).isEqualTo(new PartitionRotation(1, 2, 200, 2));
+    }
+
+    @Test
+    @DisplayName("파티션 생성 실패는 삼키지 않고 배치 실패로 전파")
+    void rotatePartitions_CreateFailure() {
+        // Given
+        LocalDate today = LocalDate.now(ZONE);
+        when(weatherPartitionRepository.findPartitionDates()).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("lock timeout"))
+            .when(weatherPartitionRepository).createPartition(today);
+
+        // When & Then
+        assertThatThrownBy(() -> weatherRetentionService.rotatePartitions(today.atStartOfDay()))
+            .isInstanceOf(DataIntegrityViolationException.class);
+        verify(weatherPartitionRepository, never()).dropPartition(any());
+    }
+
+    @Test
+    @DisplayName("이전 삭제가 분리 후 실패해 남은 파티션도 기준 시각 이전이면 삭제")
+    void rotatePartitions_DetachedLeftover() {
+        // Given
+        LocalDate today = LocalDate.now(ZONE);
+        when(weatherPartitionRepository.findPartitionDates())
+            .thenReturn(List.of(today, today.plusDays(1), today.plusDays(2)));
+        when(weatherPartitionRepository.findDetachedPartitionDates())
+            .thenReturn(List.of(today.minusDays(40), today.minusDays(10)));
+        when(weatherPartitionRepository.dropPartition(any(LocalDate.class)))
+            .thenAnswer(invocation -> new DroppedPartition(invocation.getArgument(0), 10, 0));
+
+        // When
+        PartitionRotation rotation = weatherRetentionService.rotatePartitions(today.minusDays(30).atStartOfDay());
+
+        // Then
+        verify(weatherPartitionRepository).dropPartition(today.minusDays(40));
+        verify(weatherPartitionRepository, never()).dropPartition(today.minusDays(10));
+        assertThat(rotation.droppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("파티션 테이블이어도 파티션 교체 후 default 파티션에 남은 지난 날씨를 청크 단위로 삭제")
+    void cleanup_PartitionedAlsoDeletesDefaultRows() {
+        // Given
+        LocalDate today = LocalDate.now(ZONE);
+        when(weatherPartitionRepository.isPartitioned()).thenReturn(true);
+        when(weatherPartitionRepository.findPartitionDates()).thenReturn(List.of(today.minusDays(40)));
+        when(weatherPartitionRepository.dropPartition(any(LocalDate.class)))
+            .thenAnswer(invocation -> new DroppedPartition(invocation.getArgument(0), 100, 0));
+        when(weatherRepository.findExpiredIds(any(), any(Pageable.class)))
+            .thenReturn(ids(3), ids(2));
+        when(weatherRepository.deleteByIds(anyList())).thenReturn(3, 2);
+
+        // When
+        long deleted = weatherRetentionService.cleanup(30);
+
+        // Then
+        assertThat(deleted).isEqualTo(105);
+        verify(weatherPartitionRepository).dropPartition(today.minusDays(40));
+        verify(weatherRepository, times(2)).deleteByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("파티션 미적용이면 남은 대상이 청크 크기보다 적어질 때까지 나누어 삭제")
+    void cleanup_Chunked() {
+        // Given
+        when(weatherPartitionRepository.isPartitioned()).thenReturn(false);
+        when(weatherRepository.findExpiredIds(any(), any(Pageable.class)))
+            .thenReturn(ids(3), ids(3), ids(1));
+        when(weatherRepository.deleteByIds(anyList())).thenReturn(3, 3, 1);
+
+        // When
+        long deleted = weatherRetentionService.cleanup(30);
+
+        // Then
+        assertThat(deleted).isEqualTo(7);
+        verify(weatherRepository, times(3)).deleteByIds(anyList());
+        verify(weatherPartitionRepository, never()).dropPartition(any());
+        verify(hourlyForecastRepository).deleteExpired(any());
+    }
+
+    private static List<UUID> ids(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+    }
+}
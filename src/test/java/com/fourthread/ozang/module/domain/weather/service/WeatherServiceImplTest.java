@@ -2,17 +2,26 @@ package com.fourthread.ozang.module.domain.weather.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.fourthread.ozang.module.domain.weather.client.KakaoApiClient;
+import com.fourthread.ozang.module.domain.weather.cache.FiveDayForecastCache;
+import com.fourthread.ozang.module.domain.weather.cache.ForecastCacheKey;
+import com.fourthread.ozang.module.domain.weather.cache.PublishCycleCache;
+import com.fourthread.ozang.module.domain.weather.cache.ResponseHashCache;
+import com.fourthread.ozang.module.domain.weather.cache.SingleFlight;
 import com.fourthread.ozang.module.domain.weather.client.WeatherApiClient;
 import com.fourthread.ozang.module.domain.weather.dto.HumidityDto;
 import com.fourthread.ozang.module.domain.weather.dto.PrecipitationDto;
@@ -20,10 +29,13 @@ import com.fourthread.ozang.module.domain.weather.dto.TemperatureDto;
 import com.fourthread.ozang.module.domain.weather.dto.WeatherAPILocation;
 import com.fourthread.ozang.module.domain.weather.dto.WeatherDto;
 import com.fourthread.ozang.module.domain.weather.dto.WindSpeedDto;
+import com.fourthread.ozang.module.domain.weather.dto.request.WeatherBatchRequest.Coordinate;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
 import com.fourthread.ozang.module.domain.weather.dto.external.WeatherApiResponse;
 import com.fourthread.ozang.module.domain.weather.dto.type.PrecipitationType;
 import com.fourthread.ozang.module.domain.weather.dto.type.SkyStatus;
 import com.fourthread.ozang.module.domain.weather.dto.type.WindStrength;
+import com.fourthread.ozang.module.domain.weather.entity.DailyWeatherRollup;
 import com.fourthread.ozang.module.domain.weather.entity.GridCoordinate;
 import com.fourthread.ozang.module.domain.weather.entity.Weather;
 import com.fourthread.ozang.module.domain.weather.exception.InvalidCoordinateException;
@@ -31,13 +43,23 @@ import com.fourthread.ozang.module.domain.weather.exception.WeatherDataFetchExce
 import com.fourthread.ozang.module.domain.weather.mapper.WeatherMapper;
 import com.fourthread.ozang.module.domain.weather.repository.WeatherRepository;
 import com.fourthread.ozang.module.domain.weather.util.CoordinateConverter;
+import com.fourthread.ozang.module.domain.weather.util.KmaPublishSchedule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -51,8 +73,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("날씨 서비스 테스트")
@@ -64,6 +88,9 @@ class WeatherServiceImplTest {
     @Mock
     private WeatherRepository weatherRepository;
 
+    @Mock
+    private WeatherPersistenceService weatherPersistenceService;
+
     @Mock
     private WeatherMapper weatherMapper;
 
@@ -71,7 +98,7 @@ class WeatherServiceImplTest {
     private WeatherApiClient weatherApiClient;
 
     @Mock
-    private KakaoApiClient kakaoApiClient;
+    private LocationNameService locationNameService;
 
     @Mock
     private CoordinateConverter coordinateConverter;
@@ -79,11 +106,36 @@ class WeatherServiceImplTest {
     @Mock
     private Executor apiCallExecutor;
 
+    @Spy
+    private PublishCycleCache<WeatherDto> weatherForecastCache =
+        new PublishCycleCache<>("forecast", 100, new SimpleMeterRegistry());
+
+    @Spy
+    private SingleFlight<ForecastCacheKey, WeatherDto> weatherForecastFlight =
+        new SingleFlight<>("forecast", new SimpleMeterRegistry());
+
+    @Spy
+    private FiveDayForecastCache fiveDayForecastCache =
+        new FiveDayForecastCache(100, 100, new SimpleMeterRegistry());
+
+    @Mock
+    private WeatherRetentionService weatherRetentionService;
+
+    @Spy
+    private ResponseHashCache responseHashCache = new ResponseHashCache(100, new SimpleMeterRegistry());
+
+    @Mock
+    private ForecastGridSnapshotService forecastGridSnapshotService;
+
+    @Mock
+    private DailyWeatherRollupService dailyWeatherRollupService;
+
     @Captor
     private ArgumentCaptor<Weather> weatherCaptor;
 
     private static final Double VALID_LATITUDE = 37.5665;
     private static final Double VALID_LONGITUDE = 126.9780;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
     private static final Integer GRID_X = 60;
     private static final Integer GRID_Y = 127;
 
@@ -96,10 +148,11 @@ class WeatherServiceImplTest {
         }).when(apiCallExecutor).execute(any(Runnable.class));
 
         // 기본 설정
+        ReflectionTestUtils.setField(weatherService, "zoneId", ZONE);
         lenient().when(coordinateConverter.convertToGrid(anyDouble(), anyDouble()))
             .thenReturn(new GridCoordinate(GRID_X, GRID_Y));
 
-        lenient().when(kakaoApiClient.getLocationNames(anyDouble(), anyDouble()))
+        lenient().when(locationNameService.getLocationNames(anyDouble(), anyDouble()))
             .thenReturn(List.of("서울특별시 중구"));
     }
 
@@ -112,17 +165,17 @@ class WeatherServiceImplTest {
         void getWeatherForecast_Success() {
             Weather mockWeather = createMockWeather();
             WeatherDto expectedDto = createMockWeatherDto();
-            WeatherApiResponse mockApiResponse = createMockApiResponse();
+            KmaForecast mockApiResponse = createMockApiResponse();
 
-            when(weatherRepository.findLatestByGridCoordinate(GRID_X, GRID_Y))
+            when(weatherRepository.findLatestByGrid(GRID_X, GRID_Y))
                 .thenReturn(Optional.empty());
             when(weatherApiClient.getWeatherForecast(any(GridCoordinate.class)))
                 .thenReturn(mockApiResponse);
-            when(weatherMapper.fromApiResponse(anyList(), any(WeatherAPILocation.class)))
+            when(weatherMapper.fromForecast(any(KmaForecast.class), any(WeatherAPILocation.class)))
                 .thenReturn(mockWeather);
-            when(weatherRepository.save(any(Weather.class)))
+            when(weatherPersistenceService.save(any(Weather.class), any(KmaForecast.class)))
                 .thenReturn(mockWeather);
-            when(weatherMapper.toDto(any(Weather.class)))
+            when(weatherMapper.toDto(any(Weather.class), any()))
                 .thenReturn(expectedDto);
             when(weatherMapper.toWeatherAPILocation(anyDouble(), anyDouble(), anyInt(), anyInt(), anyList()))
                 .thenReturn(createMockWeatherAPILocation());
@@ -132,7 +185,7 @@ class WeatherServiceImplTest {
 
             assertThat(result).isNotNull();
             assertThat(result.id()).isEqualTo(expectedDto.id());
-            verify(weatherRepository).save(weatherCaptor.capture());
+            verify(weatherPersistenceService).save(weatherCaptor.capture(), any(KmaForecast.class));
             assertThat(weatherCaptor.getValue().getApiResponseHash()).isNotNull();
         }
 
@@ -143,9 +196,9 @@ class WeatherServiceImplTest {
             Weather cachedWeather = createCachedMockWeather();
             WeatherDto expectedDto = createMockWeatherDto();
 
-            when(weatherRepository.findLatestByGridCoordinate(GRID_X, GRID_Y))
+            when(weatherRepository.findLatestByGrid(GRID_X, GRID_Y))
                 .thenReturn(Optional.of(cachedWeather));
-            when(weatherMapper.toDto(cachedWeather))
+            when(weatherMapper.toDto(cachedWeather, null))
                 .thenReturn(expectedDto);
 
             // When
@@ -154,7 +207,190 @@ class WeatherServiceImplTest {
             // Then
             assertThat(result).isEqualTo(expectedDto);
             verify(weatherApiClient, never()).getWeatherForecast(any());
-            verify(weatherRepository, never()).save(any());
+            verify(weatherPersistenceService, never()).save(any(), any());
+        }
+
+        @Test
+        @DisplayName("저장된 날씨 응답은 전날 일 집계와 비교")
+        void getWeatherForecast_UseDayBeforeRollup() {
+            // Given
+            Weather cachedWeather = createCachedMockWeather();
+            DailyWeatherRollup dayBefore = DailyWeatherRollup.of(GRID_X, GRID_Y, LocalDate.now(ZONE).minusDays(1));
+            WeatherDto expectedDto = createMockWeatherDto();
+
+            when(weatherRepository.findLatestByGrid(GRID_X, GRID_Y))
+                .thenReturn(Optional.of(cachedWeather));
+            when(dailyWeatherRollupService.findDayBefore(cachedWeather)).thenReturn(Optional.of(dayBefore));
+            when(weatherMapper.toDto(cachedWeather, dayBefore))
+                .thenReturn(expectedDto);
+
+            // When
+            WeatherDto result = weatherService.getWeatherForecast(VALID_LONGITUDE, VALID_LATITUDE);
+
+            // Then
+            assertThat(result).isEqualTo(expectedDto);
+        }
+
+        @Test
+        @DisplayName("현재 발표분 격자 스냅샷이 있으면 DB 조회 없이 사용")
+        void getWeatherForecast_UseSnapshot() {
+            // Given
+            WeatherDto expectedDto = createMockWeatherDto();
+            when(forecastGridSnapshotService.find(any(GridCoordinate.class), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(expectedDto));
+
+            // When
+            WeatherDto first = weatherService.getWeatherForecast(VALID_LONGITUDE, VALID_LATITUDE);
+            WeatherDto second = weatherService.getWeatherForecast(VALID_LONGITUDE, VALID_LATITUDE);
+
+            // Then
+            assertThat(first).isEqualTo(expectedDto);
+            assertThat(second).isEqualTo(expectedDto);
+            verify(forecastGridSnapshotService, times(1))
+                .find(any(GridCoordinate.class), any(LocalDateTime.class));
+            verify(weatherRepository, never()).findLatestByGrid(any(), any());
+            verify(weatherApiClient, never()).getWeatherForecast(any());
+        }
+
+        @Test
+        @DisplayName("같은 격자/발표시각 재요청 시 L1 캐시 사용")
+        void getWeatherForecast_UseL1Cache() {
+            // Given
+            Weather cachedWeather = createCachedMockWeather();
+            WeatherDto expectedDto = createMockWeatherDto();
+
+            when(weatherRepository.findLatestByGrid(GRID_X, GRID_Y))
+                .thenReturn(Optional.of(cachedWeather));
+            when(weatherMapper.toDto(cachedWeather, null))
+                .thenReturn(expectedDto);
+
+            // When
+            WeatherDto first = weatherService.getWeatherForecast(VALID_LONGITUDE, VALID_LATITUDE);
+            WeatherDto second = weatherService.getWeatherForecast(VALID_LONGITUDE, VALID_LATITUDE);
+
+            // Then
+            assertThat(first).isEqualTo(expectedDto);
+            assertThat(second).isEqualTo(expectedDto);
+            verify(weatherRepository, times(1)).findLatestByGrid(GRID_X, GRID_Y);
+            assertThat(weatherForecastCache.getHitCount()).isEqualTo(1);
+            assertThat(weatherForecastCache.getMissCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("지난 발표시각의 저장 데이터는 사용하지 않고 새로 조회")
+        void getWeatherForecast_StaleStoredData() {
+            // Given
+            Weather staleWeather = Weather.create(
+                KmaPublishSchedule.baseDateTime(LocalDateTime.now(ZONE)).minusHours(3),
+                LocalDateTime.now(ZONE),
+                createMockWeatherAPILocation(),
+                SkyStatus.CLEAR
+            );
+            Weather freshWeather = createMockWeather();
+
+            when(weatherRepository.findLatestByGrid(GRID_X, GRID_Y))
+                .thenReturn(Optional.of(staleWeather));
+            when(weatherApiClient.getWeatherForecast(any(GridCoordinate.class)))
+                .thenReturn(createMockApiResponse());
+            when(weatherMapper.fromForecast(any(KmaForecast.class), any(WeatherAPILocation.class)))
+                .thenReturn(freshWeather);
+            when(weatherPersistenceService.save(any(Weather.class), any(KmaForecast.class)))
+                .thenReturn(freshWeather);
+            when(weatherMapper.toDto(freshWeather, null))
+                .thenReturn(createMockWeatherDto());
+            when(weatherMapper.toWeatherAPILocation(anyDouble(), anyDouble(), anyInt(), anyInt(), anyList()))
+                .thenReturn(createMockWeatherAPILocation());
+
+            // When
+            weatherService.getWeatherForecast(VALID_LONGITUDE, VALID_LATITUDE);
+
+            // Then
+            verify(weatherApiClient).getWeatherForecast(any(GridCoordinate.class));
+            verify(weatherPersistenceService).save(any(Weather.class), any(KmaForecast.class));
+        }
+
+        @Test
+        @DisplayName("외부 API 장애 시 최근 저장 데이터를 stale 표시로 응답")
+        void getWeatherForecast_ServeStaleOnUpstreamError() {
+            // Given
+            Weather staleWeather = createStaleMockWeather();
+
+            when(weatherRepository.findLatestByGrid(GRID_X, GRID_Y))
+                .thenReturn(Optional.of(staleWeather));
+            when(weatherApiClient.getWeatherForecast(any(GridCoordinate.class)))
+                .thenReturn(createErrorApiResponse("30"));
+            when(weatherMapper.toDto(staleWeather, null))
+                .thenReturn(createMockWeatherDto());
+
+            // When
+            WeatherDto result = weatherService.getWeatherForecast(VALID_LONGITUDE, VALID_LATITUDE);
+
+            // Then
+            assertThat(result.stale()).isTrue();
+            verify(weatherPersistenceService, never()).save(any(), any());
+            assertThat(weatherForecastCache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("지연 예산 초과 시 stale 데이터로 먼저 응답하고 조회는 계속 진행해 캐시 갱신")
+        void getWeatherForecast_ServeStaleOverLatencyBudget() {
+            // Given
+            ReflectionTestUtils.setField(weatherService, "staleLatencyBudget", Duration.ofMillis(100));
+            Weather staleWeather = createStaleMockWeather();
+            Weather freshWeather = createMockWeather();
+            WeatherDto freshDto = createMockWeatherDto();
+
+            when(weatherRepository.findLatestByGrid(GRID_X, GRID_Y))
+                .thenReturn(Optional.of(staleWeather));
+            when(weatherApiClient.getWeatherForecast(any(GridCoordinate.class)))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(500);
+                    return createMockApiResponse();
+                });
+            when(weatherMapper.fromForecast(any(KmaForecast.class), any(WeatherAPILocation.class)))
+                .thenReturn(freshWeather);
+            when(weatherPersistenceService.save(any(Weather.class), any(KmaForecast.class)))
+                .thenReturn(freshWeather);
+            when(weatherMapper.toDto(staleWeather, null))
+                .thenReturn(createMockWeatherDto());
+            when(weatherMapper.toDto(freshWeather, null))
+                .thenReturn(freshDto);
+            when(weatherMapper.toWeatherAPILocation(anyDouble(), anyDouble(), anyInt(), anyInt(), anyList()))
+                .thenReturn(createMockWeatherAPILocation());
+
+            // When
+            WeatherDto result = assertTimeoutPreemptively(Duration.ofMillis(400),
+                () -> weatherService.getWeatherForecast(VALID_LONGITUDE, VALID_LATITUDE));
+
+            // Then
+            assertThat(result.stale()).isTrue();
+            verify(weatherPersistenceService, timeout(2000)).save(any(Weather.class), any(KmaForecast.class));
+            verify(weatherMapper, timeout(2000)).toDto(freshWeather, null);
+        }
+
+        @Test
+        @DisplayName("같은 발표분 응답을 다시 받으면 매핑/저장 없이 저장된 날씨 사용")
+        void fetchAndSaveWeatherData_UnchangedResponse() {
+            // Given
+            Weather savedWeather = createMockWeather();
+            when(weatherApiClient.getWeatherForecast(any(GridCoordinate.class)))
+                .thenReturn(createMockApiResponse(), createMockApiResponse());
+            when(weatherMapper.toWeatherAPILocation(anyDouble(), anyDouble(), anyInt(), anyInt(), anyList()))
+                .thenReturn(createMockWeatherAPILocation());
+            when(weatherMapper.fromForecast(any(KmaForecast.class), any(WeatherAPILocation.class)))
+                .thenReturn(savedWeather);
+            when(weatherPersistenceService.save(any(Weather.class), any(KmaForecast.class)))
+                .thenReturn(savedWeather);
+            GridCoordinate grid = new GridCoordinate(GRID_X, GRID_Y);
+
+            // When
+            Weather first = weatherService.fetchAndSaveWeatherData(VALID_LATITUDE, VALID_LONGITUDE, grid);
+            Weather second = weatherService.fetchAndSaveWeatherData(VALID_LATITUDE, VALID_LONGITUDE, grid);
+
+            // Then
+            assertThat(second).isSameAs(first);
+            verify(weatherMapper, times(1)).fromForecast(any(KmaForecast.class), any(WeatherAPILocation.class));
+            verify(weatherPersistenceService, times(1)).save(any(Weather.class), any(KmaForecast.class));
         }
 
         @ParameterizedTest
@@ -181,7 +417,7 @@ class WeatherServiceImplTest {
         @DisplayName("API 응답이 null일 때 예외 발생")
         void getWeatherForecast_NullApiResponse() {
             // Given
-            when(weatherRepository.findLatestByGridCoordinate(GRID_X, GRID_Y))
+            when(weatherRepository.findLatestByGrid(GRID_X, GRID_Y))
                 .thenReturn(Optional.empty());
             when(weatherApiClient.getWeatherForecast(any(GridCoordinate.class)))
                 .thenReturn(null);
@@ -202,8 +438,8 @@ class WeatherServiceImplTest {
         })
         void getWeatherForecast_ApiErrorCodes(String errorCode, String expectedMessage, String exceptionType) {
             // Given
-            WeatherApiResponse errorResponse = createErrorApiResponse(errorCode);
-            when(weatherRepository.findLatestByGridCoordinate(GRID_X, GRID_Y))
+            KmaForecast errorResponse = createErrorApiResponse(errorCode);
+            when(weatherRepository.findLatestByGrid(GRID_X, GRID_Y))
                 .thenReturn(Optional.empty());
             when(weatherApiClient.getWeatherForecast(any(GridCoordinate.class)))
                 .thenReturn(errorResponse);
@@ -217,6 +453,190 @@ class WeatherServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("비동기 날씨 정보 조회 테스트")
+    class GetWeatherForecastAsyncTest {
+
+        @Test
+        @DisplayName("논블로킹 병렬 호출 결과를 저장하고 L1 캐시에 적재")
+        void getWeatherForecastAsync_Success() throws Exception {
+            // Given
+            Weather mockWeather = createMockWeather();
+            WeatherDto expectedDto = createMockWeatherDto();
+
+            when(weatherRepository.findLatestByGrid(GRID_X, GRID_Y))
+                .thenReturn(Optional.empty());
+            when(weatherApiClient.getWeatherForecastMono(any(GridCoordinate.class)))
+                .thenReturn(Mono.just(createMockApiResponse()));
+            when(locationNameService.getLocationNamesMono(anyDouble(), anyDouble()))
+                .thenReturn(Mono.just(List.of("서울특별시 중구")));
+            when(weatherMapper.fromForecast(any(KmaForecast.class), any(WeatherAPILocation.class)))
+                .thenReturn(mockWeather);
+            when(weatherPersistenceService.save(any(Weather.class), any(KmaForecast.class)))
+                .thenReturn(mockWeather);
+            when(weatherMapper.toDto(mockWeather, null))
+                .thenReturn(expectedDto);
+            when(weatherMapper.toWeatherAPILocation(anyDouble(), anyDouble(), anyInt(), anyInt(), anyList()))
+                .thenReturn(createMockWeatherAPILocation());
+
+            // When
+            WeatherDto result = weatherService.getWeatherForecastAsync(VALID_LONGITUDE, VALID_LATITUDE)
+                .get(5, TimeUnit.SECONDS);
+            WeatherDto cached = weatherService.getWeatherForecast(VALID_LONGITUDE, VALID_LATITUDE);
+
+            // Then
+            assertThat(result).isEqualTo(expectedDto);
+            assertThat(cached).isEqualTo(expectedDto);
+            verify(apiCallExecutor, never()).execute(any(Runnable.class));
+            verify(weatherApiClient, never()).getWeatherForecast(any(GridCoordinate.class));
+            verify(weatherPersistenceService, times(1)).save(any(Weather.class), any(KmaForecast.class));
+        }
+
+        @Test
+        @DisplayName("외부 API 오류는 WeatherDataFetchException 으로 완료")
+        void getWeatherForecastAsync_UpstreamError() {
+            // Given
+            when(weatherRepository.findLatestByGrid(GRID_X, GRID_Y))
+                .thenReturn(Optional.empty());
+            when(weatherApiClient.getWeatherForecastMono(any(GridCoordinate.class)))
+                .thenReturn(Mono.error(new IllegalStateException("connection reset")));
+            when(locationNameService.getLocationNamesMono(anyDouble(), anyDouble()))
+                .thenReturn(Mono.just(List.of("서울특별시 중구")));
+
+            // When & Then
+            assertThatThrownBy(() -> weatherService.getWeatherForecastAsync(VALID_LONGITUDE, VALID_LATITUDE)
+                .get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(WeatherDataFetchException.class);
+            verify(weatherPersistenceService, never()).save(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("여러 위치 날씨 일괄 조회 테스트")
+    class GetWeatherForecastBatchAsyncTest {
+
+        @Test
+        @DisplayName("같은 격자는 한 번만 조회하고 요청 순서대로 반환")
+        void getWeatherForecastBatchAsync_DeduplicatesGrid() throws Exception {
+            // Given - 서울 두 위치는 같은 격자, 부산은 다른 격자
+            Coordinate seoul = new Coordinate(VALID_LONGITUDE, VALID_LATITUDE);
+            Coordinate seoulNearby = new Coordinate(126.9790, 37.5670);
+            Coordinate busan = new Coordinate(129.0756, 35.1796);
+            when(coordinateConverter.convertToGrid(35.1796, 129.0756)).thenReturn(new GridCoordinate(98, 76));
+
+            Weather seoulWeather = createCachedMockWeather();
+            Weather busanWeather = Weather.create(
+                KmaPublishSchedule.baseDateTime(LocalDateTime.now(ZONE)),
+                LocalDateTime.now(ZONE).plusHours(1),
+                new WeatherAPILocation(35.1796, 129.0756, 98, 76, List.of("부산광역시 중구")),
+                SkyStatus.CLOUDY);
+            WeatherDto seoulDto = createMockWeatherDto();
+            WeatherDto busanDto = createMockWeatherDto();
+
+            when(weatherRepository.findLatestByGrid(GRID_X, GRID_Y)).thenReturn(Optional.of(seoulWeather));
+            when(weatherRepository.findLatestByGrid(98, 76)).thenReturn(Optional.of(busanWeather));
+            when(weatherMapper.toDto(seoulWeather, null)).thenReturn(seoulDto);
+            when(weatherMapper.toDto(busanWeather, null)).thenReturn(busanDto);
+
+            // When
+            List<WeatherDto> result = weatherService
+                .getWeatherForecastBatchAsync(List.of(seoul, busan, seoulNearby))
+                .get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(result).containsExactly(seoulDto, busanDto, seoulDto);
+            verify(weatherRepository, times(1)).findLatestByGrid(GRID_X, GRID_Y);
+            verify(weatherRepository, times(1)).findLatestByGrid(98, 76);
+            verify(weatherApiClient, never()).getWeatherForecastMono(any());
+        }
+
+        @Test
+        @DisplayName("L1 캐시에 있는 격자는 조회하지 않음")
+        void getWeatherForecastBatchAsync_UseL1Cache() throws Exception {
+            // Given
+            WeatherDto cachedDto = createMockWeatherDto();
+            weatherForecastCache.put(ForecastCacheKey.of(new GridCoordinate(GRID_X, GRID_Y),
+                KmaPublishSchedule.baseDateTime(LocalDateTime.now(ZONE))), cachedDto);
+
+            // When
+            List<WeatherDto> result = weatherService
+                .getWeatherForecastBatchAsync(List.of(new Coordinate(VALID_LONGITUDE, VALID_LATITUDE),
+                    new Coordinate(126.9790, 37.5670)))
+                .get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(result).containsExactly(cachedDto, cachedDto);
+            verify(weatherRepository, never()).findLatestByGrid(any(), any());
+        }
+
+        @Test
+        @DisplayName("범위를 벗어난 좌표가 있으면 조회 전에 예외")
+        void getWeatherForecastBatchAsync_InvalidCoordinate() {
+            assertThatThrownBy(() -> weatherService.getWeatherForecastBatchAsync(List.of(
+                new Coordinate(VALID_LONGITUDE, VALID_LATITUDE), new Coordinate(140.0, VALID_LATITUDE))))
+                .isInstanceOf(InvalidCoordinateException.class);
+            verify(weatherRepository, never()).findLatestByGrid(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("예보 사전 적재 테스트")
+    class PrewarmWeatherForecastTest {
+
+        @Test
+        @DisplayName("현재 발표시각 데이터가 없으면 순차 조회 후 저장하고 L1 캐시에 적재")
+        void prewarmWeatherForecast_Fetch() {
+            // Given
+            Weather freshWeather = createMockWeather();
+            WeatherDto expectedDto = createMockWeatherDto();
+
+            when(weatherRepository.findLatestByGrid(GRID_X, GRID_Y))
+                .thenReturn(Optional.empty());
+            when(weatherApiClient.getWeatherForecast(any(GridCoordinate.class)))
+                .thenReturn(createMockApiResponse());
+            when(weatherMapper.fromForecast(any(KmaForecast.class), any(WeatherAPILocation.class)))
+                .thenReturn(freshWeather);
+            when(weatherPersistenceService.save(any(Weather.class), any(KmaForecast.class)))
+                .thenReturn(freshWeather);
+            when(weatherMapper.toDto(freshWeather, null))
+                .thenReturn(expectedDto);
+            when(weatherMapper.toWeatherAPILocation(anyDouble(), anyDouble(), anyInt(), anyInt(), anyList()))
+                .thenReturn(createMockWeatherAPILocation());
+
+            // When
+            boolean fetched = weatherService.prewarmWeatherForecast(VALID_LONGITUDE, VALID_LATITUDE);
+            WeatherDto result = weatherService.getWeatherForecast(VALID_LONGITUDE, VALID_LATITUDE);
+
+            // Then
+            assertThat(fetched).isTrue();
+            assertThat(result).isEqualTo(expectedDto);
+            verify(apiCallExecutor, never()).execute(any(Runnable.class));
+            verify(weatherApiClient, times(1)).getWeatherForecast(any(GridCoordinate.class));
+            verify(weatherRepository, times(1)).findLatestByGrid(GRID_X, GRID_Y);
+        }
+
+        @Test
+        @DisplayName("현재 발표시각 데이터가 이미 있으면 외부 API 를 호출하지 않음")
+        void prewarmWeatherForecast_AlreadyWarm() {
+            // Given
+            Weather cachedWeather = createCachedMockWeather();
+            when(weatherRepository.findLatestByGrid(GRID_X, GRID_Y))
+                .thenReturn(Optional.of(cachedWeather));
+            when(weatherMapper.toDto(cachedWeather, null))
+                .thenReturn(createMockWeatherDto());
+
+            // When
+            boolean first = weatherService.prewarmWeatherForecast(VALID_LONGITUDE, VALID_LATITUDE);
+            boolean second = weatherService.prewarmWeatherForecast(VALID_LONGITUDE, VALID_LATITUDE);
+
+            // Then
+            assertThat(first).isFalse();
+            assertThat(second).isFalse();
+            verify(weatherApiClient, never()).getWeatherForecast(any());
+            verify(weatherRepository, times(1)).findLatestByGrid(GRID_X, GRID_Y);
+        }
+    }
+
     @Nested
     @DisplayName("5일 예보 조회 테스트")
     class GetFiveDayForecastTest {
@@ -225,10 +645,12 @@ class WeatherServiceImplTest {
         @DisplayName("5일 예보 조회")
         void getFiveDayForecast_Success() {
             // Given
-            WeatherApiResponse mockResponse = createMockFiveDayApiResponse();
+            KmaForecast mockResponse = createMockFiveDayApiResponse();
 
             when(weatherApiClient.callVilageFcst(any(), anyString(), anyString()))
                 .thenReturn(mockResponse);
+            when(weatherApiClient.callVilageFcstMono(any(), anyString(), anyString()))
+                .thenReturn(Mono.empty());
             when(coordinateConverter.convertToGrid(VALID_LATITUDE, VALID_LONGITUDE))
                 .thenReturn(new GridCoordinate(GRID_X, GRID_Y));
 
@@ -238,14 +660,14 @@ class WeatherServiceImplTest {
             // Then
             assertThat(result).isNotNull();
 //            verify(weatherApiClient).callVilageFcst(any(), anyString(), anyString());
-            verify(kakaoApiClient).getLocationNames(VALID_LATITUDE, VALID_LONGITUDE);
+            verify(locationNameService).getLocationNames(VALID_LATITUDE, VALID_LONGITUDE);
         }
 
         @Test
         @DisplayName("빈 API 응답 처리")
         void getFiveDayForecast_EmptyResponse() {
             // Given
-            WeatherApiResponse emptyResponse = createEmptyApiResponse();
+            KmaForecast emptyResponse = createEmptyApiResponse();
             when(weatherApiClient.callVilageFcst(any(), anyString(), anyString()))
                 .thenReturn(emptyResponse);
 
@@ -254,6 +676,118 @@ class WeatherServiceImplTest {
                 .isInstanceOf(WeatherDataFetchException.class)
                 .hasMessage("날씨 데이터가 없습니다.");
         }
+
+        @Test
+        @DisplayName("같은 발표시각 재조회는 캐시된 5일 예보 사용")
+        void getFiveDayForecast_UseCache() {
+            // Given
+            when(weatherApiClient.callVilageFcst(any(), anyString(), anyString()))
+                .thenReturn(createForecastResponse(1, 4));
+            when(weatherApiClient.callVilageFcstMono(any(), anyString(), anyString()))
+                .thenReturn(Mono.empty());
+
+            // When
+            List<WeatherDto> first = weatherService.getFiveDayForecast(VALID_LONGITUDE, VALID_LATITUDE);
+            List<WeatherDto> second = weatherService.getFiveDayForecast(VALID_LONGITUDE, VALID_LATITUDE);
+
+            // Then
+            assertThat(second).isEqualTo(first);
+            verify(weatherApiClient, times(1)).callVilageFcst(any(), anyString(), anyString());
+            verify(locationNameService, times(1)).getLocationNames(VALID_LATITUDE, VALID_LONGITUDE);
+        }
+
+        @Test
+        @DisplayName("5일째 보완 조회는 이전 발표분을 동시에 조회하되 가장 최근 발표분의 결과 사용")
+        void getFiveDayForecast_FifthDayFallbackPriority() {
+            // Given - 23시 발표분은 5일째가 없고, 20시 발표분이 17시 발표분보다 늦게 도착
+            when(weatherApiClient.callVilageFcst(any(), anyString(), anyString()))
+                .thenReturn(createForecastResponse(1, 4));
+            when(weatherApiClient.callVilageFcstMono(any(), anyString(), eq("2300")))
+                .thenReturn(Mono.just(createForecastResponse(1, 4)).delayElement(Duration.ofMillis(100)));
+            when(weatherApiClient.callVilageFcstMono(any(), anyString(), eq("2000")))
+                .thenReturn(Mono.just(createForecastResponse(1, 5)).delayElement(Duration.ofMillis(300)));
+            when(weatherApiClient.callVilageFcstMono(any(), anyString(), eq("1700")))
+                .thenReturn(Mono.just(createForecastResponse(1, 5)));
+
+            // When
+            List<WeatherDto> result = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> weatherService.getFiveDayForecast(VALID_LONGITUDE, VALID_LATITUDE));
+
+            // Then
+            assertThat(result).hasSize(5);
+            assertThat(result.get(4).forecastAt().toLocalDate())
+                .isEqualTo(LocalDate.now(ZONE).plusDays(5));
+            assertThat(result.get(4).forecastedAt().getHour()).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("저장된 이전 발표분으로 5일째를 보완하고 새로 받은 현재 발표분은 저장")
+        void getFiveDayForecast_UseStoredPreviousPublish() {
+            // Given - 현재 발표분은 저장되어 있지 않고 이전 발표분은 모두 저장되어 있음
+            when(weatherApiClient.callVilageFcst(any(), anyString(), anyString()))
+                .thenReturn(createForecastResponse(1, 4));
+            when(weatherPersistenceService.findForecasts(eq(GRID_X), eq(GRID_Y), anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<LocalDateTime> baseDateTimes = invocation.getArgument(2);
+                    if (baseDateTimes.size() == 1) {
+                        return Map.of();
+                    }
+                    Map<LocalDateTime, KmaForecast> stored = new HashMap<>();
+                    baseDateTimes.forEach(baseDateTime -> stored.put(baseDateTime, createForecastResponse(1, 5)));
+                    return stored;
+                });
+
+            // When
+            List<WeatherDto> result = weatherService.getFiveDayForecast(VALID_LONGITUDE, VALID_LATITUDE);
+
+            // Then
+            assertThat(result).hasSize(5);
+            LocalDateTime baseDateTime = KmaPublishSchedule.baseDateTime(LocalDateTime.now(ZONE));
+            verify(weatherPersistenceService, timeout(2000))
+                .saveForecast(eq(GRID_X), eq(GRID_Y), eq(baseDateTime), any(KmaForecast.class));
+            verify(weatherApiClient, never()).callVilageFcstMono(any(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("저장된 현재 발표분이 있으면 외부 API 를 호출하지 않음")
+        void getFiveDayForecast_UseStoredCurrentPublish() {
+            // Given
+            when(weatherPersistenceService.findForecasts(eq(GRID_X), eq(GRID_Y), anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<LocalDateTime> baseDateTimes = invocation.getArgument(2);
+                    return Map.of(baseDateTimes.iterator().next(), createForecastResponse(1, 5));
+                });
+
+            // When
+            List<WeatherDto> result = weatherService.getFiveDayForecast(VALID_LONGITUDE, VALID_LATITUDE);
+
+            // Then
+            assertThat(result).hasSize(5);
+            verify(weatherApiClient, never()).callVilageFcst(any(), anyString(), anyString());
+            verify(weatherPersistenceService, never()).saveForecast(anyInt(), anyInt(), any(), any());
+        }
+
+        @Test
+        @DisplayName("이전 발표분 응답은 캐시되어 다시 호출하지 않음")
+        void getFiveDayForecast_ReusePreviousPublishResponse() {
+            // Given
+            when(weatherApiClient.callVilageFcst(any(), anyString(), anyString()))
+                .thenReturn(createForecastResponse(1, 4));
+            when(weatherApiClient.callVilageFcstMono(any(), anyString(), anyString()))
+                .thenReturn(Mono.just(createForecastResponse(1, 5)));
+
+            weatherService.getFiveDayForecast(VALID_LONGITUDE, VALID_LATITUDE);
+            fiveDayForecastCache.getForecasts().clear();
+
+            // When
+            List<WeatherDto> result = weatherService.getFiveDayForecast(VALID_LONGITUDE, VALID_LATITUDE);
+
+            // Then - 현재 발표분과 먼저 채택된 이전 발표분(23시) 응답만 캐시
+            assertThat(result).hasSize(5);
+            assertThat(fiveDayForecastCache.getResponses().size()).isEqualTo(2);
+            verify(weatherApiClient, times(2)).callVilageFcst(any(), anyString(), anyString());
+            verify(weatherApiClient, times(1)).callVilageFcstMono(any(), anyString(), anyString());
+        }
     }
 
     @Nested
@@ -290,14 +824,14 @@ class WeatherServiceImplTest {
         @DisplayName("API 응답 해시 생성 테스트")
         void generateResponseHash_Success() throws Exception {
             // Given
-            WeatherApiResponse response = createMockApiResponse();
+            KmaForecast response = createMockApiResponse();
 
             // When
             String hash = ReflectionTestUtils.invokeMethod(weatherService, "generateResponseHash", response);
 
             // Then
             assertThat(hash).isNotNull();
-            assertThat(hash).hasSize(32);
+            assertThat(hash).hasSize(16);
         }
 
         @ParameterizedTest
@@ -337,8 +871,8 @@ class WeatherServiceImplTest {
 
     private Weather createMockWeather() {
         Weather weather = Weather.create(
-            LocalDateTime.now(),
-            LocalDateTime.now().plusHours(1),
+            LocalDateTime.now(ZONE),
+            LocalDateTime.now(ZONE).plusHours(1),
             createMockWeatherAPILocation(),
             SkyStatus.CLEAR
         );
@@ -347,19 +881,31 @@ class WeatherServiceImplTest {
 
     private Weather createCachedMockWeather() {
         Weather weather = Weather.create(
-            LocalDateTime.now().minusMinutes(30),
-            LocalDateTime.now().plusHours(1),
+            KmaPublishSchedule.baseDateTime(LocalDateTime.now(ZONE)),
+            LocalDateTime.now(ZONE).plusHours(1),
             createMockWeatherAPILocation(),
             SkyStatus.CLEAR
         );
         return weather;
     }
 
+    /**
+     * 지난 발표시각(3시간 전)에 저장된 데이터 - stale 응답 최대 경과 시간 이내
+     */
+    private Weather createStaleMockWeather() {
+        return Weather.create(
+            KmaPublishSchedule.baseDateTime(LocalDateTime.now(ZONE)).minusHours(3),
+            LocalDateTime.now(ZONE),
+            createMockWeatherAPILocation(),
+            SkyStatus.CLEAR
+        );
+    }
+
     private WeatherDto createMockWeatherDto() {
         return new WeatherDto(
             UUID.randomUUID(),
-            LocalDateTime.now(),
-            LocalDateTime.now().plusHours(1),
+            LocalDateTime.now(ZONE),
+            LocalDateTime.now(ZONE).plusHours(1),
             createMockWeatherAPILocation(),
             SkyStatus.CLEAR,
             new PrecipitationDto(PrecipitationType.NONE, 0.0, 0.0),
@@ -379,42 +925,65 @@ class WeatherServiceImplTest {
         );
     }
 
-    private WeatherApiResponse createMockApiResponse() {
+    private KmaForecast createMockApiResponse() {
         List<WeatherApiResponse.Item> items = List.of(
             new WeatherApiResponse.Item("20250630", "0200", "TMP", "20250630", "0600", "20", GRID_X, GRID_Y),
             new WeatherApiResponse.Item("20250630", "0200", "SKY", "20250630", "0600", "1", GRID_X, GRID_Y),
             new WeatherApiResponse.Item("20250630", "0200", "PTY", "20250630", "0600", "0", GRID_X, GRID_Y)
         );
 
-        return new WeatherApiResponse(
+        return KmaForecast.from(new WeatherApiResponse(
             new WeatherApiResponse.ResponseBody(
                 new WeatherApiResponse.Header("00", "NORMAL_SERVICE"),
                 new WeatherApiResponse.Body("JSON", new WeatherApiResponse.Items(items), 1, 3, 3)
             )
-        );
+        ));
     }
 
-    private WeatherApiResponse createErrorApiResponse(String errorCode) {
-        return new WeatherApiResponse(
+    private KmaForecast createErrorApiResponse(String errorCode) {
+        return KmaForecast.from(new WeatherApiResponse(
             new WeatherApiResponse.ResponseBody(
                 new WeatherApiResponse.Header(errorCode, "Error message"),
                 null
             )
-        );
+        ));
     }
 
-    private WeatherApiResponse createEmptyApiResponse() {
-        return new WeatherApiResponse(
+    private KmaForecast createEmptyApiResponse() {
+        return KmaForecast.from(new WeatherApiResponse(
             new WeatherApiResponse.ResponseBody(
                 new WeatherApiResponse.Header("00", "NORMAL_SERVICE"),
                 new WeatherApiResponse.Body("JSON", new WeatherApiResponse.Items(Collections.emptyList()), 1, 0, 0)
             )
-        );
+        ));
     }
 
-    private WeatherApiResponse createMockFiveDayApiResponse() {
+    /**
+     * 오늘(KST) 기준 fromDay ~ toDay 일의 11시 예보 (모든 발표시각에서 5일 예보에 포함되는 시각)
+     */
+    private KmaForecast createForecastResponse(int fromDay, int toDay) {
         List<WeatherApiResponse.Item> items = new ArrayList<>();
-        LocalDateTime baseTime = LocalDateTime.now();
+        LocalDate today = LocalDate.now(ZONE);
+
+        for (int day = fromDay; day <= toDay; day++) {
+            String fcstDate = today.plusDays(day).format(DateTimeFormatter.BASIC_ISO_DATE);
+
+            items.add(new WeatherApiResponse.Item("20250630", "0200", "TMP", fcstDate, "1100", "20", GRID_X, GRID_Y));
+            items.add(new WeatherApiResponse.Item("20250630", "0200", "SKY", fcstDate, "1100", "1", GRID_X, GRID_Y));
+            items.add(new WeatherApiResponse.Item("20250630", "0200", "PTY", fcstDate, "1100", "0", GRID_X, GRID_Y));
+        }
+
+        return KmaForecast.from(new WeatherApiResponse(
+            new WeatherApiResponse.ResponseBody(
+                new WeatherApiResponse.Header("00", "NORMAL_SERVICE"),
+                new WeatherApiResponse.Body("JSON", new WeatherApiResponse.Items(items), 1, items.size(), items.size())
+            )
+        ));
+    }
+
+    private KmaForecast createMockFiveDayApiResponse() {
+        List<WeatherApiResponse.Item> items = new ArrayList<>();
+        LocalDateTime baseTime = LocalDateTime.now(ZONE);
 
         for (int day = 0; day < 5; day++) {
             LocalDateTime forecastTime = baseTime.plusDays(day);
@@ -425,11 +994,11 @@ class WeatherServiceImplTest {
             items.add(new WeatherApiResponse.Item("20250630", "0200", "PTY", fcstDate, "0900", "0", GRID_X, GRID_Y));
         }
 
-        return new WeatherApiResponse(
+        return KmaForecast.from(new WeatherApiResponse(
             new WeatherApiResponse.ResponseBody(
                 new WeatherApiResponse.Header("00", "NORMAL_SERVICE"),
                 new WeatherApiResponse.Body("JSON", new WeatherApiResponse.Items(items), 1, items.size(), items.size())
             )
-        );
+        ));
     }
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.fourthread.ozang.module.domain.weather.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import com.fourthread.ozang.module.domain.weather.cache.PublishCycleCache;
+import com.fourthread.ozang.module.domain.weather.client.KakaoApiClient;
+import com.fourthread.ozang.module.domain.weather.client.WeatherApiClient;
+import com.fourthread.ozang.module.domain.weather.dto.WeatherDto;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.WeatherApiResponse;
+import com.fourthread.ozang.module.domain.weather.entity.GridCoordinate;
+import com.fourthread.ozang.module.domain.weather.repository.ReverseGeocodeRepository;
+import com.fourthread.ozang.module.domain.weather.repository.WeatherRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 외부 API(기상청/카카오) 대기 중 DB 커넥션을 점유하지 않는지 검증
+ */
+@ActiveProfiles("test")
+@SpringBootTest(
+    properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "ADMIN_USERNAME=test-admin",
+        "ADMIN_EMAIL=test-admin@mail.com",
+        "ADMIN_PASSWORD=test-pass",
+        "JWT_SECRET=d12d12d21d21d12d2",
+        "KAKAO_API_KEY=test",
+        "WEATHER_API_KEY=dwqqdd11",
+        "cloud.aws.credentials.access-key=testAccessKey",
+        "cloud.aws.credentials.secret-key=testSecretKey",
+        "cloud.aws.region.static=ap-northeast-2"
+    }
+)
+@TestPropertySource(properties = {
+    "AWS_ACCESS_KEY=testAccessKey",
+    "AWS_SECRET_KEY=testSecretKey",
+    "cloud.aws.region.static=ap-northeast-2"
+})
+@DisplayName("날씨 조회 트랜잭션 경계 테스트")
+class WeatherTransactionBoundaryTest {
+
+    private static final Double LATITUDE = 37.5665;
+    private static final Double LONGITUDE = 126.9780;
+
+    @Autowired
+    private WeatherService weatherService;
+
+    @Autowired
+    private WeatherRepository weatherRepository;
+
+    @Autowired
+    private ReverseGeocodeRepository reverseGeocodeRepository;
+
+    @Autowired
+    private PublishCycleCache<WeatherDto> weatherForecastCache;
+
+    @Autowired
+    private LocationNameService locationNameService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockitoBean
+    private WeatherApiClient weatherApiClient;
+
+    @MockitoBean
+    private KakaoApiClient kakaoApiClient;
+
+    private final List<Integer> activeConnectionsDuringRemoteCalls = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        weatherRepository.deleteAll();
+        reverseGeocodeRepository.deleteAll();
+        weatherForecastCache.clear();
+        locationNameService.clear();
+        activeConnectionsDuringRemoteCalls.clear();
+
+        given(kakaoApiClient.getLocationNames(anyDouble(), anyDouble()))
+            .willAnswer(invocation -> {
+                recordActiveConnections();
+                return List.of("서울특별시", "중구", "태평로1가");
+            });
+    }
+
+    @Test
+    @DisplayName("오늘 날씨 조회 - 외부 API 호출 중 활성 커넥션 없음")
+    void getWeatherForecast_NoConnectionHeldDuringRemoteCalls() {
+        given(weatherApiClient.getWeatherForecast(any(GridCoordinate.class)))
+            .willAnswer(invocation -> {
+                recordActiveConnections();
+                return createApiResponse();
+            });
+
+        weatherService.getWeatherForecast(LONGITUDE, LATITUDE);
+
+        assertThat(activeConnectionsDuringRemoteCalls).hasSize(2).containsOnly(0);
+        assertThat(weatherRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("5일 예보 조회 - 외부 API 호출 중 활성 커넥션 없음")
+    void getFiveDayForecast_NoConnectionHeldDuringRemoteCalls() {
+        given(weatherApiClient.callVilageFcst(any(GridCoordinate.class), anyString(), anyString()))
+            .willAnswer(invocation -> {
+                recordActiveConnections();
+                return createApiResponse();
+            });
+
+        weatherService.getFiveDayForecast(LONGITUDE, LATITUDE);
+
+        assertThat(activeConnectionsDuringRemoteCalls).isNotEmpty().containsOnly(0);
+    }
+
+    private void recordActiveConnections() throws SQLException {
+        HikariDataSource hikariDataSource = dataSource.unwrap(HikariDataSource.class);
+        activeConnectionsDuringRemoteCalls.add(
+            hikariDataSource.getHikariPoolMXBean().getActiveConnections());
+    }
+
+    private KmaForecast createApiResponse() {
+        List<WeatherApiResponse.Item> items = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (int day = 0; day <= 5; day++) {
+            String fcstDate = today.plusDays(day).format(DateTimeFormatter.BASIC_ISO_DATE);
+            String baseDate = today.format(DateTimeFormatter.BASIC_ISO_DATE);
+            items.add(new WeatherApiResponse.Item(baseDate, "0500", "TMP", fcstDate, "1200", "20", 60, 127));
+            items.add(new WeatherApiResponse.Item(baseDate, "0500", "SKY", fcstDate, "1200", "1", 60, 127));
+            items.add(new WeatherApiResponse.Item(baseDate, "0500", "PTY", fcstDate, "1200", "0", 60, 127));
+        }
+
+        return KmaForecast.from(new WeatherApiResponse(
+            new WeatherApiResponse.ResponseBody(
+                new WeatherApiResponse.Header("00", "NORMAL_SERVICE"),
+                new WeatherApiResponse.Body("JSON", new WeatherApiResponse.Items(items), 1,
+                    items.size(), items.size())
+            )
+        ));
+    }
+}
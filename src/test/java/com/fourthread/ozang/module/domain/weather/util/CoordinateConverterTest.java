@@ -0,0 +1,126 @@
+package com.fourthread.ozang.module.domain.weather.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fourthread.ozang.module.domain.weather.entity.GridCoordinate;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("위경도 → 격자 변환 테이블/공식 동등성 테스트")
+class CoordinateConverterTest {
+
+    // 조회 테이블 셀 경계와 어긋나도록 테이블 간격과 서로소인 간격으로 전 범위를 탐색
+    private static final double PROBE_STEP = 0.0037;
+
+    private static GridLookupTable lookupTable;
+
+    @BeforeAll
+    static void setUp() {
+        lookupTable = GridLookupTable.build(0.01);
+    }
+
+    @Test
+    @DisplayName("상수 사전 계산 공식은 기존 공식과 전 범위에서 동일")
+    void formula_MatchesLegacy() {
+        CoordinateConverter converter = new CoordinateConverter();
+
+        long mismatches = countMismatches(converter);
+
+        assertThat(mismatches).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 테이블 사용 시 기존 공식과 전 범위에서 동일")
+    void lookupTable_MatchesLegacy() {
+        CoordinateConverter converter = new CoordinateConverter(Optional.of(lookupTable));
+
+        long mismatches = countMismatches(converter);
+
+        assertThat(mismatches).isZero();
+    }
+
+    @Test
+    @DisplayName("파일 저장 후 메모리 매핑한 테이블도 동일한 결과")
+    void mappedTable_MatchesBuiltTable(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("weather-grid.lut");
+        lookupTable.writeTo(file);
+
+        GridLookupTable mapped = GridLookupTable.map(file);
+
+        assertThat(mapped.getCellCount()).isEqualTo(lookupTable.getCellCount());
+        for (double lat = GridLookupTable.MIN_LAT; lat < GridLookupTable.MAX_LAT; lat += PROBE_STEP * 7) {
+            for (double lon = GridLookupTable.MIN_LON; lon < GridLookupTable.MAX_LON; lon += PROBE_STEP * 7) {
+                assertThat(mapped.lookup(lat, lon)).isEqualTo(lookupTable.lookup(lat, lon));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("범위 밖 좌표는 테이블 미적중 후 공식으로 계산")
+    void lookupTable_OutOfRangeFallsBackToFormula() {
+        CoordinateConverter converter = new CoordinateConverter(Optional.of(lookupTable));
+
+        assertThat(lookupTable.lookup(32.5, 126.5)).isEqualTo(GridLookupTable.MISS);
+        GridCoordinate grid = converter.convertToGrid(32.5, 126.5);
+        int[] legacy = legacyConvert(32.5, 126.5);
+        assertThat(grid.getX()).isEqualTo(legacy[0]);
+        assertThat(grid.getY()).isEqualTo(legacy[1]);
+    }
+
+    private long countMismatches(CoordinateConverter converter) {
+        long mismatches = 0;
+        for (double lat = GridLookupTable.MIN_LAT; lat <= GridLookupTable.MAX_LAT; lat += PROBE_STEP) {
+            for (double lon = GridLookupTable.MIN_LON; lon <= GridLookupTable.MAX_LON; lon += PROBE_STEP) {
+                GridCoordinate grid = converter.convertToGrid(lat, lon);
+                int[] legacy = legacyConvert(lat, lon);
+                if (grid.getX() != legacy[0] || grid.getY() != legacy[1]) {
+                    mismatches++;
+                }
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * 상수 사전 계산 이전의 변환 공식 (호출마다 투영 상수 계산)
+     */
+    private static int[] legacyConvert(double lat, double lon) {
+        double RE = 6371.00877;
+        double GRID = 5.0;
+        double SLAT1 = 30.0;
+        double SLAT2 = 60.0;
+        double OLON = 126.0;
+        double OLAT = 38.0;
+        double XO = 210 / GRID;
+        double YO = 675 / GRID;
+
+        double DEGRAD = Math.PI / 180.0;
+        double re = RE / GRID;
+        double slat1 = SLAT1 * DEGRAD;
+        double slat2 = SLAT2 * DEGRAD;
+        double olon = OLON * DEGRAD;
+        double olat = OLAT * DEGRAD;
+
+        double sn = Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(Math.PI * 0.25 + slat1 * 0.5);
+        sn = Math.log(Math.cos(slat1) / Math.cos(slat2)) / Math.log(sn);
+        double sf = Math.tan(Math.PI * 0.25 + slat1 * 0.5);
+        sf = Math.pow(sf, sn) * Math.cos(slat1) / sn;
+        double ro = Math.tan(Math.PI * 0.25 + olat * 0.5);
+        ro = re * sf / Math.pow(ro, sn);
+
+        double ra = Math.tan(Math.PI * 0.25 + lat * DEGRAD * 0.5);
+        ra = re * sf / Math.pow(ra, sn);
+        double theta = lon * DEGRAD - olon;
+        if (theta > Math.PI) theta -= 2.0 * Math.PI;
+        if (theta < -Math.PI) theta += 2.0 * Math.PI;
+        theta *= sn;
+
+        int x = (int) Math.floor(ra * Math.sin(theta) + XO + 0.5);
+        int y = (int) Math.floor(ro - ra * Math.cos(theta) + YO + 0.5);
+        return new int[]{x, y};
+    }
+}
@@ -0,0 +1,108 @@
+package com.fourthread.ozang.module.domain.weather.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fourthread.ozang.module.domain.weather.util.ForecastGridSnapshot.Field;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("격자 예보 스냅샷 테스트")
+class ForecastGridSnapshotTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 7, 1, 5, 0);
+    private static final UUID WEATHER_ID = UUID.fromString("0f8fad5b-d9cb-469f-a165-70867728950e");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("격자/예보 시각별 값을 그대로 조회")
+    void build_Lookup() {
+        // Given - 격자 입력 순서와 무관하게 조회
+        ForecastGridSnapshot snapshot = ForecastGridSnapshot.builder(BASE, 72)
+            .weatherId(98, 76, UUID.randomUUID())
+            .weatherId(60, 127, WEATHER_ID)
+            .value(60, 127, BASE.plusHours(1), Field.TMP, -2.3)
+            .value(60, 127, BASE.plusHours(1), Field.PCP, 0.5)
+            .value(60, 127, BASE.plusHours(72), Field.REH, 85)
+            .value(60, 127, BASE.plusHours(73), Field.TMP, 30)
+            .build();
+
+        // When
+        int cell = snapshot.find(60, 127);
+
+        // Then
+        assertThat(snapshot.getCellCount()).isEqualTo(2);
+        assertThat(cell).isNotEqualTo(ForecastGridSnapshot.MISS);
+        assertThat(snapshot.gridX(cell)).isEqualTo(60);
+        assertThat(snapshot.gridY(cell)).isEqualTo(127);
+        assertThat(snapshot.weatherId(cell)).isEqualTo(WEATHER_ID);
+        assertThat(snapshot.value(cell, 1, Field.TMP)).isEqualTo(-2.3);
+        assertThat(snapshot.value(cell, 1, Field.PCP)).isEqualTo(0.5);
+        assertThat(snapshot.value(cell, 72, Field.REH)).isEqualTo(85.0);
+        assertThat(snapshot.has(cell, 2, Field.TMP)).isFalse();
+        assertThat(snapshot.value(cell, 2, Field.TMP)).isNaN();
+        assertThat(snapshot.find(55, 124)).isEqualTo(ForecastGridSnapshot.MISS);
+    }
+
+    @Test
+    @DisplayName("예보 시각 → hourOffset 변환")
+    void hourOffset() {
+        ForecastGridSnapshot snapshot = ForecastGridSnapshot.builder(BASE, 72).build();
+
+        assertThat(snapshot.hourOffset(BASE.plusHours(1))).isEqualTo(1);
+        assertThat(snapshot.hourOffset(BASE.plusHours(72))).isEqualTo(72);
+        assertThat(snapshot.hourOffset(BASE)).isEqualTo(ForecastGridSnapshot.MISS);
+        assertThat(snapshot.hourOffset(BASE.plusHours(73))).isEqualTo(ForecastGridSnapshot.MISS);
+        assertThat(snapshot.hourOffset(BASE.plusMinutes(90))).isEqualTo(ForecastGridSnapshot.MISS);
+        assertThat(snapshot.forecastAt(3)).isEqualTo(BASE.plusHours(3));
+    }
+
+    @Test
+    @DisplayName("파일로 저장 후 메모리 매핑으로 같은 값 조회, 다시 저장하면 교체")
+    void writeTo_Map() throws IOException {
+        // Given
+        Path file = tempDir.resolve("weather-forecast.snap");
+        ForecastGridSnapshot.builder(BASE, 24)
+            .weatherId(60, 127, WEATHER_ID)
+            .value(60, 127, BASE.plusHours(1), Field.TMP, 21.5)
+            .build()
+            .writeTo(file);
+        ForecastGridSnapshot previous = ForecastGridSnapshot.map(file);
+
+        // When - 다음 발표분으로 교체
+        ForecastGridSnapshot.builder(BASE.plusHours(3), 24)
+            .weatherId(60, 127, WEATHER_ID)
+            .value(60, 127, BASE.plusHours(4), Field.TMP, 23.0)
+            .build()
+            .writeTo(file);
+        ForecastGridSnapshot mapped = ForecastGridSnapshot.map(file);
+
+        // Then - 기존 매핑은 이전 내용을 계속 읽는다
+        assertThat(previous.getBaseDateTime()).isEqualTo(BASE);
+        assertThat(previous.value(previous.find(60, 127), 1, Field.TMP)).isEqualTo(21.5);
+        assertThat(mapped.getBaseDateTime()).isEqualTo(BASE.plusHours(3));
+        assertThat(mapped.getHours()).isEqualTo(24);
+        assertThat(mapped.value(mapped.find(60, 127), 1, Field.TMP)).isEqualTo(23.0);
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("형식이 다른 파일은 예외")
+    void map_InvalidFile() throws IOException {
+        Path file = tempDir.resolve("broken.snap");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThatThrownBy(() -> ForecastGridSnapshot.map(file))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,108 @@
+package com.fourthread.ozang.module.domain.weather.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("격자 지역명 리소스 생성/조회 테스트")
+class GridRegionTableTest {
+
+    private static final String CSV = """
+        \uFEFF구분,행정구역코드,1단계,2단계,3단계,격자 X,격자 Y,경도(초/100),위도(초/100)
+        kor,1100000000,서울특별시,,,60,127,0,0
+        kor,1114000000,서울특별시,중구,,60,127,0,0
+        kor,1114052000,서울특별시,중구,소공동,60,127,0,0
+        kor,1114054000,서울특별시,중구,회현동,60,127,0,0
+        kor,1111051500,서울특별시,종로구,청운효자동,60,127,0,0
+        kor,1168064000,서울특별시,강남구,역삼1동,61,125,0,0
+        kor,5013025000,제주특별자치도,서귀포시,대정읍,48,32,0,0
+        kor,2600000000,부산광역시,,,98,76,0,0
+        """;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("CSV 로 생성한 리소스에서 격자별 가장 상세한 첫 지역명 조회")
+    void generate_AndLookup() throws Exception {
+        GridRegionTable table = generate();
+
+        assertThat(table.lookup(60, 127)).containsExactly("서울특별시", "중구", "소공동");
+        assertThat(table.lookup(61, 125)).containsExactly("서울특별시", "강남구", "역삼1동");
+        assertThat(table.lookup(48, 32)).containsExactly("제주특별자치도", "서귀포시", "대정읍");
+        assertThat(table.lookup(98, 76)).containsExactly("부산광역시");
+        assertThat(table.getCellCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("데이터가 없는 격자와 범위 밖 격자는 빈 리스트")
+    void lookup_Missing() throws Exception {
+        GridRegionTable table = generate();
+
+        assertThat(table.lookup(70, 100)).isEmpty();
+        assertThat(table.lookup(0, 0)).isEmpty();
+        assertThat(table.lookup(500, 500)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중복 지역명은 문자열 풀에 한 번만 저장")
+    void generate_InternsStrings() throws Exception {
+        GridRegionTable table = generate();
+
+        // 서울특별시, 중구, 소공동, 강남구, 역삼1동, 제주특별자치도, 서귀포시, 대정읍, 부산광역시
+        assertThat(table.getStringCount()).isEqualTo(9);
+        assertThat(table.lookup(60, 127).get(0)).isSameAs(table.lookup(61, 125).get(0));
+    }
+
+    @Test
+    @DisplayName("필수 컬럼이 없으면 생성 실패")
+    void generate_MissingColumn() throws Exception {
+        Path csv = tempDir.resolve("invalid.csv");
+        Files.writeString(csv, "1단계,2단계,격자 X,격자 Y\n서울특별시,중구,60,127\n", StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> GridRegionDatasetGenerator.generate(csv, tempDir.resolve("out.bin")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("3단계");
+    }
+
+    @Test
+    @DisplayName("빌드에 포함된 격자 지역명 리소스 로딩")
+    void read_BundledResource() throws Exception {
+        try (InputStream inputStream = GridRegionTable.class.getResourceAsStream("/weather/grid-regions.bin")) {
+            assertThat(inputStream).as("빌드 시 생성된 weather/grid-regions.bin").isNotNull();
+
+            GridRegionTable table = GridRegionTable.read(inputStream);
+
+            assertThat(table.getCellCount()).isGreaterThanOrEqualTo(17);
+            assertThat(table.lookup(60, 127)).startsWith("서울특별시");
+            assertThat(table.lookup(98, 76)).startsWith("부산광역시");
+            assertThat(table.lookup(52, 38)).startsWith("제주특별자치도");
+        }
+    }
+
+    @Test
+    @DisplayName("형식이 다른 파일은 로딩 실패")
+    void read_InvalidFormat() {
+        assertThatThrownBy(() -> GridRegionTable.read(InputStream.nullInputStream()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private GridRegionTable generate() throws Exception {
+        Path csv = tempDir.resolve("grid-regions.csv");
+        Path output = tempDir.resolve("grid-regions.bin");
+        Files.writeString(csv, CSV, StandardCharsets.UTF_8);
+
+        GridRegionDatasetGenerator.generate(csv, output);
+
+        try (InputStream inputStream = Files.newInputStream(output)) {
+            return GridRegionTable.read(inputStream);
+        }
+    }
+}
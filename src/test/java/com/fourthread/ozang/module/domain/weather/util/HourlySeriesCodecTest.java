@@ -0,0 +1,123 @@
+package com.fourthread.ozang.module.domain.weather.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast;
+import com.fourthread.ozang.module.domain.weather.dto.external.KmaForecast.Category;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("시간별 예보 계열 압축 형식 테스트")
+class HourlySeriesCodecTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 30, 23, 0);
+
+    @Test
+    @DisplayName("예보 시각과 카테고리 값을 그대로 복원")
+    void encodeDecode_RoundTrip() {
+        // Given - 자정을 넘기는 예보 시각, 소수/음수 값, 코드, 강수량 원문
+        KmaForecast.Builder builder = KmaForecast.builder()
+            .header("00", "NORMAL_SERVICE")
+            .base("20250630", "2300")
+            .grid(60, 127);
+        int first = builder.slot(20250701, 0);
+        builder.value(Category.TMP, first, -2.0);
+        builder.value(Category.UUU, first, -1.3);
+        builder.value(Category.WSD, first, 3.7);
+        builder.value(Category.POP, first, 60);
+        builder.code(Category.SKY, first, 4);
+        builder.code(Category.PTY, first, 1);
+        builder.text(Category.PCP, first, "1mm 미만");
+        int second = builder.slot(20250701, 100);
+        builder.value(Category.TMP, second, -1.0);
+        builder.text(Category.PCP, second, "강수없음");
+        int third = builder.slot(20250701, 200);
+        builder.text(Category.PCP, third, "1mm 미만");
+        KmaForecast forecast = builder.build();
+
+        // When
+        byte[] series = HourlySeriesCodec.encode(forecast, BASE);
+        KmaForecast decoded = HourlySeriesCodec.decode(series, BASE, 60, 127);
+
+        // Then
+        assertThat(decoded.size()).isEqualTo(3);
+        assertThat(decoded.getBaseDate()).isEqualTo("20250630");
+        assertThat(decoded.getBaseTime()).isEqualTo("2300");
+        assertThat(decoded.getNx()).isEqualTo(60);
+        assertThat(decoded.fcstDateTime(0)).isEqualTo(LocalDateTime.of(2025, 7, 1, 0, 0));
+        assertThat(decoded.fcstDateTime(2)).isEqualTo(LocalDateTime.of(2025, 7, 1, 2, 0));
+        assertThat(decoded.value(Category.TMP, 0)).isEqualTo(-2.0);
+        assertThat(decoded.value(Category.UUU, 0)).isEqualTo(-1.3);
+        assertThat(decoded.value(Category.WSD, 0)).isEqualTo(3.7);
+        assertThat(decoded.value(Category.POP, 0)).isEqualTo(60.0);
+        assertThat(decoded.code(Category.SKY, 0)).isEqualTo(4);
+        assertThat(decoded.code(Category.PTY, 0)).isEqualTo(1);
+        assertThat(decoded.text(Category.PCP, 0)).isEqualTo("1mm 미만");
+        assertThat(decoded.text(Category.PCP, 1)).isEqualTo("강수없음");
+        assertThat(decoded.text(Category.PCP, 2)).isEqualTo("1mm 미만");
+        assertThat(decoded.has(Category.TMP, 2)).isFalse();
+        assertThat(decoded.has(Category.SKY, 1)).isFalse();
+        assertThat(decoded.lastSlot(Category.SNO)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("값이 있는 카테고리만 기록해 행당 수 바이트로 저장")
+    void encode_Compact() {
+        // Given - 72시간 x TMP/SKY
+        KmaForecast.Builder builder = KmaForecast.builder().base("20250630", "2300");
+        for (int hour = 0; hour < 72; hour++) {
+            LocalDateTime fcst = BASE.plusHours(hour + 1);
+            int slot = builder.slot(Integer.parseInt(fcst.format(KmaPublishSchedule.BASE_DATE_FMT)),
+                fcst.getHour() * 100);
+            builder.value(Category.TMP, slot, 20 + hour % 5);
+            builder.code(Category.SKY, slot, 1);
+        }
+
+        // When
+        byte[] series = HourlySeriesCodec.encode(builder.build(), BASE);
+
+        // Then - 헤더 + 시각(2) + TMP(2) + SKY(1)
+        assertThat(series.length).isLessThan(8 + 72 * 5);
+    }
+
+    @Test
+    @DisplayName("카테고리는 선언 순서가 아닌 고정 번호로 기록")
+    void encode_CategoryWireId() {
+        // Given - SKY 한 행
+        KmaForecast.Builder builder = KmaForecast.builder().base("20250630", "2300");
+        int slot = builder.slot(20250701, 0);
+        builder.code(Category.SKY, slot, 3);
+
+        // When
+        byte[] series = HourlySeriesCodec.encode(builder.build(), BASE);
+
+        // Then - 버전(1) + 행 수(2) + 시각(2) + 카테고리 수(1) 다음이 카테고리 번호
+        assertThat(series[6]).isEqualTo((byte) Category.SKY.wireId());
+        assertThat(Arrays.stream(Category.values()).map(Category::wireId).distinct())
+            .hasSize(Category.values().length);
+        assertThat(Arrays.stream(Category.values()))
+            .allSatisfy(category -> assertThat(Category.ofWireId(category.wireId())).isEqualTo(category));
+    }
+
+    @Test
+    @DisplayName("모르는 카테고리 번호는 예외")
+    void decode_UnknownCategory() {
+        // Given - 행 0개, 카테고리 1개(번호 200)
+        byte[] series = {1, 0, 0, 1, (byte) 200};
+
+        // When & Then
+        assertThatThrownBy(() -> HourlySeriesCodec.decode(series, BASE, 60, 127))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("200");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식은 예외")
+    void decode_UnknownVersion() {
+        assertThatThrownBy(() -> HourlySeriesCodec.decode(new byte[]{9, 0, 0, 0}, BASE, 60, 127))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
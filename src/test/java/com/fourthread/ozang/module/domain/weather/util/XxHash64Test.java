@@ -0,0 +1,57 @@
+package com.fourthread.ozang.module.domain.weather.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("xxHash64 테스트")
+class XxHash64Test {
+
+    @ParameterizedTest
+    @DisplayName("공개된 테스트 벡터와 같은 값 (seed 0)")
+    @CsvSource({
+        "'', ef46db3751d8e999",
+        "a, d24ec4f1a98c6e5b",
+        "abc, 44bc2cf5ad770999",
+        "Nobody inspects the spammish repetition, fbcea83c8a378bf1"
+    })
+    void hash_KnownVectors(String input, String expected) {
+        long hash = XxHash64.hash(input.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(Long.toHexString(hash)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @DisplayName("나누어 읽어도 한 번에 계산한 값과 같다")
+    @ValueSource(ints = {1, 3, 7, 31, 32, 33, 100})
+    void update_Chunked(int chunkSize) {
+        byte[] bytes = new byte[1000];
+        new Random(42).nextBytes(bytes);
+
+        XxHash64 hash = new XxHash64();
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            hash.update(bytes, offset, Math.min(chunkSize, bytes.length - offset));
+        }
+
+        assertThat(hash.getValue()).isEqualTo(XxHash64.hash(bytes));
+    }
+
+    @Test
+    @DisplayName("한 바이트씩 읽어도 같은 값")
+    void update_SingleBytes() {
+        byte[] bytes = "{\"response\":{\"header\":{\"resultCode\":\"00\"}}}".getBytes(StandardCharsets.UTF_8);
+
+        XxHash64 hash = new XxHash64();
+        for (byte b : bytes) {
+            hash.update(b);
+        }
+
+        assertThat(hash.getValue()).isEqualTo(XxHash64.hash(bytes));
+    }
+}